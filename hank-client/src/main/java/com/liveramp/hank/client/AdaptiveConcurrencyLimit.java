@@ -0,0 +1,88 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+/**
+ * Adaptive limit on the number of concurrent requests to a single Host,
+ * adjusted with additive increase / multiplicative decrease on observed
+ * round trip times (in the spirit of TCP Vegas). The lowest round trip time
+ * seen recently is used as a no-load baseline. When a request fails, or takes
+ * significantly longer than that baseline, the Host is considered congested
+ * and the limit is decreased (at most once per baseline round trip time).
+ * Otherwise the limit slowly grows back, as long as it is actually being used.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private static final int MIN_LIMIT = 1;
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final double LATENCY_TOLERANCE = 2.0;
+  // Periodically forget the baseline so that it can follow changes in the Host's normal latency
+  private static final long MIN_RTT_RESET_INTERVAL_NANOS = 60L * 1000 * 1000 * 1000;
+
+  private final int maxLimit;
+  private double limit;
+  private long minRttNanos = Long.MAX_VALUE;
+  private long minRttResetTimeNanos;
+  private long lastDecreaseTimeNanos;
+
+  public AdaptiveConcurrencyLimit(int initialLimit, int maxLimit) {
+    if (initialLimit < MIN_LIMIT || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("Initial concurrency limit must be in [" + MIN_LIMIT + ", " + maxLimit + "] but was: " + initialLimit);
+    }
+    this.maxLimit = maxLimit;
+    this.limit = initialLimit;
+    this.minRttResetTimeNanos = System.nanoTime();
+    this.lastDecreaseTimeNanos = minRttResetTimeNanos;
+  }
+
+  public synchronized int getLimit() {
+    return (int)limit;
+  }
+
+  synchronized void onSample(long rttNanos, boolean failed, int numOutstandingRequests) {
+    onSample(System.nanoTime(), rttNanos, failed, numOutstandingRequests);
+  }
+
+  synchronized void onSample(long nowNanos, long rttNanos, boolean failed, int numOutstandingRequests) {
+    if (nowNanos - minRttResetTimeNanos > MIN_RTT_RESET_INTERVAL_NANOS) {
+      minRttNanos = Long.MAX_VALUE;
+      minRttResetTimeNanos = nowNanos;
+    }
+    if (!failed && rttNanos < minRttNanos) {
+      minRttNanos = rttNanos;
+    }
+    boolean congested = failed || (minRttNanos != Long.MAX_VALUE && rttNanos > LATENCY_TOLERANCE * minRttNanos);
+    if (congested) {
+      // Decrease at most once per round trip so that a burst of slow responses does not collapse the limit
+      if (nowNanos - lastDecreaseTimeNanos > Math.min(minRttNanos, rttNanos)) {
+        limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        lastDecreaseTimeNanos = nowNanos;
+      }
+    } else if (numOutstandingRequests * 2 >= limit) {
+      // Only grow when at least half of the current limit is in use
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "AdaptiveConcurrencyLimit{" +
+        "limit=" + limit +
+        ", minRttNanos=" + minRttNanos +
+        '}';
+  }
+}
@@ -0,0 +1,277 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankDomainNameKey;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.SmartClient;
+
+/**
+ * Gathers concurrent single key gets for a short window, or until a batch
+ * is full, and queries each batch with a single getMulti, which sends one
+ * query per partition server for keys of any domain. Each caller waits for
+ * its own response. This trades a little latency for far fewer queries when
+ * many small gets are issued at the same time, as through the smart client
+ * daemon.
+ *
+ * Bulk and multi gets are already batched and are passed through.
+ *
+ * Callers wait at most GET_MAX_WAIT_MS for their batched response, after
+ * which they get an internal error response.
+ */
+public class BatchingSmartClient implements SmartClient.Iface {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchingSmartClient.class);
+
+  static final long GET_MAX_WAIT_MS = 60000;
+
+  private final SmartClient.Iface client;
+  private final long batchWindowNanos;
+  private final int batchMaxSize;
+  private final LinkedBlockingQueue<PendingGet> pendingGets = new LinkedBlockingQueue<PendingGet>();
+  private final ExecutorService batchExecutor;
+  private final Thread batcherThread;
+  // Gets are queued under the read lock, stopping is set under the write lock, so that no get is queued once
+  // stop() drains the queue
+  private final ReadWriteLock stoppingLock = new ReentrantReadWriteLock();
+  private volatile boolean stopping = false;
+  private final AtomicLong numBatches = new AtomicLong(0);
+  private final AtomicLong numBatchedGets = new AtomicLong(0);
+
+  // Batches are queried concurrently by at most numBatchThreads threads
+  public BatchingSmartClient(SmartClient.Iface client, int batchWindowMicros, int batchMaxSize, int numBatchThreads) {
+    if (batchWindowMicros <= 0) {
+      throw new IllegalArgumentException("Batch window must be positive but was: " + batchWindowMicros);
+    }
+    if (batchMaxSize <= 0) {
+      throw new IllegalArgumentException("Batch maximum size must be positive but was: " + batchMaxSize);
+    }
+    this.client = client;
+    this.batchWindowNanos = TimeUnit.MICROSECONDS.toNanos(batchWindowMicros);
+    this.batchMaxSize = batchMaxSize;
+    this.batchExecutor = Executors.newFixedThreadPool(numBatchThreads, new BatchThreadFactory());
+    this.batcherThread = new Thread(new Batcher(), "Get batcher");
+    batcherThread.setDaemon(true);
+    batcherThread.start();
+  }
+
+  @Override
+  public HankResponse get(String domainName, ByteBuffer key) throws TException {
+    // Invalid keys are left to the client to report
+    if (key == null || key.remaining() == 0) {
+      return client.get(domainName, key);
+    }
+    PendingGet pendingGet = new PendingGet(domainName, key);
+    stoppingLock.readLock().lock();
+    try {
+      if (stopping) {
+        pendingGet = null;
+      } else {
+        pendingGets.add(pendingGet);
+      }
+    } finally {
+      stoppingLock.readLock().unlock();
+    }
+    if (pendingGet == null) {
+      return client.get(domainName, key);
+    }
+    try {
+      return pendingGet.response.get(GET_MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return HankResponse.xception(HankException.internal_error("Interrupted while waiting for batched get"));
+    } catch (TimeoutException e) {
+      LOG.error("Timed out after " + GET_MAX_WAIT_MS + "ms waiting for batched get of domain " + domainName);
+      return HankResponse.xception(HankException.internal_error("Timed out waiting for batched get"));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TException) {
+        throw (TException) e.getCause();
+      }
+      throw new TException(e.getCause());
+    }
+  }
+
+  @Override
+  public HankBulkResponse getBulk(String domainName, List<ByteBuffer> keys) throws TException {
+    return client.getBulk(domainName, keys);
+  }
+
+  @Override
+  public HankBulkResponse getMulti(List<HankDomainNameKey> domainKeys) throws TException {
+    return client.getMulti(domainKeys);
+  }
+
+  public long getNumBatches() {
+    return numBatches.get();
+  }
+
+  public long getNumBatchedGets() {
+    return numBatchedGets.get();
+  }
+
+  // Pending gets are still queried. Meant to be called once gets are no longer served.
+  public void stop() {
+    stoppingLock.writeLock().lock();
+    try {
+      stopping = true;
+    } finally {
+      stoppingLock.writeLock().unlock();
+    }
+    batcherThread.interrupt();
+    try {
+      batcherThread.join();
+    } catch (InterruptedException e) {
+      LOG.debug("Interrupted waiting for batcher thread to exit.", e);
+    }
+    List<PendingGet> batch = new ArrayList<PendingGet>();
+    pendingGets.drainTo(batch);
+    if (!batch.isEmpty()) {
+      batchExecutor.execute(new BatchRunnable(batch));
+    }
+    batchExecutor.shutdown();
+    try {
+      while (!batchExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+        LOG.debug("Waiting for termination of batch executor during shutdown.");
+      }
+    } catch (InterruptedException e) {
+      LOG.debug("Interrupted while waiting for termination of batch executor during shutdown.");
+    }
+    LOG.info("Queried " + numBatchedGets.get() + " gets in " + numBatches.get() + " batches.");
+  }
+
+  private static class PendingGet {
+
+    private final String domainName;
+    private final ByteBuffer key;
+    private final SettableFuture<HankResponse> response = SettableFuture.create();
+
+    private PendingGet(String domainName, ByteBuffer key) {
+      this.domainName = domainName;
+      this.key = key;
+    }
+  }
+
+  // Waits for a first get, then gathers others until the window ends or the batch is full
+  private class Batcher implements Runnable {
+
+    @Override
+    public void run() {
+      while (!stopping) {
+        List<PendingGet> batch = new ArrayList<PendingGet>(batchMaxSize);
+        try {
+          batch.add(pendingGets.take());
+          long windowEndNanos = System.nanoTime() + batchWindowNanos;
+          while (batch.size() < batchMaxSize) {
+            // Take what is already queued without waiting
+            pendingGets.drainTo(batch, batchMaxSize - batch.size());
+            long remainingNanos = windowEndNanos - System.nanoTime();
+            if (batch.size() >= batchMaxSize || remainingNanos <= 0) {
+              break;
+            }
+            PendingGet pendingGet = pendingGets.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (pendingGet == null) {
+              break;
+            }
+            batch.add(pendingGet);
+          }
+        } catch (InterruptedException e) {
+          // Stopping, gets taken so far are still queried
+        }
+        if (!batch.isEmpty()) {
+          batchExecutor.execute(new BatchRunnable(batch));
+        }
+      }
+    }
+  }
+
+  private class BatchRunnable implements Runnable {
+
+    private final List<PendingGet> batch;
+
+    private BatchRunnable(List<PendingGet> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void run() {
+      numBatches.incrementAndGet();
+      numBatchedGets.addAndGet(batch.size());
+      try {
+        if (batch.size() == 1) {
+          PendingGet pendingGet = batch.get(0);
+          pendingGet.response.set(client.get(pendingGet.domainName, pendingGet.key));
+          return;
+        }
+        List<HankDomainNameKey> domainKeys = new ArrayList<HankDomainNameKey>(batch.size());
+        for (PendingGet pendingGet : batch) {
+          domainKeys.add(new HankDomainNameKey(pendingGet.domainName, pendingGet.key));
+        }
+        HankBulkResponse bulkResponse = client.getMulti(domainKeys);
+        if (bulkResponse.is_set_xception()) {
+          // Errors that concern the whole batch, such as no available hosts, concern each get
+          HankResponse response = HankResponse.xception(bulkResponse.get_xception());
+          for (PendingGet pendingGet : batch) {
+            pendingGet.response.set(response);
+          }
+          return;
+        }
+        List<HankResponse> responses = bulkResponse.get_responses();
+        for (int i = 0; i < batch.size(); ++i) {
+          batch.get(i).response.set(responses.get(i));
+        }
+      } catch (Throwable t) {
+        LOG.error("Failed to perform batched gets", t);
+        for (PendingGet pendingGet : batch) {
+          pendingGet.response.setException(t);
+        }
+      }
+    }
+  }
+
+  private static class BatchThreadFactory implements ThreadFactory {
+
+    private int threadId = 0;
+
+    @Override
+    public synchronized Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "Get batch thread " + threadId++);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -24,12 +24,31 @@ import com.liveramp.hank.coordinator.Domain;
 
 class DomainAndKey {
 
+  // Used when the version of the domain that is being served is not known
+  static final int UNKNOWN_DOMAIN_VERSION = -1;
+
   private final Domain domain;
   private final ByteBuffer key;
+  // Version of the domain being served when the key was queried. Keys
+  // queried while serving different versions of a domain are different.
+  private final int domainVersion;
 
   public DomainAndKey(Domain domain, ByteBuffer key) {
+    this(domain, key, UNKNOWN_DOMAIN_VERSION);
+  }
+
+  public DomainAndKey(Domain domain, ByteBuffer key, int domainVersion) {
     this.domain = domain;
     this.key = key;
+    this.domainVersion = domainVersion;
+  }
+
+  Domain getDomain() {
+    return domain;
+  }
+
+  int getDomainVersion() {
+    return domainVersion;
   }
 
   @Override
@@ -43,6 +62,9 @@ class DomainAndKey {
 
     DomainAndKey that = (DomainAndKey)o;
 
+    if (domainVersion != that.domainVersion) {
+      return false;
+    }
     if (!domain.equals(that.domain)) {
       return false;
     }
@@ -57,6 +79,7 @@ class DomainAndKey {
   public int hashCode() {
     int result = domain.hashCode();
     result = 31 * result + key.hashCode();
+    result = 31 * result + domainVersion;
     return result;
   }
 
@@ -0,0 +1,137 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import com.liveramp.hank.coordinator.Domain;
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.partitioner.Partitioner;
+import com.liveramp.hank.storage.HashedKeyStorageEngine;
+
+/**
+ * A domain prepared for repeated queries through a {@link HankSmartClient}.
+ * The domain, its partitioner and the connection pools serving its partitions
+ * are resolved once and reused across queries, instead of being looked up on
+ * every one of them. Pools are resolved again only when the client publishes
+ * a new routing table.
+ */
+public class DomainHandle {
+
+  private final HankSmartClient client;
+  private final Domain domain;
+  private final Partitioner partitioner;
+  private final int numPartitions;
+  private volatile Route route;
+
+  DomainHandle(HankSmartClient client, Domain domain) {
+    this.client = client;
+    this.domain = domain;
+    this.partitioner = domain.getPartitioner();
+    this.numPartitions = domain.getNumParts();
+  }
+
+  public Domain getDomain() {
+    return domain;
+  }
+
+  public HankResponse get(ByteBuffer key) {
+    return client.get(this, key);
+  }
+
+  public HankBulkResponse getBulk(List<ByteBuffer> keys) {
+    return client.getBulk(this, keys);
+  }
+
+  // Return null if the key is not found
+  public InputStream getValueStream(ByteBuffer key) throws IOException {
+    return client.getValueStream(this, key);
+  }
+
+  public void scan(int numThreads, int batchSize, DomainScanner.RecordVisitor visitor) throws IOException {
+    new DomainScanner(client, this, numThreads, batchSize).scan(visitor);
+  }
+
+  public FutureGet concurrentGet(ByteBuffer key) {
+    return client.concurrentGet(this, key);
+  }
+
+  public List<FutureGet> concurrentGet(List<ByteBuffer> keys) {
+    return client.concurrentGet(this, keys);
+  }
+
+  int getPartition(ByteBuffer key) {
+    return partitioner.partition(key, numPartitions);
+  }
+
+  int getKeyHash(ByteBuffer key) {
+    return partitioner.partition(key, Integer.MAX_VALUE);
+  }
+
+  // Return this domain's route in the given routing table, only resolving it again when the table has changed
+  Route getRoute(RoutingTable routingTable) {
+    Route currentRoute = route;
+    if (currentRoute == null || currentRoute.routingTable != routingTable) {
+      currentRoute = new Route(routingTable,
+          routingTable.getPartitionToConnectionPool(domain.getId()),
+          routingTable.getServedDomainVersion(domain.getId()),
+          routingTable.getHashedKeyStorageEngine(domain.getId()));
+      route = currentRoute;
+    }
+    return currentRoute;
+  }
+
+  static class Route {
+
+    private final RoutingTable routingTable;
+    private final Map<Integer, HostConnectionPool> partitionToConnectionPool;
+    private final int servedDomainVersion;
+    private final HashedKeyStorageEngine hashedKeyStorageEngine;
+
+    private Route(RoutingTable routingTable,
+                  Map<Integer, HostConnectionPool> partitionToConnectionPool,
+                  Integer servedDomainVersion,
+                  HashedKeyStorageEngine hashedKeyStorageEngine) {
+      this.routingTable = routingTable;
+      this.partitionToConnectionPool = partitionToConnectionPool;
+      this.servedDomainVersion = servedDomainVersion == null ? DomainAndKey.UNKNOWN_DOMAIN_VERSION : servedDomainVersion;
+      this.hashedKeyStorageEngine = hashedKeyStorageEngine;
+    }
+
+    // Return null if the domain is not served
+    Map<Integer, HostConnectionPool> getPartitionToConnectionPool() {
+      return partitionToConnectionPool;
+    }
+
+    int getServedDomainVersion() {
+      return servedDomainVersion;
+    }
+
+    // Return null if keys of the domain are not hashed by the client
+    HashedKey getHashedKey(ByteBuffer key, int partition) {
+      if (hashedKeyStorageEngine == null) {
+        return null;
+      }
+      return new HashedKey(partition, hashedKeyStorageEngine.getHashedKey(key));
+    }
+  }
+}
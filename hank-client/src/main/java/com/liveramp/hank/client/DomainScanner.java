@@ -0,0 +1,166 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.liveramp.hank.generated.HankScanRecord;
+import com.liveramp.hank.generated.HankScanRecords;
+
+/**
+ * Reads all records of a domain by scanning its partitions in parallel, each
+ * partition being read from one of its replicas in batches of records. A
+ * batch ends with the key hash from which the next batch resumes, so that
+ * a failed batch is retried on another replica without reading the
+ * partition again from its beginning.
+ *
+ * Servers end batches early when they are throttling scans, possibly
+ * without any record, in which case the batch is queried again after a
+ * short pause. A partition fails to be scanned when its batches stay empty
+ * for too long.
+ *
+ * Keys are not stored by partition servers, records are visited with their
+ * key hashes. Batches are queried independently. If a new version of the
+ * domain is served while it is being scanned, later batches come from the
+ * new version.
+ */
+public class DomainScanner {
+
+  public interface RecordVisitor {
+
+    // Called concurrently for different partitions, and in increasing key hash order within a partition
+    public void visit(int partition, ByteBuffer keyHash, ByteBuffer value) throws IOException;
+  }
+
+  private static final ByteBuffer START_CURSOR = ByteBuffer.wrap(new byte[0]);
+  private static final long THROTTLED_BATCH_RETRY_DELAY_MS = 100;
+  private static final long THROTTLED_BATCH_MAX_WAIT_MS = 60000;
+
+  private final HankSmartClient client;
+  private final DomainHandle domainHandle;
+  private final int numThreads;
+  private final int batchSize;
+
+  DomainScanner(HankSmartClient client, DomainHandle domainHandle, int numThreads, int batchSize) {
+    if (numThreads <= 0) {
+      throw new IllegalArgumentException("Number of scan threads must be positive: " + numThreads);
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Scan batch size must be positive: " + batchSize);
+    }
+    this.client = client;
+    this.domainHandle = domainHandle;
+    this.numThreads = numThreads;
+    this.batchSize = batchSize;
+  }
+
+  // Return once all partitions have been scanned. Fail if any of them could not be.
+  public void scan(RecordVisitor visitor) throws IOException {
+    int numPartitions = domainHandle.getDomain().getNumParts();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(numThreads, numPartitions)), new ScanThreadFactory());
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>(numPartitions);
+      for (int partition = 0; partition < numPartitions; ++partition) {
+        futures.add(executor.submit(new ScanPartitionTask(partition, visitor)));
+      }
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof IOException) {
+            throw (IOException)e.getCause();
+          }
+          throw new IOException("Failed to scan domain " + domainHandle.getDomain().getName(), e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while scanning domain " + domainHandle.getDomain().getName(), e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  void scanPartition(int partition, RecordVisitor visitor) throws IOException {
+    ByteBuffer cursor = START_CURSOR;
+    // Time waited since the last batch that was not empty
+    long throttledWaitMs = 0;
+    while (true) {
+      HankScanRecords records = client.scanPartition(domainHandle, partition, cursor, batchSize);
+      for (HankScanRecord record : records.get_records()) {
+        visitor.visit(partition, record.buffer_for_key_hash(), record.buffer_for_value());
+        cursor = record.buffer_for_key_hash();
+      }
+      if (records.is_end_of_partition()) {
+        return;
+      }
+      if (!records.get_records().isEmpty()) {
+        throttledWaitMs = 0;
+      } else {
+        if (throttledWaitMs >= THROTTLED_BATCH_MAX_WAIT_MS) {
+          throw new IOException("Scan of partition " + partition + " of domain " + domainHandle.getDomain().getName()
+              + " has been throttled without any record for " + throttledWaitMs + "ms");
+        }
+        throttledWaitMs += THROTTLED_BATCH_RETRY_DELAY_MS;
+        try {
+          Thread.sleep(THROTTLED_BATCH_RETRY_DELAY_MS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while scanning partition " + partition + " of domain " + domainHandle.getDomain().getName(), e);
+        }
+      }
+    }
+  }
+
+  private class ScanPartitionTask implements Callable<Void> {
+
+    private final int partition;
+    private final RecordVisitor visitor;
+
+    private ScanPartitionTask(int partition, RecordVisitor visitor) {
+      this.partition = partition;
+      this.visitor = visitor;
+    }
+
+    @Override
+    public Void call() throws IOException {
+      scanPartition(partition, visitor);
+      return null;
+    }
+  }
+
+  private static class ScanThreadFactory implements ThreadFactory {
+
+    private int threadId = 0;
+
+    @Override
+    public synchronized Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "Domain Scanner Thread " + threadId++);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -15,24 +15,40 @@
  */
 package com.liveramp.hank.client;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.google.common.base.Predicate;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.SettableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.liveramp.commons.util.BytesUtils;
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.EnvironmentValue;
 import com.liveramp.hank.config.HankSmartClientConfigurator;
 import com.liveramp.hank.coordinator.Coordinator;
@@ -46,14 +62,23 @@ import com.liveramp.hank.coordinator.Ring;
 import com.liveramp.hank.coordinator.RingGroup;
 import com.liveramp.hank.coordinator.RingGroupDataLocationChangeListener;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankDomainNameKey;
 import com.liveramp.hank.generated.HankException;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.storage.HashedKeyStorageEngine;
+import com.liveramp.hank.storage.StorageEngine;
 import com.liveramp.hank.util.AtomicLongCollection;
 import com.liveramp.hank.util.FormatUtils;
 import com.liveramp.hank.util.HankResponseMemoryUsageEstimator;
 import com.liveramp.hank.util.HankTimer;
+import com.liveramp.hank.util.LocalHostUtils;
 import com.liveramp.hank.util.SynchronizedMemoryBoundCacheExpiring;
+import com.liveramp.hank.util.UnixDomainSockets;
 import com.liveramp.hank.util.UpdateStatisticsRunnable;
+import com.liveramp.hank.util.VirtualThreads;
+import com.liveramp.hank.util.WireCompressionStatistics;
 
 import static com.liveramp.hank.client.HostConnectionPool.getHostListShuffleSeed;
 
@@ -70,6 +95,10 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
   private static final long GET_TASK_EXECUTOR_AWAIT_TERMINATION_VALUE = 1;
   private static final TimeUnit GET_TASK_EXECUTOR_AWAIT_TERMINATION_UNIT = TimeUnit.SECONDS;
   private static final int GET_TASK_EXECUTOR_QUEUE_SIZE = 1024;
+  private static final int CONNECTION_ESTABLISHER_EXECUTOR_MAX_NUM_THREADS = 16;
+
+  public static final String KEY_AFFINITY_REPLICA_SELECTION_STRATEGY = "key_affinity";
+  public static final String POWER_OF_TWO_CHOICES_REPLICA_SELECTION_STRATEGY = "power_of_two_choices";
 
   private static final int UPDATE_RUNTIME_STATISTICS_THREAD_SLEEP_TIME_MS_DEFAULT = 30000;
   private static final int UPDATE_RUNTIME_STATISTICS_NUM_MEASUREMENTS = 3;
@@ -86,25 +115,52 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
   private final int queryTimeoutMs;
   private final int bulkQueryTimeoutMs;
   private final EnvironmentValue preferredHostEnvironment;
+  private final ReplicaSelectionStrategy replicaSelectionStrategy;
+  private final boolean adaptiveConcurrencyLimitEnabled;
+  private final int adaptiveConcurrencyLimitInitial;
+  private final int adaptiveConcurrencyLimitMax;
+  private final int numPipelinedSocketsPerHost;
+  private final boolean useCompactBulkResponses;
+  private final List<CompressionCodec> wireCompressionCodecs;
+  private final boolean useHashedKeys;
+  private final int valueStreamChunkSize;
+  private final String partitionServerUnixDomainSocketPath;
+  // Shared by all connections
+  private final WireCompressionStatistics wireCompressionStatistics = new WireCompressionStatistics();
 
   private final SynchronizedMemoryBoundCacheExpiring<DomainAndKey, HankResponse> responseCache;
   // 0: num queries
   // 1: num cache hits
+  // 2: num queries coalesced with an identical in-flight query
   private final AtomicLongCollection requestsCounters;
 
-  private final ThreadPoolExecutor getTaskExecutor;
+  private final boolean requestCoalescingEnabled;
+  private final ConcurrentHashMap<DomainAndKey, SettableFuture<HankResponse>> inFlightGets;
+
+  private final ExecutorService getTaskExecutor;
+
+  // Hedging
+  private final boolean hedgingEnabled;
+  private final double hedgingLatencyPercentile;
+  private final long hedgingMinDelayNanos;
+  private final HedgingBudget hedgingBudget;
+  private final ConcurrentHashMap<Integer, LatencyTracker> domainIdToLatencyTracker;
+  private final ExecutorService hedgedGetTaskExecutor;
+  // 0: num hedged requests
+  // 1: num hedged requests won by the hedge
+  private final AtomicLongCollection hedgingCounters;
 
   private final UpdateRuntimeStatisticsRunnable updateRuntimeStatisticsRunnable;
   private final Thread updateRuntimeStatisticsThread;
 
   // Connection Cache
 
-  private Map<HostAddress, HostConnectionPool> partitionServerAddressToConnectionPool
-      = new HashMap<HostAddress, HostConnectionPool>();
-  private Map<Integer, Map<Integer, HostConnectionPool>> domainToPartitionToConnectionPool
-      = new HashMap<Integer, Map<Integer, HostConnectionPool>>();
+  // The routing table is immutable and replaced as a whole, so that queries can read it without locking
+  private volatile RoutingTable routingTable = RoutingTable.EMPTY;
 
+  // Serializes routing table updates and disconnection
   private final Object connectionCacheLock = new Object();
+  private final ThreadPoolExecutor connectionEstablisherExecutor;
   private final ConnectionCacheUpdaterRunnable connectionCacheUpdaterRunnable = new ConnectionCacheUpdaterRunnable();
   private final Thread connectionCacheUpdaterThread;
 
@@ -135,7 +191,33 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
         .setEstablishConnectionTimeoutMs(configurator.getEstablishConnectionTimeoutMs())
         .setQueryTimeoutMs(configurator.getQueryTimeoutMs())
         .setBulkQueryTimeoutMs(configurator.getBulkQueryTimeoutMs())
-        .setPreferredServerEnvironmentFlag(configurator.getPreferredServerEnvironment()));
+        .setPreferredServerEnvironmentFlag(configurator.getPreferredServerEnvironment())
+        .setHedgingEnabled(configurator.getHedgingEnabled())
+        .setHedgingLatencyPercentile(configurator.getHedgingLatencyPercentile())
+        .setHedgingMinDelayMs(configurator.getHedgingMinDelayMs())
+        .setHedgingBudgetRatio(configurator.getHedgingBudgetRatio())
+        .setReplicaSelectionStrategy(getReplicaSelectionStrategy(configurator.getReplicaSelectionStrategy()))
+        .setAdaptiveConcurrencyLimitEnabled(configurator.getAdaptiveConcurrencyLimitEnabled())
+        .setAdaptiveConcurrencyLimitInitial(configurator.getAdaptiveConcurrencyLimitInitial())
+        .setAdaptiveConcurrencyLimitMax(configurator.getAdaptiveConcurrencyLimitMax())
+        .setRequestCoalescingEnabled(configurator.getRequestCoalescingEnabled())
+        .setNumPipelinedSocketsPerHost(configurator.getNumPipelinedSocketsPerHost())
+        .setUseCompactBulkResponses(configurator.getUseCompactBulkResponses())
+        .setWireCompressionCodecs(configurator.getWireCompressionCodecs())
+        .setUseHashedKeys(configurator.getUseHashedKeys())
+        .setValueStreamChunkSize(configurator.getValueStreamChunkSize())
+        .setPartitionServerUnixDomainSocketPath(configurator.getPartitionServerUnixDomainSocketPath())
+        .setVirtualThreadsEnabled(configurator.getVirtualThreadsEnabled()));
+  }
+
+  private static ReplicaSelectionStrategy getReplicaSelectionStrategy(String name) {
+    if (name == null || name.equals(KEY_AFFINITY_REPLICA_SELECTION_STRATEGY)) {
+      return new KeyAffinityReplicaSelectionStrategy();
+    } else if (name.equals(POWER_OF_TWO_CHOICES_REPLICA_SELECTION_STRATEGY)) {
+      return new PowerOfTwoChoicesReplicaSelectionStrategy();
+    } else {
+      throw new IllegalArgumentException("Unknown replica selection strategy: " + name);
+    }
   }
 
   public HankSmartClient(Coordinator coordinator, String ringGroupName) throws IOException {
@@ -167,21 +249,66 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
         options.getResponseCacheExpirationSeconds(),
         new DomainAndKey.DomainAndKeyMemoryUsageEstimator(),
         new HankResponseMemoryUsageEstimator());
-    this.requestsCounters = new AtomicLongCollection(2, new long[]{0, 0});
+    this.requestsCounters = new AtomicLongCollection(3, new long[]{0, 0, 0});
+    this.requestCoalescingEnabled = options.getRequestCoalescingEnabled();
+    this.inFlightGets = new ConcurrentHashMap<DomainAndKey, SettableFuture<HankResponse>>();
     this.preferredHostEnvironment = options.getPreferredServerEnvironment();
+    this.replicaSelectionStrategy = options.getReplicaSelectionStrategy();
+    this.adaptiveConcurrencyLimitEnabled = options.getAdaptiveConcurrencyLimitEnabled();
+    this.adaptiveConcurrencyLimitInitial = options.getAdaptiveConcurrencyLimitInitial();
+    this.adaptiveConcurrencyLimitMax = options.getAdaptiveConcurrencyLimitMax();
+    this.numPipelinedSocketsPerHost = options.getNumPipelinedSocketsPerHost();
+    this.useCompactBulkResponses = options.getUseCompactBulkResponses();
+    this.wireCompressionCodecs = options.getWireCompressionCodecs();
+    this.useHashedKeys = options.getUseHashedKeys();
+    this.valueStreamChunkSize = options.getValueStreamChunkSize();
+    if (valueStreamChunkSize <= 0) {
+      throw new IllegalArgumentException("Value stream chunk size must be positive but was: " + valueStreamChunkSize);
+    }
+    this.partitionServerUnixDomainSocketPath = options.getPartitionServerUnixDomainSocketPath();
     LOG.info("Initializing client using preferred host environment: " + preferredHostEnvironment);
 
-    // This creates a thread pool executor with a specific maximum number of threads.
-    // We allow core threads to timeout after the keep alive time. We use a custom bounded
-    // blocking queue so that executing tasks will never fail, but will block instead.
-    // The queue size is mainly to avoid excessive contention.
-    this.getTaskExecutor = new ThreadPoolExecutor(
-        options.getConcurrentGetThreadPoolMaxSize(),
-        options.getConcurrentGetThreadPoolMaxSize(),
-        GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME,
-        GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME_UNIT,
-        new AlwaysBlockingLinkedBlockingQueue(GET_TASK_EXECUTOR_QUEUE_SIZE));
-    getTaskExecutor.allowCoreThreadTimeOut(true);
+    boolean virtualThreadsEnabled = options.getVirtualThreadsEnabled();
+    if (virtualThreadsEnabled) {
+      // Each task runs on its own virtual thread. A semaphore bounds how many run at a time instead of the
+      // pool size, tasks in excess wait as parked virtual threads.
+      LOG.info("Initializing client with virtual threads, running at most "
+          + options.getConcurrentGetThreadPoolMaxSize() + " concurrent gets at a time");
+      this.getTaskExecutor = VirtualThreads.newBoundedExecutor("GetTaskThread ", options.getConcurrentGetThreadPoolMaxSize());
+    } else {
+      // This creates a thread pool executor with a specific maximum number of threads.
+      // We allow core threads to timeout after the keep alive time. We use a custom bounded
+      // blocking queue so that executing tasks will never fail, but will block instead.
+      // The queue size is mainly to avoid excessive contention.
+      ThreadPoolExecutor getTaskThreadPoolExecutor = new ThreadPoolExecutor(
+          options.getConcurrentGetThreadPoolMaxSize(),
+          options.getConcurrentGetThreadPoolMaxSize(),
+          GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME,
+          GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME_UNIT,
+          new AlwaysBlockingLinkedBlockingQueue(GET_TASK_EXECUTOR_QUEUE_SIZE));
+      getTaskThreadPoolExecutor.allowCoreThreadTimeOut(true);
+      this.getTaskExecutor = getTaskThreadPoolExecutor;
+    }
+
+    // Hedged requests are executed on a separate executor since they can be issued from GET tasks
+    this.hedgingEnabled = options.getHedgingEnabled();
+    this.hedgingLatencyPercentile = options.getHedgingLatencyPercentile();
+    this.hedgingMinDelayNanos = TimeUnit.MILLISECONDS.toNanos(options.getHedgingMinDelayMs());
+    this.hedgingBudget = new HedgingBudget(options.getHedgingBudgetRatio());
+    this.domainIdToLatencyTracker = new ConcurrentHashMap<Integer, LatencyTracker>();
+    this.hedgingCounters = new AtomicLongCollection(2, new long[]{0, 0});
+    if (hedgingEnabled) {
+      LOG.info("Initializing client with hedging at latency percentile " + hedgingLatencyPercentile
+          + ", minimum delay " + options.getHedgingMinDelayMs() + "ms"
+          + ", budget ratio " + options.getHedgingBudgetRatio());
+      if (virtualThreadsEnabled) {
+        this.hedgedGetTaskExecutor = VirtualThreads.newThreadPerTaskExecutor("HedgedGetTaskThread ");
+      } else {
+        this.hedgedGetTaskExecutor = Executors.newCachedThreadPool(new HedgedGetTaskThreadFactory());
+      }
+    } else {
+      this.hedgedGetTaskExecutor = null;
+    }
 
     // Initialize Load statistics runner
     updateRuntimeStatisticsRunnable = new UpdateRuntimeStatisticsRunnable();
@@ -189,6 +316,16 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
     updateRuntimeStatisticsThread.setDaemon(true);
     updateRuntimeStatisticsThread.start();
 
+    // Connections to new hosts are established in parallel
+    this.connectionEstablisherExecutor = new ThreadPoolExecutor(
+        CONNECTION_ESTABLISHER_EXECUTOR_MAX_NUM_THREADS,
+        CONNECTION_ESTABLISHER_EXECUTOR_MAX_NUM_THREADS,
+        GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME,
+        GET_TASK_EXECUTOR_THREAD_KEEP_ALIVE_TIME_UNIT,
+        new LinkedBlockingQueue<Runnable>(),
+        new ConnectionEstablisherThreadFactory());
+    connectionEstablisherExecutor.allowCoreThreadTimeOut(true);
+
     // Initialize connection cache and connection cache updater
     updateConnectionCache();
     ringGroup.addDataLocationChangeListener(this);
@@ -198,41 +335,53 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
   }
 
   private void updateConnectionCache() throws IOException {
-    LOG.info(getLogPrefix() + "Loading Hank's smart client metadata cache and connections.");
-
-    // Create new empty cache
-    final Map<HostAddress, HostConnectionPool> newPartitionServerAddressToConnectionPool
-        = new HashMap<HostAddress, HostConnectionPool>();
-    final Map<Integer, Map<Integer, HostConnectionPool>> newDomainToPartitionToConnectionPool
-        = new HashMap<Integer, Map<Integer, HostConnectionPool>>();
-
-    // Build new cache
-    buildNewConnectionCache(
-        newPartitionServerAddressToConnectionPool,
-        newDomainToPartitionToConnectionPool);
-
-    // Switch old cache for new cache
-    final Map<HostAddress, HostConnectionPool> oldPartitionServerAddressToConnectionPool
-        = partitionServerAddressToConnectionPool;
     synchronized (connectionCacheLock) {
-      partitionServerAddressToConnectionPool = newPartitionServerAddressToConnectionPool;
-      domainToPartitionToConnectionPool = newDomainToPartitionToConnectionPool;
-    }
-
-    // Clean up old cache when new cache is in place
-    for (Map.Entry<HostAddress, HostConnectionPool> entry
-        : oldPartitionServerAddressToConnectionPool.entrySet()) {
-      HostAddress address = entry.getKey();
-      HostConnectionPool connections = entry.getValue();
-      // Only close connections that have not been reused
-      if (!partitionServerAddressToConnectionPool.containsKey(address)) {
-        for (HostConnection connection : connections.getConnections()) {
-          connection.disconnect();
+      LOG.info(getLogPrefix() + "Loading Hank's smart client metadata cache and connections.");
+
+      // Build new routing table. Connections to new hosts are established before it is published.
+      final RoutingTable oldRoutingTable = routingTable;
+      final RoutingTable newRoutingTable = buildNewRoutingTable(oldRoutingTable);
+
+      // Switch old routing table for new routing table
+      routingTable = newRoutingTable;
+
+      // Drop cached responses of domains now served at a new version, once queries no longer use the previous one
+      for (Map.Entry<Integer, Integer> entry : newRoutingTable.getDomainIdToServedVersion().entrySet()) {
+        Integer domainId = entry.getKey();
+        Integer servedVersion = entry.getValue();
+        Integer previousVersion = oldRoutingTable.getServedDomainVersion(domainId);
+        if (previousVersion != null && !previousVersion.equals(servedVersion)) {
+          int numRemovedResponses = removeCachedResponses(domainId, servedVersion);
+          LOG.info(getLogPrefix() + "Domain " + domainId + " is now served at version " + servedVersion
+              + " (previously " + previousVersion + "), dropped " + numRemovedResponses + " cached responses.");
+        }
+      }
+
+      // Clean up old connections when new routing table is in place
+      for (Map.Entry<HostAddress, HostConnectionPool> entry
+          : oldRoutingTable.getPartitionServerAddressToConnectionPool().entrySet()) {
+        HostAddress address = entry.getKey();
+        HostConnectionPool connections = entry.getValue();
+        // Only close connections that have not been reused
+        if (!newRoutingTable.getPartitionServerAddressToConnectionPool().containsKey(address)) {
+          for (HostConnection connection : connections.getConnections()) {
+            connection.disconnect();
+          }
         }
       }
     }
   }
 
+  // Remove cached responses of the given domain that were not queried at the given version
+  private int removeCachedResponses(final int domainId, final int domainVersion) {
+    return responseCache.removeAll(new Predicate<DomainAndKey>() {
+      @Override
+      public boolean apply(DomainAndKey domainAndKey) {
+        return domainAndKey.getDomain().getId() == domainId && domainAndKey.getDomainVersion() != domainVersion;
+      }
+    });
+  }
+
   private class ConnectionCacheUpdaterRunnable implements Runnable {
 
     private volatile boolean stopping = false;
@@ -290,10 +439,20 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
     return false;
   }
 
-  private void buildNewConnectionCache(
-      final Map<HostAddress, HostConnectionPool> newPartitionServerAddressToConnectionPool,
-      final Map<Integer, Map<Integer, HostConnectionPool>> newDomainToPartitionToConnectionPool)
-      throws IOException {
+  private RoutingTable buildNewRoutingTable(final RoutingTable previousRoutingTable) throws IOException {
+
+    final Map<HostAddress, HostConnectionPool> newPartitionServerAddressToConnectionPool
+        = new HashMap<HostAddress, HostConnectionPool>();
+    final Map<Integer, Map<Integer, HostConnectionPool>> newDomainToPartitionToConnectionPool
+        = new HashMap<Integer, Map<Integer, HostConnectionPool>>();
+    final Map<Integer, Integer> newDomainIdToServedVersion = new HashMap<Integer, Integer>();
+    final Map<Integer, HashedKeyStorageEngine> newDomainIdToHashedKeyStorageEngine
+        = new HashMap<Integer, HashedKeyStorageEngine>();
+
+    // Hosts to which no connections are established yet
+    final Map<HostAddress, Host> newHostAddressToHost = new HashMap<HostAddress, Host>();
+
+    final Map<Integer, Set<Integer>> domainIdToCurrentVersions = new HashMap<Integer, Set<Integer>>();
 
     final Map<Integer, Map<Integer, List<HostAddress>>> newDomainToPartitionToPartitionServerAddressList
         = new HashMap<Integer, Map<Integer, List<HostAddress>>>();
@@ -330,8 +489,21 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
             partitionToAdresses = new HashMap<Integer, List<HostAddress>>();
             newDomainToPartitionToPartitionServerAddressList.put(domain.getId(), partitionToAdresses);
           }
+          Set<Integer> currentVersions = domainIdToCurrentVersions.get(domain.getId());
+          if (currentVersions == null) {
+            currentVersions = new HashSet<Integer>();
+            domainIdToCurrentVersions.put(domain.getId(), currentVersions);
+            // Resolve the storage engine once per domain, its hasher is deterministic
+            if (useHashedKeys) {
+              StorageEngine storageEngine = domain.getStorageEngine();
+              if (storageEngine instanceof HashedKeyStorageEngine) {
+                newDomainIdToHashedKeyStorageEngine.put(domain.getId(), (HashedKeyStorageEngine)storageEngine);
+              }
+            }
+          }
           for (HostDomainPartition partition : hostDomain.getPartitions()) {
             if (!partition.isDeletable()) {
+              currentVersions.add(partition.getCurrentDomainVersion());
               List<HostAddress> partitionsList = partitionToAdresses.get(partition.getPartitionNumber());
               if (partitionsList == null) {
                 partitionsList = new ArrayList<HostAddress>();
@@ -344,28 +516,18 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
 
         // Build new partitionServerAddressToConnectionPool
         // Reuse current connection pool to that host if one exists
-        HostConnectionPool hostConnectionPool = partitionServerAddressToConnectionPool.get(hostAddress);
+        HostConnectionPool hostConnectionPool = previousRoutingTable.getPartitionServerAddressToConnectionPool().get(hostAddress);
         if (hostConnectionPool == null) {
-          // Establish new connections to host
-          LOG.info(getLogPrefix() + "Establishing " + numConnectionsPerHost + " connections to " + host
-              + " with connection try lock timeout = " + tryLockConnectionTimeoutMs + "ms"
-              + ", connection establishment timeout = " + establishConnectionTimeoutMs + "ms"
-              + ", query timeout = " + queryTimeoutMs + "ms"
-              + ", bulk query timeout = " + bulkQueryTimeoutMs + "ms");
-          List<HostConnection> hostConnections = new ArrayList<HostConnection>(numConnectionsPerHost);
-          for (int i = 0; i < numConnectionsPerHost; i++) {
-            hostConnections.add(new HostConnection(host,
-                tryLockConnectionTimeoutMs,
-                establishConnectionTimeoutMs,
-                queryTimeoutMs,
-                bulkQueryTimeoutMs));
-          }
-          hostConnectionPool = HostConnectionPool.createFromList(hostConnections, null, preferredHosts);
+          newHostAddressToHost.put(hostAddress, host);
+        } else {
+          newPartitionServerAddressToConnectionPool.put(hostAddress, hostConnectionPool);
         }
-        newPartitionServerAddressToConnectionPool.put(hostAddress, hostConnectionPool);
       }
     }
 
+    // Establish new connections to hosts in parallel
+    newPartitionServerAddressToConnectionPool.putAll(establishConnectionPools(newHostAddressToHost, preferredHosts));
+
     // Build new domainToPartitionToConnectionPool
     for (Map.Entry<Integer, Map<Integer, List<HostAddress>>> domainToPartitionToAddressesEntry :
         newDomainToPartitionToPartitionServerAddressList.entrySet()) {
@@ -379,37 +541,165 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
         }
         Integer partitionId = partitionToAddressesEntry.getKey();
         partitionToConnectionPool.put(partitionId,
-            HostConnectionPool.createFromList(connections, getHostListShuffleSeed(domainId, partitionId), preferredHosts));
+            HostConnectionPool.createFromList(connections, getHostListShuffleSeed(domainId, partitionId), preferredHosts, replicaSelectionStrategy));
       }
       newDomainToPartitionToConnectionPool.put(domainId, partitionToConnectionPool);
     }
+
+    // Determine which version of each domain is served. A domain that is being updated (served at different
+    // versions) keeps its previous version until all of its partitions are served at the new one.
+    for (Map.Entry<Integer, Set<Integer>> entry : domainIdToCurrentVersions.entrySet()) {
+      Integer domainId = entry.getKey();
+      Set<Integer> currentVersions = entry.getValue();
+      Integer previousVersion = previousRoutingTable.getServedDomainVersion(domainId);
+      if (currentVersions.size() == 1 && !currentVersions.contains(null)) {
+        newDomainIdToServedVersion.put(domainId, currentVersions.iterator().next());
+      } else if (previousVersion != null) {
+        newDomainIdToServedVersion.put(domainId, previousVersion);
+      }
+    }
+
+    return new RoutingTable(
+        newPartitionServerAddressToConnectionPool,
+        newDomainToPartitionToConnectionPool,
+        newDomainIdToServedVersion,
+        newDomainIdToHashedKeyStorageEngine);
+  }
+
+  private Map<HostAddress, HostConnectionPool> establishConnectionPools(final Map<HostAddress, Host> hostAddressToHost,
+                                                                       final Set<Host> preferredHosts) throws IOException {
+    final Map<HostAddress, Future<HostConnectionPool>> hostAddressToFutureConnectionPool
+        = new HashMap<HostAddress, Future<HostConnectionPool>>();
+    for (Map.Entry<HostAddress, Host> entry : hostAddressToHost.entrySet()) {
+      final Host host = entry.getValue();
+      hostAddressToFutureConnectionPool.put(entry.getKey(), connectionEstablisherExecutor.submit(new Callable<HostConnectionPool>() {
+        @Override
+        public HostConnectionPool call() throws IOException {
+          return establishConnectionPool(host, preferredHosts);
+        }
+      }));
+    }
+    // Wait for all connections to be established
+    final Map<HostAddress, HostConnectionPool> result = new HashMap<HostAddress, HostConnectionPool>();
+    IOException exception = null;
+    for (Map.Entry<HostAddress, Future<HostConnectionPool>> entry : hostAddressToFutureConnectionPool.entrySet()) {
+      try {
+        result.put(entry.getKey(), entry.getValue().get());
+      } catch (ExecutionException e) {
+        if (exception == null) {
+          exception = new IOException("Failed to establish connections to " + entry.getKey(), e.getCause());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (exception == null) {
+          exception = new IOException("Interrupted while establishing connections to " + entry.getKey());
+        }
+      }
+    }
+    // Do not leak the connections that were established if the new routing table will not be published
+    if (exception != null) {
+      for (HostConnectionPool hostConnectionPool : result.values()) {
+        for (HostConnection connection : hostConnectionPool.getConnections()) {
+          connection.disconnect();
+        }
+      }
+      throw exception;
+    }
+    return result;
+  }
+
+  private HostConnectionPool establishConnectionPool(Host host, Set<Host> preferredHosts) throws IOException {
+    // Partition servers on this machine are reached through their Unix domain socket when configured
+    String unixDomainSocketPath = null;
+    if (partitionServerUnixDomainSocketPath != null && LocalHostUtils.isLocalHost(host.getAddress().getHostName())) {
+      unixDomainSocketPath = UnixDomainSockets.getPartitionServerPath(partitionServerUnixDomainSocketPath,
+          host.getAddress().getPortNumber());
+    }
+    LOG.info(getLogPrefix() + "Establishing " + numConnectionsPerHost + " connections to " + host
+        + " with connection try lock timeout = " + tryLockConnectionTimeoutMs + "ms"
+        + ", connection establishment timeout = " + establishConnectionTimeoutMs + "ms"
+        + ", query timeout = " + queryTimeoutMs + "ms"
+        + ", bulk query timeout = " + bulkQueryTimeoutMs + "ms"
+        + (numPipelinedSocketsPerHost > 0 ? ", pipelined over " + numPipelinedSocketsPerHost + " sockets" : "")
+        + (useCompactBulkResponses ? ", with compact bulk responses" : "")
+        + (wireCompressionCodecs.isEmpty() ? "" : ", offering wire compression codecs " + wireCompressionCodecs)
+        + (useHashedKeys ? ", with hashed keys" : "")
+        + (unixDomainSocketPath != null ? ", through Unix domain socket " + unixDomainSocketPath : ""));
+    // Connections to the same host share pipelined sockets if enabled
+    List<PipelinedConnection> pipelinedConnections = new ArrayList<PipelinedConnection>(numPipelinedSocketsPerHost);
+    for (int i = 0; i < numPipelinedSocketsPerHost; ++i) {
+      pipelinedConnections.add(new PipelinedConnection(host.getAddress(), establishConnectionTimeoutMs,
+          wireCompressionCodecs, wireCompressionStatistics, unixDomainSocketPath));
+    }
+    List<HostConnection> hostConnections = new ArrayList<HostConnection>(numConnectionsPerHost);
+    ReplicaStatistics replicaStatistics;
+    if (adaptiveConcurrencyLimitEnabled) {
+      replicaStatistics = new ReplicaStatistics(
+          new AdaptiveConcurrencyLimit(adaptiveConcurrencyLimitInitial, adaptiveConcurrencyLimitMax));
+    } else {
+      replicaStatistics = new ReplicaStatistics();
+    }
+    for (int i = 0; i < numConnectionsPerHost; i++) {
+      hostConnections.add(new HostConnection(host,
+          tryLockConnectionTimeoutMs,
+          establishConnectionTimeoutMs,
+          queryTimeoutMs,
+          bulkQueryTimeoutMs,
+          replicaStatistics,
+          pipelinedConnections.isEmpty() ? null : pipelinedConnections.get(i % pipelinedConnections.size()),
+          useCompactBulkResponses,
+          wireCompressionCodecs,
+          wireCompressionStatistics,
+          unixDomainSocketPath));
+    }
+    return HostConnectionPool.createFromList(hostConnections, null, preferredHosts, replicaSelectionStrategy);
+  }
+
+  /**
+   * Resolve a domain once so that it can be queried repeatedly without looking
+   * it up again. Return null if there is no such domain.
+   */
+  public DomainHandle getDomainHandle(String domainName) {
+    Domain domain = coordinator.getDomain(domainName);
+    if (domain == null) {
+      return null;
+    }
+    return new DomainHandle(this, domain);
   }
 
   // Synchronous get
   @Override
   public HankResponse get(String domainName, ByteBuffer key) {
     // Get Domain
-    Domain domain = this.coordinator.getDomain(domainName);
-    if (domain == null) {
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
       LOG.error(getLogPrefix() + "No such Domain: " + domainName);
       return NO_SUCH_DOMAIN;
     }
-    return _get(domain, key);
+    return _get(domainHandle, key);
+  }
+
+  HankResponse get(DomainHandle domainHandle, ByteBuffer key) {
+    return _get(domainHandle, key);
   }
 
   // Synchronous getBulk
   @Override
   public HankBulkResponse getBulk(String domainName, List<ByteBuffer> keys) {
     // Get Domain
-    Domain domain = coordinator.getDomain(domainName);
-    if (domain == null) {
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
       LOG.error(getLogPrefix() + "No such Domain: " + domainName);
       return NO_SUCH_DOMAIN_BULK;
     }
+    return getBulk(domainHandle, keys);
+  }
+
+  HankBulkResponse getBulk(DomainHandle domainHandle, List<ByteBuffer> keys) {
     // Execute futures
     List<FutureGet> futureGets = new ArrayList<FutureGet>(keys.size());
     for (ByteBuffer key : keys) {
-      futureGets.add(_concurrentGet(domain, key));
+      futureGets.add(_concurrentGet(domainHandle, key));
     }
     // Build responses list
     List<HankResponse> allResponses = new ArrayList<HankResponse>(keys.size());
@@ -419,28 +709,234 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
     return HankBulkResponse.responses(allResponses);
   }
 
+  // Synchronous getMulti
+  // Keys are grouped by the host that would serve them, and each host receives a single query for its keys.
+  // Keys that could not be queried that way fall back to regular gets. Hosts over their concurrency limit are
+  // avoided and host latencies are recorded, but host queries are not hedged.
+  @Override
+  public HankBulkResponse getMulti(List<HankDomainNameKey> domainKeys) {
+    HankResponse[] responses = new HankResponse[domainKeys.size()];
+    Map<String, DomainHandle> domainNameToDomainHandle = new HashMap<String, DomainHandle>();
+    Map<Host, GetMultiTask> hostToTask = new HashMap<Host, GetMultiTask>();
+    for (int i = 0; i < responses.length; ++i) {
+      HankDomainNameKey domainKey = domainKeys.get(i);
+      // Get Domain
+      String domainName = domainKey.get_domain_name();
+      DomainHandle domainHandle = domainNameToDomainHandle.get(domainName);
+      if (domainHandle == null && !domainNameToDomainHandle.containsKey(domainName)) {
+        domainHandle = getDomainHandle(domainName);
+        domainNameToDomainHandle.put(domainName, domainHandle);
+        if (domainHandle == null) {
+          LOG.error(getLogPrefix() + "No such Domain: " + domainName);
+        }
+      }
+      if (domainHandle == null) {
+        responses[i] = NO_SUCH_DOMAIN;
+        continue;
+      }
+      ByteBuffer key = domainKey.buffer_for_key();
+      // Check for null keys
+      if (key == null) {
+        throw new NullKeyException();
+      }
+      // Check for empty keys
+      if (key.remaining() == 0) {
+        throw new EmptyKeyException();
+      }
+      Domain domain = domainHandle.getDomain();
+      DomainHandle.Route route = domainHandle.getRoute(routingTable);
+      int domainVersion = route.getServedDomainVersion();
+      HankResponse cachedResponse = responseCache.get(new DomainAndKey(domain, key, domainVersion));
+      if (cachedResponse != null) {
+        // One request, in cache
+        requestsCounters.increment(1, 1, 0);
+        responses[i] = cachedResponse;
+        continue;
+      }
+      // Determine the host to query, keys that cannot be routed are left to regular gets
+      Map<Integer, HostConnectionPool> partitionToConnectionPool = route.getPartitionToConnectionPool();
+      HostConnectionPool hostConnectionPool = partitionToConnectionPool == null ? null
+          : partitionToConnectionPool.get(domainHandle.getPartition(key));
+      HostConnection hostConnection = hostConnectionPool == null ? null
+          : hostConnectionPool.getConnectionToBatch(domainHandle.getKeyHash(key));
+      if (hostConnection == null || !hostConnection.supportsMulti()) {
+        continue;
+      }
+      GetMultiTask task = hostToTask.get(hostConnection.getHost());
+      if (task == null) {
+        task = new GetMultiTask(hostConnection);
+        hostToTask.put(hostConnection.getHost(), task);
+      }
+      task.add(i, domainHandle, key, domainVersion);
+    }
+
+    // Query hosts in parallel, the last one in the calling thread
+    List<GetMultiTask> tasks = new ArrayList<GetMultiTask>(hostToTask.values());
+    List<Future<?>> futures = new ArrayList<Future<?>>(tasks.size());
+    for (int i = 0; i < tasks.size() - 1; ++i) {
+      futures.add(getTaskExecutor.submit(tasks.get(i)));
+    }
+    if (!tasks.isEmpty()) {
+      tasks.get(tasks.size() - 1).run();
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return HankBulkResponse.xception(HankException.internal_error("Interrupted while waiting for get multi"));
+      } catch (ExecutionException e) {
+        // The task's keys are left to regular gets
+        LOG.error(getLogPrefix() + "Failed to perform get multi", e.getCause());
+      }
+    }
+    for (GetMultiTask task : tasks) {
+      task.collectResponses(responses);
+    }
+
+    // Fall back to regular gets
+    for (int i = 0; i < responses.length; ++i) {
+      if (responses[i] == null) {
+        HankDomainNameKey domainKey = domainKeys.get(i);
+        responses[i] = _get(domainNameToDomainHandle.get(domainKey.get_domain_name()), domainKey.buffer_for_key());
+      }
+    }
+    return HankBulkResponse.responses(Arrays.asList(responses));
+  }
+
+  /**
+   * Stream a value in ranges of the value stream chunk size, so that large
+   * values are never buffered entirely. Return null if the key is not found.
+   * Values of domains whose readers cannot read partial values, such as
+   * block compressed domains, are read entirely and streamed from memory.
+   */
+  public InputStream getValueStream(String domainName, ByteBuffer key) throws IOException {
+    // Get Domain
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
+      throw new IOException("No such Domain: " + domainName);
+    }
+    return getValueStream(domainHandle, key);
+  }
+
+  InputStream getValueStream(DomainHandle domainHandle, ByteBuffer key) throws IOException {
+    // The stream queries the key again for every range, from the same domain version
+    ByteBuffer keyCopy = BytesUtils.byteBufferDeepCopy(key);
+    int domainVersion = getServedDomainVersion(domainHandle);
+    HankResponse response = getRange(domainHandle, keyCopy, 0, valueStreamChunkSize, domainVersion);
+    if (response.is_set_xception() && response.get_xception().is_set_not_supported()) {
+      // Reading the value in ranges would read it entirely for every range
+      response = get(domainHandle, keyCopy);
+      if (response.is_set_value()) {
+        return new ByteArrayInputStream(BytesUtils.byteBufferDeepCopy(response.buffer_for_value()).array());
+      }
+    }
+    if (response.is_set_not_found()) {
+      return null;
+    } else if (response.is_set_xception()) {
+      throw new IOException("Failed to read value range at offset 0: " + response.get_xception());
+    }
+    return new ValueInputStream(this, domainHandle, keyCopy, valueStreamChunkSize, domainVersion, response.buffer_for_value());
+  }
+
+  int getServedDomainVersion(DomainHandle domainHandle) {
+    return domainHandle.getRoute(routingTable).getServedDomainVersion();
+  }
+
+  /**
+   * Read all records of a domain, scanning its partitions in parallel with
+   * the given number of threads. Records are visited with their key hashes
+   * since keys are not stored.
+   */
+  public void scan(String domainName, int numThreads, int batchSize, DomainScanner.RecordVisitor visitor) throws IOException {
+    // Get Domain
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
+      throw new IOException("No such Domain: " + domainName);
+    }
+    new DomainScanner(this, domainHandle, numThreads, batchSize).scan(visitor);
+  }
+
+  // Read the batch of records following the cursor in a partition, trying another replica on failure
+  HankScanRecords scanPartition(DomainHandle domainHandle, int partition, ByteBuffer cursor, int limit) throws IOException {
+    Domain domain = domainHandle.getDomain();
+    IOException lastException = null;
+    for (int tryId = 1; tryId <= queryMaxNumTries; ++tryId) {
+      Map<Integer, HostConnectionPool> partitionToConnectionPool = domainHandle.getRoute(routingTable).getPartitionToConnectionPool();
+      HostConnectionPool hostConnectionPool = partitionToConnectionPool == null ? null : partitionToConnectionPool.get(partition);
+      // Spread partitions over replicas, and move to the next replica on every try
+      HostConnection hostConnection = hostConnectionPool == null ? null : hostConnectionPool.getConnectionToBatch(partition + tryId);
+      if (hostConnection == null) {
+        throw new IOException(String.format("No replica is serving partition %d of domain %s (id: %d)", partition, domain.getName(), domain.getId()));
+      }
+      try {
+        return hostConnection.scanPartition(domain.getId(), partition, cursor, limit);
+      } catch (IOException e) {
+        LOG.error(getLogPrefix() + "Failed to scan partition " + partition + " of domain " + domain.getName()
+            + " with host: " + hostConnection.getHost().getAddress() + ". Try " + tryId + "/" + queryMaxNumTries, e);
+        lastException = e;
+      }
+    }
+    throw new IOException("Failed to scan partition " + partition + " of domain " + domain.getName()
+        + " after " + queryMaxNumTries + " tries", lastException);
+  }
+
+  // Ranges are not cached. Ranges are only read from the given domain version, unless it is negative.
+  HankResponse getRange(DomainHandle domainHandle, ByteBuffer key, int offset, int length, int versionNumber) {
+    // Check for null keys
+    if (key == null) {
+      throw new NullKeyException();
+    }
+    // Check for empty keys
+    if (key.remaining() == 0) {
+      throw new EmptyKeyException();
+    }
+    Domain domain = domainHandle.getDomain();
+    int partition = domainHandle.getPartition(key);
+    Map<Integer, HostConnectionPool> partitionToConnectionPool = domainHandle.getRoute(routingTable).getPartitionToConnectionPool();
+    HostConnectionPool hostConnectionPool = partitionToConnectionPool == null ? null : partitionToConnectionPool.get(partition);
+    if (hostConnectionPool == null) {
+      LOG.error(getLogPrefix() + String.format("Could not find list of hosts for domain %s (id: %d) when looking for partition %d", domain.getName(), domain.getId(), partition));
+      return NO_REPLICA;
+    }
+    try {
+      HankResponse response = hostConnectionPool.getRange(domain, key, offset, length, versionNumber, queryMaxNumTries, domainHandle.getKeyHash(key));
+      if (response.is_set_xception()) {
+        LOG.error(getLogPrefix() + "Failed to perform get range: domain " + domain.getName() + ", partition " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", offset: " + offset + ", length: " + length + ", response: " + response);
+      }
+      return response;
+    } finally {
+      // One request, not in cache
+      requestsCounters.increment(1, 0, 0);
+    }
+  }
+
   // Asynchronous get
   @Override
   public FutureGet concurrentGet(String domainName, ByteBuffer key) {
     // Get Domain
-    Domain domain = this.coordinator.getDomain(domainName);
-    if (domain == null) {
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
       LOG.error(getLogPrefix() + "No such Domain: " + domainName);
       FutureGet noSuchDomainFutureGet = new FutureGet(new StaticGetTaskRunnable(NO_SUCH_DOMAIN));
       noSuchDomainFutureGet.run();
       return noSuchDomainFutureGet;
     }
-    return _concurrentGet(domain, key);
+    return _concurrentGet(domainHandle, key);
+  }
+
+  FutureGet concurrentGet(DomainHandle domainHandle, ByteBuffer key) {
+    return _concurrentGet(domainHandle, key);
   }
 
   // Asynchronous get
   @Override
   public List<FutureGet> concurrentGet(String domainName, List<ByteBuffer> keys) {
-    List<FutureGet> result = new ArrayList<FutureGet>(keys.size());
     // Get Domain
-    Domain domain = this.coordinator.getDomain(domainName);
-    if (domain == null) {
+    DomainHandle domainHandle = getDomainHandle(domainName);
+    if (domainHandle == null) {
       LOG.error(getLogPrefix() + "No such Domain: " + domainName);
+      List<FutureGet> result = new ArrayList<FutureGet>(keys.size());
       FutureGet noSuchDomainFutureGet = new FutureGet(new StaticGetTaskRunnable(NO_SUCH_DOMAIN));
       noSuchDomainFutureGet.run();
       for (ByteBuffer key : keys) {
@@ -448,19 +944,24 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
       }
       return result;
     }
+    return concurrentGet(domainHandle, keys);
+  }
+
+  List<FutureGet> concurrentGet(DomainHandle domainHandle, List<ByteBuffer> keys) {
+    List<FutureGet> result = new ArrayList<FutureGet>(keys.size());
     for (ByteBuffer key : keys) {
-      result.add(_concurrentGet(domain, key));
+      result.add(_concurrentGet(domainHandle, key));
     }
     return result;
   }
 
-  private FutureGet _concurrentGet(Domain domain, ByteBuffer key) {
-    FutureGet futureGet = new FutureGet(new GetTaskRunnable(domain, key));
+  private FutureGet _concurrentGet(DomainHandle domainHandle, ByteBuffer key) {
+    FutureGet futureGet = new FutureGet(new GetTaskRunnable(domainHandle, key));
     getTaskExecutor.execute(futureGet);
     return futureGet;
   }
 
-  private HankResponse _get(Domain domain, ByteBuffer key) {
+  private HankResponse _get(DomainHandle domainHandle, ByteBuffer key) {
     // Check for null keys
     if (key == null) {
       throw new NullKeyException();
@@ -470,58 +971,172 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
       throw new EmptyKeyException();
     }
 
+    // Resolve this domain's route in the current routing table, without locking
+    Domain domain = domainHandle.getDomain();
+    DomainHandle.Route route = domainHandle.getRoute(routingTable);
+
     // Attempt to load from cache
-    HankResponse cachedResponse = responseCache.get(new DomainAndKey(domain, key));
+    // Responses are cached for the version of the domain being served, so that they are
+    // invalidated when the ring group finishes updating to a new version
+    int domainVersion = route.getServedDomainVersion();
+    HankResponse cachedResponse = responseCache.get(new DomainAndKey(domain, key, domainVersion));
     if (cachedResponse != null) {
       // One request, in cache
-      requestsCounters.increment(1, 1);
+      requestsCounters.increment(1, 1, 0);
       return cachedResponse;
     } else {
       try {
-        // Determine HostConnectionPool to use
-        int partition = domain.getPartitioner().partition(key, domain.getNumParts());
-        int keyHash = domain.getPartitioner().partition(key, Integer.MAX_VALUE);
-
-        Map<Integer, HostConnectionPool> partitionToConnectionPool;
-        synchronized (connectionCacheLock) {
-          partitionToConnectionPool = domainToPartitionToConnectionPool.get(domain.getId());
-        }
-        if (partitionToConnectionPool == null) {
-          LOG.error(getLogPrefix() + String.format("Could not find domain to partition map for domain %s (id: %d)", domain.getName(), domain.getId()));
-          return NO_REPLICA;
-        }
-
-        HostConnectionPool hostConnectionPool = partitionToConnectionPool.get(partition);
-        if (hostConnectionPool == null) {
-          // this is a problem, since the cache must not have been loaded correctly
-          LOG.error(getLogPrefix() + String.format("Could not find list of hosts for domain %s (id: %d) when looking for partition %d", domain.getName(), domain.getId(), partition));
-          return NO_REPLICA;
-        }
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("Looking in domain " + domain.getName() + ", in partition " + partition + ", for key: " + BytesUtils.bytesToHexString(key));
-        }
-        // Perform get
-        HankResponse response = hostConnectionPool.get(domain, key, queryMaxNumTries, keyHash);
-        // Cache response if necessary, do not cache exceptions
-        if (responseCache.isEnabled() && response.is_set_not_found() || response.is_set_value()) {
-          responseCache.put(
-              new DomainAndKey(domain, BytesUtils.byteBufferDeepCopy(key)),
-              response.deepCopy());
+        if (requestCoalescingEnabled) {
+          return coalescedGet(domainHandle, route, key, domainVersion);
+        } else {
+          return getFromPartitionServers(domainHandle, route, key, domainVersion);
         }
-        if (response.is_set_xception()) {
-          LOG.error(getLogPrefix() + "Failed to perform get: domain " + domain.getName() + ", partition " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", partitioner: " + domain.getPartitioner() + ", response: " + response);
-        }
-        return response;
       } finally {
         // One request, not in cache
-        requestsCounters.increment(1, 0);
+        requestsCounters.increment(1, 0, 0);
       }
     }
   }
 
+  // Concurrent gets for the same key share a single query to the partition servers
+  private HankResponse coalescedGet(DomainHandle domainHandle, DomainHandle.Route route, ByteBuffer key, int domainVersion) {
+    DomainAndKey domainAndKey = new DomainAndKey(domainHandle.getDomain(), BytesUtils.byteBufferDeepCopy(key), domainVersion);
+    SettableFuture<HankResponse> pendingGet = SettableFuture.create();
+    SettableFuture<HankResponse> inFlightGet = inFlightGets.putIfAbsent(domainAndKey, pendingGet);
+    if (inFlightGet != null) {
+      // One request, coalesced
+      requestsCounters.increment(0, 0, 1);
+      try {
+        return inFlightGet.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return HankResponse.xception(HankException.internal_error("Interrupted while waiting for in-flight get"));
+      } catch (ExecutionException e) {
+        return HankResponse.xception(HankException.internal_error("Failed to perform in-flight get: " + e.getCause()));
+      }
+    }
+    try {
+      HankResponse response = getFromPartitionServers(domainHandle, route, key, domainVersion);
+      pendingGet.set(response);
+      return response;
+    } catch (RuntimeException e) {
+      pendingGet.setException(e);
+      throw e;
+    } finally {
+      inFlightGets.remove(domainAndKey);
+    }
+  }
+
+  private HankResponse getFromPartitionServers(DomainHandle domainHandle, DomainHandle.Route route, ByteBuffer key, int domainVersion) {
+    // Determine HostConnectionPool to use
+    Domain domain = domainHandle.getDomain();
+    int partition = domainHandle.getPartition(key);
+    int keyHash = domainHandle.getKeyHash(key);
+    HashedKey hashedKey = route.getHashedKey(key, partition);
+
+    Map<Integer, HostConnectionPool> partitionToConnectionPool = route.getPartitionToConnectionPool();
+    if (partitionToConnectionPool == null) {
+      LOG.error(getLogPrefix() + String.format("Could not find domain to partition map for domain %s (id: %d)", domain.getName(), domain.getId()));
+      return NO_REPLICA;
+    }
+
+    HostConnectionPool hostConnectionPool = partitionToConnectionPool.get(partition);
+    if (hostConnectionPool == null) {
+      // this is a problem, since the cache must not have been loaded correctly
+      LOG.error(getLogPrefix() + String.format("Could not find list of hosts for domain %s (id: %d) when looking for partition %d", domain.getName(), domain.getId(), partition));
+      return NO_REPLICA;
+    }
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Looking in domain " + domain.getName() + ", in partition " + partition + ", for key: " + BytesUtils.bytesToHexString(key));
+    }
+    // Perform get
+    HankResponse response;
+    if (hedgingEnabled) {
+      response = hedgedGet(domain, key, hashedKey, hostConnectionPool, keyHash);
+    } else {
+      response = hostConnectionPool.get(domain, key, hashedKey, queryMaxNumTries, keyHash);
+    }
+    cacheResponse(domain, key, domainVersion, response);
+    if (response.is_set_xception()) {
+      LOG.error(getLogPrefix() + "Failed to perform get: domain " + domain.getName() + ", partition " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", partitioner: " + domain.getPartitioner() + ", response: " + response);
+    }
+    return response;
+  }
+
+  // Cache response if necessary, do not cache exceptions
+  private void cacheResponse(Domain domain, ByteBuffer key, int domainVersion, HankResponse response) {
+    if (responseCache.isEnabled() && response.is_set_not_found() || response.is_set_value()) {
+      responseCache.put(
+          new DomainAndKey(domain, BytesUtils.byteBufferDeepCopy(key), domainVersion),
+          response.deepCopy());
+    }
+  }
+
+  // Perform the get on a first replica and, if it has not responded after the domain's latency percentile,
+  // send the same get to a second replica. The first response wins, the other one is ignored.
+  private HankResponse hedgedGet(Domain domain, ByteBuffer key, HashedKey hashedKey, HostConnectionPool hostConnectionPool, int keyHash) {
+    LatencyTracker latencyTracker = getLatencyTracker(domain);
+    hedgingBudget.onRequest();
+    long hedgingDelayNanos = latencyTracker.getPercentileNanos();
+
+    // Not enough latency samples yet, or no other replica to hedge to
+    if (hedgingDelayNanos < 0 || hostConnectionPool.getNumHosts() < 2) {
+      HedgedGetTask task = new HedgedGetTask(domain, key, hashedKey, hostConnectionPool, keyHash, false, null, latencyTracker, null);
+      task.run();
+      return task.response;
+    }
+
+    BlockingQueue<HedgedGetTask> completedTasks = new ArrayBlockingQueue<HedgedGetTask>(2);
+    HedgedGetTask primaryTask = new HedgedGetTask(domain, key, hashedKey, hostConnectionPool, keyHash, false, null, latencyTracker, completedTasks);
+    hedgedGetTaskExecutor.execute(primaryTask);
+    int numOutstandingTasks = 1;
+    try {
+      HedgedGetTask completedTask = completedTasks.poll(Math.max(hedgingDelayNanos, hedgingMinDelayNanos), TimeUnit.NANOSECONDS);
+      if (completedTask == null) {
+        if (hedgingBudget.tryAcquire()) {
+          hedgingCounters.increment(1, 0);
+          // The hedged request never queries the host the first request is waiting on, whatever the replica
+          // selection strategy
+          hedgedGetTaskExecutor.execute(new HedgedGetTask(domain, key, hashedKey, hostConnectionPool, keyHash,
+              true, primaryTask.getQueriedHost(), latencyTracker, completedTasks));
+          ++numOutstandingTasks;
+        }
+        completedTask = completedTasks.take();
+      }
+      --numOutstandingTasks;
+      // If the first response is an error, give the other replica a chance
+      if (completedTask.response.is_set_xception() && numOutstandingTasks > 0) {
+        completedTask = completedTasks.take();
+      }
+      if (completedTask.isHedge) {
+        hedgingCounters.increment(0, 1);
+      }
+      return completedTask.response;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return HankResponse.xception(HankException.internal_error("Interrupted while waiting for hedged get"));
+    }
+  }
+
+  private LatencyTracker getLatencyTracker(Domain domain) {
+    LatencyTracker latencyTracker = domainIdToLatencyTracker.get(domain.getId());
+    if (latencyTracker == null) {
+      latencyTracker = new LatencyTracker(hedgingLatencyPercentile);
+      LatencyTracker previous = domainIdToLatencyTracker.putIfAbsent(domain.getId(), latencyTracker);
+      if (previous != null) {
+        latencyTracker = previous;
+      }
+    }
+    return latencyTracker;
+  }
+
   @Override
   public void stop() {
     stopGetTaskExecutor();
+    if (hedgedGetTaskExecutor != null) {
+      hedgedGetTaskExecutor.shutdown();
+    }
+    connectionEstablisherExecutor.shutdown();
     connectionCacheUpdaterRunnable.cancel();
     connectionCacheUpdaterThread.interrupt();
     updateRuntimeStatisticsRunnable.cancel();
@@ -550,7 +1165,7 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
 
   private void disconnect() {
     synchronized (connectionCacheLock) {
-      for (HostConnectionPool hostConnectionPool : partitionServerAddressToConnectionPool.values()) {
+      for (HostConnectionPool hostConnectionPool : routingTable.getPartitionServerAddressToConnectionPool().values()) {
         for (HostConnection connection : hostConnectionPool.getConnections()) {
           connection.disconnect();
         }
@@ -589,18 +1204,18 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
 
   private class GetTaskRunnable implements GetTaskRunnableIface {
 
-    private final Domain domain;
+    private final DomainHandle domainHandle;
     private final ByteBuffer key;
     private HankResponse response = null;
 
-    private GetTaskRunnable(Domain domain, ByteBuffer key) {
-      this.domain = domain;
+    private GetTaskRunnable(DomainHandle domainHandle, ByteBuffer key) {
+      this.domainHandle = domainHandle;
       this.key = key;
     }
 
     @Override
     public void run() {
-      response = _get(domain, key);
+      response = _get(domainHandle, key);
     }
 
     @Override
@@ -609,6 +1224,137 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
     }
   }
 
+  private class HedgedGetTask implements Runnable {
+
+    private final Domain domain;
+    private final ByteBuffer key;
+    private final HashedKey hashedKey;
+    private final HostConnectionPool hostConnectionPool;
+    private final int keyHash;
+    private final boolean isHedge;
+    // Host of the first request, for hedges
+    private final Host excludedHost;
+    private final AtomicReference<Host> queriedHost = new AtomicReference<Host>();
+    private final LatencyTracker latencyTracker;
+    private final BlockingQueue<HedgedGetTask> completedTasks;
+    private volatile HankResponse response = null;
+
+    private HedgedGetTask(Domain domain,
+                          ByteBuffer key,
+                          HashedKey hashedKey,
+                          HostConnectionPool hostConnectionPool,
+                          int keyHash,
+                          boolean isHedge,
+                          Host excludedHost,
+                          LatencyTracker latencyTracker,
+                          BlockingQueue<HedgedGetTask> completedTasks) {
+      this.domain = domain;
+      // Concurrent tasks must not share the key buffer's position
+      this.key = completedTasks == null ? key : key.duplicate();
+      this.hashedKey = completedTasks == null || hashedKey == null ? hashedKey
+          : new HashedKey(hashedKey.getPartition(), hashedKey.getHashedKey().duplicate());
+      this.hostConnectionPool = hostConnectionPool;
+      this.keyHash = keyHash;
+      this.isHedge = isHedge;
+      this.excludedHost = excludedHost;
+      this.latencyTracker = latencyTracker;
+      this.completedTasks = completedTasks;
+    }
+
+    @Override
+    public void run() {
+      HankTimer timer = new HankTimer();
+      try {
+        response = hostConnectionPool.get(domain, key, hashedKey, queryMaxNumTries, keyHash, excludedHost, queriedHost);
+        // Only track latencies of successful queries
+        if (!response.is_set_xception()) {
+          latencyTracker.record(timer.getDuration());
+        }
+      } catch (Throwable t) {
+        response = HankResponse.xception(HankException.internal_error(t.toString()));
+      }
+      if (completedTasks != null) {
+        completedTasks.offer(this);
+      }
+    }
+
+    // The host currently or last queried, null if none was found yet
+    private Host getQueriedHost() {
+      return queriedHost.get();
+    }
+  }
+
+  // Keys of any domain that are queried from the same host in a single query
+  private class GetMultiTask implements Runnable {
+
+    private final HostConnection hostConnection;
+    private final List<Integer> indices = new ArrayList<Integer>();
+    private final List<DomainHandle> domainHandles = new ArrayList<DomainHandle>();
+    private final List<Integer> domainVersions = new ArrayList<Integer>();
+    private final List<HankDomainKey> domainKeys = new ArrayList<HankDomainKey>();
+    private volatile List<HankResponse> responses = null;
+
+    private GetMultiTask(HostConnection hostConnection) {
+      this.hostConnection = hostConnection;
+    }
+
+    private void add(int index, DomainHandle domainHandle, ByteBuffer key, int domainVersion) {
+      indices.add(index);
+      domainHandles.add(domainHandle);
+      domainVersions.add(domainVersion);
+      domainKeys.add(new HankDomainKey(domainHandle.getDomain().getId(), key));
+    }
+
+    @Override
+    public void run() {
+      try {
+        responses = hostConnection.getMulti(domainKeys).get_responses();
+      } catch (IOException e) {
+        // The keys are left to regular gets, which retry other hosts
+        LOG.error(getLogPrefix() + "Failed to perform get multi with host: " + hostConnection.getHost().getAddress()
+            + ", number of keys: " + domainKeys.size(), e);
+      }
+    }
+
+    // Responses that are exceptions are left to regular gets
+    private void collectResponses(HankResponse[] allResponses) {
+      if (responses == null) {
+        return;
+      }
+      int numCollectedResponses = 0;
+      for (int i = 0; i < indices.size(); ++i) {
+        HankResponse response = responses.get(i);
+        if (!response.is_set_xception()) {
+          cacheResponse(domainHandles.get(i).getDomain(), domainKeys.get(i).buffer_for_key(), domainVersions.get(i), response);
+          allResponses[indices.get(i)] = response;
+          ++numCollectedResponses;
+        }
+      }
+      // One request per collected response, not in cache
+      requestsCounters.increment(numCollectedResponses, 0, 0);
+    }
+  }
+
+  private static class HedgedGetTaskThreadFactory implements ThreadFactory {
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread result = new Thread(runnable, "HedgedGetTaskThread");
+      result.setDaemon(true);
+      return result;
+    }
+  }
+
+  private static class ConnectionEstablisherThreadFactory implements ThreadFactory {
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread result = new Thread(runnable, "ConnectionEstablisherThread");
+      result.setDaemon(true);
+      return result;
+    }
+  }
+
   private static class GetTaskThreadFactory implements ThreadFactory {
 
     @Override
@@ -634,7 +1380,7 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
       partitionServerToConnectionLoad.clear();
       for (int i = 0; i < UPDATE_RUNTIME_STATISTICS_NUM_MEASUREMENTS; ++i) {
         for (Map.Entry<HostAddress, HostConnectionPool> entry
-            : partitionServerAddressToConnectionPool.entrySet()) {
+            : routingTable.getPartitionServerAddressToConnectionPool().entrySet()) {
           PartitionServerAddress serverAddress = entry.getKey().getPartitionServerAddress();
           ConnectionLoad currentConnectionLoad = entry.getValue().getConnectionLoad();
           ConnectionLoad totalConnectionLoad = partitionServerToConnectionLoad.get(serverAddress);
@@ -662,20 +1408,50 @@ public class HankSmartClient implements HankSmartClientIface, RingGroupDataLocat
               + "% (" + connectionLoad.getNumConnectionsLocked() + "/" + connectionLoad.getNumConnections() + " locked connections)");
         }
       }
+      // Log adaptive concurrency limits
+      if (adaptiveConcurrencyLimitEnabled) {
+        for (Map.Entry<HostAddress, HostConnectionPool> entry : routingTable.getPartitionServerAddressToConnectionPool().entrySet()) {
+          for (HostConnection connection : entry.getValue().getConnections()) {
+            ReplicaStatistics replicaStatistics = connection.getReplicaStatistics();
+            LOG.info(getLogPrefix() + "Concurrency limit for " + entry.getKey().getPartitionServerAddress() + ": "
+                + replicaStatistics.getConcurrencyLimit().getLimit()
+                + " (" + replicaStatistics.getNumOutstandingRequests() + " outstanding requests)");
+            // All connections to a host share the same statistics
+            break;
+          }
+        }
+      }
+      // Log wire compression statistics
+      if (wireCompressionStatistics.getNumMessages() > 0) {
+        LOG.info(getLogPrefix() + "Wire compression of responses: " + wireCompressionStatistics);
+      }
       // Restart timer
       long timerDurationMs = timer.getDurationMs();
       timer.restart();
       // Log requests counters
-      long[] requestsCounterValues = requestsCounters.getAsArrayAndSet(0, 0);
+      long[] requestsCounterValues = requestsCounters.getAsArrayAndSet(0, 0, 0);
       long numRequests = requestsCounterValues[0];
       long numCacheHits = requestsCounterValues[1];
+      long numCoalesced = requestsCounterValues[2];
       if (timerDurationMs != 0 && numRequests != 0) {
         double throughput = (double)numRequests / ((double)timerDurationMs / 1000d);
         double cacheHitRate = (double)numCacheHits / (double)numRequests;
         LOG.info(getLogPrefix()
             + "Throughput: " + FormatUtils.formatDouble(throughput) + " queries/s"
             + ", client-side cache hit rate: " + FormatUtils.formatDouble(cacheHitRate * 100) + "%"
-            + ", cache: " + responseCache.size() + " items totaling " + FormatUtils.formatNumBytes(responseCache.getNumManagedBytes()));
+            + ", cache: " + responseCache.size() + " items totaling " + FormatUtils.formatNumBytes(responseCache.getNumManagedBytes())
+            + (requestCoalescingEnabled ? ", coalesced queries: " + FormatUtils.formatDouble((double)numCoalesced / (double)numRequests * 100) + "%" : ""));
+      }
+      // Log hedging counters
+      long[] hedgingCounterValues = hedgingCounters.getAsArrayAndSet(0, 0);
+      long numHedgedRequests = hedgingCounterValues[0];
+      long numHedgeWins = hedgingCounterValues[1];
+      if (hedgingEnabled && numRequests != 0) {
+        double hedgingRate = (double)numHedgedRequests / (double)numRequests;
+        double hedgeWinRate = numHedgedRequests == 0 ? 0 : (double)numHedgeWins / (double)numHedgedRequests;
+        LOG.info(getLogPrefix()
+            + "Hedged requests: " + numHedgedRequests + " (" + FormatUtils.formatDouble(hedgingRate * 100) + "% of queries)"
+            + ", hedge win rate: " + FormatUtils.formatDouble(hedgeWinRate * 100) + "%");
       }
     }
 
@@ -16,6 +16,10 @@
 
 package com.liveramp.hank.client;
 
+import java.util.Collections;
+import java.util.List;
+
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.EnvironmentValue;
 
 public class HankSmartClientOptions {
@@ -32,6 +36,22 @@ public class HankSmartClientOptions {
   private int responseCacheNumItemsCapacity = 0;
   private long responseCacheExpirationSeconds = 0;
   private EnvironmentValue preferredServerEnvironment = null;
+  private boolean hedgingEnabled = false;
+  private double hedgingLatencyPercentile = 0.95;
+  private int hedgingMinDelayMs = 1;
+  private double hedgingBudgetRatio = 0.05;
+  private ReplicaSelectionStrategy replicaSelectionStrategy = new KeyAffinityReplicaSelectionStrategy();
+  private boolean adaptiveConcurrencyLimitEnabled = false;
+  private int adaptiveConcurrencyLimitInitial = 16;
+  private int adaptiveConcurrencyLimitMax = 256;
+  private boolean requestCoalescingEnabled = false;
+  private int numPipelinedSocketsPerHost = 0;
+  private boolean useCompactBulkResponses = false;
+  private List<CompressionCodec> wireCompressionCodecs = Collections.emptyList();
+  private boolean useHashedKeys = false;
+  private int valueStreamChunkSize = 1 << 20;
+  private String partitionServerUnixDomainSocketPath = null;
+  private boolean virtualThreadsEnabled = false;
 
   public int getNumConnectionsPerHost() {
     return numConnectionsPerHost;
@@ -140,4 +160,168 @@ public class HankSmartClientOptions {
     this.responseCacheExpirationSeconds = responseCacheExpirationSeconds;
     return this;
   }
+
+  public boolean getHedgingEnabled() {
+    return hedgingEnabled;
+  }
+
+  public HankSmartClientOptions setHedgingEnabled(boolean hedgingEnabled) {
+    this.hedgingEnabled = hedgingEnabled;
+    return this;
+  }
+
+  public double getHedgingLatencyPercentile() {
+    return hedgingLatencyPercentile;
+  }
+
+  // Latency percentile (per domain) after which a hedged request is sent to a second replica
+  public HankSmartClientOptions setHedgingLatencyPercentile(double hedgingLatencyPercentile) {
+    this.hedgingLatencyPercentile = hedgingLatencyPercentile;
+    return this;
+  }
+
+  public int getHedgingMinDelayMs() {
+    return hedgingMinDelayMs;
+  }
+
+  // Lower bound on the delay after which a hedged request is sent
+  public HankSmartClientOptions setHedgingMinDelayMs(int hedgingMinDelayMs) {
+    this.hedgingMinDelayMs = hedgingMinDelayMs;
+    return this;
+  }
+
+  public double getHedgingBudgetRatio() {
+    return hedgingBudgetRatio;
+  }
+
+  // Maximum number of hedged requests, as a fraction of the total number of requests
+  public HankSmartClientOptions setHedgingBudgetRatio(double hedgingBudgetRatio) {
+    this.hedgingBudgetRatio = hedgingBudgetRatio;
+    return this;
+  }
+
+  public ReplicaSelectionStrategy getReplicaSelectionStrategy() {
+    return replicaSelectionStrategy;
+  }
+
+  public HankSmartClientOptions setReplicaSelectionStrategy(ReplicaSelectionStrategy replicaSelectionStrategy) {
+    this.replicaSelectionStrategy = replicaSelectionStrategy;
+    return this;
+  }
+
+  public boolean getAdaptiveConcurrencyLimitEnabled() {
+    return adaptiveConcurrencyLimitEnabled;
+  }
+
+  public HankSmartClientOptions setAdaptiveConcurrencyLimitEnabled(boolean adaptiveConcurrencyLimitEnabled) {
+    this.adaptiveConcurrencyLimitEnabled = adaptiveConcurrencyLimitEnabled;
+    return this;
+  }
+
+  public int getAdaptiveConcurrencyLimitInitial() {
+    return adaptiveConcurrencyLimitInitial;
+  }
+
+  // Initial number of concurrent requests allowed per host
+  public HankSmartClientOptions setAdaptiveConcurrencyLimitInitial(int adaptiveConcurrencyLimitInitial) {
+    this.adaptiveConcurrencyLimitInitial = adaptiveConcurrencyLimitInitial;
+    return this;
+  }
+
+  public int getAdaptiveConcurrencyLimitMax() {
+    return adaptiveConcurrencyLimitMax;
+  }
+
+  // Maximum number of concurrent requests allowed per host
+  public HankSmartClientOptions setAdaptiveConcurrencyLimitMax(int adaptiveConcurrencyLimitMax) {
+    this.adaptiveConcurrencyLimitMax = adaptiveConcurrencyLimitMax;
+    return this;
+  }
+
+  public boolean getRequestCoalescingEnabled() {
+    return requestCoalescingEnabled;
+  }
+
+  // Concurrent gets for the same domain and key share a single query to the partition servers
+  public HankSmartClientOptions setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+    this.requestCoalescingEnabled = requestCoalescingEnabled;
+    return this;
+  }
+
+  public int getNumPipelinedSocketsPerHost() {
+    return numPipelinedSocketsPerHost;
+  }
+
+  // When positive, the connections to each host are multiplexed over that many sockets, on which
+  // requests are pipelined. When 0, each connection uses its own socket.
+  public HankSmartClientOptions setNumPipelinedSocketsPerHost(int numPipelinedSocketsPerHost) {
+    this.numPipelinedSocketsPerHost = numPipelinedSocketsPerHost;
+    return this;
+  }
+
+  public boolean getUseCompactBulkResponses() {
+    return useCompactBulkResponses;
+  }
+
+  // Bulk queries request responses in a columnar form that is smaller and cheaper to decode when values
+  // are small. Servers that do not support it are queried with regular bulk queries instead.
+  public HankSmartClientOptions setUseCompactBulkResponses(boolean useCompactBulkResponses) {
+    this.useCompactBulkResponses = useCompactBulkResponses;
+    return this;
+  }
+
+  public List<CompressionCodec> getWireCompressionCodecs() {
+    return wireCompressionCodecs;
+  }
+
+  // Codecs offered to partition servers to compress their large responses, by order of preference.
+  // When empty, responses are never compressed.
+  public HankSmartClientOptions setWireCompressionCodecs(List<CompressionCodec> wireCompressionCodecs) {
+    this.wireCompressionCodecs = wireCompressionCodecs;
+    return this;
+  }
+
+  public boolean getUseHashedKeys() {
+    return useHashedKeys;
+  }
+
+  // Keys of domains whose storage engine indexes hashed keys (such as Cueball and Curly) are hashed by the
+  // client and sent instead of the keys. Servers that do not support it are sent the keys instead.
+  public HankSmartClientOptions setUseHashedKeys(boolean useHashedKeys) {
+    this.useHashedKeys = useHashedKeys;
+    return this;
+  }
+
+  public int getValueStreamChunkSize() {
+    return valueStreamChunkSize;
+  }
+
+  // Streamed values are queried in ranges of this many bytes, so that neither the server nor the client
+  // ever buffers more than one chunk of a value per query.
+  public HankSmartClientOptions setValueStreamChunkSize(int valueStreamChunkSize) {
+    this.valueStreamChunkSize = valueStreamChunkSize;
+    return this;
+  }
+
+  public String getPartitionServerUnixDomainSocketPath() {
+    return partitionServerUnixDomainSocketPath;
+  }
+
+  // Partition servers running on the same machine are reached through their Unix domain socket
+  // instead of TCP: this path suffixed with their port (path.port). Null to always use TCP.
+  public HankSmartClientOptions setPartitionServerUnixDomainSocketPath(String partitionServerUnixDomainSocketPath) {
+    this.partitionServerUnixDomainSocketPath = partitionServerUnixDomainSocketPath;
+    return this;
+  }
+
+  public boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  // Concurrent gets run on virtual threads, at most as many at a time as the concurrent get thread pool's
+  // maximum size. Requires Java 21 or later.
+  public HankSmartClientOptions setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
 }
@@ -0,0 +1,43 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A key that has been partitioned and hashed by the client, the way the
+ * domain's storage engine would have hashed it. Partition servers can look
+ * it up directly in their hash index.
+ */
+class HashedKey {
+
+  private final int partition;
+  private final ByteBuffer hashedKey;
+
+  HashedKey(int partition, ByteBuffer hashedKey) {
+    this.partition = partition;
+    this.hashedKey = hashedKey;
+  }
+
+  int getPartition() {
+    return partition;
+  }
+
+  ByteBuffer getHashedKey() {
+    return hashedKey;
+  }
+}
@@ -0,0 +1,52 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+/**
+ * Bounds the number of hedged requests to a fraction of the total number of
+ * requests. Every request deposits that fraction of a token, and every hedged
+ * request withdraws a whole token. The balance is capped so that a long quiet
+ * period cannot be followed by a burst of hedges (which would double the load
+ * exactly when servers are slow).
+ */
+class HedgingBudget {
+
+  private static final double MAX_BALANCE = 10;
+
+  private final double ratio;
+  private double balance = 0;
+
+  HedgingBudget(double ratio) {
+    if (ratio < 0) {
+      throw new IllegalArgumentException("Hedging budget ratio must be positive but was: " + ratio);
+    }
+    this.ratio = ratio;
+  }
+
+  synchronized void onRequest() {
+    balance = Math.min(MAX_BALANCE, balance + ratio);
+  }
+
+  synchronized boolean tryAcquire() {
+    if (balance >= 1) {
+      balance -= 1;
+      return true;
+    } else {
+      return false;
+    }
+  }
+}
@@ -18,12 +18,13 @@ package com.liveramp.hank.client;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
@@ -32,25 +33,58 @@ import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.coordinator.Host;
 import com.liveramp.hank.coordinator.HostState;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankException;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.generated.HankScanResponse;
 import com.liveramp.hank.generated.PartitionServer;
+import com.liveramp.hank.util.CompactResponses;
+import com.liveramp.hank.util.HankTimer;
+import com.liveramp.hank.util.UnixDomainSocket;
+import com.liveramp.hank.util.WireCompression;
+import com.liveramp.hank.util.WireCompressionFramedTransport;
+import com.liveramp.hank.util.WireCompressionStatistics;
+import com.liveramp.hank.util.ZeroCopyCompactProtocol;
 import com.liveramp.hank.zookeeper.WatchedNodeListener;
 
 public class HostConnection implements WatchedNodeListener<HostState> {
 
   private static final Logger LOG = LoggerFactory.getLogger(HostConnection.class);
 
+  private static final HankResponse RANGES_NOT_SUPPORTED =
+      HankResponse.xception(HankException.not_supported("Host does not support GET RANGE"));
+
   private final int tryLockTimeoutMs;
   private final int establishConnectionTimeoutMs;
   private final int queryTimeoutMs;
   private final int bulkQueryTimeoutMs;
-  private TSocket socket;
+  // Either a TSocket or a UnixDomainSocket
+  private TTransport socket;
   private TTransport transport;
   private PartitionServer.Client client;
   private final Host host;
+  private final ReplicaStatistics replicaStatistics;
+  // When set, queries are pipelined over this connection, possibly shared with other host connections
+  private final PipelinedConnection pipelinedConnection;
+  // When set, bulk queries request compact responses, unless the server turns out not to support them
+  private volatile boolean useCompactBulkResponses;
+  // Wire compression is negotiated on connect with these codecs, by order of preference
+  private final List<CompressionCodec> wireCompressionCodecs;
+  private final WireCompressionStatistics wireCompressionStatistics;
+  // Connect through this Unix domain socket instead of TCP when set
+  private final String unixDomainSocketPath;
+  // Hashed keys are sent when available, unless the server turns out not to support them
+  private volatile boolean supportsHashedKeys = true;
+  // Keys of several domains are sent in a single query, unless the server turns out not to support it
+  private volatile boolean supportsMulti = true;
+  // Ranges are queried, unless the server turns out not to support them
+  private volatile boolean supportsRanges = true;
   protected final ReentrantLock lock = new ReentrantLock(true); // Use a fair ReentrantLock
 
   // A timeout of 0 means no timeout
@@ -59,7 +93,39 @@ public class HostConnection implements WatchedNodeListener<HostState> {
                         int establishConnectionTimeoutMs,
                         int queryTimeoutMs,
                         int bulkQueryTimeoutMs) throws IOException {
+    this(host, tryLockTimeoutMs, establishConnectionTimeoutMs, queryTimeoutMs, bulkQueryTimeoutMs, new ReplicaStatistics());
+  }
+
+  // Connections to the same host should share the same replica statistics
+  public HostConnection(Host host,
+                        int tryLockTimeoutMs,
+                        int establishConnectionTimeoutMs,
+                        int queryTimeoutMs,
+                        int bulkQueryTimeoutMs,
+                        ReplicaStatistics replicaStatistics) throws IOException {
+    this(host, tryLockTimeoutMs, establishConnectionTimeoutMs, queryTimeoutMs, bulkQueryTimeoutMs, replicaStatistics,
+        null, false, Collections.<CompressionCodec>emptyList(), new WireCompressionStatistics(), null);
+  }
+
+  // Connections to the same host can share the same pipelined connection, instead of each using its own socket
+  HostConnection(Host host,
+                 int tryLockTimeoutMs,
+                 int establishConnectionTimeoutMs,
+                 int queryTimeoutMs,
+                 int bulkQueryTimeoutMs,
+                 ReplicaStatistics replicaStatistics,
+                 PipelinedConnection pipelinedConnection,
+                 boolean useCompactBulkResponses,
+                 List<CompressionCodec> wireCompressionCodecs,
+                 WireCompressionStatistics wireCompressionStatistics,
+                 String unixDomainSocketPath) throws IOException {
     this.host = host;
+    this.replicaStatistics = replicaStatistics;
+    this.pipelinedConnection = pipelinedConnection;
+    this.useCompactBulkResponses = useCompactBulkResponses;
+    this.wireCompressionCodecs = wireCompressionCodecs;
+    this.wireCompressionStatistics = wireCompressionStatistics;
+    this.unixDomainSocketPath = unixDomainSocketPath;
     this.tryLockTimeoutMs = tryLockTimeoutMs;
     this.establishConnectionTimeoutMs = establishConnectionTimeoutMs;
     this.queryTimeoutMs = queryTimeoutMs;
@@ -72,6 +138,10 @@ public class HostConnection implements WatchedNodeListener<HostState> {
     return host;
   }
 
+  ReplicaStatistics getReplicaStatistics() {
+    return replicaStatistics;
+  }
+
   boolean isServing() {
     try {
       return HostState.SERVING.equals(host.getState());
@@ -89,6 +159,9 @@ public class HostConnection implements WatchedNodeListener<HostState> {
   }
 
   private boolean isDisconnected() {
+    if (pipelinedConnection != null) {
+      return !pipelinedConnection.isConnected();
+    }
     return client == null;
   }
 
@@ -96,11 +169,21 @@ public class HostConnection implements WatchedNodeListener<HostState> {
     lock.lock();
   }
 
+  // Queries over a pipelined connection are multiplexed, they do not lock this connection
+  private boolean needsLock() {
+    return pipelinedConnection == null && !lock.isHeldByCurrentThread();
+  }
+
   private void unlock() {
-    lock.unlock();
+    if (lock.isHeldByCurrentThread()) {
+      lock.unlock();
+    }
   }
 
   boolean tryLockRespectingFairness() {
+    if (pipelinedConnection != null) {
+      return true;
+    }
     try {
       // Note: tryLock() does not respect fairness, using tryLock(0, unit) instead
       return lock.tryLock(0, TimeUnit.MILLISECONDS);
@@ -124,13 +207,38 @@ public class HostConnection implements WatchedNodeListener<HostState> {
   }
 
   public HankResponse get(int domainId, ByteBuffer key) throws IOException {
+    return get(domainId, key, null);
+  }
+
+  // When a hashed key is given, it is sent instead of the key
+  HankResponse get(int domainId, ByteBuffer key, HashedKey hashedKey) throws IOException {
+    HankTimer timer = new HankTimer();
+    replicaStatistics.onRequestStart();
+    try {
+      HankResponse result = _get(domainId, key, hashedKey);
+      replicaStatistics.recordLatency(timer.getDuration());
+      return result;
+    } catch (IOException e) {
+      // Failures count as slow queries so that the replica is avoided
+      replicaStatistics.recordLatency(timer.getDuration());
+      throw e;
+    } finally {
+      replicaStatistics.onRequestEnd();
+    }
+  }
+
+  private HankResponse _get(int domainId, ByteBuffer key, HashedKey hashedKey) throws IOException {
     // Lock the connection only if needed
-    if (!lock.isHeldByCurrentThread()) {
+    if (needsLock()) {
       // Try to lock within a given timeframe
+      HankTimer lockTimer = new HankTimer();
       if (!tryLockWithTimeout()) {
+        // Waiting for a connection is a sign of congestion
+        replicaStatistics.recordRoundTripTime(lockTimer.getDuration(), true);
         throw new IOException("Exceeded timeout while trying to lock the host connection.");
       }
     }
+    HankTimer rttTimer = null;
     try {
       // Check availability
       if (!isServing() && !isOffline()) {
@@ -142,15 +250,39 @@ public class HostConnection implements WatchedNodeListener<HostState> {
       }
       // Query timeout is by default always set to regular mode
       // Perform query
-      HankResponse result = client.get(domainId, key);
+      rttTimer = new HankTimer();
+      HankResponse result = null;
+      if (hashedKey != null && supportsHashedKeys) {
+        try {
+          result = performGetHashed(domainId, hashedKey);
+          if (result.is_set_xception() && result.get_xception().is_set_not_supported()) {
+            // The domain cannot be queried by hashed keys on this host, fall back to sending the key
+            result = null;
+          }
+        } catch (TApplicationException e) {
+          if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+            throw e;
+          }
+          // The server predates hashed keys, the connection is still usable
+          LOG.warn("Host " + host.getAddress() + " does not support hashed keys, falling back to sending keys.");
+          supportsHashedKeys = false;
+        }
+      }
+      if (result == null) {
+        result = performGet(domainId, key);
+      }
+      replicaStatistics.recordRoundTripTime(rttTimer.getDuration(), false);
       if (result.is_set_xception()) {
         throw new IOException("Server failed to execute GET: " + result.get_xception());
       } else {
         return result;
       }
     } catch (TException e) {
+      if (rttTimer != null) {
+        replicaStatistics.recordRoundTripTime(rttTimer.getDuration(), true);
+      }
       // Disconnect and give up
-      disconnect();
+      disconnectAfterFailure();
       throw new IOException("Failed to execute GET", e);
     } finally {
       unlock();
@@ -158,8 +290,179 @@ public class HostConnection implements WatchedNodeListener<HostState> {
   }
 
   public HankBulkResponse getBulk(int domainId, List<ByteBuffer> keys) throws IOException {
+    replicaStatistics.onRequestStart();
+    try {
+      return _getBulk(domainId, keys);
+    } finally {
+      replicaStatistics.onRequestEnd();
+    }
+  }
+
+  private HankBulkResponse _getBulk(final int domainId, final List<ByteBuffer> keys) throws IOException {
+    return performQuery("GET BULK", new Query<HankBulkResponse>() {
+      @Override
+      public HankBulkResponse perform() throws TException, IOException {
+        if (useCompactBulkResponses) {
+          try {
+            HankCompactBulkResponse result = performGetBulkCompact(domainId, keys);
+            if (result.is_set_xception()) {
+              throw new IOException("Server failed to execute GET BULK COMPACT: " + result.get_xception());
+            } else {
+              return HankBulkResponse.responses(CompactResponses.decode(result.get_responses()));
+            }
+          } catch (TApplicationException e) {
+            if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+              throw e;
+            }
+            // The server predates compact responses, the connection is still usable
+            LOG.warn("Host " + host.getAddress() + " does not support compact bulk responses, falling back to regular bulk responses.");
+            useCompactBulkResponses = false;
+          }
+        }
+        HankBulkResponse result = performGetBulk(domainId, keys);
+        if (result.is_set_xception()) {
+          throw new IOException("Server failed to execute GET BULK: " + result.get_xception());
+        } else {
+          return result;
+        }
+      }
+    });
+  }
+
+  boolean supportsMulti() {
+    return supportsMulti;
+  }
+
+  // Keys may belong to different domains, responses are in the same order. Like gets, queries are timed so that
+  // slow replicas are avoided.
+  public HankBulkResponse getMulti(List<HankDomainKey> domainKeys) throws IOException {
+    HankTimer timer = new HankTimer();
+    replicaStatistics.onRequestStart();
+    try {
+      HankBulkResponse result = _getMulti(domainKeys);
+      replicaStatistics.recordLatency(timer.getDuration());
+      return result;
+    } catch (IOException e) {
+      // Failures count as slow queries so that the replica is avoided
+      replicaStatistics.recordLatency(timer.getDuration());
+      throw e;
+    } finally {
+      replicaStatistics.onRequestEnd();
+    }
+  }
+
+  private HankBulkResponse _getMulti(final List<HankDomainKey> domainKeys) throws IOException {
+    return performQuery("GET MULTI", new Query<HankBulkResponse>() {
+      @Override
+      public HankBulkResponse perform() throws TException, IOException {
+        HankBulkResponse result;
+        try {
+          result = performGetMulti(domainKeys);
+        } catch (TApplicationException e) {
+          if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+            throw e;
+          }
+          // The server predates multi-domain queries, the connection is still usable
+          LOG.warn("Host " + host.getAddress() + " does not support multi-domain queries, falling back to single key queries.");
+          supportsMulti = false;
+          throw new IOException("Host does not support GET MULTI", e);
+        }
+        if (result.is_set_xception()) {
+          throw new IOException("Server failed to execute GET MULTI: " + result.get_xception());
+        } else if (result.get_responses().size() != domainKeys.size()) {
+          throw new IOException("Server returned " + result.get_responses().size() + " responses to GET MULTI of " + domainKeys.size() + " keys");
+        } else {
+          return result;
+        }
+      }
+    });
+  }
+
+  // Ranges can be large, they are queried with the bulk query timeout. Ranges are only read from the given domain
+  // version, unless it is negative. A not_supported exception is returned, rather than thrown, when the host
+  // cannot serve ranges of the domain, so that the caller can fall back to other queries.
+  public HankResponse getRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber) throws IOException {
+    if (!supportsRanges) {
+      return RANGES_NOT_SUPPORTED;
+    }
+    replicaStatistics.onRequestStart();
+    try {
+      return _getRange(domainId, key, offset, length, versionNumber);
+    } finally {
+      replicaStatistics.onRequestEnd();
+    }
+  }
+
+  private HankResponse _getRange(final int domainId, final ByteBuffer key, final int offset, final int length, final int versionNumber) throws IOException {
+    return performQuery("GET RANGE", new Query<HankResponse>() {
+      @Override
+      public HankResponse perform() throws TException, IOException {
+        HankResponse result;
+        try {
+          result = performGetRange(domainId, key, offset, length, versionNumber);
+        } catch (TApplicationException e) {
+          if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+            throw e;
+          }
+          // The server predates ranges, the connection is still usable
+          LOG.warn("Host " + host.getAddress() + " does not support ranges, falling back to other queries.");
+          supportsRanges = false;
+          return RANGES_NOT_SUPPORTED;
+        }
+        if (result.is_set_xception() && result.get_xception().is_set_not_supported()) {
+          return result;
+        } else if (result.is_set_xception()) {
+          throw new IOException("Server failed to execute GET RANGE: " + result.get_xception());
+        } else {
+          return result;
+        }
+      }
+    });
+  }
+
+  // Scans are throttled by servers and can be slow, they are queried with the bulk query timeout
+  public HankScanRecords scanPartition(int domainId, int partition, ByteBuffer cursor, int limit) throws IOException {
+    replicaStatistics.onRequestStart();
+    try {
+      return _scanPartition(domainId, partition, cursor, limit);
+    } finally {
+      replicaStatistics.onRequestEnd();
+    }
+  }
+
+  private HankScanRecords _scanPartition(final int domainId, final int partition, final ByteBuffer cursor, final int limit) throws IOException {
+    return performQuery("SCAN PARTITION", new Query<HankScanRecords>() {
+      @Override
+      public HankScanRecords perform() throws TException, IOException {
+        HankScanResponse result;
+        try {
+          result = performScanPartition(domainId, partition, cursor, limit);
+        } catch (TApplicationException e) {
+          if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+            throw e;
+          }
+          // The server predates scans, the connection is still usable
+          throw new IOException("Host " + host.getAddress() + " does not support SCAN PARTITION", e);
+        }
+        if (result.is_set_xception()) {
+          throw new IOException("Server failed to execute SCAN PARTITION: " + result.get_xception());
+        } else {
+          return result.get_records();
+        }
+      }
+    });
+  }
+
+  // A query performed once the connection is locked and connected
+  private interface Query<T> {
+    public T perform() throws TException, IOException;
+  }
+
+  // Lock the connection if needed, check that the host is available and connect if necessary before performing
+  // the query. Thrift failures disconnect from the host.
+  private <T> T performQuery(String queryName, Query<T> query) throws IOException {
     // Lock the connection only if needed
-    if (!lock.isHeldByCurrentThread()) {
+    if (needsLock()) {
       // Try to lock within a given timeframe
       if (!tryLockWithTimeout()) {
         throw new IOException("Exceeded timeout while trying to lock the host connection.");
@@ -174,30 +477,119 @@ public class HostConnection implements WatchedNodeListener<HostState> {
       if (isDisconnected()) {
         connect();
       }
-      try {
-        // Set socket timeout to bulk mode
-        setSocketTimeout(bulkQueryTimeoutMs);
-        // Perform query
-        HankBulkResponse result = client.getBulk(domainId, keys);
-        if (result.is_set_xception()) {
-          throw new IOException("Server failed to execute GET BULK: " + result.get_xception());
-        } else {
-          return result;
-        }
-      } finally {
-        // Set socket timeout back to regular mode
-        setSocketTimeout(queryTimeoutMs);
-      }
+      return query.perform();
     } catch (TException e) {
       // Disconnect and give up
-      disconnect();
-      throw new IOException("Failed to execute GET BULK", e);
+      disconnectAfterFailure();
+      throw new IOException("Failed to execute " + queryName, e);
     } finally {
       unlock();
     }
   }
 
+  private HankResponse performGet(int domainId, ByteBuffer key) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.get(domainId, key, queryTimeoutMs);
+    } else {
+      return client.get(domainId, key);
+    }
+  }
+
+  private HankResponse performGetHashed(int domainId, HashedKey hashedKey) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.getHashed(domainId, hashedKey.getPartition(), hashedKey.getHashedKey(), queryTimeoutMs);
+    } else {
+      return client.getHashed(domainId, hashedKey.getPartition(), hashedKey.getHashedKey());
+    }
+  }
+
+  private HankBulkResponse performGetBulk(int domainId, List<ByteBuffer> keys) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.getBulk(domainId, keys, bulkQueryTimeoutMs);
+    }
+    try {
+      // Set socket timeout to bulk mode
+      setSocketTimeout(bulkQueryTimeoutMs);
+      // Perform query
+      return client.getBulk(domainId, keys);
+    } finally {
+      // Set socket timeout back to regular mode
+      setSocketTimeout(queryTimeoutMs);
+    }
+  }
+
+  private HankResponse performGetRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.getRange(domainId, key, offset, length, versionNumber, bulkQueryTimeoutMs);
+    }
+    try {
+      // Set socket timeout to bulk mode
+      setSocketTimeout(bulkQueryTimeoutMs);
+      // Perform query
+      return client.getRange(domainId, key, offset, length, versionNumber);
+    } finally {
+      // Set socket timeout back to regular mode
+      setSocketTimeout(queryTimeoutMs);
+    }
+  }
+
+  private HankScanResponse performScanPartition(int domainId, int partition, ByteBuffer cursor, int limit) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.scanPartition(domainId, partition, cursor, limit, bulkQueryTimeoutMs);
+    }
+    try {
+      // Set socket timeout to bulk mode
+      setSocketTimeout(bulkQueryTimeoutMs);
+      // Perform query
+      return client.scanPartition(domainId, partition, cursor, limit);
+    } finally {
+      // Set socket timeout back to regular mode
+      setSocketTimeout(queryTimeoutMs);
+    }
+  }
+
+  private HankBulkResponse performGetMulti(List<HankDomainKey> domainKeys) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.getMulti(domainKeys, bulkQueryTimeoutMs);
+    }
+    try {
+      // Set socket timeout to bulk mode
+      setSocketTimeout(bulkQueryTimeoutMs);
+      // Perform query
+      return client.getMulti(domainKeys);
+    } finally {
+      // Set socket timeout back to regular mode
+      setSocketTimeout(queryTimeoutMs);
+    }
+  }
+
+  private HankCompactBulkResponse performGetBulkCompact(int domainId, List<ByteBuffer> keys) throws TException {
+    if (pipelinedConnection != null) {
+      return pipelinedConnection.getBulkCompact(domainId, keys, bulkQueryTimeoutMs);
+    }
+    try {
+      // Set socket timeout to bulk mode
+      setSocketTimeout(bulkQueryTimeoutMs);
+      // Perform query
+      return client.getBulkCompact(domainId, keys);
+    } finally {
+      // Set socket timeout back to regular mode
+      setSocketTimeout(queryTimeoutMs);
+    }
+  }
+
+  // A pipelined connection is shared with other queries and closes itself when its transport fails,
+  // a failed query (for example a timeout) must not interrupt the others
+  private void disconnectAfterFailure() {
+    if (pipelinedConnection == null) {
+      disconnect();
+    }
+  }
+
   public void disconnect() {
+    if (pipelinedConnection != null) {
+      pipelinedConnection.disconnect();
+    }
     if (transport != null) {
       transport.close();
     }
@@ -207,14 +599,28 @@ public class HostConnection implements WatchedNodeListener<HostState> {
   }
 
   private void connect() throws IOException {
+    if (pipelinedConnection != null) {
+      pipelinedConnection.connect();
+      return;
+    }
     if (LOG.isTraceEnabled()) {
       LOG.trace("Trying to connect to " + host.getAddress());
     }
     // Use connection timeout to connect
-    socket = new TSocket(host.getAddress().getHostName(),
-        host.getAddress().getPortNumber(),
-        establishConnectionTimeoutMs);
-    transport = new TFramedTransport(socket);
+    if (unixDomainSocketPath != null) {
+      socket = new UnixDomainSocket(unixDomainSocketPath, establishConnectionTimeoutMs);
+    } else {
+      socket = new TSocket(host.getAddress().getHostName(),
+          host.getAddress().getPortNumber(),
+          establishConnectionTimeoutMs);
+    }
+    WireCompressionFramedTransport wireCompressionTransport = null;
+    if (wireCompressionCodecs.isEmpty()) {
+      transport = new TFramedTransport(socket);
+    } else {
+      wireCompressionTransport = new WireCompressionFramedTransport(socket, wireCompressionStatistics);
+      transport = wireCompressionTransport;
+    }
     try {
       transport.open();
       // Set socket timeout to regular mode
@@ -224,16 +630,40 @@ public class HostConnection implements WatchedNodeListener<HostState> {
       disconnect();
       throw new IOException("Failed to establish connection to host " + host.getAddress(), e);
     }
-    TProtocol proto = new TCompactProtocol(transport);
+    // Values are read as views of the response frame
+    TProtocol proto = new ZeroCopyCompactProtocol(transport);
     client = new PartitionServer.Client(proto);
+    if (wireCompressionTransport != null) {
+      negotiateWireCompression(wireCompressionTransport);
+    }
     if (LOG.isTraceEnabled()) {
       LOG.trace("Connection to " + host.getAddress() + " opened.");
     }
   }
 
+  private void negotiateWireCompression(WireCompressionFramedTransport transport) throws IOException {
+    String codecName;
+    try {
+      codecName = client.negotiateWireCompression(WireCompression.getCodecNames(wireCompressionCodecs));
+    } catch (TApplicationException e) {
+      if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+        // The server predates wire compression
+        return;
+      }
+      disconnect();
+      throw new IOException("Failed to negotiate wire compression with host " + host.getAddress(), e);
+    } catch (TException e) {
+      disconnect();
+      throw new IOException("Failed to negotiate wire compression with host " + host.getAddress(), e);
+    }
+    transport.setAcceptedCodec(WireCompression.negotiate(Collections.singletonList(codecName), wireCompressionCodecs));
+  }
+
   private void setSocketTimeout(int timeout) {
-    if (socket != null) {
-      socket.setTimeout(timeout);
+    if (socket instanceof TSocket) {
+      ((TSocket) socket).setTimeout(timeout);
+    } else if (socket instanceof UnixDomainSocket) {
+      ((UnixDomainSocket) socket).setTimeout(timeout);
     }
   }
 
@@ -243,7 +673,10 @@ public class HostConnection implements WatchedNodeListener<HostState> {
       // Reconnect
       lock();
       try {
-        disconnect();
+        // A pipelined connection that is still open is shared and kept
+        if (pipelinedConnection == null || !pipelinedConnection.isConnected()) {
+          disconnect();
+        }
         try {
           connect();
         } catch (IOException e) {
@@ -277,6 +710,8 @@ public class HostConnection implements WatchedNodeListener<HostState> {
         ", socket=" + socket +
         ", transport=" + transport +
         ", client=" + client +
+        ", pipelinedConnection=" + pipelinedConnection +
+        ", useCompactBulkResponses=" + useCompactBulkResponses +
         ", host=" + host +
         ", lock=" + lock +
         '}';
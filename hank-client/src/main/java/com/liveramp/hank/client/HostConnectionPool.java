@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.collect.Iterables;
 import org.slf4j.Logger;
@@ -52,10 +53,14 @@ import com.liveramp.hank.generated.HankResponse;
  * HostConnectionPool instances will attempt to use connections in a different
  * order.
  *
- * HostConnectionPool maintains an internal indicator of what Host was used
- * last by any query. To distribute load, the next query will attempt to
- * connect to the next Host, and so on. Note that initially, this Host iterator
- * is randomized.
+ * The Host to try first is determined by a ReplicaSelectionStrategy. By
+ * default (KeyAffinityReplicaSelectionStrategy), queries for a given key
+ * always start with the same Host, and other queries are distributed round
+ * robin: HostConnectionPool maintains an internal indicator of what Host was
+ * used last by any query, and the next query will attempt to connect to the
+ * next Host, and so on. Note that initially, this Host iterator is randomized.
+ * Other strategies use the load and latency statistics of each Host (see
+ * ReplicaStatistics) to avoid busy or slow Hosts.
  *
  * When performing a query, HostConnectionPool first loops over all hosts and
  * connections (starting from the last used host iterator) looking for an
@@ -64,7 +69,9 @@ import com.liveramp.hank.generated.HankResponse;
  * connection is found, it will be the one used to perform the query.
  * Otherwise, HostConnectionPool loops over all hosts again, looking for a
  * random available connection (one for which the Host is serving) to use. If
- * it cannot, an error is returned.
+ * it cannot, an error is returned. When adaptive concurrency limits are
+ * enabled, hosts that have reached their limit are skipped by both loops, so
+ * that load is shed instead of piling up on a struggling host.
  *
  * When the connection to use has been determined, the query is performed. In
  * case of failure, HostConnectionPool will re-attempt a given number of times,
@@ -77,6 +84,7 @@ public class HostConnectionPool {
 
   private static class ConnectionPools {
     private ArrayList<List<HostConnectionAndHostIndex>> hostToConnections = new ArrayList<>();
+    private ArrayList<ReplicaStatistics> hostToReplicaStatistics = new ArrayList<>();
     private int previouslyUsedHostIndex = 0;
 
     @Override
@@ -92,12 +100,19 @@ public class HostConnectionPool {
   private final ConnectionPools otherPools = new ConnectionPools();
 
   private final Random random = new Random();
+  private final ReplicaSelectionStrategy replicaSelectionStrategy;
 
   private static final HankResponse NO_CONNECTION_AVAILABLE_RESPONSE
       = HankResponse.xception(HankException.no_connection_available(true));
   private static final HankBulkResponse NO_CONNECTION_AVAILABLE_BULK_RESPONSE
       = HankBulkResponse.xception(HankException.no_connection_available(true));
 
+  // A query for a single key, retried with other connections when it fails
+  private interface Query {
+
+    HankResponse perform(HostConnection hostConnection) throws IOException;
+  }
+
   static class HostConnectionAndHostIndex implements Comparable<HostConnectionAndHostIndex> {
 
     HostConnection hostConnection;
@@ -124,6 +139,14 @@ public class HostConnectionPool {
   }
 
   HostConnectionPool(Map<Host, List<HostConnection>> hostToConnectionsMap, Integer hostShuffleSeed, Set<Host> preferredHosts) {
+    this(hostToConnectionsMap, hostShuffleSeed, preferredHosts, new KeyAffinityReplicaSelectionStrategy());
+  }
+
+  HostConnectionPool(Map<Host, List<HostConnection>> hostToConnectionsMap,
+                     Integer hostShuffleSeed,
+                     Set<Host> preferredHosts,
+                     ReplicaSelectionStrategy replicaSelectionStrategy) {
+    this.replicaSelectionStrategy = replicaSelectionStrategy;
     if (hostToConnectionsMap.size() == 0) {
       throw new RuntimeException("HostConnectionPool must be initialized with a non empty collection of connections.");
     }
@@ -147,9 +170,11 @@ public class HostConnectionPool {
 
       if (preferredHosts.contains(host)) {
         preferredPools.hostToConnections.add(buildConnections(hostToConnectionsMap, preferrdIndex, host));
+        preferredPools.hostToReplicaStatistics.add(hostToConnectionsMap.get(host).get(0).getReplicaStatistics());
         ++preferrdIndex;
       } else {
         otherPools.hostToConnections.add(buildConnections(hostToConnectionsMap, otherIndex, host));
+        otherPools.hostToReplicaStatistics.add(hostToConnectionsMap.get(host).get(0).getReplicaStatistics());
         ++otherIndex;
       }
 
@@ -178,6 +203,13 @@ public class HostConnectionPool {
   }
 
   static HostConnectionPool createFromList(Collection<HostConnection> connections, Integer hostShuffleSeed, Set<Host> preferredHosts) {
+    return createFromList(connections, hostShuffleSeed, preferredHosts, new KeyAffinityReplicaSelectionStrategy());
+  }
+
+  static HostConnectionPool createFromList(Collection<HostConnection> connections,
+                                           Integer hostShuffleSeed,
+                                           Set<Host> preferredHosts,
+                                           ReplicaSelectionStrategy replicaSelectionStrategy) {
     Map<Host, List<HostConnection>> hostToConnectionsMap = new HashMap<Host, List<HostConnection>>();
     for (HostConnection connection : connections) {
       List<HostConnection> connectionList = hostToConnectionsMap.get(connection.getHost());
@@ -187,7 +219,7 @@ public class HostConnectionPool {
       }
       connectionList.add(connection);
     }
-    return new HostConnectionPool(hostToConnectionsMap, hostShuffleSeed, preferredHosts);
+    return new HostConnectionPool(hostToConnectionsMap, hostShuffleSeed, preferredHosts, replicaSelectionStrategy);
   }
 
   Collection<HostConnection> getConnections() {
@@ -200,30 +232,36 @@ public class HostConnectionPool {
     return connections;
   }
 
-  // Return a connection to a host, initially skipping the previously used host
-  private synchronized HostConnectionAndHostIndex getConnectionToUse(ConnectionPools pool) {
-    HostConnectionAndHostIndex result = getNextConnectionToUse(pool.previouslyUsedHostIndex, pool.hostToConnections);
-    if (result != null) {
+  int getNumHosts() {
+    return preferredPools.hostToConnections.size() + otherPools.hostToConnections.size();
+  }
+
+  // Return a connection to a host, starting with the host determined by the replica selection strategy
+  private synchronized HostConnectionAndHostIndex getConnectionToUse(ConnectionPools pool, Integer keyHash, Host excludedHost) {
+    int firstHostIndex = replicaSelectionStrategy.selectReplica(
+        pool.hostToReplicaStatistics, keyHash, pool.previouslyUsedHostIndex);
+    HostConnectionAndHostIndex result = getNextConnectionToUse(
+        getPreviousHostIndexToUse(firstHostIndex, pool.hostToConnections), pool.hostToConnections, excludedHost);
+    // Only queries that are not for a single key move the round robin host iterator
+    if (result != null && keyHash == null) {
       pool.previouslyUsedHostIndex = result.hostIndex;
     }
     return result;
   }
 
-  // Attempt to find a connection for that key where it is likely to be in the cache if it was queried
-  // recently. (Globally random, but deterministic on the key.)
-  private HostConnectionAndHostIndex getConnectionToUseForKey(ConnectionPools pool, int keyHash) {
-    return getNextConnectionToUse(keyHash % pool.hostToConnections.size(), pool.hostToConnections);
-  }
-
   // Return a connection to an arbitrary host, initially skipping the supplied host (likely because there was
-  // a failure using a connection to it)
+  // a failure using a connection to it). Connections to the excluded host, when given, are never returned.
   private synchronized HostConnectionAndHostIndex getNextConnectionToUse(int previouslyUsedHostIndex,
-                                                                         ArrayList<List<HostConnectionAndHostIndex>> hostToConnections) {
+                                                                         ArrayList<List<HostConnectionAndHostIndex>> hostToConnections,
+                                                                         Host excludedHost) {
 
-    // First, search for any unused (unlocked) connection
+    // First, search for any unused (unlocked) connection, to a host that is under its concurrency limit
     for (int tryId = 0; tryId < hostToConnections.size(); ++tryId) {
       previouslyUsedHostIndex = getNextHostIndexToUse(previouslyUsedHostIndex, hostToConnections);
       List<HostConnectionAndHostIndex> connectionAndHostList = hostToConnections.get(previouslyUsedHostIndex);
+      if (isOverConcurrencyLimit(connectionAndHostList) || isHost(connectionAndHostList, excludedHost)) {
+        continue;
+      }
       for (HostConnectionAndHostIndex connectionAndHostIndex : connectionAndHostList) {
         // If a host has one unavaible connection, it is itself unavailable. Move on to the next host.
         if (!connectionAndHostIndex.hostConnection.isServing()) {
@@ -231,7 +269,7 @@ public class HostConnectionPool {
         }
         // If successful in locking a non locked connection, return it
         if (connectionAndHostIndex.hostConnection.tryLockRespectingFairness()) {
-          // Note: here the returned connection is already locked.
+          // Note: here the returned connection is already locked (unless it is pipelined).
           // Unlocking it is not the responsibily of this method.
           return connectionAndHostIndex;
         }
@@ -240,10 +278,14 @@ public class HostConnectionPool {
 
     // Here, host index is back to the same host we started with (it looped over once)
 
-    // No unused connection was found, return a random connection that is available
+    // No unused connection was found, return a random connection that is available, to a host that
+    // is under its concurrency limit
     for (int tryId = 0; tryId < hostToConnections.size(); ++tryId) {
       previouslyUsedHostIndex = getNextHostIndexToUse(previouslyUsedHostIndex, hostToConnections);
       List<HostConnectionAndHostIndex> connectionAndHostList = hostToConnections.get(previouslyUsedHostIndex);
+      if (isOverConcurrencyLimit(connectionAndHostList) || isHost(connectionAndHostList, excludedHost)) {
+        continue;
+      }
       // Pick a random connection for that host
       HostConnectionAndHostIndex connectionAndHostIndex
           = connectionAndHostList.get(random.nextInt(connectionAndHostList.size()));
@@ -258,6 +300,13 @@ public class HostConnectionPool {
 
     // Here, host index is back to the same host we started with (it looped over twice)
 
+    // All serving hosts are over their concurrency limit. Limits shed load to other replicas, they do not
+    // reject queries, so return a random connection to the least loaded serving host.
+    HostConnectionAndHostIndex leastLoadedConnection = getConnectionToLeastLoadedServingHost(hostToConnections, excludedHost);
+    if (leastLoadedConnection != null) {
+      return leastLoadedConnection;
+    }
+
     // No random available connection was found, return a random connection that is not available.
     // This is a worst case scenario only. For example when hosts miss a Zookeeper heartbeat and report
     // offline when the Thrift partition server is actually still up. We then attempt to use an unavailable
@@ -265,6 +314,9 @@ public class HostConnectionPool {
     for (int tryId = 0; tryId < hostToConnections.size(); ++tryId) {
       previouslyUsedHostIndex = getNextHostIndexToUse(previouslyUsedHostIndex, hostToConnections);
       List<HostConnectionAndHostIndex> connectionAndHostList = hostToConnections.get(previouslyUsedHostIndex);
+      if (isHost(connectionAndHostList, excludedHost)) {
+        continue;
+      }
       // Pick a random connection for that host, and use it only if it is offline
       HostConnectionAndHostIndex connectionAndHostIndex
           = connectionAndHostList.get(random.nextInt(connectionAndHostList.size()));
@@ -277,6 +329,46 @@ public class HostConnectionPool {
     return null;
   }
 
+  // Load is the number of outstanding requests relative to the host's concurrency limit.
+  // Return null if no host is serving.
+  private HostConnectionAndHostIndex getConnectionToLeastLoadedServingHost(ArrayList<List<HostConnectionAndHostIndex>> hostToConnections,
+                                                                          Host excludedHost) {
+    HostConnectionAndHostIndex result = null;
+    double lowestLoad = Double.POSITIVE_INFINITY;
+    for (List<HostConnectionAndHostIndex> connectionAndHostList : hostToConnections) {
+      if (isHost(connectionAndHostList, excludedHost)) {
+        continue;
+      }
+      HostConnectionAndHostIndex connectionAndHostIndex
+          = connectionAndHostList.get(random.nextInt(connectionAndHostList.size()));
+      if (!connectionAndHostIndex.hostConnection.isServing()) {
+        continue;
+      }
+      ReplicaStatistics replicaStatistics = connectionAndHostIndex.hostConnection.getReplicaStatistics();
+      AdaptiveConcurrencyLimit concurrencyLimit = replicaStatistics.getConcurrencyLimit();
+      double load = concurrencyLimit == null ? 0
+          : (double)replicaStatistics.getNumOutstandingRequests() / Math.max(1, concurrencyLimit.getLimit());
+      if (result == null || load < lowestLoad) {
+        result = connectionAndHostIndex;
+        lowestLoad = load;
+      }
+    }
+    if (result != null && LOG.isDebugEnabled()) {
+      LOG.debug("All serving hosts are over their concurrency limit. Using least loaded host: "
+          + result.hostConnection.getHost().getAddress());
+    }
+    return result;
+  }
+
+  // All connections to a host share the same replica statistics
+  private static boolean isOverConcurrencyLimit(List<HostConnectionAndHostIndex> connectionAndHostList) {
+    return connectionAndHostList.get(0).hostConnection.getReplicaStatistics().isOverConcurrencyLimit();
+  }
+
+  private static boolean isHost(List<HostConnectionAndHostIndex> connectionAndHostList, Host host) {
+    return host != null && connectionAndHostList.get(0).hostConnection.getHost().equals(host);
+  }
+
   private int getNextHostIndexToUse(int previouslyUsedHostIndex,
                                     ArrayList<List<HostConnectionAndHostIndex>> hostToConnections) {
     if (previouslyUsedHostIndex >= (hostToConnections.size() - 1)) {
@@ -286,7 +378,81 @@ public class HostConnectionPool {
     }
   }
 
+  private int getPreviousHostIndexToUse(int hostIndex,
+                                        ArrayList<List<HostConnectionAndHostIndex>> hostToConnections) {
+    if (hostIndex <= 0) {
+      return hostToConnections.size() - 1;
+    } else {
+      return hostIndex - 1;
+    }
+  }
+
+  // Return a connection to the host that a query for the given key would start with, preferred hosts first.
+  // The connection is not locked, it is meant to batch several keys in a single query to that host.
+  // Return null if no host is serving.
+  synchronized HostConnection getConnectionToBatch(Integer keyHash) {
+    for (ConnectionPools pools : new ConnectionPools[]{preferredPools, otherPools}) {
+      ArrayList<List<HostConnectionAndHostIndex>> hostToConnections = pools.hostToConnections;
+      if (hostToConnections.isEmpty()) {
+        continue;
+      }
+      int hostIndex = replicaSelectionStrategy.selectReplica(
+          pools.hostToReplicaStatistics, keyHash, pools.previouslyUsedHostIndex);
+      for (int tryId = 0; tryId < hostToConnections.size(); ++tryId) {
+        List<HostConnectionAndHostIndex> connectionAndHostList = hostToConnections.get(hostIndex);
+        hostIndex = getNextHostIndexToUse(hostIndex, hostToConnections);
+        if (isOverConcurrencyLimit(connectionAndHostList)) {
+          continue;
+        }
+        HostConnection hostConnection
+            = connectionAndHostList.get(random.nextInt(connectionAndHostList.size())).hostConnection;
+        if (hostConnection.isServing()) {
+          return hostConnection;
+        }
+      }
+    }
+    // All serving hosts are over their concurrency limit, batch to the least loaded one
+    for (ConnectionPools pools : new ConnectionPools[]{preferredPools, otherPools}) {
+      HostConnectionAndHostIndex leastLoadedConnection = getConnectionToLeastLoadedServingHost(pools.hostToConnections, null);
+      if (leastLoadedConnection != null) {
+        return leastLoadedConnection.hostConnection;
+      }
+    }
+    return null;
+  }
+
   public HankResponse get(Domain domain, ByteBuffer key, int maxNumTries, Integer keyHash) {
+    return get(domain, key, null, maxNumTries, keyHash);
+  }
+
+  // When a hashed key is given, it is sent instead of the key
+  HankResponse get(Domain domain, ByteBuffer key, HashedKey hashedKey, int maxNumTries, Integer keyHash) {
+    return get(domain, key, hashedKey, maxNumTries, keyHash, null, null);
+  }
+
+  // The excluded host, when given, is never queried. The host of every attempt is set in the queried host, when
+  // given, so that a concurrent query of the same key (a hedge) can exclude it.
+  HankResponse get(final Domain domain, final ByteBuffer key, final HashedKey hashedKey, int maxNumTries, Integer keyHash,
+                   Host excludedHost, AtomicReference<Host> queriedHost) {
+    return query(domain, key, new Query() {
+      @Override
+      public HankResponse perform(HostConnection hostConnection) throws IOException {
+        return hostConnection.get(domain.getId(), key, hashedKey);
+      }
+    }, maxNumTries, keyHash, excludedHost, queriedHost);
+  }
+
+  HankResponse getRange(final Domain domain, final ByteBuffer key, final int offset, final int length, final int versionNumber, int maxNumTries, Integer keyHash) {
+    return query(domain, key, new Query() {
+      @Override
+      public HankResponse perform(HostConnection hostConnection) throws IOException {
+        return hostConnection.getRange(domain.getId(), key, offset, length, versionNumber);
+      }
+    }, maxNumTries, keyHash, null, null);
+  }
+
+  private HankResponse query(Domain domain, ByteBuffer key, Query query, int maxNumTries, Integer keyHash,
+                             Host excludedHost, AtomicReference<Host> queriedHost) {
     HostConnectionAndHostIndex connectionAndHostIndex = null;
     int numPreferredTries = 0;
     int numOtherTries = 0;
@@ -300,21 +466,23 @@ public class HostConnectionPool {
 
       // Either get a connection to an arbitrary host, or get a connection skipping the
       // previous host used (since it failed)
-      connectionAndHostIndex = getConnectionFromPools(preferredPools, keyHash, connectionAndHostIndex);
+      connectionAndHostIndex = getConnectionFromPools(preferredPools, keyHash, connectionAndHostIndex, excludedHost);
+      setQueriedHost(queriedHost, connectionAndHostIndex);
 
       ++numPreferredTries;
 
-      HankResponse response = attemptQuery(connectionAndHostIndex, domain, key, numPreferredTries, maxNumTries);
+      HankResponse response = attemptQuery(connectionAndHostIndex, domain, key, query, numPreferredTries, maxNumTries);
       if (response != null) {
         return response;
       }
     }
 
     while (true) {
-      connectionAndHostIndex = getConnectionFromPools(otherPools, keyHash, connectionAndHostIndex);
+      connectionAndHostIndex = getConnectionFromPools(otherPools, keyHash, connectionAndHostIndex, excludedHost);
+      setQueriedHost(queriedHost, connectionAndHostIndex);
       ++numOtherTries;
 
-      HankResponse response = attemptQuery(connectionAndHostIndex, domain, key, numPreferredTries+numOtherTries, maxNumTries);
+      HankResponse response = attemptQuery(connectionAndHostIndex, domain, key, query, numPreferredTries+numOtherTries, maxNumTries);
       if (response != null) {
         return response;
       }
@@ -322,21 +490,21 @@ public class HostConnectionPool {
 
   }
 
-  private HostConnectionAndHostIndex getConnectionFromPools(ConnectionPools pools, Integer keyHash, HostConnectionAndHostIndex connectionAndHostIndex) {
+  private HostConnectionAndHostIndex getConnectionFromPools(ConnectionPools pools, Integer keyHash, HostConnectionAndHostIndex connectionAndHostIndex, Host excludedHost) {
     if (connectionAndHostIndex == null) {
-      if (keyHash == null) {
-        return getConnectionToUse(pools);
-      } else {
-        return getConnectionToUseForKey(pools, keyHash);
-      }
+      return getConnectionToUse(pools, keyHash, excludedHost);
     } else {
-      return getNextConnectionToUse(connectionAndHostIndex.hostIndex, pools.hostToConnections);
+      return getNextConnectionToUse(connectionAndHostIndex.hostIndex, pools.hostToConnections, excludedHost);
     }
   }
 
-  private HankResponse attemptQuery(HostConnectionAndHostIndex connectionAndHostIndex, Domain domain, ByteBuffer key, int numTries, int maxNumTries) {
-    int domainId = domain.getId();
+  private static void setQueriedHost(AtomicReference<Host> queriedHost, HostConnectionAndHostIndex connectionAndHostIndex) {
+    if (queriedHost != null && connectionAndHostIndex != null) {
+      queriedHost.set(connectionAndHostIndex.hostConnection.getHost());
+    }
+  }
 
+  private HankResponse attemptQuery(HostConnectionAndHostIndex connectionAndHostIndex, Domain domain, ByteBuffer key, Query query, int numTries, int maxNumTries) {
     // If we couldn't find any available connection, return corresponding error response
     if (connectionAndHostIndex == null) {
       LOG.error("No connection is available. Giving up with "+numTries+"/"+maxNumTries+" attempts. Domain = " + domain.getName() + ", Key=" + BytesUtils.bytesToHexString(key)+"\n"+
@@ -348,7 +516,7 @@ public class HostConnectionPool {
     } else {
       // Perform query
       try {
-        return connectionAndHostIndex.hostConnection.get(domainId, key);
+        return query.perform(connectionAndHostIndex.hostConnection);
       } catch (IOException e) {
         // In case of error, keep count of the number of times we retry
         if (numTries < maxNumTries) {
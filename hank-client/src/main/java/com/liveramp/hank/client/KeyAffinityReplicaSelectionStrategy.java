@@ -0,0 +1,37 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.List;
+
+/**
+ * Always try the same replica first for a given key, so that it is likely
+ * to be in that replica's cache if it was queried recently. Queries that are
+ * not for a single key are distributed round robin.
+ */
+public class KeyAffinityReplicaSelectionStrategy implements ReplicaSelectionStrategy {
+
+  @Override
+  public int selectReplica(List<ReplicaStatistics> replicas, Integer keyHash, int previouslyUsedHostIndex) {
+    if (keyHash == null) {
+      return (previouslyUsedHostIndex + 1) % replicas.size();
+    } else {
+      // Globally random, but deterministic on the key
+      return (keyHash % replicas.size() + 1) % replicas.size();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a sliding window of the most recent query latencies and exposes a
+ * given percentile of that window. The percentile is only recomputed every
+ * so many samples so that reading it stays cheap on the query path.
+ */
+class LatencyTracker {
+
+  private static final int DEFAULT_WINDOW_SIZE = 1024;
+  private static final int DEFAULT_MIN_NUM_SAMPLES = 100;
+  private static final int DEFAULT_RECOMPUTE_INTERVAL = 128;
+
+  private final double percentile;
+  private final long[] samples;
+  private final long[] sortedSamples;
+  private final int minNumSamples;
+  private final int recomputeInterval;
+
+  private int nextSampleIndex = 0;
+  private int numSamples = 0;
+  private int numSamplesSinceRecompute = 0;
+  private long percentileNanos = -1;
+
+  LatencyTracker(double percentile) {
+    this(percentile, DEFAULT_WINDOW_SIZE, DEFAULT_MIN_NUM_SAMPLES, DEFAULT_RECOMPUTE_INTERVAL);
+  }
+
+  LatencyTracker(double percentile, int windowSize, int minNumSamples, int recomputeInterval) {
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be in ]0, 1] but was: " + percentile);
+    }
+    this.percentile = percentile;
+    this.samples = new long[windowSize];
+    this.sortedSamples = new long[windowSize];
+    this.minNumSamples = Math.min(minNumSamples, windowSize);
+    this.recomputeInterval = recomputeInterval;
+  }
+
+  synchronized void record(long durationNanos) {
+    samples[nextSampleIndex] = durationNanos;
+    nextSampleIndex = (nextSampleIndex + 1) % samples.length;
+    if (numSamples < samples.length) {
+      ++numSamples;
+    }
+    if (++numSamplesSinceRecompute >= recomputeInterval
+        || (percentileNanos < 0 && numSamples >= minNumSamples)) {
+      recompute();
+    }
+  }
+
+  // Return the tracked latency percentile in nanoseconds, or -1 if not enough samples have been recorded yet
+  synchronized long getPercentileNanos() {
+    return percentileNanos;
+  }
+
+  private void recompute() {
+    numSamplesSinceRecompute = 0;
+    if (numSamples < minNumSamples) {
+      return;
+    }
+    System.arraycopy(samples, 0, sortedSamples, 0, numSamples);
+    Arrays.sort(sortedSamples, 0, numSamples);
+    int index = (int)Math.ceil(percentile * numSamples) - 1;
+    percentileNanos = sortedSamples[Math.max(0, Math.min(numSamples - 1, index))];
+  }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankDomainNameKey;
 import com.liveramp.hank.generated.HankException;
 import com.liveramp.hank.generated.HankResponse;
 
@@ -41,6 +42,15 @@ public class MockHankSmartClient implements HankSmartClientIface {
     return HankBulkResponse.responses(responses);
   }
 
+  @Override
+  public HankBulkResponse getMulti(List<HankDomainNameKey> domainKeys) {
+    List<HankResponse> responses = new ArrayList<HankResponse>(domainKeys.size());
+    for (HankDomainNameKey domainKey : domainKeys) {
+      responses.add(get(domainKey.get_domain_name(), domainKey.buffer_for_key()));
+    }
+    return HankBulkResponse.responses(responses);
+  }
+
   private class GetTaskRunnable implements GetTaskRunnableIface {
 
     private final String domain;
@@ -0,0 +1,414 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.coordinator.PartitionServerAddress;
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.PartitionServer;
+import com.liveramp.hank.util.UnixDomainSocket;
+import com.liveramp.hank.util.WireCompression;
+import com.liveramp.hank.util.WireCompressionFramedTransport;
+import com.liveramp.hank.util.WireCompressionStatistics;
+import com.liveramp.hank.util.ZeroCopyCompactProtocol;
+
+/**
+ * A socket to a partition server on which many requests can be outstanding at
+ * the same time. Requests are written as soon as they are issued, and
+ * responses are matched to them using the sequence id that every Thrift
+ * message carries (and that the server echoes back), so that they could be
+ * answered in any order. A dedicated thread reads responses as they arrive.
+ *
+ * The wire format is the regular framed compact Thrift protocol of the
+ * PartitionServer service, so partition servers need no change to serve
+ * pipelined connections alongside regular ones.
+ */
+class PipelinedConnection {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PipelinedConnection.class);
+
+  private final PartitionServerAddress address;
+  private final int establishConnectionTimeoutMs;
+  private final List<CompressionCodec> wireCompressionCodecs;
+  private final WireCompressionStatistics wireCompressionStatistics;
+  // Connect through this Unix domain socket instead of TCP when set
+  private final String unixDomainSocketPath;
+  private final AtomicInteger nextSequenceId = new AtomicInteger(0);
+  private volatile Channel channel;
+  // Locks rather than monitors guard socket I/O, so that virtual threads blocked on it do not pin their carrier
+  private final ReentrantLock connectionLock = new ReentrantLock();
+
+  // A timeout of 0 means no timeout
+  PipelinedConnection(PartitionServerAddress address, int establishConnectionTimeoutMs) {
+    this(address, establishConnectionTimeoutMs, Collections.<CompressionCodec>emptyList(), new WireCompressionStatistics(), null);
+  }
+
+  // Wire compression is negotiated on connect with the given codecs, by order of preference
+  PipelinedConnection(PartitionServerAddress address,
+                      int establishConnectionTimeoutMs,
+                      List<CompressionCodec> wireCompressionCodecs,
+                      WireCompressionStatistics wireCompressionStatistics,
+                      String unixDomainSocketPath) {
+    this.address = address;
+    this.establishConnectionTimeoutMs = establishConnectionTimeoutMs;
+    this.wireCompressionCodecs = wireCompressionCodecs;
+    this.wireCompressionStatistics = wireCompressionStatistics;
+    this.unixDomainSocketPath = unixDomainSocketPath;
+  }
+
+  boolean isConnected() {
+    Channel currentChannel = channel;
+    return currentChannel != null && !currentChannel.isClosed();
+  }
+
+  // Connect only if not already connected
+  void connect() throws IOException {
+    connectionLock.lock();
+    try {
+      if (isConnected()) {
+        return;
+      }
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Trying to establish pipelined connection to " + address);
+      }
+      // Use connection timeout to connect. Responses are read as they arrive, query timeouts are enforced by the callers.
+      TTransport socket;
+      if (unixDomainSocketPath != null) {
+        socket = new UnixDomainSocket(unixDomainSocketPath, 0);
+      } else {
+        socket = new TSocket(address.getHostName(), address.getPortNumber(), establishConnectionTimeoutMs);
+      }
+      // Responses are read while requests are written. Unlike TFramedTransport, this transport can be used
+      // concurrently in both directions, it is used even when wire compression is not offered.
+      WireCompressionFramedTransport transport = new WireCompressionFramedTransport(socket, wireCompressionStatistics);
+      try {
+        transport.open();
+        if (socket instanceof TSocket) {
+          ((TSocket) socket).setTimeout(0);
+        }
+      } catch (TTransportException e) {
+        transport.close();
+        throw new IOException("Failed to establish pipelined connection to host " + address, e);
+      }
+      connect(transport);
+      if (!wireCompressionCodecs.isEmpty()) {
+        negotiateWireCompression(transport);
+      }
+    } finally {
+      connectionLock.unlock();
+    }
+  }
+
+  private void negotiateWireCompression(WireCompressionFramedTransport transport) throws IOException {
+    PartitionServer.negotiateWireCompression_result result = new PartitionServer.negotiateWireCompression_result();
+    try {
+      getChannel().call("negotiateWireCompression",
+          new PartitionServer.negotiateWireCompression_args(WireCompression.getCodecNames(wireCompressionCodecs)),
+          result,
+          establishConnectionTimeoutMs);
+    } catch (TApplicationException e) {
+      if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+        // The server predates wire compression
+        return;
+      }
+      disconnect();
+      throw new IOException("Failed to negotiate wire compression with host " + address, e);
+    } catch (TException e) {
+      disconnect();
+      throw new IOException("Failed to negotiate wire compression with host " + address, e);
+    }
+    if (result.is_set_success()) {
+      transport.setAcceptedCodec(WireCompression.negotiate(Collections.singletonList(result.get_success()), wireCompressionCodecs));
+    }
+  }
+
+  // Use the given open transport
+  void connect(TTransport transport) {
+    connectionLock.lock();
+    try {
+      disconnect();
+      channel = new Channel(transport);
+      channel.start();
+    } finally {
+      connectionLock.unlock();
+    }
+  }
+
+  void disconnect() {
+    connectionLock.lock();
+    try {
+      if (channel != null) {
+        channel.close(null);
+        channel = null;
+      }
+    } finally {
+      connectionLock.unlock();
+    }
+  }
+
+  HankResponse get(int domainId, ByteBuffer key, int timeoutMs) throws TException {
+    PartitionServer.get_result result = new PartitionServer.get_result();
+    getChannel().call("get", new PartitionServer.get_args(domainId, key), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "get failed: unknown result");
+  }
+
+  HankBulkResponse getBulk(int domainId, List<ByteBuffer> keys, int timeoutMs) throws TException {
+    PartitionServer.getBulk_result result = new PartitionServer.getBulk_result();
+    getChannel().call("getBulk", new PartitionServer.getBulk_args(domainId, keys), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "getBulk failed: unknown result");
+  }
+
+  HankCompactBulkResponse getBulkCompact(int domainId, List<ByteBuffer> keys, int timeoutMs) throws TException {
+    PartitionServer.getBulkCompact_result result = new PartitionServer.getBulkCompact_result();
+    getChannel().call("getBulkCompact", new PartitionServer.getBulkCompact_args(domainId, keys), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "getBulkCompact failed: unknown result");
+  }
+
+  HankResponse getHashed(int domainId, int partition, ByteBuffer hashedKey, int timeoutMs) throws TException {
+    PartitionServer.getHashed_result result = new PartitionServer.getHashed_result();
+    getChannel().call("getHashed", new PartitionServer.getHashed_args(domainId, partition, hashedKey), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "getHashed failed: unknown result");
+  }
+
+  HankBulkResponse getMulti(List<HankDomainKey> domainKeys, int timeoutMs) throws TException {
+    PartitionServer.getMulti_result result = new PartitionServer.getMulti_result();
+    getChannel().call("getMulti", new PartitionServer.getMulti_args(domainKeys), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "getMulti failed: unknown result");
+  }
+
+  HankResponse getRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber, int timeoutMs) throws TException {
+    PartitionServer.getRange_result result = new PartitionServer.getRange_result();
+    getChannel().call("getRange", new PartitionServer.getRange_args(domainId, key, offset, length, versionNumber), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "getRange failed: unknown result");
+  }
+
+  HankScanResponse scanPartition(int domainId, int partition, ByteBuffer cursor, int limit, int timeoutMs) throws TException {
+    PartitionServer.scanPartition_result result = new PartitionServer.scanPartition_result();
+    getChannel().call("scanPartition", new PartitionServer.scanPartition_args(domainId, partition, cursor, limit), result, timeoutMs);
+    if (result.is_set_success()) {
+      return result.get_success();
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT, "scanPartition failed: unknown result");
+  }
+
+  private Channel getChannel() throws TTransportException {
+    Channel currentChannel = channel;
+    if (currentChannel == null || currentChannel.isClosed()) {
+      throw new TTransportException(TTransportException.NOT_OPEN, "Pipelined connection to " + address + " is not open.");
+    }
+    return currentChannel;
+  }
+
+  @Override
+  public String toString() {
+    return "PipelinedConnection{" +
+        "address=" + address +
+        ", connected=" + isConnected() +
+        '}';
+  }
+
+  private static class PendingCall {
+
+    private final TBase result;
+    private final SettableFuture<TBase> future = SettableFuture.create();
+
+    private PendingCall(TBase result) {
+      this.result = result;
+    }
+  }
+
+  // An open transport, its pending calls and the thread reading its responses. Once closed, a channel
+  // is never reopened: the connection creates a new one.
+  private class Channel implements Runnable {
+
+    private final TTransport transport;
+    private final TProtocol inputProtocol;
+    private final TProtocol outputProtocol;
+    private final ConcurrentHashMap<Integer, PendingCall> sequenceIdToPendingCall
+        = new ConcurrentHashMap<Integer, PendingCall>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Thread readerThread;
+    private volatile boolean closed = false;
+
+    private Channel(TTransport transport) {
+      this.transport = transport;
+      // Protocols are stateful, reading and writing concurrently requires one for each direction
+      // Values are read as views of the response frame
+      this.inputProtocol = new ZeroCopyCompactProtocol(transport);
+      this.outputProtocol = new TCompactProtocol(transport);
+      this.readerThread = new Thread(this, "Pipelined connection reader " + address);
+      readerThread.setDaemon(true);
+    }
+
+    private void start() {
+      readerThread.start();
+    }
+
+    private boolean isClosed() {
+      return closed;
+    }
+
+    private void call(String methodName, TBase args, TBase result, int timeoutMs) throws TException {
+      int sequenceId = nextSequenceId.incrementAndGet();
+      PendingCall pendingCall = new PendingCall(result);
+      // Register the call before sending it since the response could arrive right away
+      sequenceIdToPendingCall.put(sequenceId, pendingCall);
+      try {
+        writeLock.lock();
+        try {
+          if (closed) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "Pipelined connection to " + address + " is closed.");
+          }
+          outputProtocol.writeMessageBegin(new TMessage(methodName, TMessageType.CALL, sequenceId));
+          args.write(outputProtocol);
+          outputProtocol.writeMessageEnd();
+          outputProtocol.getTransport().flush();
+        } finally {
+          writeLock.unlock();
+        }
+      } catch (TException e) {
+        sequenceIdToPendingCall.remove(sequenceId);
+        close(e);
+        throw e;
+      }
+      try {
+        if (timeoutMs == 0) {
+          pendingCall.future.get();
+        } else {
+          pendingCall.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+      } catch (TimeoutException e) {
+        // The response will be discarded when it arrives, other calls are not affected
+        sequenceIdToPendingCall.remove(sequenceId);
+        throw new TTransportException(TTransportException.TIMED_OUT, "Timed out waiting for response to " + methodName + " from " + address);
+      } catch (InterruptedException e) {
+        sequenceIdToPendingCall.remove(sequenceId);
+        Thread.currentThread().interrupt();
+        throw new TTransportException("Interrupted while waiting for response to " + methodName + " from " + address);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof TException) {
+          throw (TException)e.getCause();
+        }
+        throw new TException(e.getCause());
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!closed) {
+          TMessage message = inputProtocol.readMessageBegin();
+          PendingCall pendingCall = sequenceIdToPendingCall.remove(message.seqid);
+          try {
+            if (message.type == TMessageType.EXCEPTION) {
+              TApplicationException exception = TApplicationException.read(inputProtocol);
+              inputProtocol.readMessageEnd();
+              if (pendingCall != null) {
+                pendingCall.future.setException(exception);
+              }
+            } else if (pendingCall == null) {
+              // The caller gave up waiting for this response
+              TProtocolUtil.skip(inputProtocol, TType.STRUCT);
+              inputProtocol.readMessageEnd();
+            } else {
+              pendingCall.result.read(inputProtocol);
+              inputProtocol.readMessageEnd();
+              pendingCall.future.set(pendingCall.result);
+            }
+          } catch (TException e) {
+            if (pendingCall != null) {
+              pendingCall.future.setException(e);
+            }
+            throw e;
+          }
+        }
+      } catch (TException e) {
+        if (!closed) {
+          LOG.error("Failed to read from pipelined connection to " + address, e);
+        }
+        close(e);
+      }
+    }
+
+    // Close the transport and fail all pending calls
+    private void close(TException cause) {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      transport.close();
+      for (Integer sequenceId : sequenceIdToPendingCall.keySet()) {
+        PendingCall pendingCall = sequenceIdToPendingCall.remove(sequenceId);
+        if (pendingCall != null) {
+          pendingCall.future.setException(
+              new TTransportException(TTransportException.NOT_OPEN, "Pipelined connection to " + address + " was closed.", cause));
+        }
+      }
+    }
+  }
+}
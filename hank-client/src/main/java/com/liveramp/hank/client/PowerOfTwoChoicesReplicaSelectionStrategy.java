@@ -0,0 +1,72 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sample two replicas and try the one with the lowest score first
+ * (see ReplicaStatistics). When querying a single key, the first sample is
+ * the replica that key is affine to, and it is kept unless its score is
+ * significantly worse than the other sample. This preserves cache locality
+ * when replicas are healthy, while steering queries away from a replica that
+ * is slow or overloaded.
+ */
+public class PowerOfTwoChoicesReplicaSelectionStrategy implements ReplicaSelectionStrategy {
+
+  // How much worse the affine replica's score has to be before another replica is preferred
+  private static final double DEFAULT_KEY_AFFINITY_TOLERANCE = 2.0;
+
+  private final double keyAffinityTolerance;
+  private final Random random = new Random();
+
+  public PowerOfTwoChoicesReplicaSelectionStrategy() {
+    this(DEFAULT_KEY_AFFINITY_TOLERANCE);
+  }
+
+  public PowerOfTwoChoicesReplicaSelectionStrategy(double keyAffinityTolerance) {
+    this.keyAffinityTolerance = keyAffinityTolerance;
+  }
+
+  @Override
+  public int selectReplica(List<ReplicaStatistics> replicas, Integer keyHash, int previouslyUsedHostIndex) {
+    int numReplicas = replicas.size();
+    if (numReplicas == 1) {
+      return 0;
+    }
+    int first;
+    double tolerance;
+    if (keyHash == null) {
+      first = random.nextInt(numReplicas);
+      tolerance = 1.0;
+    } else {
+      first = keyHash % numReplicas;
+      tolerance = keyAffinityTolerance;
+    }
+    // Pick a second replica, distinct from the first one
+    int second = random.nextInt(numReplicas - 1);
+    if (second >= first) {
+      ++second;
+    }
+    if (replicas.get(first).getScore() > tolerance * replicas.get(second).getScore()) {
+      return second;
+    } else {
+      return first;
+    }
+  }
+}
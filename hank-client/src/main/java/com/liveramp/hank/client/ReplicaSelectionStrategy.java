@@ -0,0 +1,35 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.List;
+
+/**
+ * Determines which replica (Host) a HostConnectionPool should try first when
+ * performing a query. Subsequent tries (when the first replica is busy or
+ * failing) iterate over the other replicas in order.
+ */
+public interface ReplicaSelectionStrategy {
+
+  /**
+   * @param replicas                statistics of the candidate replicas, indexed by host index
+   * @param keyHash                 hash of the queried key, or null if the query is not for a single key
+   * @param previouslyUsedHostIndex index of the replica used by the previous query on this pool
+   * @return index of the replica to try first
+   */
+  public int selectReplica(List<ReplicaStatistics> replicas, Integer keyHash, int previouslyUsedHostIndex);
+}
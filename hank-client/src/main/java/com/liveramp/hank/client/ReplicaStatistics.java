@@ -0,0 +1,101 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load and latency statistics of a single replica (Host), shared by all
+ * connections to that Host. The latency is an exponentially weighted moving
+ * average of observed query latencies. The score combines it with the number
+ * of outstanding requests, so that a replica that is fast but already busy is
+ * not picked over an idle one. Optionally, an AdaptiveConcurrencyLimit caps
+ * the number of outstanding requests, and a replica that has reached it is
+ * skipped by replica selection.
+ */
+public class ReplicaStatistics {
+
+  private static final double EWMA_ALPHA = 0.1;
+
+  private final AtomicInteger numOutstandingRequests = new AtomicInteger(0);
+  private final AdaptiveConcurrencyLimit concurrencyLimit;
+  private double latencyEwmaNanos = 0;
+
+  public ReplicaStatistics() {
+    this(null);
+  }
+
+  public ReplicaStatistics(AdaptiveConcurrencyLimit concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+  }
+
+  void onRequestStart() {
+    numOutstandingRequests.incrementAndGet();
+  }
+
+  void onRequestEnd() {
+    numOutstandingRequests.decrementAndGet();
+  }
+
+  synchronized void recordLatency(long latencyNanos) {
+    if (latencyEwmaNanos == 0) {
+      latencyEwmaNanos = latencyNanos;
+    } else {
+      latencyEwmaNanos = EWMA_ALPHA * latencyNanos + (1 - EWMA_ALPHA) * latencyEwmaNanos;
+    }
+  }
+
+  // Round trip time of the query itself (not including time spent waiting for a connection)
+  void recordRoundTripTime(long rttNanos, boolean failed) {
+    if (concurrencyLimit != null) {
+      concurrencyLimit.onSample(rttNanos, failed, getNumOutstandingRequests());
+    }
+  }
+
+  public boolean isOverConcurrencyLimit() {
+    return concurrencyLimit != null && getNumOutstandingRequests() >= concurrencyLimit.getLimit();
+  }
+
+  public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  public int getNumOutstandingRequests() {
+    return numOutstandingRequests.get();
+  }
+
+  public synchronized double getLatencyEwmaNanos() {
+    return latencyEwmaNanos;
+  }
+
+  // Lower is better. A replica that has not been queried yet has a score of 0.
+  public double getScore() {
+    if (isOverConcurrencyLimit()) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return getLatencyEwmaNanos() * (getNumOutstandingRequests() + 1);
+  }
+
+  @Override
+  public String toString() {
+    return "ReplicaStatistics{" +
+        "numOutstandingRequests=" + getNumOutstandingRequests() +
+        ", latencyEwmaNanos=" + getLatencyEwmaNanos() +
+        ", concurrencyLimit=" + concurrencyLimit +
+        '}';
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.liveramp.hank.coordinator.HostAddress;
+import com.liveramp.hank.storage.HashedKeyStorageEngine;
+
+/**
+ * Immutable snapshot of where every partition of every domain is served. A
+ * new snapshot is built whenever the ring group's data locations change and
+ * is then published atomically, so that queries can route without locking.
+ */
+class RoutingTable {
+
+  static final RoutingTable EMPTY = new RoutingTable(
+      new HashMap<HostAddress, HostConnectionPool>(),
+      new HashMap<Integer, Map<Integer, HostConnectionPool>>(),
+      new HashMap<Integer, Integer>(),
+      new HashMap<Integer, HashedKeyStorageEngine>());
+
+  private final Map<HostAddress, HostConnectionPool> partitionServerAddressToConnectionPool;
+  private final Map<Integer, Map<Integer, HostConnectionPool>> domainToPartitionToConnectionPool;
+  // Version of each domain, when all of its partitions are served at that same version
+  private final Map<Integer, Integer> domainIdToServedVersion;
+  // Storage engine of each domain whose keys are hashed by the client
+  private final Map<Integer, HashedKeyStorageEngine> domainIdToHashedKeyStorageEngine;
+
+  RoutingTable(Map<HostAddress, HostConnectionPool> partitionServerAddressToConnectionPool,
+               Map<Integer, Map<Integer, HostConnectionPool>> domainToPartitionToConnectionPool,
+               Map<Integer, Integer> domainIdToServedVersion,
+               Map<Integer, HashedKeyStorageEngine> domainIdToHashedKeyStorageEngine) {
+    this.partitionServerAddressToConnectionPool = Collections.unmodifiableMap(partitionServerAddressToConnectionPool);
+    Map<Integer, Map<Integer, HostConnectionPool>> domainToUnmodifiablePartitionToConnectionPool
+        = new HashMap<Integer, Map<Integer, HostConnectionPool>>();
+    for (Map.Entry<Integer, Map<Integer, HostConnectionPool>> entry : domainToPartitionToConnectionPool.entrySet()) {
+      domainToUnmodifiablePartitionToConnectionPool.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+    }
+    this.domainToPartitionToConnectionPool = Collections.unmodifiableMap(domainToUnmodifiablePartitionToConnectionPool);
+    this.domainIdToServedVersion = Collections.unmodifiableMap(domainIdToServedVersion);
+    this.domainIdToHashedKeyStorageEngine = Collections.unmodifiableMap(domainIdToHashedKeyStorageEngine);
+  }
+
+  Map<HostAddress, HostConnectionPool> getPartitionServerAddressToConnectionPool() {
+    return partitionServerAddressToConnectionPool;
+  }
+
+  Map<Integer, Integer> getDomainIdToServedVersion() {
+    return domainIdToServedVersion;
+  }
+
+  // Return null if the domain is not served
+  Map<Integer, HostConnectionPool> getPartitionToConnectionPool(int domainId) {
+    return domainToPartitionToConnectionPool.get(domainId);
+  }
+
+  // Return null if the domain is not served, or not served at a single version
+  Integer getServedDomainVersion(int domainId) {
+    return domainIdToServedVersion.get(domainId);
+  }
+
+  // Return null if keys of the domain are not hashed by the client
+  HashedKeyStorageEngine getHashedKeyStorageEngine(int domainId) {
+    return domainIdToHashedKeyStorageEngine.get(domainId);
+  }
+}
@@ -16,6 +16,8 @@
 package com.liveramp.hank.client;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.log4j.PropertyConfigurator;
 import org.apache.thrift.TException;
@@ -24,6 +26,7 @@ import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.THsHaServer.Args;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +35,7 @@ import com.liveramp.hank.config.yaml.YamlSmartClientDaemonConfigurator;
 import com.liveramp.hank.coordinator.Coordinator;
 import com.liveramp.hank.generated.SmartClient;
 import com.liveramp.hank.util.CommandLineChecker;
+import com.liveramp.hank.util.UnixDomainServerSocket;
 
 /**
  * Run a HankSmartClient inside a Thrift server so non-Java clients can
@@ -63,16 +67,75 @@ public class SmartClientDaemon {
    */
   private void serve() throws IOException, TException {
     // set up the service handler
-    HankSmartClient handler = new HankSmartClient(coordinator, ringGroupName);
+    HankSmartClient client = new HankSmartClient(coordinator, ringGroupName);
+    SmartClient.Iface handler = client;
+    // Concurrent single key gets can be gathered into batches
+    BatchingSmartClient batchingClient = null;
+    if (configurator.getBatchWindowMicros() > 0) {
+      LOG.info("Batching gets for " + configurator.getBatchWindowMicros() + "us, up to "
+          + configurator.getBatchMaxSize() + " gets per batch");
+      batchingClient = new BatchingSmartClient(client, configurator.getBatchWindowMicros(),
+          configurator.getBatchMaxSize(), configurator.getNumThreads());
+      handler = batchingClient;
+    }
+
+    // Both servers run queries on the same executor, so that the number of concurrent queries is bounded
+    // whatever the socket clients connect through
+    ExecutorService queryExecutor = Executors.newFixedThreadPool(configurator.getNumThreads());
+    TNonblockingServerSocket serverSocket = null;
+    // Clients on the same machine can also connect through a Unix domain socket, served by its own server
+    String unixDomainSocketPath = configurator.getUnixDomainSocketPath();
+    UnixDomainServerSocket unixDomainServerSocket = null;
+    TServer unixDomainServer = null;
+    Thread unixDomainServerThread = null;
+    try {
+      // launch the thrift server
+      serverSocket = new TNonblockingServerSocket(configurator.getPortNumber());
+      if (unixDomainSocketPath != null) {
+        unixDomainServerSocket = new UnixDomainServerSocket(unixDomainSocketPath);
+        unixDomainServerSocket.listen();
+        final TServer unixDomainServerToServe = createServer(unixDomainServerSocket, handler, queryExecutor);
+        unixDomainServerThread = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            unixDomainServerToServe.serve();
+          }
+        }, "Smart client Unix domain socket server thread");
+        unixDomainServerThread.start();
+        unixDomainServer = unixDomainServerToServe;
+        LOG.info("Serving smart client on Unix domain socket " + unixDomainSocketPath);
+      }
+      server = createServer(serverSocket, handler, queryExecutor);
+      server.serve();
+    } finally {
+      if (serverSocket != null) {
+        serverSocket.close();
+      }
+      if (unixDomainServer != null) {
+        unixDomainServer.stop();
+        try {
+          unixDomainServerThread.join();
+        } catch (InterruptedException e) {
+          LOG.debug("Interrupted waiting for Unix domain socket server thread to exit.", e);
+        }
+      }
+      if (unixDomainServerSocket != null) {
+        unixDomainServerSocket.close();
+      }
+      // Servers shut the executor down when they stop, unless they never served
+      queryExecutor.shutdown();
+      if (batchingClient != null) {
+        batchingClient.stop();
+      }
+    }
+  }
 
-    // launch the thrift server
-    TNonblockingServerSocket serverSocket = new TNonblockingServerSocket(configurator.getPortNumber());
-    Args options = new THsHaServer.Args(serverSocket);
+  private TServer createServer(TNonblockingServerTransport serverTransport, SmartClient.Iface handler, ExecutorService queryExecutor) {
+    Args options = new THsHaServer.Args(serverTransport);
     options.processor(new SmartClient.Processor(handler));
-    options.workerThreads(configurator.getNumThreads());
+    options.executorService(queryExecutor);
     options.protocolFactory(new TCompactProtocol.Factory());
-    server = new THsHaServer(options);
-    server.serve();
+    return new THsHaServer(options);
   }
 
   public void downServer() {
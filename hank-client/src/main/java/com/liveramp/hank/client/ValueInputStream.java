@@ -0,0 +1,116 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.liveramp.hank.generated.HankResponse;
+
+/**
+ * Streams a value from the partition servers in ranges of a fixed number of
+ * bytes, so that neither the servers nor the client ever buffer more than
+ * one range of the value. A range shorter than requested marks the end of
+ * the value.
+ *
+ * Ranges are queried independently. The version of the domain served when
+ * the stream is opened is remembered and every range is queried from that
+ * version. Servers refuse ranges of another version, and reading fails with
+ * an IOException once no replica serves the version anymore, rather than
+ * mixing ranges of different versions of the value.
+ */
+public class ValueInputStream extends InputStream {
+
+  private final HankSmartClient client;
+  private final DomainHandle domainHandle;
+  private final ByteBuffer key;
+  private final int chunkSize;
+  private final int domainVersion;
+  private ByteBuffer chunk;
+  private int nextChunkOffset = 0;
+  private boolean isLastChunk;
+
+  // The first chunk should have been queried while serving the given domain version
+  ValueInputStream(HankSmartClient client, DomainHandle domainHandle, ByteBuffer key, int chunkSize, int domainVersion, ByteBuffer firstChunk) {
+    this.client = client;
+    this.domainHandle = domainHandle;
+    this.key = key;
+    this.chunkSize = chunkSize;
+    this.domainVersion = domainVersion;
+    setChunk(firstChunk);
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureChunk()) {
+      return -1;
+    }
+    return chunk.get() & 0xff;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > bytes.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureChunk()) {
+      return -1;
+    }
+    int numBytes = Math.min(len, chunk.remaining());
+    chunk.get(bytes, off, numBytes);
+    return numBytes;
+  }
+
+  @Override
+  public int available() {
+    return chunk.remaining();
+  }
+
+  // Return false at the end of the value
+  private boolean ensureChunk() throws IOException {
+    while (!chunk.hasRemaining()) {
+      if (isLastChunk) {
+        return false;
+      }
+      HankResponse response = client.getRange(domainHandle, key, nextChunkOffset, chunkSize, domainVersion);
+      // Servers that predate versioned ranges ignore the version, check that it is still served after the query
+      int servedDomainVersion = client.getServedDomainVersion(domainHandle);
+      if (servedDomainVersion != domainVersion) {
+        throw new IOException("Domain version changed from " + domainVersion + " to " + servedDomainVersion
+            + " after reading " + nextChunkOffset + " bytes of the value");
+      }
+      if (response.is_set_value()) {
+        setChunk(response.buffer_for_value());
+      } else if (response.is_set_not_found()) {
+        throw new IOException("Key was not found anymore after reading " + nextChunkOffset + " bytes of its value");
+      } else {
+        throw new IOException("Failed to read value range at offset " + nextChunkOffset + ": " + response.get_xception());
+      }
+    }
+    return true;
+  }
+
+  private void setChunk(ByteBuffer chunk) {
+    this.chunk = chunk;
+    this.nextChunkOffset += chunk.remaining();
+    this.isLastChunk = chunk.remaining() < chunkSize;
+  }
+}
@@ -16,6 +16,10 @@
 
 package com.liveramp.hank.config;
 
+import java.util.List;
+
+import com.liveramp.hank.compression.CompressionCodec;
+
 public interface HankSmartClientConfigurator extends CoordinatorConfigurator {
 
   public String getRingGroupName();
@@ -34,4 +38,45 @@ public interface HankSmartClientConfigurator extends CoordinatorConfigurator {
 
   public EnvironmentValue getPreferredServerEnvironment();
 
+  public boolean getHedgingEnabled();
+
+  public double getHedgingLatencyPercentile();
+
+  public int getHedgingMinDelayMs();
+
+  public double getHedgingBudgetRatio();
+
+  // Name of the replica selection strategy, null for the default
+  public String getReplicaSelectionStrategy();
+
+  public boolean getAdaptiveConcurrencyLimitEnabled();
+
+  public int getAdaptiveConcurrencyLimitInitial();
+
+  public int getAdaptiveConcurrencyLimitMax();
+
+  public boolean getRequestCoalescingEnabled();
+
+  // 0 means that each connection uses its own socket
+  public int getNumPipelinedSocketsPerHost();
+
+  // Request columnar bulk responses, falling back to regular ones with servers that do not support them
+  public boolean getUseCompactBulkResponses();
+
+  // Codecs offered to partition servers to compress responses, by order of preference, empty to never compress them
+  public List<CompressionCodec> getWireCompressionCodecs();
+
+  // Send keys hashed by the client when the domain's storage engine supports it
+  public boolean getUseHashedKeys();
+
+  // Size in bytes of the ranges in which streamed values are queried
+  public int getValueStreamChunkSize();
+
+  // Unix domain socket path configured on partition servers running on the same machine, null to always use TCP.
+  // Each server is reached at this path suffixed with its port (path.port).
+  public String getPartitionServerUnixDomainSocketPath();
+
+  // Run concurrent gets on virtual threads instead of a thread pool
+  public boolean getVirtualThreadsEnabled();
+
 }
@@ -22,4 +22,10 @@ public interface SmartClientDaemonConfigurator extends CoordinatorConfigurator {
   public String getRingGroupName();
   public int getPortNumber();
   public int getNumThreads();
+  // Unix domain socket on which the daemon is also served, for clients on the same machine. Not served when null.
+  public String getUnixDomainSocketPath();
+  // Concurrent single key gets are gathered for this many microseconds and queried together. No batching when 0.
+  public int getBatchWindowMicros();
+  // Batches are queried as soon as they hold this many gets
+  public int getBatchMaxSize();
 }
@@ -17,10 +17,13 @@
 package com.liveramp.hank.config.yaml;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.EnvironmentValue;
 import com.liveramp.hank.config.HankSmartClientConfigurator;
 import com.liveramp.hank.config.InvalidConfigurationException;
+import com.liveramp.hank.util.WireCompression;
 
 public class YamlHankSmartClientConfigurator extends YamlCoordinatorConfigurator implements HankSmartClientConfigurator {
 
@@ -33,6 +36,36 @@ public class YamlHankSmartClientConfigurator extends YamlCoordinatorConfigurator
   private static final String QUERY_TIMEOUT_MS_KEY = "query_timeout_ms";
   private static final String BULK_QUERY_TIMEOUT_MS_KEY = "bulk_query_timeout_ms";
   private static final String PREFERRED_ENVIRONMENT_KEY = "preferred_environment_key";
+  private static final String HEDGING_ENABLED_KEY = "hedging_enabled";
+  private static final String HEDGING_LATENCY_PERCENTILE_KEY = "hedging_latency_percentile";
+  private static final String HEDGING_MIN_DELAY_MS_KEY = "hedging_min_delay_ms";
+  private static final String HEDGING_BUDGET_RATIO_KEY = "hedging_budget_ratio";
+  private static final String REPLICA_SELECTION_STRATEGY_KEY = "replica_selection_strategy";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ENABLED_KEY = "adaptive_concurrency_limit_enabled";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_KEY = "adaptive_concurrency_limit_initial";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_MAX_KEY = "adaptive_concurrency_limit_max";
+  private static final String REQUEST_COALESCING_ENABLED_KEY = "request_coalescing_enabled";
+  private static final String NUM_PIPELINED_SOCKETS_PER_HOST_KEY = "num_pipelined_sockets_per_host";
+  private static final String USE_COMPACT_BULK_RESPONSES_KEY = "use_compact_bulk_responses";
+  private static final String WIRE_COMPRESSION_CODECS_KEY = "wire_compression_codecs";
+  private static final String USE_HASHED_KEYS_KEY = "use_hashed_keys";
+  private static final String VALUE_STREAM_CHUNK_SIZE_KEY = "value_stream_chunk_size";
+  private static final String PARTITION_SERVER_UNIX_DOMAIN_SOCKET_PATH_KEY = "partition_server_unix_domain_socket_path";
+  private static final String VIRTUAL_THREADS_ENABLED_KEY = "virtual_threads_enabled";
+
+  public static final boolean DEFAULT_HEDGING_ENABLED = false;
+  public static final double DEFAULT_HEDGING_LATENCY_PERCENTILE = 0.95;
+  public static final int DEFAULT_HEDGING_MIN_DELAY_MS = 1;
+  public static final double DEFAULT_HEDGING_BUDGET_RATIO = 0.05;
+  public static final boolean DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = false;
+  public static final int DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL = 16;
+  public static final int DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_MAX = 256;
+  public static final boolean DEFAULT_REQUEST_COALESCING_ENABLED = false;
+  public static final int DEFAULT_NUM_PIPELINED_SOCKETS_PER_HOST = 0;
+  public static final boolean DEFAULT_USE_COMPACT_BULK_RESPONSES = false;
+  public static final boolean DEFAULT_USE_HASHED_KEYS = false;
+  public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+  public static final int DEFAULT_VALUE_STREAM_CHUNK_SIZE = 1 << 20;
 
   public YamlHankSmartClientConfigurator(String configurationPath) throws FileNotFoundException, InvalidConfigurationException {
     super(configurationPath);
@@ -96,4 +129,136 @@ public class YamlHankSmartClientConfigurator extends YamlCoordinatorConfigurator
 
     return new EnvironmentValue(key, System.getenv(key));
   }
+
+  @Override
+  public boolean getHedgingEnabled() {
+    Boolean hedgingEnabled = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, HEDGING_ENABLED_KEY);
+    if (hedgingEnabled == null) {
+      return DEFAULT_HEDGING_ENABLED;
+    }
+    return hedgingEnabled;
+  }
+
+  @Override
+  public double getHedgingLatencyPercentile() {
+    Double hedgingLatencyPercentile = getOptionalDouble(HANK_SMART_CLIENT_SECTION_KEY, HEDGING_LATENCY_PERCENTILE_KEY);
+    if (hedgingLatencyPercentile == null) {
+      return DEFAULT_HEDGING_LATENCY_PERCENTILE;
+    }
+    return hedgingLatencyPercentile;
+  }
+
+  @Override
+  public int getHedgingMinDelayMs() {
+    Integer hedgingMinDelayMs = getOptionalInteger(HANK_SMART_CLIENT_SECTION_KEY, HEDGING_MIN_DELAY_MS_KEY);
+    if (hedgingMinDelayMs == null) {
+      return DEFAULT_HEDGING_MIN_DELAY_MS;
+    }
+    return hedgingMinDelayMs;
+  }
+
+  @Override
+  public double getHedgingBudgetRatio() {
+    Double hedgingBudgetRatio = getOptionalDouble(HANK_SMART_CLIENT_SECTION_KEY, HEDGING_BUDGET_RATIO_KEY);
+    if (hedgingBudgetRatio == null) {
+      return DEFAULT_HEDGING_BUDGET_RATIO;
+    }
+    return hedgingBudgetRatio;
+  }
+
+  @Override
+  public String getReplicaSelectionStrategy() {
+    return getOptionalString(HANK_SMART_CLIENT_SECTION_KEY, REPLICA_SELECTION_STRATEGY_KEY);
+  }
+
+  @Override
+  public boolean getAdaptiveConcurrencyLimitEnabled() {
+    Boolean enabled = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, ADAPTIVE_CONCURRENCY_LIMIT_ENABLED_KEY);
+    if (enabled == null) {
+      return DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+    }
+    return enabled;
+  }
+
+  @Override
+  public int getAdaptiveConcurrencyLimitInitial() {
+    Integer initial = getOptionalInteger(HANK_SMART_CLIENT_SECTION_KEY, ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_KEY);
+    if (initial == null) {
+      return DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL;
+    }
+    return initial;
+  }
+
+  @Override
+  public int getAdaptiveConcurrencyLimitMax() {
+    Integer max = getOptionalInteger(HANK_SMART_CLIENT_SECTION_KEY, ADAPTIVE_CONCURRENCY_LIMIT_MAX_KEY);
+    if (max == null) {
+      return DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_MAX;
+    }
+    return max;
+  }
+
+  @Override
+  public boolean getRequestCoalescingEnabled() {
+    Boolean enabled = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, REQUEST_COALESCING_ENABLED_KEY);
+    if (enabled == null) {
+      return DEFAULT_REQUEST_COALESCING_ENABLED;
+    }
+    return enabled;
+  }
+
+  @Override
+  public int getNumPipelinedSocketsPerHost() {
+    Integer numSockets = getOptionalInteger(HANK_SMART_CLIENT_SECTION_KEY, NUM_PIPELINED_SOCKETS_PER_HOST_KEY);
+    if (numSockets == null) {
+      return DEFAULT_NUM_PIPELINED_SOCKETS_PER_HOST;
+    }
+    return numSockets;
+  }
+
+  @Override
+  public boolean getUseCompactBulkResponses() {
+    Boolean useCompactBulkResponses = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, USE_COMPACT_BULK_RESPONSES_KEY);
+    if (useCompactBulkResponses == null) {
+      return DEFAULT_USE_COMPACT_BULK_RESPONSES;
+    }
+    return useCompactBulkResponses;
+  }
+
+  @Override
+  public List<CompressionCodec> getWireCompressionCodecs() {
+    return WireCompression.parseCodecs(getOptionalStringList(HANK_SMART_CLIENT_SECTION_KEY, WIRE_COMPRESSION_CODECS_KEY));
+  }
+
+  @Override
+  public boolean getUseHashedKeys() {
+    Boolean useHashedKeys = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, USE_HASHED_KEYS_KEY);
+    if (useHashedKeys == null) {
+      return DEFAULT_USE_HASHED_KEYS;
+    }
+    return useHashedKeys;
+  }
+
+  @Override
+  public int getValueStreamChunkSize() {
+    Integer chunkSize = getOptionalInteger(HANK_SMART_CLIENT_SECTION_KEY, VALUE_STREAM_CHUNK_SIZE_KEY);
+    if (chunkSize == null) {
+      return DEFAULT_VALUE_STREAM_CHUNK_SIZE;
+    }
+    return chunkSize;
+  }
+
+  @Override
+  public String getPartitionServerUnixDomainSocketPath() {
+    return getOptionalString(HANK_SMART_CLIENT_SECTION_KEY, PARTITION_SERVER_UNIX_DOMAIN_SOCKET_PATH_KEY);
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    Boolean virtualThreadsEnabled = getOptionalBoolean(HANK_SMART_CLIENT_SECTION_KEY, VIRTUAL_THREADS_ENABLED_KEY);
+    if (virtualThreadsEnabled == null) {
+      return DEFAULT_VIRTUAL_THREADS_ENABLED;
+    }
+    return virtualThreadsEnabled;
+  }
 }
@@ -26,6 +26,12 @@ public class YamlSmartClientDaemonConfigurator extends YamlCoordinatorConfigurat
   public static final String NUM_WORKER_THREADS = "num_worker_threads";
   public static final String SERVICE_PORT_KEY = "service_port";
   public static final String RING_GROUP_NAME_KEY = "ring_group_name";
+  public static final String UNIX_DOMAIN_SOCKET_PATH_KEY = "unix_domain_socket_path";
+  public static final String BATCH_WINDOW_MICROS_KEY = "batch_window_us";
+  public static final String BATCH_MAX_SIZE_KEY = "batch_max_size";
+
+  public static final int DEFAULT_BATCH_WINDOW_MICROS = 0;
+  public static final int DEFAULT_BATCH_MAX_SIZE = 256;
 
   public YamlSmartClientDaemonConfigurator(String path) throws IOException, InvalidConfigurationException {
     super(path);
@@ -46,6 +52,29 @@ public class YamlSmartClientDaemonConfigurator extends YamlCoordinatorConfigurat
     return getString(SMART_CLIENT_SECTION_KEY, RING_GROUP_NAME_KEY);
   }
 
+  @Override
+  public String getUnixDomainSocketPath() {
+    return getOptionalString(SMART_CLIENT_SECTION_KEY, UNIX_DOMAIN_SOCKET_PATH_KEY);
+  }
+
+  @Override
+  public int getBatchWindowMicros() {
+    Integer batchWindowMicros = getOptionalInteger(SMART_CLIENT_SECTION_KEY, BATCH_WINDOW_MICROS_KEY);
+    if (batchWindowMicros == null) {
+      return DEFAULT_BATCH_WINDOW_MICROS;
+    }
+    return batchWindowMicros;
+  }
+
+  @Override
+  public int getBatchMaxSize() {
+    Integer batchMaxSize = getOptionalInteger(SMART_CLIENT_SECTION_KEY, BATCH_MAX_SIZE_KEY);
+    if (batchMaxSize == null) {
+      return DEFAULT_BATCH_MAX_SIZE;
+    }
+    return batchMaxSize;
+  }
+
   @Override
   protected void validate() throws InvalidConfigurationException {
     super.validate();
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.client;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestAdaptiveConcurrencyLimit extends BaseTestCase {
+
+  private static final long MS = 1000 * 1000;
+
+  @Test
+  public void testIt() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 12);
+    long now = System.nanoTime();
+
+    // Grows when in use and latency is normal, up to the maximum
+    for (int i = 0; i < 100; ++i) {
+      limit.onSample(now += MS, MS, false, 10);
+    }
+    assertEquals(12, limit.getLimit());
+
+    // Does not grow when not in use
+    limit = new AdaptiveConcurrencyLimit(10, 12);
+    for (int i = 0; i < 100; ++i) {
+      limit.onSample(now += MS, MS, false, 1);
+    }
+    assertEquals(10, limit.getLimit());
+
+    // Backs off when latency rises, at most once per round trip
+    limit.onSample(now += MS, 10 * MS, false, 10);
+    assertEquals(9, limit.getLimit());
+    limit.onSample(now, 10 * MS, false, 10);
+    assertEquals(9, limit.getLimit());
+
+    // Backs off on failures
+    limit.onSample(now += 10 * MS, MS, true, 10);
+    assertEquals(8, limit.getLimit());
+
+    // Never goes below 1
+    for (int i = 0; i < 100; ++i) {
+      limit.onSample(now += 10 * MS, MS, true, 10);
+    }
+    assertEquals(1, limit.getLimit());
+  }
+
+  @Test
+  public void testReplicaStatistics() {
+    ReplicaStatistics replicaStatistics = new ReplicaStatistics(new AdaptiveConcurrencyLimit(2, 2));
+    replicaStatistics.onRequestStart();
+    assertFalse(replicaStatistics.isOverConcurrencyLimit());
+    replicaStatistics.onRequestStart();
+    assertTrue(replicaStatistics.isOverConcurrencyLimit());
+    assertEquals(Double.POSITIVE_INFINITY, replicaStatistics.getScore(), 0);
+    replicaStatistics.onRequestEnd();
+    assertFalse(replicaStatistics.isOverConcurrencyLimit());
+
+    // No limit
+    replicaStatistics = new ReplicaStatistics();
+    for (int i = 0; i < 1000; ++i) {
+      replicaStatistics.onRequestStart();
+    }
+    assertFalse(replicaStatistics.isOverConcurrencyLimit());
+  }
+}
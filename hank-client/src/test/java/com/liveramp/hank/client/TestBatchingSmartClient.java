@@ -0,0 +1,155 @@
+package com.liveramp.hank.client;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.thrift.TException;
+import org.junit.Test;
+
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankDomainNameKey;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.SmartClient;
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestBatchingSmartClient extends BaseTestCase {
+
+  // Responds with the domain name followed by the key
+  private static class MockSmartClient implements SmartClient.Iface {
+
+    private final List<Integer> getMultiSizes = Collections.synchronizedList(new ArrayList<Integer>());
+    private volatile int numGets = 0;
+    private volatile boolean noHost = false;
+
+    @Override
+    public HankResponse get(String domainName, ByteBuffer key) {
+      ++numGets;
+      return response(domainName, key);
+    }
+
+    @Override
+    public HankBulkResponse getBulk(String domainName, List<ByteBuffer> keys) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public HankBulkResponse getMulti(List<HankDomainNameKey> domainKeys) {
+      getMultiSizes.add(domainKeys.size());
+      if (noHost) {
+        return HankBulkResponse.xception(HankException.no_connection_available(true));
+      }
+      List<HankResponse> responses = new ArrayList<HankResponse>();
+      for (HankDomainNameKey domainKey : domainKeys) {
+        responses.add(response(domainKey.get_domain_name(), domainKey.buffer_for_key()));
+      }
+      return HankBulkResponse.responses(responses);
+    }
+
+    private static HankResponse response(String domainName, ByteBuffer key) {
+      return HankResponse.value(ByteBuffer.wrap((domainName + new String(key.array())).getBytes()));
+    }
+  }
+
+  @Test
+  public void testBatching() throws Exception {
+    final MockSmartClient mockClient = new MockSmartClient();
+    // A long window so that all gets end up in full batches
+    final BatchingSmartClient client = new BatchingSmartClient(mockClient, 10000000, 4, 2);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<HankResponse>> futures = new ArrayList<Future<HankResponse>>();
+    for (int i = 0; i < 8; ++i) {
+      final String domainName = i % 2 == 0 ? "a" : "b";
+      final String key = Integer.toString(i);
+      futures.add(executor.submit(new Callable<HankResponse>() {
+        @Override
+        public HankResponse call() throws TException {
+          return client.get(domainName, ByteBuffer.wrap(key.getBytes()));
+        }
+      }));
+    }
+    for (int i = 0; i < 8; ++i) {
+      String expected = (i % 2 == 0 ? "a" : "b") + i;
+      assertEquals(expected, new String(futures.get(i).get().get_value()));
+    }
+    assertEquals(2, client.getNumBatches());
+    assertEquals(8, client.getNumBatchedGets());
+    assertEquals(2, mockClient.getMultiSizes.size());
+    assertEquals(Integer.valueOf(4), mockClient.getMultiSizes.get(0));
+    assertEquals(0, mockClient.numGets);
+    executor.shutdown();
+    client.stop();
+  }
+
+  @Test
+  public void testWindow() throws Exception {
+    MockSmartClient mockClient = new MockSmartClient();
+    BatchingSmartClient client = new BatchingSmartClient(mockClient, 100, 64, 1);
+    // A lone get is queried once the window ends, on its own
+    assertEquals("a1", new String(client.get("a", ByteBuffer.wrap("1".getBytes())).get_value()));
+    assertEquals(1, mockClient.numGets);
+    assertTrue(mockClient.getMultiSizes.isEmpty());
+    client.stop();
+  }
+
+  @Test
+  public void testBatchError() throws Exception {
+    final MockSmartClient mockClient = new MockSmartClient();
+    mockClient.noHost = true;
+    final BatchingSmartClient client = new BatchingSmartClient(mockClient, 10000000, 2, 1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    List<Future<HankResponse>> futures = new ArrayList<Future<HankResponse>>();
+    for (int i = 0; i < 2; ++i) {
+      futures.add(executor.submit(new Callable<HankResponse>() {
+        @Override
+        public HankResponse call() throws TException {
+          return client.get("a", ByteBuffer.wrap("1".getBytes()));
+        }
+      }));
+    }
+    for (Future<HankResponse> future : futures) {
+      assertTrue(future.get().get_xception().is_set_no_connection_available());
+    }
+    executor.shutdown();
+    client.stop();
+  }
+
+  @Test(timeout = 30000)
+  public void testStopWhileGetting() throws Exception {
+    MockSmartClient mockClient = new MockSmartClient();
+    // A long window so that gets are still pending when stopping
+    final BatchingSmartClient client = new BatchingSmartClient(mockClient, 10000000, 1000, 2);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < 8; ++i) {
+      futures.add(executor.submit(new Callable<Integer>() {
+        @Override
+        public Integer call() throws TException {
+          int numValues = 0;
+          for (int j = 0; j < 1000; ++j) {
+            if (new String(client.get("a", ByteBuffer.wrap("1".getBytes())).get_value()).equals("a1")) {
+              ++numValues;
+            }
+          }
+          return numValues;
+        }
+      }));
+    }
+    Thread.sleep(10);
+    client.stop();
+    // Gets queued before stopping are still queried, gets issued after stopping are passed through
+    for (Future<Integer> future : futures) {
+      assertEquals(Integer.valueOf(1000), future.get());
+    }
+    executor.shutdown();
+  }
+}
@@ -16,6 +16,7 @@
 package com.liveramp.hank.client;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,9 +50,20 @@ import com.liveramp.hank.coordinator.mock.MockCoordinator;
 import com.liveramp.hank.coordinator.mock.MockDomain;
 import com.liveramp.hank.coordinator.mock.MockDomainGroup;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankDomainNameKey;
 import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankExistsBulkResponse;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecord;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
 import com.liveramp.hank.generated.PartitionServer;
+import com.liveramp.hank.hasher.LeftPaddedIdentityHasher;
+import com.liveramp.hank.storage.cueball.Cueball;
 import com.liveramp.hank.test.BaseTestCase;
 import com.liveramp.hank.test.coordinator.MockHost;
 import com.liveramp.hank.test.coordinator.MockHostDomain;
@@ -59,10 +71,12 @@ import com.liveramp.hank.test.coordinator.MockHostDomainPartition;
 import com.liveramp.hank.test.coordinator.MockRing;
 import com.liveramp.hank.test.coordinator.MockRingGroup;
 import com.liveramp.hank.test.partitioner.MapPartitioner;
+import com.liveramp.hank.util.CompactResponses;
 import com.liveramp.hank.util.Condition;
 import com.liveramp.hank.util.WaitUntil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -88,10 +102,15 @@ public class TestHankSmartClient extends BaseTestCase {
     private final HankBulkResponse bulkResponse;
     private Mode mode = Mode.NORMAL;
     private int numRequests = 0;
+    private volatile int versionNumber = 1;
+    private volatile boolean supportsRanges = true;
+    private volatile boolean supportsHashedKeys = true;
+    private int numHashedRequests = 0;
 
     private static enum Mode {
       NORMAL,
       HANGING,
+      SLOW,
       FAILING,
       THROWING_ERROR
     }
@@ -121,6 +140,100 @@ public class TestHankSmartClient extends BaseTestCase {
       return bulkResponse;
     }
 
+    @Override
+    public HankCompactBulkResponse getBulkCompact(int domainId, List<ByteBuffer> keys) {
+      HankBulkResponse bulkResponse = getBulk(domainId, keys);
+      if (bulkResponse.is_set_xception()) {
+        return HankCompactBulkResponse.xception(bulkResponse.get_xception());
+      }
+      return HankCompactBulkResponse.responses(CompactResponses.encode(bulkResponse.get_responses()));
+    }
+
+    @Override
+    public String negotiateWireCompression(List<String> codecs) {
+      return "";
+    }
+
+    @Override
+    public HankResponse getHashed(int domainId, int partition, ByteBuffer hashedKey) {
+      if (!supportsHashedKeys) {
+        return HankResponse.xception(HankException.not_supported("Hashed key lookups are not supported"));
+      }
+      applyMode();
+      ++numHashedRequests;
+      // Keys are hashed by padding them to the size of KEY_NOT_FOUND
+      if (hashedKey.equals(KEY_NOT_FOUND)) {
+        return HankResponse.not_found(true);
+      } else {
+        return response;
+      }
+    }
+
+    @Override
+    public HankBulkResponse getMulti(List<HankDomainKey> domainKeys) {
+      applyMode();
+      List<HankResponse> responses = new ArrayList<HankResponse>(domainKeys.size());
+      for (HankDomainKey domainKey : domainKeys) {
+        ++numRequests;
+        if (domainKey.buffer_for_key().equals(KEY_NOT_FOUND)) {
+          responses.add(HankResponse.not_found(true));
+        } else {
+          responses.add(response);
+        }
+      }
+      return HankBulkResponse.responses(responses);
+    }
+
+    @Override
+    public HankExistsResponse exists(int domainId, ByteBuffer key) {
+      return HankExistsResponse.exists(!key.equals(KEY_NOT_FOUND));
+    }
+
+    @Override
+    public HankExistsBulkResponse existsBulk(int domainId, List<ByteBuffer> keys) {
+      List<HankExistsResponse> responses = new ArrayList<HankExistsResponse>(keys.size());
+      for (ByteBuffer key : keys) {
+        responses.add(exists(domainId, key));
+      }
+      return HankExistsBulkResponse.responses(responses);
+    }
+
+    @Override
+    public HankValueSizeResponse getValueSize(int domainId, ByteBuffer key) {
+      return HankValueSizeResponse.not_found(true);
+    }
+
+    @Override
+    public HankResponse getRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber) {
+      if (!supportsRanges) {
+        return HankResponse.xception(HankException.not_supported("Ranges are not supported"));
+      }
+      if (versionNumber >= 0 && versionNumber != this.versionNumber) {
+        return HankResponse.xception(HankException.internal_error("Version " + versionNumber + " is not served"));
+      }
+      HankResponse response = get(domainId, key);
+      if (!response.is_set_value()) {
+        return response;
+      }
+      ByteBuffer value = response.buffer_for_value().duplicate();
+      int rangeStart = Math.min(offset, value.remaining());
+      value.limit(value.position() + rangeStart + Math.min(length, value.remaining() - rangeStart));
+      value.position(value.position() + rangeStart);
+      return HankResponse.value(value.slice());
+    }
+
+    @Override
+    public HankScanResponse scanPartition(int domainId, int partition, ByteBuffer cursor, int limit) {
+      applyMode();
+      // Every partition holds the records of key hashes 1 to NUM_SCAN_RECORDS
+      List<HankScanRecord> records = new ArrayList<HankScanRecord>();
+      int keyHash = cursor.remaining() == 0 ? 1 : cursor.get(cursor.position()) + 1;
+      for (; keyHash <= NUM_SCAN_RECORDS && records.size() < limit; ++keyHash) {
+        records.add(new HankScanRecord(ByteBuffer.wrap(new byte[]{(byte) keyHash}), response.buffer_for_value()));
+      }
+      return HankScanResponse.records(new HankScanRecords(records, keyHash > NUM_SCAN_RECORDS));
+    }
+
     public int getNumRequests() {
       return numRequests;
     }
@@ -129,10 +242,26 @@ public class TestHankSmartClient extends BaseTestCase {
       numRequests = 0;
     }
 
+    public int getNumHashedRequests() {
+      return numHashedRequests;
+    }
+
     public void setMode(Mode mode) {
       this.mode = mode;
     }
 
+    public void setVersionNumber(int versionNumber) {
+      this.versionNumber = versionNumber;
+    }
+
+    public void setSupportsRanges(boolean supportsRanges) {
+      this.supportsRanges = supportsRanges;
+    }
+
+    public void setSupportsHashedKeys(boolean supportsHashedKeys) {
+      this.supportsHashedKeys = supportsHashedKeys;
+    }
+
     private void applyMode() {
       switch (mode) {
         case HANGING:
@@ -147,6 +276,13 @@ public class TestHankSmartClient extends BaseTestCase {
           throw new RuntimeException("In failing mode.");
         case THROWING_ERROR:
           throw new Error("Throwing error mode");
+        case SLOW:
+          try {
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+
+          }
+          break;
       }
     }
   }
@@ -160,6 +296,10 @@ public class TestHankSmartClient extends BaseTestCase {
 
   private static final ByteBuffer KEY_NOT_FOUND = ByteBuffer.wrap(new byte[]{9, 9, 9});
 
+  private static final int NUM_SCAN_RECORDS = 3;
+
+  private volatile int currentDomainVersion = 1;
+
   @Test
   public void testIt() throws Exception {
     int server1Port = 12345;
@@ -187,8 +327,11 @@ public class TestHankSmartClient extends BaseTestCase {
     Thread thread3 = new Thread(new ServerRunnable(server3), "mock partition server thread 3");
     thread3.start();
 
+    // Keys are hashed by clients that use hashed keys
     final MockDomain existentDomain = new MockDomain("existent_domain", 0, 2,
-        new MapPartitioner(KEY_1, 0, KEY_2, 1, KEY_NOT_FOUND, 0), null, null, null);
+        new MapPartitioner(KEY_1, 0, KEY_2, 1, KEY_NOT_FOUND, 0),
+        new Cueball(KEY_NOT_FOUND.remaining(), new LeftPaddedIdentityHasher(), 1, 1, null, null, null, null, null, 0),
+        null, null);
     final MockDomain newDomain = new MockDomain("new_domain", 1, 1,
         new MapPartitioner(KEY_3, 0), null, null, null);
 
@@ -259,6 +402,21 @@ public class TestHankSmartClient extends BaseTestCase {
               .setResponseCacheNumItemsCapacity(1)
               .setResponseCacheNumBytesCapacity(-1)
               .setResponseCacheExpirationSeconds(1));
+      final HankSmartClient coalescingClient = new HankSmartClient(mockCoord, "myRingGroup",
+          new HankSmartClientOptions()
+              .setRequestCoalescingEnabled(true));
+      final HankSmartClient longLivedCachingClient = new HankSmartClient(mockCoord, "myRingGroup",
+          new HankSmartClientOptions()
+              .setResponseCacheEnabled(true)
+              .setResponseCacheNumItemsCapacity(10)
+              .setResponseCacheNumBytesCapacity(-1)
+              .setResponseCacheExpirationSeconds(3600));
+      final HankSmartClient streamingClient = new HankSmartClient(mockCoord, "myRingGroup",
+          new HankSmartClientOptions()
+              .setValueStreamChunkSize(1));
+      final HankSmartClient hashedKeysClient = new HankSmartClient(mockCoord, "myRingGroup",
+          new HankSmartClientOptions()
+              .setUseHashedKeys(true));
 
       // Test invalid get
       assertEquals(HankResponse.xception(HankException.no_such_domain(true)), client.get("nonexistent_domain", null));
@@ -279,6 +437,65 @@ public class TestHankSmartClient extends BaseTestCase {
       bulkRequest1.add(KEY_2);
       assertEquals(bulkResponse1, client.getBulk("existent_domain", bulkRequest1));
 
+      // Test domain handles
+      assertNull(client.getDomainHandle("nonexistent_domain"));
+      DomainHandle existentDomainHandle = client.getDomainHandle("existent_domain");
+      assertEquals(HankResponse.value(VALUE_1), existentDomainHandle.get(KEY_1));
+      assertEquals(HankResponse.value(VALUE_2), existentDomainHandle.concurrentGet(KEY_2).getResponse());
+      assertEquals(bulkResponse1, existentDomainHandle.getBulk(bulkRequest1));
+
+      // Test getMulti
+      List<HankDomainNameKey> multiRequest = new ArrayList<HankDomainNameKey>();
+      multiRequest.add(new HankDomainNameKey("existent_domain", KEY_2));
+      multiRequest.add(new HankDomainNameKey("nonexistent_domain", KEY_1));
+      multiRequest.add(new HankDomainNameKey("existent_domain", KEY_1));
+      assertEquals(HankBulkResponse.responses(Arrays.asList(
+          HankResponse.value(VALUE_2),
+          HankResponse.xception(HankException.no_such_domain(true)),
+          HankResponse.value(VALUE_1))),
+          client.getMulti(multiRequest));
+
+      // Test value streams
+      InputStream valueStream = client.getValueStream("existent_domain", KEY_2);
+      assertEquals(2, valueStream.read());
+      assertEquals(-1, valueStream.read());
+      assertNull(client.getValueStream("existent_domain", KEY_NOT_FOUND));
+
+      // Test hashed keys
+      iface1.clearNumRequests();
+      assertEquals(HankResponse.value(VALUE_1), hashedKeysClient.get("existent_domain", KEY_1));
+      assertEquals(HankResponse.not_found(true), hashedKeysClient.get("existent_domain", KEY_NOT_FOUND));
+      assertEquals(2, iface1.getNumHashedRequests());
+      assertEquals(0, iface1.getNumRequests());
+
+      // Keys are sent instead of hashed keys that are not supported for the domain
+      iface1.setSupportsHashedKeys(false);
+      assertEquals(HankResponse.value(VALUE_1), hashedKeysClient.get("existent_domain", KEY_1));
+      assertEquals(2, iface1.getNumHashedRequests());
+      assertEquals(1, iface1.getNumRequests());
+      iface1.setSupportsHashedKeys(true);
+
+      // Test value streams of domains whose values cannot be read in ranges
+      iface1.setSupportsRanges(false);
+      iface2.setSupportsRanges(false);
+      InputStream wholeValueStream = client.getValueStream("existent_domain", KEY_2);
+      assertEquals(2, wholeValueStream.read());
+      assertEquals(-1, wholeValueStream.read());
+      assertNull(client.getValueStream("existent_domain", KEY_NOT_FOUND));
+      iface1.setSupportsRanges(true);
+      iface2.setSupportsRanges(true);
+
+      // Test scans, in batches smaller than partitions
+      final List<String> scannedRecords = Collections.synchronizedList(new ArrayList<String>());
+      client.scan("existent_domain", 2, 2, new DomainScanner.RecordVisitor() {
+        @Override
+        public void visit(int partition, ByteBuffer keyHash, ByteBuffer value) {
+          scannedRecords.add(partition + ":" + keyHash.get(keyHash.position()));
+        }
+      });
+      Collections.sort(scannedRecords);
+      assertEquals(Arrays.asList("0:1", "0:2", "0:3", "1:1", "1:2", "1:3"), scannedRecords);
+
       // Test get with null key
       try {
         client.get("existent_domain", null);
@@ -314,6 +531,8 @@ public class TestHankSmartClient extends BaseTestCase {
 
       // Should not be able to query new domain
       assertTrue(client.get("new_domain", KEY_3).get_xception().is_set_no_replica());
+      DomainHandle newDomainHandle = client.getDomainHandle("new_domain");
+      assertTrue(newDomainHandle.get(KEY_3).get_xception().is_set_no_replica());
 
       // Notify client of data location change
       client.onDataLocationChange(mockCoord.getRingGroup("myRingGroup"));
@@ -326,6 +545,8 @@ public class TestHankSmartClient extends BaseTestCase {
         }
       });
       assertEquals(HankResponse.value(VALUE_3), client.get("new_domain", KEY_3));
+      // Domain handles pick up the new routing table
+      assertEquals(HankResponse.value(VALUE_3), newDomainHandle.get(KEY_3));
 
       // TODO: Test not querying deletable partitions
 
@@ -382,6 +603,63 @@ public class TestHankSmartClient extends BaseTestCase {
       assertEquals(HankResponse.not_found(true), cachingClient.get("existent_domain", KEY_NOT_FOUND));
       assertEquals(2, iface1.getNumRequests());
 
+      // Test coalescing of identical concurrent requests
+      iface1.setMode(MockPartitionServerHandler.Mode.SLOW);
+      iface1.clearNumRequests();
+
+      List<ByteBuffer> bulkRequest2 = new ArrayList<ByteBuffer>();
+      for (int i = 0; i < 10; ++i) {
+        bulkRequest2.add(KEY_1);
+      }
+      for (HankResponse response : coalescingClient.getBulk("existent_domain", bulkRequest2).get_responses()) {
+        assertEquals(HankResponse.value(VALUE_1), response);
+      }
+      assertEquals(1, iface1.getNumRequests());
+
+      iface1.setMode(MockPartitionServerHandler.Mode.NORMAL);
+
+      // Value streams opened before a new domain version is served cannot be read any further
+      final DomainHandle streamedDomainHandle = streamingClient.getDomainHandle("existent_domain");
+      InputStream staleValueStream = streamingClient.getValueStream("existent_domain", KEY_1);
+      assertEquals(1, staleValueStream.read());
+
+      // Test cache invalidation when a new domain version is served
+      iface1.clearNumRequests();
+
+      assertEquals(HankResponse.value(VALUE_1), longLivedCachingClient.get("existent_domain", KEY_1));
+      assertEquals(HankResponse.value(VALUE_1), longLivedCachingClient.get("existent_domain", KEY_1));
+      assertEquals(1, iface1.getNumRequests());
+
+      currentDomainVersion = 2;
+      iface1.setVersionNumber(2);
+      iface2.setVersionNumber(2);
+      longLivedCachingClient.onDataLocationChange(mockCoord.getRingGroup("myRingGroup"));
+
+      // Should query the server again when the client has done updating its cache
+      WaitUntil.orDie(new Condition() {
+        @Override
+        public boolean test() {
+          longLivedCachingClient.get("existent_domain", KEY_1);
+          return iface1.getNumRequests() == 2;
+        }
+      });
+      assertEquals(HankResponse.value(VALUE_1), longLivedCachingClient.get("existent_domain", KEY_1));
+      assertEquals(2, iface1.getNumRequests());
+
+      streamingClient.onDataLocationChange(mockCoord.getRingGroup("myRingGroup"));
+      WaitUntil.orDie(new Condition() {
+        @Override
+        public boolean test() {
+          return streamingClient.getServedDomainVersion(streamedDomainHandle) == 2;
+        }
+      });
+      try {
+        staleValueStream.read();
+        fail("Should fail to read a value range of another domain version");
+      } catch (IOException e) {
+        // Expected
+      }
+
     } finally {
       server1.stop();
       server2.stop();
@@ -436,7 +714,7 @@ public class TestHankSmartClient extends BaseTestCase {
           public Set<HostDomainPartition> getPartitions() {
             return Collections
                 .singleton((HostDomainPartition) new MockHostDomainPartition(
-                    partNum, 1));
+                    partNum, currentDomainVersion));
           }
         });
       }
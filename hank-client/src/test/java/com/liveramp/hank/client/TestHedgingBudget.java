@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.client;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestHedgingBudget extends BaseTestCase {
+
+  @Test
+  public void testIt() {
+    HedgingBudget budget = new HedgingBudget(0.25);
+    assertFalse(budget.tryAcquire());
+
+    // One hedge every four requests
+    for (int i = 0; i < 4; ++i) {
+      budget.onRequest();
+    }
+    assertTrue(budget.tryAcquire());
+    assertFalse(budget.tryAcquire());
+
+    // Balance is capped
+    for (int i = 0; i < 1000; ++i) {
+      budget.onRequest();
+    }
+    int numAcquired = 0;
+    while (budget.tryAcquire()) {
+      ++numAcquired;
+    }
+    assertEquals(10, numAcquired);
+  }
+}
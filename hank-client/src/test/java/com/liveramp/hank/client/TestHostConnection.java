@@ -19,10 +19,17 @@ package com.liveramp.hank.client;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
+import org.apache.thrift.ProcessFunction;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TBaseProcessor;
+import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TServer;
@@ -32,17 +39,27 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.coordinator.Host;
 import com.liveramp.hank.coordinator.HostState;
 import com.liveramp.hank.coordinator.PartitionServerAddress;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankExistsBulkResponse;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
+import com.liveramp.hank.generated.PartitionServer;
 import com.liveramp.hank.partition_server.IfaceWithShutdown;
 import com.liveramp.hank.test.BaseTestCase;
 import com.liveramp.hank.test.coordinator.MockHost;
+import com.liveramp.hank.util.CompactResponses;
 import com.liveramp.hank.util.Condition;
 import com.liveramp.hank.util.HankTimer;
 import com.liveramp.hank.util.WaitUntil;
+import com.liveramp.hank.util.WireCompressionStatistics;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -74,6 +91,51 @@ public class TestHostConnection extends BaseTestCase {
     public HankBulkResponse getBulk(int domain_id, List<ByteBuffer> keys) {
       return RESPONSE_BULK_1;
     }
+
+    @Override
+    public HankCompactBulkResponse getBulkCompact(int domain_id, List<ByteBuffer> keys) {
+      return HankCompactBulkResponse.responses(CompactResponses.encode(RESPONSE_BULK_1.get_responses()));
+    }
+
+    @Override
+    public String negotiateWireCompression(List<String> codecs) {
+      return "";
+    }
+
+    @Override
+    public HankResponse getHashed(int domain_id, int partition, ByteBuffer hashed_key) {
+      return RESPONSE_1;
+    }
+
+    @Override
+    public HankBulkResponse getMulti(List<HankDomainKey> domain_keys) {
+      return RESPONSE_BULK_1;
+    }
+
+    @Override
+    public HankExistsResponse exists(int domain_id, ByteBuffer key) {
+      return null;
+    }
+
+    @Override
+    public HankExistsBulkResponse existsBulk(int domain_id, List<ByteBuffer> keys) {
+      return null;
+    }
+
+    @Override
+    public HankValueSizeResponse getValueSize(int domain_id, ByteBuffer key) {
+      return null;
+    }
+
+    @Override
+    public HankResponse getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) {
+      return null;
+    }
+
+    @Override
+    public HankScanResponse scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) {
+      return null;
+    }
   };
 
   private Thread mockPartitionServerThread;
@@ -166,6 +228,66 @@ public class TestHostConnection extends BaseTestCase {
         }
         return null;
       }
+
+      @Override
+      public HankCompactBulkResponse getBulkCompact(int domain_id, List<ByteBuffer> keys) {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return null;
+      }
+
+      @Override
+      public String negotiateWireCompression(List<String> codecs) {
+        return "";
+      }
+
+      @Override
+      public HankResponse getHashed(int domain_id, int partition, ByteBuffer hashed_key) {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return null;
+      }
+
+      @Override
+      public HankBulkResponse getMulti(List<HankDomainKey> domain_keys) {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return null;
+      }
+
+      @Override
+      public HankExistsResponse exists(int domain_id, ByteBuffer key) {
+        return null;
+      }
+
+      @Override
+      public HankExistsBulkResponse existsBulk(int domain_id, List<ByteBuffer> keys) {
+        return null;
+      }
+
+      @Override
+      public HankValueSizeResponse getValueSize(int domain_id, ByteBuffer key) {
+        return null;
+      }
+
+      @Override
+      public HankResponse getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) {
+        return null;
+      }
+
+      @Override
+      public HankScanResponse scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) {
+        return null;
+      }
     };
 
     // Start server
@@ -252,15 +374,87 @@ public class TestHostConnection extends BaseTestCase {
     }
   }
 
+  @Test
+  public void testCompactBulkResponses() throws IOException, InterruptedException {
+    mockHost.setState(HostState.SERVING);
+    startMockPartitionServerThread(mockIface, 1);
+
+    HostConnection connection = new HostConnection(mockHost, 1000, 1000, 1000, 1000, new ReplicaStatistics(),
+        null, true, Collections.<CompressionCodec>emptyList(), new WireCompressionStatistics(), null);
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+  }
+
+  @Test
+  public void testCompactBulkResponsesUnknownMethod() throws IOException, InterruptedException {
+    mockHost.setState(HostState.SERVING);
+    startMockPartitionServerThread(getProcessorWithoutMethods(mockIface, "getBulkCompact"), 1);
+
+    HostConnection connection = new HostConnection(mockHost, 1000, 1000, 1000, 1000, new ReplicaStatistics(),
+        null, true, Collections.<CompressionCodec>emptyList(), new WireCompressionStatistics(), null);
+    // Should fall back to regular bulk responses on the same connection
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(RESPONSE_1, connection.get(0, KEY_1));
+  }
+
+  @Test
+  public void testWireCompressionNegotiation() throws IOException, InterruptedException {
+    mockHost.setState(HostState.SERVING);
+    startMockPartitionServerThread(mockIface, 1);
+
+    // The server does not accept any codec, responses should not be compressed
+    WireCompressionStatistics wireCompressionStatistics = new WireCompressionStatistics();
+    HostConnection connection = new HostConnection(mockHost, 1000, 1000, 1000, 1000, new ReplicaStatistics(),
+        null, true, Arrays.asList(CompressionCodec.SNAPPY), wireCompressionStatistics, null);
+    assertEquals(RESPONSE_1, connection.get(0, KEY_1));
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(0, wireCompressionStatistics.getNumMessages());
+  }
+
+  @Test
+  public void testWireCompressionNegotiationUnknownMethod() throws IOException, InterruptedException {
+    mockHost.setState(HostState.SERVING);
+    startMockPartitionServerThread(getProcessorWithoutMethods(mockIface, "negotiateWireCompression", "getBulkCompact"), 1);
+
+    WireCompressionStatistics wireCompressionStatistics = new WireCompressionStatistics();
+    HostConnection connection = new HostConnection(mockHost, 1000, 1000, 1000, 1000, new ReplicaStatistics(),
+        null, true, Arrays.asList(CompressionCodec.SNAPPY), wireCompressionStatistics, null);
+    // Should connect without compression and fall back to regular bulk responses
+    assertEquals(RESPONSE_1, connection.get(0, KEY_1));
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(RESPONSE_BULK_1, connection.getBulk(0, Collections.singletonList(KEY_1)));
+    assertEquals(0, wireCompressionStatistics.getNumMessages());
+  }
+
+  @Test
+  public void testGetRangeUnknownMethod() throws IOException, InterruptedException {
+    mockHost.setState(HostState.SERVING);
+    startMockPartitionServerThread(getProcessorWithoutMethods(mockIface, "getRange"), 1);
+
+    HostConnection connection = new HostConnection(mockHost, 1000, 1000, 1000, 1000);
+    HankResponse response = connection.getRange(0, KEY_1, 0, 1, -1);
+    assertTrue(response.get_xception().is_set_not_supported());
+    // Ranges are not queried again, the connection is still usable
+    assertTrue(connection.getRange(0, KEY_1, 0, 1, -1).get_xception().is_set_not_supported());
+    assertEquals(RESPONSE_1, connection.get(0, KEY_1));
+  }
+
   public static class MockPartitionServer implements Runnable {
 
     private final IfaceWithShutdown handler;
+    private final TProcessor processor;
     private final int numWorkerThreads;
     private final PartitionServerAddress partitionServerAddress;
     protected TServer dataServer;
 
     MockPartitionServer(IfaceWithShutdown handler, int numWorkerThreads, PartitionServerAddress partitionServerAddress) {
+      this(handler, new PartitionServer.Processor<IfaceWithShutdown>(handler), numWorkerThreads, partitionServerAddress);
+    }
+
+    MockPartitionServer(IfaceWithShutdown handler, TProcessor processor, int numWorkerThreads, PartitionServerAddress partitionServerAddress) {
       this.handler = handler;
+      this.processor = processor;
       this.numWorkerThreads = numWorkerThreads;
       this.partitionServerAddress = partitionServerAddress;
     }
@@ -275,7 +469,7 @@ public class TestHostConnection extends BaseTestCase {
         throw new RuntimeException(e);
       }
       THsHaServer.Args options = new THsHaServer.Args(serverSocket);
-      options.processor(new com.liveramp.hank.generated.PartitionServer.Processor(handler));
+      options.processor(processor);
       options.workerThreads(numWorkerThreads);
       options.protocolFactory(new TCompactProtocol.Factory());
       dataServer = new THsHaServer(options);
@@ -297,9 +491,30 @@ public class TestHostConnection extends BaseTestCase {
     }
   }
 
+  // Processor of a server that predates the given methods, it answers them with an UNKNOWN_METHOD exception
+  private static TProcessor getProcessorWithoutMethods(IfaceWithShutdown handler, String... methodNames) {
+    Map<String, ProcessFunction<IfaceWithShutdown, ? extends TBase>> processMap =
+        new HashMap<String, ProcessFunction<IfaceWithShutdown, ? extends TBase>>(
+            new PartitionServer.Processor<IfaceWithShutdown>(handler).getProcessMapView());
+    for (String methodName : methodNames) {
+      processMap.remove(methodName);
+    }
+    return new TBaseProcessor<IfaceWithShutdown>(handler, processMap) {
+    };
+  }
+
   private void startMockPartitionServerThread(IfaceWithShutdown handler, int numWorkerThreads)
       throws InterruptedException {
-    mockPartitionServer = new MockPartitionServer(handler, numWorkerThreads, partitionServerAddress);
+    startMockPartitionServerThread(new MockPartitionServer(handler, numWorkerThreads, partitionServerAddress));
+  }
+
+  private void startMockPartitionServerThread(TProcessor processor, int numWorkerThreads)
+      throws InterruptedException {
+    startMockPartitionServerThread(new MockPartitionServer(mockIface, processor, numWorkerThreads, partitionServerAddress));
+  }
+
+  private void startMockPartitionServerThread(MockPartitionServer server) throws InterruptedException {
+    mockPartitionServer = server;
     mockPartitionServerThread = new Thread(mockPartitionServer);
     mockPartitionServerThread.start();
     WaitUntil.orDie(new Condition() {
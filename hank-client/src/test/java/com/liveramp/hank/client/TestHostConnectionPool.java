@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.collect.Sets;
 import org.junit.After;
@@ -37,8 +38,14 @@ import com.liveramp.hank.coordinator.HostState;
 import com.liveramp.hank.coordinator.PartitionServerAddress;
 import com.liveramp.hank.coordinator.mock.MockDomain;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
 import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankExistsBulkResponse;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
 import com.liveramp.hank.partition_server.IfaceWithShutdown;
 import com.liveramp.hank.test.BaseTestCase;
 import com.liveramp.hank.test.coordinator.MockHost;
@@ -103,6 +110,51 @@ public class TestHostConnectionPool extends BaseTestCase {
     public HankBulkResponse getBulk(int domain_id, List<ByteBuffer> keys) {
       return null;
     }
+
+    @Override
+    public HankCompactBulkResponse getBulkCompact(int domain_id, List<ByteBuffer> keys) {
+      return null;
+    }
+
+    @Override
+    public String negotiateWireCompression(List<String> codecs) {
+      return "";
+    }
+
+    @Override
+    public HankResponse getHashed(int domain_id, int partition, ByteBuffer hashed_key) {
+      return null;
+    }
+
+    @Override
+    public HankBulkResponse getMulti(List<HankDomainKey> domain_keys) {
+      return null;
+    }
+
+    @Override
+    public HankExistsResponse exists(int domain_id, ByteBuffer key) {
+      return null;
+    }
+
+    @Override
+    public HankExistsBulkResponse existsBulk(int domain_id, List<ByteBuffer> keys) {
+      return null;
+    }
+
+    @Override
+    public HankValueSizeResponse getValueSize(int domain_id, ByteBuffer key) {
+      return null;
+    }
+
+    @Override
+    public HankResponse getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) {
+      return null;
+    }
+
+    @Override
+    public HankScanResponse scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) {
+      return null;
+    }
   }
 
   private static class Response1Iface extends MockIface {
@@ -243,6 +295,72 @@ public class TestHostConnectionPool extends BaseTestCase {
     assertEquals("All keys should have been found", 10, numHits);
   }
 
+  @Test
+  public void testAllOverConcurrencyLimit() throws IOException, InterruptedException {
+
+    MockIface iface1 = new Response1Iface();
+    MockIface iface2 = new Response1Iface();
+
+    startMockPartitionServerThread1(iface1, 1);
+    startMockPartitionServerThread2(iface2, 1);
+
+    // Both hosts are at their concurrency limit, host 2 being more loaded
+    ReplicaStatistics replicaStatistics1 = new ReplicaStatistics(new AdaptiveConcurrencyLimit(1, 1));
+    ReplicaStatistics replicaStatistics2 = new ReplicaStatistics(new AdaptiveConcurrencyLimit(1, 1));
+    replicaStatistics1.onRequestStart();
+    replicaStatistics2.onRequestStart();
+    replicaStatistics2.onRequestStart();
+
+    Map<Host, List<HostConnection>> hostToConnectionsMap = new HashMap<Host, List<HostConnection>>();
+    hostToConnectionsMap.put(mockHost1, Collections.singletonList(new HostConnection(mockHost1, 0, 0, 0, 0, replicaStatistics1)));
+    hostToConnectionsMap.put(mockHost2, Collections.singletonList(new HostConnection(mockHost2, 0, 0, 0, 0, replicaStatistics2)));
+
+    HostConnectionPool hostConnectionPool = new HostConnectionPool(hostToConnectionsMap, null, Sets.newHashSet());
+
+    mockHost1.setState(HostState.SERVING);
+    mockHost2.setState(HostState.SERVING);
+
+    // Queries are not rejected, they go to the least loaded host
+    for (int i = 0; i < 4; ++i) {
+      assertEquals(RESPONSE_1, hostConnectionPool.get(mockDomain, KEY_1, 1, null));
+    }
+    assertEquals(4, iface1.numGets);
+    assertEquals(0, iface2.numGets);
+  }
+
+  @Test
+  public void testExcludedHost() throws IOException, InterruptedException {
+
+    MockIface iface1 = new Response1Iface();
+    MockIface iface2 = new Response1Iface();
+
+    startMockPartitionServerThread1(iface1, 1);
+    startMockPartitionServerThread2(iface2, 1);
+
+    Map<Host, List<HostConnection>> hostToConnectionsMap = new HashMap<Host, List<HostConnection>>();
+    hostToConnectionsMap.put(mockHost1, Collections.singletonList(new HostConnection(mockHost1, 0, 0, 0, 0)));
+    hostToConnectionsMap.put(mockHost2, Collections.singletonList(new HostConnection(mockHost2, 0, 0, 0, 0)));
+
+    HostConnectionPool hostConnectionPool = new HostConnectionPool(hostToConnectionsMap, null, Sets.newHashSet());
+
+    mockHost1.setState(HostState.SERVING);
+    mockHost2.setState(HostState.SERVING);
+
+    // Whatever host the key hash starts with, the excluded host is never queried
+    AtomicReference<Host> queriedHost = new AtomicReference<Host>();
+    for (int keyHash = 0; keyHash < 10; ++keyHash) {
+      assertEquals(RESPONSE_1, hostConnectionPool.get(mockDomain, KEY_1, null, 1, keyHash, mockHost1, queriedHost));
+      assertEquals(mockHost2, queriedHost.get());
+    }
+    assertEquals(0, iface1.numGets);
+    assertEquals(10, iface2.numGets);
+
+    // No connection is available when the only serving host is excluded
+    mockHost2.setState(HostState.UPDATING);
+    assertEquals(HankResponse.xception(HankException.no_connection_available(true)),
+        hostConnectionPool.get(mockDomain, KEY_1, null, 1, 0, mockHost1, null));
+  }
+
   @Test
   public void testSimplePreferredPool() throws InterruptedException, IOException {
 
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.client;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestLatencyTracker extends BaseTestCase {
+
+  @Test
+  public void testPercentile() {
+    LatencyTracker tracker = new LatencyTracker(0.9, 100, 10, 5);
+
+    // Not enough samples
+    for (int i = 1; i <= 9; ++i) {
+      tracker.record(i);
+    }
+    assertEquals(-1, tracker.getPercentileNanos());
+
+    // Enough samples
+    tracker.record(10);
+    assertEquals(9, tracker.getPercentileNanos());
+
+    // Percentile is only recomputed at the given interval
+    for (int i = 0; i < 4; ++i) {
+      tracker.record(1000);
+    }
+    assertEquals(9, tracker.getPercentileNanos());
+    tracker.record(1000);
+    assertEquals(1000, tracker.getPercentileNanos());
+  }
+
+  @Test
+  public void testSlidingWindow() {
+    LatencyTracker tracker = new LatencyTracker(0.5, 10, 10, 1);
+    for (int i = 0; i < 10; ++i) {
+      tracker.record(1000);
+    }
+    assertEquals(1000, tracker.getPercentileNanos());
+    // Old samples are evicted
+    for (int i = 0; i < 10; ++i) {
+      tracker.record(1);
+    }
+    assertEquals(1, tracker.getPercentileNanos());
+  }
+}
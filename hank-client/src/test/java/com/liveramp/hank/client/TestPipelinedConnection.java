@@ -0,0 +1,248 @@
+/*
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.client;
+
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.coordinator.HostState;
+import com.liveramp.hank.coordinator.PartitionServerAddress;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.PartitionServer;
+import com.liveramp.hank.test.BaseTestCase;
+import com.liveramp.hank.test.coordinator.MockHost;
+import com.liveramp.hank.util.WireCompressionFramedTransport;
+import com.liveramp.hank.util.WireCompressionStatistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestPipelinedConnection extends BaseTestCase {
+
+  private PipelinedConnection connection;
+  private TProtocol serverProtocol;
+  private TTransport serverTransport;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws Exception {
+    PipedOutputStream clientOutput = new PipedOutputStream();
+    PipedInputStream serverInput = new PipedInputStream(clientOutput, 1 << 16);
+    PipedOutputStream serverOutput = new PipedOutputStream();
+    PipedInputStream clientInput = new PipedInputStream(serverOutput, 1 << 16);
+    serverTransport = new TFramedTransport(new TIOStreamTransport(serverInput, serverOutput));
+    serverProtocol = new TCompactProtocol(serverTransport);
+    connection = new PipelinedConnection(new PartitionServerAddress("localhost", 12345), 0);
+    // Same transport as connect() uses when wire compression is not offered
+    connection.connect(new WireCompressionFramedTransport(new TIOStreamTransport(clientInput, clientOutput), new WireCompressionStatistics()));
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    connection.disconnect();
+  }
+
+  @Test
+  public void testOutOfOrderResponses() throws Exception {
+    Future<HankResponse> response1 = asyncGet(key(1), 0);
+    Future<HankResponse> response2 = asyncGet(key(2), 0);
+
+    // Both requests are sent before any response is received
+    List<TMessage> requests = new ArrayList<TMessage>();
+    List<PartitionServer.get_args> requestArgs = new ArrayList<PartitionServer.get_args>();
+    for (int i = 0; i < 2; ++i) {
+      requests.add(serverProtocol.readMessageBegin());
+      PartitionServer.get_args args = new PartitionServer.get_args();
+      args.read(serverProtocol);
+      serverProtocol.readMessageEnd();
+      requestArgs.add(args);
+    }
+    assertTrue(requests.get(0).seqid != requests.get(1).seqid);
+
+    // Respond in reverse order, with values equal to keys
+    respond(requests.get(1), requestArgs.get(1).buffer_for_key());
+    respond(requests.get(0), requestArgs.get(0).buffer_for_key());
+
+    assertEquals(HankResponse.value(key(1)), response1.get());
+    assertEquals(HankResponse.value(key(2)), response2.get());
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    // First request times out
+    try {
+      connection.get(0, key(1), 100);
+      fail("Should time out");
+    } catch (TTransportException e) {
+      assertEquals(TTransportException.TIMED_OUT, e.getType());
+    }
+    TMessage request1 = serverProtocol.readMessageBegin();
+    PartitionServer.get_args args1 = new PartitionServer.get_args();
+    args1.read(serverProtocol);
+    serverProtocol.readMessageEnd();
+
+    // Connection is still usable
+    assertTrue(connection.isConnected());
+    Future<HankResponse> response2 = asyncGet(key(2), 0);
+    TMessage request2 = serverProtocol.readMessageBegin();
+    PartitionServer.get_args args2 = new PartitionServer.get_args();
+    args2.read(serverProtocol);
+    serverProtocol.readMessageEnd();
+
+    // Late response is discarded
+    respond(request1, args1.buffer_for_key());
+    respond(request2, args2.buffer_for_key());
+    assertEquals(HankResponse.value(key(2)), response2.get());
+  }
+
+  @Test
+  public void testPendingCallsFailWhenClosed() throws Exception {
+    Future<HankResponse> response = asyncGet(key(1), 0);
+    serverProtocol.readMessageBegin();
+    serverTransport.close();
+    try {
+      response.get();
+      fail("Should fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TException);
+    }
+    assertFalse(connection.isConnected());
+  }
+
+  // A locked host connection would fail the second query instead of sending it
+  @Test(timeout = 10000)
+  public void testHostConnectionIsNotLocked() throws Exception {
+    MockHost host = new MockHost(new PartitionServerAddress("localhost", 12345));
+    host.setState(HostState.SERVING);
+    final HostConnection hostConnection = new HostConnection(host, 100, 0, 0, 0, new ReplicaStatistics(), connection,
+        false, Collections.<CompressionCodec>emptyList(), new WireCompressionStatistics(), null);
+
+    // Both queries are sent over the same host connection before any response is received
+    List<Future<HankResponse>> responses = new ArrayList<Future<HankResponse>>();
+    for (int i = 1; i <= 2; ++i) {
+      final ByteBuffer key = key(i);
+      responses.add(executor.submit(new Callable<HankResponse>() {
+        @Override
+        public HankResponse call() throws Exception {
+          return hostConnection.get(0, key);
+        }
+      }));
+    }
+    List<TMessage> requests = new ArrayList<TMessage>();
+    List<PartitionServer.get_args> requestArgs = new ArrayList<PartitionServer.get_args>();
+    for (int i = 0; i < 2; ++i) {
+      requests.add(serverProtocol.readMessageBegin());
+      PartitionServer.get_args args = new PartitionServer.get_args();
+      args.read(serverProtocol);
+      serverProtocol.readMessageEnd();
+      requestArgs.add(args);
+    }
+    // Wait longer than the lock timeout before responding
+    Thread.sleep(200);
+    for (int i = 0; i < 2; ++i) {
+      respond(requests.get(i), requestArgs.get(i).buffer_for_key());
+    }
+
+    for (int i = 0; i < 2; ++i) {
+      assertEquals(HankResponse.value(key(i + 1)), responses.get(i).get());
+    }
+    assertFalse(hostConnection.isLocked());
+  }
+
+  // Requests are written while responses to previous ones are read
+  @Test(timeout = 60000)
+  public void testConcurrentRequestsAndResponses() throws Exception {
+    final int numRequestsPerThread = 500;
+    ExecutorService requestExecutor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Void>> requesters = new ArrayList<Future<Void>>();
+      for (int t = 0; t < 4; ++t) {
+        requesters.add(requestExecutor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            for (int i = 0; i < numRequestsPerThread; ++i) {
+              ByteBuffer key = ByteBuffer.wrap(new byte[i % 100 + 1]);
+              assertEquals(HankResponse.value(key), connection.get(0, key, 0));
+            }
+            return null;
+          }
+        }));
+      }
+      // Echo keys as values, as requests arrive
+      for (int i = 0; i < 4 * numRequestsPerThread; ++i) {
+        TMessage request = serverProtocol.readMessageBegin();
+        PartitionServer.get_args args = new PartitionServer.get_args();
+        args.read(serverProtocol);
+        serverProtocol.readMessageEnd();
+        respond(request, args.buffer_for_key());
+      }
+      for (Future<Void> requester : requesters) {
+        requester.get();
+      }
+    } finally {
+      requestExecutor.shutdownNow();
+    }
+  }
+
+  private Future<HankResponse> asyncGet(final ByteBuffer key, final int timeoutMs) {
+    return executor.submit(new Callable<HankResponse>() {
+      @Override
+      public HankResponse call() throws Exception {
+        return connection.get(0, key, timeoutMs);
+      }
+    });
+  }
+
+  private void respond(TMessage request, ByteBuffer value) throws TException {
+    serverProtocol.writeMessageBegin(new TMessage(request.name, TMessageType.REPLY, request.seqid));
+    PartitionServer.get_result result = new PartitionServer.get_result();
+    result.set_success(HankResponse.value(value));
+    result.write(serverProtocol);
+    serverProtocol.writeMessageEnd();
+    serverTransport.flush();
+  }
+
+  private static ByteBuffer key(int key) {
+    return ByteBuffer.wrap(new byte[]{(byte)key});
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.client;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestReplicaSelectionStrategy extends BaseTestCase {
+
+  @Test
+  public void testKeyAffinity() {
+    ReplicaSelectionStrategy strategy = new KeyAffinityReplicaSelectionStrategy();
+    List<ReplicaStatistics> replicas = replicas(0, 0, 0);
+
+    // Round robin
+    assertEquals(1, strategy.selectReplica(replicas, null, 0));
+    assertEquals(0, strategy.selectReplica(replicas, null, 2));
+
+    // Deterministic on the key
+    assertEquals(strategy.selectReplica(replicas, 42, 0), strategy.selectReplica(replicas, 42, 1));
+  }
+
+  @Test
+  public void testPowerOfTwoChoices() {
+    ReplicaSelectionStrategy strategy = new PowerOfTwoChoicesReplicaSelectionStrategy();
+
+    // A slow replica is never picked when there are only two replicas
+    List<ReplicaStatistics> replicas = replicas(1000, 10);
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(1, strategy.selectReplica(replicas, null, 0));
+      assertEquals(1, strategy.selectReplica(replicas, 0, 0));
+    }
+
+    // Key affinity is kept when replicas are similar
+    replicas = replicas(15, 10, 10);
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(0, strategy.selectReplica(replicas, 3, 0));
+    }
+
+    // Outstanding requests are taken into account
+    replicas = replicas(10, 10);
+    for (int i = 0; i < 3; ++i) {
+      replicas.get(0).onRequestStart();
+    }
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(1, strategy.selectReplica(replicas, 0, 0));
+    }
+  }
+
+  private static List<ReplicaStatistics> replicas(long... latencies) {
+    ReplicaStatistics[] result = new ReplicaStatistics[latencies.length];
+    for (int i = 0; i < latencies.length; ++i) {
+      result[i] = new ReplicaStatistics();
+      result[i].recordLatency(latencies[i]);
+    }
+    return Arrays.asList(result);
+  }
+}
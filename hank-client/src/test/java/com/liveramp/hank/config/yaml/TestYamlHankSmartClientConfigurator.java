@@ -17,9 +17,11 @@ package com.liveramp.hank.config.yaml;
 
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.util.Collections;
 
 import org.junit.Test;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.EnvironmentValue;
 import com.liveramp.hank.coordinator.mock.MockCoordinator;
 import com.liveramp.hank.test.BaseTestCase;
@@ -46,6 +48,21 @@ public class TestYamlHankSmartClientConfigurator extends BaseTestCase {
     pw.println("  query_timeout_ms: 42");
     pw.println("  bulk_query_timeout_ms: 142");
     pw.println("  preferred_environment_key: PATH");
+    pw.println("  hedging_enabled: true");
+    pw.println("  hedging_latency_percentile: 0.99");
+    pw.println("  hedging_min_delay_ms: 7");
+    pw.println("  replica_selection_strategy: power_of_two_choices");
+    pw.println("  adaptive_concurrency_limit_enabled: true");
+    pw.println("  adaptive_concurrency_limit_max: 64");
+    pw.println("  request_coalescing_enabled: true");
+    pw.println("  num_pipelined_sockets_per_host: 2");
+    pw.println("  use_compact_bulk_responses: true");
+    pw.println("  wire_compression_codecs:");
+    pw.println("    - snappy");
+    pw.println("  use_hashed_keys: true");
+    pw.println("  value_stream_chunk_size: 65536");
+    pw.println("  partition_server_unix_domain_socket_path: /path/to/partition_server.sock");
+    pw.println("  virtual_threads_enabled: true");
 
     pw.close();
 
@@ -58,6 +75,22 @@ public class TestYamlHankSmartClientConfigurator extends BaseTestCase {
     assertEquals(100, conf.getEstablishConnectionTimeoutMs());
     assertEquals(42, conf.getQueryTimeoutMs());
     assertEquals(142, conf.getBulkQueryTimeoutMs());
+    assertEquals(true, conf.getHedgingEnabled());
+    assertEquals(0.99, conf.getHedgingLatencyPercentile(), 0);
+    assertEquals(7, conf.getHedgingMinDelayMs());
+    assertEquals(YamlHankSmartClientConfigurator.DEFAULT_HEDGING_BUDGET_RATIO, conf.getHedgingBudgetRatio(), 0);
+    assertEquals("power_of_two_choices", conf.getReplicaSelectionStrategy());
+    assertEquals(true, conf.getAdaptiveConcurrencyLimitEnabled());
+    assertEquals(YamlHankSmartClientConfigurator.DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL, conf.getAdaptiveConcurrencyLimitInitial());
+    assertEquals(64, conf.getAdaptiveConcurrencyLimitMax());
+    assertEquals(true, conf.getRequestCoalescingEnabled());
+    assertEquals(2, conf.getNumPipelinedSocketsPerHost());
+    assertEquals(true, conf.getUseCompactBulkResponses());
+    assertEquals(Collections.singletonList(CompressionCodec.SNAPPY), conf.getWireCompressionCodecs());
+    assertEquals(true, conf.getUseHashedKeys());
+    assertEquals(65536, conf.getValueStreamChunkSize());
+    assertEquals("/path/to/partition_server.sock", conf.getPartitionServerUnixDomainSocketPath());
+    assertEquals(true, conf.getVirtualThreadsEnabled());
 
     EnvironmentValue env = conf.getPreferredServerEnvironment();
     assertEquals("PATH", env.getKey());
@@ -135,5 +135,26 @@ public class TestYamlSmartClientDaemonConfigurator extends BaseTestCase {
     assertEquals("rg1", conf.getRingGroupName());
     assertEquals(1, conf.getPortNumber());
     assertEquals(1, conf.getNumThreads());
+    assertEquals(null, conf.getUnixDomainSocketPath());
+    assertEquals(YamlSmartClientDaemonConfigurator.DEFAULT_BATCH_WINDOW_MICROS, conf.getBatchWindowMicros());
+    assertEquals(YamlSmartClientDaemonConfigurator.DEFAULT_BATCH_MAX_SIZE, conf.getBatchMaxSize());
+
+    pw = new PrintWriter(new FileWriter(configPath));
+    pw.println("smart_client:");
+    pw.println("  service_port: 1");
+    pw.println("  num_worker_threads: 1");
+    pw.println("  ring_group_name: rg1");
+    pw.println("  unix_domain_socket_path: /path/to/smart_client.sock");
+    pw.println("  batch_window_us: 200");
+    pw.println("  batch_max_size: 64");
+    pw.println("coordinator:");
+    pw.println("  factory: " + MockCoordinator.Factory.class.getName());
+    pw.println("  options:");
+    pw.println("    blah: blah");
+    pw.close();
+    conf = new YamlSmartClientDaemonConfigurator(configPath);
+    assertEquals("/path/to/smart_client.sock", conf.getUnixDomainSocketPath());
+    assertEquals(200, conf.getBatchWindowMicros());
+    assertEquals(64, conf.getBatchMaxSize());
   }
 }
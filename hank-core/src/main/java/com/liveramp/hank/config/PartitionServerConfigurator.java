@@ -16,8 +16,11 @@
 
 package com.liveramp.hank.config;
 
+import java.util.List;
 import java.util.Map;
 
+import com.liveramp.hank.compression.CompressionCodec;
+
 public interface PartitionServerConfigurator extends CoordinatorConfigurator, ReaderConfigurator {
 
   public int getServicePort();
@@ -40,5 +43,59 @@ public interface PartitionServerConfigurator extends CoordinatorConfigurator, Re
 
   public Map<String, String> getEnvironmentFlags();
 
+  // Codecs that clients can negotiate to compress responses, empty to never compress them
+  public List<CompressionCodec> getWireCompressionCodecs();
+
+  // Minimum size of compressed responses, in bytes
+  public int getWireCompressionThreshold();
+
+  // Maximum number of value bytes read by partition scans per second, across all scans. Not limited when not positive.
+  public int getScanMaxBytesPerSecond();
+
+  // Maximum number of records returned by a single partition scan call
+  public int getScanMaxNumRecords();
+
+  // Maximum number of bytes returned by a single partition scan call, unless its first record is larger
+  public int getScanMaxNumBytes();
+
+  // Sample one request out of this many, both for the warmup key sample and for the hot keys of each domain.
+  // Requests are not sampled when not positive.
+  public int getKeySamplePeriod();
+
+  // File in which a sample of requested keys is persisted, to be replayed on warmup. Not persisted when null.
+  public String getWarmupKeySamplePath();
+
+
+  // Maximum number of distinct keys in the sample
+  public int getWarmupKeySampleMaxNumKeys();
+
+  // Maximum time spent replaying sampled keys before serving, in milliseconds
+  public int getWarmupMaxDurationMs();
+
+  // Replay the hottest sampled keys until they account for this fraction of sampled requests
+  public double getWarmupTargetHitRate();
+
+  // Number of Readers loaded at the same time, across data directories
+  public int getNumConcurrentReaderLoads();
+
+  // Load Readers on first access and prefetch them in the background, instead of loading them all before serving
+  public boolean getLazyReaderLoading();
+
+  // Directory in which Reader caches are saved on shutdown and reloaded when Readers are loaded. Not saved when null.
+  public String getCacheSnapshotPath();
+
+  // Unix domain socket on which the service is also served, for clients on the same machine. Not served when null.
+  // The service port is appended to this path (path.port), so that servers on the same machine can share it.
+  public String getUnixDomainSocketPath();
+
+  // Run queries and GET BULK tasks on virtual threads, as many at a time as there would be pool threads. Java 21 or later.
+  public boolean getVirtualThreadsEnabled();
+
+  // Time a GET waits for concurrent GETs of the same partition to read them as a batch, in microseconds. Not batched when not positive.
+  public int getGetBatchWindowMicroseconds();
+
+  // Maximum number of concurrent GETs of the same partition read as a batch
+  public int getGetBatchMaxSize();
+
   public ReaderConfigurator getReaderConfigurator(int numTotalPartitions);
 }
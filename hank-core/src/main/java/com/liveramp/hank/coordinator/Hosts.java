@@ -34,6 +34,7 @@ import com.liveramp.hank.generated.DomainStatisticsSummary;
 import com.liveramp.hank.generated.RuntimeStatisticsSummary;
 import com.liveramp.hank.partition_server.DoublePopulationStatisticsAggregator;
 import com.liveramp.hank.partition_server.FilesystemStatisticsAggregator;
+import com.liveramp.hank.partition_server.HeavyHittersAggregator;
 import com.liveramp.hank.partition_server.RuntimeStatisticsAggregator;
 
 public final class Hosts {
@@ -326,7 +327,12 @@ public final class Hosts {
         }
         String[] tokens = statistics.split("\t");
         int domainId = Integer.parseInt(tokens[0]);
-        result.put(coordinator.getDomainById(domainId), RuntimeStatisticsAggregator.parse(tokens[1]));
+        RuntimeStatisticsAggregator runtimeStatisticsAggregator = RuntimeStatisticsAggregator.parse(tokens[1]);
+        // Heavy hitters are missing from the statistics of older servers
+        if (tokens.length > 2) {
+          runtimeStatisticsAggregator.setHeavyHitters(HeavyHittersAggregator.parse(tokens[2]));
+        }
+        result.put(coordinator.getDomainById(domainId), runtimeStatisticsAggregator);
       }
       return result;
     }
@@ -352,6 +358,8 @@ public final class Hosts {
       statistics.append(domain.getId());
       statistics.append('\t');
       statistics.append(RuntimeStatisticsAggregator.toString(runtimeStatisticsAggregator));
+      statistics.append('\t');
+      statistics.append(HeavyHittersAggregator.toString(runtimeStatisticsAggregator.getHeavyHitters()));
       statistics.append('\n');
     }
 
@@ -39,6 +39,7 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
   private static final org.apache.thrift.protocol.TField NO_CONNECTION_AVAILABLE_FIELD_DESC = new org.apache.thrift.protocol.TField("no_connection_available", org.apache.thrift.protocol.TType.BOOL, (short)4);
   private static final org.apache.thrift.protocol.TField FAILED_RETRIES_FIELD_DESC = new org.apache.thrift.protocol.TField("failed_retries", org.apache.thrift.protocol.TType.I32, (short)5);
   private static final org.apache.thrift.protocol.TField INTERNAL_ERROR_FIELD_DESC = new org.apache.thrift.protocol.TField("internal_error", org.apache.thrift.protocol.TType.STRING, (short)6);
+  private static final org.apache.thrift.protocol.TField NOT_SUPPORTED_FIELD_DESC = new org.apache.thrift.protocol.TField("not_supported", org.apache.thrift.protocol.TType.STRING, (short)7);
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -65,7 +66,11 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
     /**
      * There was some internal error in the server. This is pretty bad.
      */
-    INTERNAL_ERROR((short)6, "internal_error");
+    INTERNAL_ERROR((short)6, "internal_error"),
+    /**
+     * The server does not support the query for the requested domain. The client may fall back to another query.
+     */
+    NOT_SUPPORTED((short)7, "not_supported");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -92,6 +97,8 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
           return FAILED_RETRIES;
         case 6: // INTERNAL_ERROR
           return INTERNAL_ERROR;
+        case 7: // NOT_SUPPORTED
+          return NOT_SUPPORTED;
         default:
           return null;
       }
@@ -146,6 +153,8 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     tmpMap.put(_Fields.INTERNAL_ERROR, new org.apache.thrift.meta_data.FieldMetaData("internal_error", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.NOT_SUPPORTED, new org.apache.thrift.meta_data.FieldMetaData("not_supported", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(HankException.class, metaDataMap);
   }
@@ -201,6 +210,12 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
     return x;
   }
 
+  public static HankException not_supported(String value) {
+    HankException x = new HankException();
+    x.set_not_supported(value);
+    return x;
+  }
+
 
   @Override
   protected void checkType(_Fields setField, Object value) throws ClassCastException {
@@ -235,6 +250,11 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
           break;
         }
         throw new ClassCastException("Was expecting value of type String for field 'internal_error', but got " + value.getClass().getSimpleName());
+      case NOT_SUPPORTED:
+        if (value instanceof String) {
+          break;
+        }
+        throw new ClassCastException("Was expecting value of type String for field 'not_supported', but got " + value.getClass().getSimpleName());
       default:
         throw new IllegalArgumentException("Unknown field id " + setField);
     }
@@ -299,6 +319,15 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, field.type);
             return null;
           }
+        case NOT_SUPPORTED:
+          if (field.type == NOT_SUPPORTED_FIELD_DESC.type) {
+            String not_supported;
+            not_supported = iprot.readString();
+            return not_supported;
+          } else {
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, field.type);
+            return null;
+          }
         default:
           throw new IllegalStateException("setField wasn't null, but didn't match any of the case statements!");
       }
@@ -334,6 +363,10 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
         String internal_error = (String)value_;
         oprot.writeString(internal_error);
         return;
+      case NOT_SUPPORTED:
+        String not_supported = (String)value_;
+        oprot.writeString(not_supported);
+        return;
       default:
         throw new IllegalStateException("Cannot write union with unknown field " + setField_);
     }
@@ -368,6 +401,10 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
           String internal_error;
           internal_error = iprot.readString();
           return internal_error;
+        case NOT_SUPPORTED:
+          String not_supported;
+          not_supported = iprot.readString();
+          return not_supported;
         default:
           throw new IllegalStateException("setField wasn't null, but didn't match any of the case statements!");
       }
@@ -403,6 +440,10 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
         String internal_error = (String)value_;
         oprot.writeString(internal_error);
         return;
+      case NOT_SUPPORTED:
+        String not_supported = (String)value_;
+        oprot.writeString(not_supported);
+        return;
       default:
         throw new IllegalStateException("Cannot write union with unknown field " + setField_);
     }
@@ -423,6 +464,8 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
         return FAILED_RETRIES_FIELD_DESC;
       case INTERNAL_ERROR:
         return INTERNAL_ERROR_FIELD_DESC;
+      case NOT_SUPPORTED:
+        return NOT_SUPPORTED_FIELD_DESC;
       default:
         throw new IllegalArgumentException("Unknown field id " + setField);
     }
@@ -558,6 +601,26 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
     value_ = value;
   }
 
+  /**
+   * The server does not support the query for the requested domain. The client may fall back to another query.
+   */
+  public String get_not_supported() {
+    if (getSetField() == _Fields.NOT_SUPPORTED) {
+      return (String)getFieldValue();
+    } else {
+      throw new RuntimeException("Cannot get field 'not_supported' because union is currently set to " + getFieldDesc(getSetField()).name);
+    }
+  }
+
+  /**
+   * The server does not support the query for the requested domain. The client may fall back to another query.
+   */
+  public void set_not_supported(String value) {
+    if (value == null) throw new NullPointerException();
+    setField_ = _Fields.NOT_SUPPORTED;
+    value_ = value;
+  }
+
   public boolean is_set_wrong_host() {
     return setField_ == _Fields.WRONG_HOST;
   }
@@ -588,6 +651,11 @@ public class HankException extends org.apache.thrift.TUnion<HankException, HankE
   }
 
 
+  public boolean is_set_not_supported() {
+    return setField_ == _Fields.NOT_SUPPORTED;
+  }
+
+
   public boolean equals(Object other) {
     if (other instanceof HankException) {
       return equals((HankException)other);
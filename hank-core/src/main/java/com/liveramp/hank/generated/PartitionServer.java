@@ -39,6 +39,24 @@ public class PartitionServer {
 
     public HankBulkResponse getBulk(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException;
 
+    public HankCompactBulkResponse getBulkCompact(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException;
+
+    public String negotiateWireCompression(List<String> codecs) throws org.apache.thrift.TException;
+
+    public HankResponse getHashed(int domain_id, int partition, ByteBuffer hashed_key) throws org.apache.thrift.TException;
+
+    public HankBulkResponse getMulti(List<HankDomainKey> domain_keys) throws org.apache.thrift.TException;
+
+    public HankExistsResponse exists(int domain_id, ByteBuffer key) throws org.apache.thrift.TException;
+
+    public HankExistsBulkResponse existsBulk(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException;
+
+    public HankValueSizeResponse getValueSize(int domain_id, ByteBuffer key) throws org.apache.thrift.TException;
+
+    public HankResponse getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) throws org.apache.thrift.TException;
+
+    public HankScanResponse scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -47,6 +65,24 @@ public class PartitionServer {
 
     public void getBulk(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getBulk_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void getBulkCompact(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getBulkCompact_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void negotiateWireCompression(List<String> codecs, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.negotiateWireCompression_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getHashed(int domain_id, int partition, ByteBuffer hashed_key, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getHashed_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getMulti(List<HankDomainKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getMulti_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void exists(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.exists_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void existsBulk(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.existsBulk_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getValueSize(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getValueSize_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getRange_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.scanPartition_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -117,6 +153,226 @@ public class PartitionServer {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBulk failed: unknown result");
     }
 
+    public HankCompactBulkResponse getBulkCompact(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException
+    {
+      send_getBulkCompact(domain_id, keys);
+      return recv_getBulkCompact();
+    }
+
+    public void send_getBulkCompact(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException
+    {
+      getBulkCompact_args args = new getBulkCompact_args();
+      args.set_domain_id(domain_id);
+      args.set_keys(keys);
+      sendBase("getBulkCompact", args);
+    }
+
+    public HankCompactBulkResponse recv_getBulkCompact() throws org.apache.thrift.TException
+    {
+      getBulkCompact_result result = new getBulkCompact_result();
+      receiveBase(result, "getBulkCompact");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBulkCompact failed: unknown result");
+    }
+
+    public String negotiateWireCompression(List<String> codecs) throws org.apache.thrift.TException
+    {
+      send_negotiateWireCompression(codecs);
+      return recv_negotiateWireCompression();
+    }
+
+    public void send_negotiateWireCompression(List<String> codecs) throws org.apache.thrift.TException
+    {
+      negotiateWireCompression_args args = new negotiateWireCompression_args();
+      args.set_codecs(codecs);
+      sendBase("negotiateWireCompression", args);
+    }
+
+    public String recv_negotiateWireCompression() throws org.apache.thrift.TException
+    {
+      negotiateWireCompression_result result = new negotiateWireCompression_result();
+      receiveBase(result, "negotiateWireCompression");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "negotiateWireCompression failed: unknown result");
+    }
+
+    public HankResponse getHashed(int domain_id, int partition, ByteBuffer hashed_key) throws org.apache.thrift.TException
+    {
+      send_getHashed(domain_id, partition, hashed_key);
+      return recv_getHashed();
+    }
+
+    public void send_getHashed(int domain_id, int partition, ByteBuffer hashed_key) throws org.apache.thrift.TException
+    {
+      getHashed_args args = new getHashed_args();
+      args.set_domain_id(domain_id);
+      args.set_partition(partition);
+      args.set_hashed_key(hashed_key);
+      sendBase("getHashed", args);
+    }
+
+    public HankResponse recv_getHashed() throws org.apache.thrift.TException
+    {
+      getHashed_result result = new getHashed_result();
+      receiveBase(result, "getHashed");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getHashed failed: unknown result");
+    }
+
+    public HankBulkResponse getMulti(List<HankDomainKey> domain_keys) throws org.apache.thrift.TException
+    {
+      send_getMulti(domain_keys);
+      return recv_getMulti();
+    }
+
+    public void send_getMulti(List<HankDomainKey> domain_keys) throws org.apache.thrift.TException
+    {
+      getMulti_args args = new getMulti_args();
+      args.set_domain_keys(domain_keys);
+      sendBase("getMulti", args);
+    }
+
+    public HankBulkResponse recv_getMulti() throws org.apache.thrift.TException
+    {
+      getMulti_result result = new getMulti_result();
+      receiveBase(result, "getMulti");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getMulti failed: unknown result");
+    }
+
+    public HankExistsResponse exists(int domain_id, ByteBuffer key) throws org.apache.thrift.TException
+    {
+      send_exists(domain_id, key);
+      return recv_exists();
+    }
+
+    public void send_exists(int domain_id, ByteBuffer key) throws org.apache.thrift.TException
+    {
+      exists_args args = new exists_args();
+      args.set_domain_id(domain_id);
+      args.set_key(key);
+      sendBase("exists", args);
+    }
+
+    public HankExistsResponse recv_exists() throws org.apache.thrift.TException
+    {
+      exists_result result = new exists_result();
+      receiveBase(result, "exists");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "exists failed: unknown result");
+    }
+
+    public HankExistsBulkResponse existsBulk(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException
+    {
+      send_existsBulk(domain_id, keys);
+      return recv_existsBulk();
+    }
+
+    public void send_existsBulk(int domain_id, List<ByteBuffer> keys) throws org.apache.thrift.TException
+    {
+      existsBulk_args args = new existsBulk_args();
+      args.set_domain_id(domain_id);
+      args.set_keys(keys);
+      sendBase("existsBulk", args);
+    }
+
+    public HankExistsBulkResponse recv_existsBulk() throws org.apache.thrift.TException
+    {
+      existsBulk_result result = new existsBulk_result();
+      receiveBase(result, "existsBulk");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "existsBulk failed: unknown result");
+    }
+
+    public HankValueSizeResponse getValueSize(int domain_id, ByteBuffer key) throws org.apache.thrift.TException
+    {
+      send_getValueSize(domain_id, key);
+      return recv_getValueSize();
+    }
+
+    public void send_getValueSize(int domain_id, ByteBuffer key) throws org.apache.thrift.TException
+    {
+      getValueSize_args args = new getValueSize_args();
+      args.set_domain_id(domain_id);
+      args.set_key(key);
+      sendBase("getValueSize", args);
+    }
+
+    public HankValueSizeResponse recv_getValueSize() throws org.apache.thrift.TException
+    {
+      getValueSize_result result = new getValueSize_result();
+      receiveBase(result, "getValueSize");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getValueSize failed: unknown result");
+    }
+
+    public HankResponse getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) throws org.apache.thrift.TException
+    {
+      send_getRange(domain_id, key, offset, length, version_number);
+      return recv_getRange();
+    }
+
+    public void send_getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number) throws org.apache.thrift.TException
+    {
+      getRange_args args = new getRange_args();
+      args.set_domain_id(domain_id);
+      args.set_key(key);
+      args.set_offset(offset);
+      args.set_length(length);
+      args.set_version_number(version_number);
+      sendBase("getRange", args);
+    }
+
+    public HankResponse recv_getRange() throws org.apache.thrift.TException
+    {
+      getRange_result result = new getRange_result();
+      receiveBase(result, "getRange");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getRange failed: unknown result");
+    }
+
+    public HankScanResponse scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) throws org.apache.thrift.TException
+    {
+      send_scanPartition(domain_id, partition, cursor, limit);
+      return recv_scanPartition();
+    }
+
+    public void send_scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit) throws org.apache.thrift.TException
+    {
+      scanPartition_args args = new scanPartition_args();
+      args.set_domain_id(domain_id);
+      args.set_partition(partition);
+      args.set_cursor(cursor);
+      args.set_limit(limit);
+      sendBase("scanPartition", args);
+    }
+
+    public HankScanResponse recv_scanPartition() throws org.apache.thrift.TException
+    {
+      scanPartition_result result = new scanPartition_result();
+      receiveBase(result, "scanPartition");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "scanPartition failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -205,85 +461,8256 @@ public class PartitionServer {
       }
     }
 
-  }
+    public void getBulkCompact(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<getBulkCompact_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getBulkCompact_call method_call = new getBulkCompact_call(domain_id, keys, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    public static class getBulkCompact_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private List<ByteBuffer> keys;
+      public getBulkCompact_call(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<getBulkCompact_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.keys = keys;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getBulkCompact", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getBulkCompact_args args = new getBulkCompact_args();
+        args.set_domain_id(domain_id);
+        args.set_keys(keys);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankCompactBulkResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getBulkCompact();
+      }
     }
 
-    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
+    public void negotiateWireCompression(List<String> codecs, org.apache.thrift.async.AsyncMethodCallback<negotiateWireCompression_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      negotiateWireCompression_call method_call = new negotiateWireCompression_call(codecs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("get", new get());
-      processMap.put("getBulk", new getBulk());
-      return processMap;
+    public static class negotiateWireCompression_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> codecs;
+      public negotiateWireCompression_call(List<String> codecs, org.apache.thrift.async.AsyncMethodCallback<negotiateWireCompression_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.codecs = codecs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("negotiateWireCompression", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        negotiateWireCompression_args args = new negotiateWireCompression_args();
+        args.set_codecs(codecs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_negotiateWireCompression();
+      }
+    }
+
+    public void getHashed(int domain_id, int partition, ByteBuffer hashed_key, org.apache.thrift.async.AsyncMethodCallback<getHashed_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getHashed_call method_call = new getHashed_call(domain_id, partition, hashed_key, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getHashed_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private int partition;
+      private ByteBuffer hashed_key;
+      public getHashed_call(int domain_id, int partition, ByteBuffer hashed_key, org.apache.thrift.async.AsyncMethodCallback<getHashed_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.partition = partition;
+        this.hashed_key = hashed_key;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getHashed", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getHashed_args args = new getHashed_args();
+        args.set_domain_id(domain_id);
+        args.set_partition(partition);
+        args.set_hashed_key(hashed_key);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getHashed();
+      }
+    }
+
+    public void getMulti(List<HankDomainKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<getMulti_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getMulti_call method_call = new getMulti_call(domain_keys, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getMulti_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<HankDomainKey> domain_keys;
+      public getMulti_call(List<HankDomainKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<getMulti_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_keys = domain_keys;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getMulti", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getMulti_args args = new getMulti_args();
+        args.set_domain_keys(domain_keys);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankBulkResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getMulti();
+      }
+    }
+
+    public void exists(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<exists_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      exists_call method_call = new exists_call(domain_id, key, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class exists_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private ByteBuffer key;
+      public exists_call(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<exists_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.key = key;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("exists", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        exists_args args = new exists_args();
+        args.set_domain_id(domain_id);
+        args.set_key(key);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankExistsResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_exists();
+      }
+    }
+
+    public void existsBulk(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<existsBulk_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      existsBulk_call method_call = new existsBulk_call(domain_id, keys, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class existsBulk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private List<ByteBuffer> keys;
+      public existsBulk_call(int domain_id, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<existsBulk_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.keys = keys;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("existsBulk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        existsBulk_args args = new existsBulk_args();
+        args.set_domain_id(domain_id);
+        args.set_keys(keys);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankExistsBulkResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_existsBulk();
+      }
+    }
+
+    public void getValueSize(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<getValueSize_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getValueSize_call method_call = new getValueSize_call(domain_id, key, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getValueSize_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private ByteBuffer key;
+      public getValueSize_call(int domain_id, ByteBuffer key, org.apache.thrift.async.AsyncMethodCallback<getValueSize_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.key = key;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getValueSize", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getValueSize_args args = new getValueSize_args();
+        args.set_domain_id(domain_id);
+        args.set_key(key);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankValueSizeResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getValueSize();
+      }
+    }
+
+    public void getRange(int domain_id, ByteBuffer key, int offset, int length, int version_number, org.apache.thrift.async.AsyncMethodCallback<getRange_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getRange_call method_call = new getRange_call(domain_id, key, offset, length, version_number, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getRange_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private ByteBuffer key;
+      private int offset;
+      private int length;
+      private int version_number;
+      public getRange_call(int domain_id, ByteBuffer key, int offset, int length, int version_number, org.apache.thrift.async.AsyncMethodCallback<getRange_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.key = key;
+        this.offset = offset;
+        this.length = length;
+        this.version_number = version_number;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getRange", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getRange_args args = new getRange_args();
+        args.set_domain_id(domain_id);
+        args.set_key(key);
+        args.set_offset(offset);
+        args.set_length(length);
+        args.set_version_number(version_number);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getRange();
+      }
+    }
+
+    public void scanPartition(int domain_id, int partition, ByteBuffer cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<scanPartition_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      scanPartition_call method_call = new scanPartition_call(domain_id, partition, cursor, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class scanPartition_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int domain_id;
+      private int partition;
+      private ByteBuffer cursor;
+      private int limit;
+      public scanPartition_call(int domain_id, int partition, ByteBuffer cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<scanPartition_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_id = domain_id;
+        this.partition = partition;
+        this.cursor = cursor;
+        this.limit = limit;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("scanPartition", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        scanPartition_args args = new scanPartition_args();
+        args.set_domain_id(domain_id);
+        args.set_partition(partition);
+        args.set_cursor(cursor);
+        args.set_limit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankScanResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_scanPartition();
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("get", new get());
+      processMap.put("getBulk", new getBulk());
+      processMap.put("getBulkCompact", new getBulkCompact());
+      processMap.put("negotiateWireCompression", new negotiateWireCompression());
+      processMap.put("getHashed", new getHashed());
+      processMap.put("getMulti", new getMulti());
+      processMap.put("exists", new exists());
+      processMap.put("existsBulk", new existsBulk());
+      processMap.put("getValueSize", new getValueSize());
+      processMap.put("getRange", new getRange());
+      processMap.put("scanPartition", new scanPartition());
+      return processMap;
+    }
+
+    public static class get<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_args> {
+      public get() {
+        super("get");
+      }
+
+      public get_args getEmptyArgsInstance() {
+        return new get_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public get_result getResult(I iface, get_args args) throws org.apache.thrift.TException {
+        get_result result = new get_result();
+        result.success = iface.get(args.domain_id, args.key);
+        return result;
+      }
+    }
+
+    public static class getBulk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBulk_args> {
+      public getBulk() {
+        super("getBulk");
+      }
+
+      public getBulk_args getEmptyArgsInstance() {
+        return new getBulk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getBulk_result getResult(I iface, getBulk_args args) throws org.apache.thrift.TException {
+        getBulk_result result = new getBulk_result();
+        result.success = iface.getBulk(args.domain_id, args.keys);
+        return result;
+      }
+    }
+
+    public static class getBulkCompact<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBulkCompact_args> {
+      public getBulkCompact() {
+        super("getBulkCompact");
+      }
+
+      public getBulkCompact_args getEmptyArgsInstance() {
+        return new getBulkCompact_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getBulkCompact_result getResult(I iface, getBulkCompact_args args) throws org.apache.thrift.TException {
+        getBulkCompact_result result = new getBulkCompact_result();
+        result.success = iface.getBulkCompact(args.domain_id, args.keys);
+        return result;
+      }
+    }
+
+    public static class negotiateWireCompression<I extends Iface> extends org.apache.thrift.ProcessFunction<I, negotiateWireCompression_args> {
+      public negotiateWireCompression() {
+        super("negotiateWireCompression");
+      }
+
+      public negotiateWireCompression_args getEmptyArgsInstance() {
+        return new negotiateWireCompression_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public negotiateWireCompression_result getResult(I iface, negotiateWireCompression_args args) throws org.apache.thrift.TException {
+        negotiateWireCompression_result result = new negotiateWireCompression_result();
+        result.success = iface.negotiateWireCompression(args.codecs);
+        return result;
+      }
+    }
+
+    public static class getHashed<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getHashed_args> {
+      public getHashed() {
+        super("getHashed");
+      }
+
+      public getHashed_args getEmptyArgsInstance() {
+        return new getHashed_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getHashed_result getResult(I iface, getHashed_args args) throws org.apache.thrift.TException {
+        getHashed_result result = new getHashed_result();
+        result.success = iface.getHashed(args.domain_id, args.partition, args.hashed_key);
+        return result;
+      }
+    }
+
+    public static class getMulti<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getMulti_args> {
+      public getMulti() {
+        super("getMulti");
+      }
+
+      public getMulti_args getEmptyArgsInstance() {
+        return new getMulti_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getMulti_result getResult(I iface, getMulti_args args) throws org.apache.thrift.TException {
+        getMulti_result result = new getMulti_result();
+        result.success = iface.getMulti(args.domain_keys);
+        return result;
+      }
+    }
+
+    public static class exists<I extends Iface> extends org.apache.thrift.ProcessFunction<I, exists_args> {
+      public exists() {
+        super("exists");
+      }
+
+      public exists_args getEmptyArgsInstance() {
+        return new exists_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public exists_result getResult(I iface, exists_args args) throws org.apache.thrift.TException {
+        exists_result result = new exists_result();
+        result.success = iface.exists(args.domain_id, args.key);
+        return result;
+      }
+    }
+
+    public static class existsBulk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, existsBulk_args> {
+      public existsBulk() {
+        super("existsBulk");
+      }
+
+      public existsBulk_args getEmptyArgsInstance() {
+        return new existsBulk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public existsBulk_result getResult(I iface, existsBulk_args args) throws org.apache.thrift.TException {
+        existsBulk_result result = new existsBulk_result();
+        result.success = iface.existsBulk(args.domain_id, args.keys);
+        return result;
+      }
+    }
+
+    public static class getValueSize<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getValueSize_args> {
+      public getValueSize() {
+        super("getValueSize");
+      }
+
+      public getValueSize_args getEmptyArgsInstance() {
+        return new getValueSize_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getValueSize_result getResult(I iface, getValueSize_args args) throws org.apache.thrift.TException {
+        getValueSize_result result = new getValueSize_result();
+        result.success = iface.getValueSize(args.domain_id, args.key);
+        return result;
+      }
+    }
+
+    public static class getRange<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getRange_args> {
+      public getRange() {
+        super("getRange");
+      }
+
+      public getRange_args getEmptyArgsInstance() {
+        return new getRange_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getRange_result getResult(I iface, getRange_args args) throws org.apache.thrift.TException {
+        getRange_result result = new getRange_result();
+        result.success = iface.getRange(args.domain_id, args.key, args.offset, args.length, args.version_number);
+        return result;
+      }
+    }
+
+    public static class scanPartition<I extends Iface> extends org.apache.thrift.ProcessFunction<I, scanPartition_args> {
+      public scanPartition() {
+        super("scanPartition");
+      }
+
+      public scanPartition_args getEmptyArgsInstance() {
+        return new scanPartition_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public scanPartition_result getResult(I iface, scanPartition_args args) throws org.apache.thrift.TException {
+        scanPartition_result result = new scanPartition_result();
+        result.success = iface.scanPartition(args.domain_id, args.partition, args.cursor, args.limit);
+        return result;
+      }
+    }
+
+  }
+
+  public static class get_args implements org.apache.thrift.TBase<get_args, get_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("key", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new get_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new get_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public ByteBuffer key; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEY((short)2, "key");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEY
+            return KEY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEY, new org.apache.thrift.meta_data.FieldMetaData("key", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_args.class, metaDataMap);
+    }
+
+    public get_args() {
+    }
+
+    public get_args(
+      int domain_id,
+      ByteBuffer key)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.key = key;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public get_args(get_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_key()) {
+        this.key = org.apache.thrift.TBaseHelper.copyBinary(other.key);
+;
+      }
+    }
+
+    public get_args deepCopy() {
+      return new get_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.key = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public get_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public byte[] get_key() {
+      set_key(org.apache.thrift.TBaseHelper.rightSize(key));
+      return key == null ? null : key.array();
+    }
+
+    public ByteBuffer buffer_for_key() {
+      return key;
+    }
+
+    public get_args set_key(byte[] key) {
+      set_key(key == null ? (ByteBuffer)null : ByteBuffer.wrap(key));
+      return this;
+    }
+
+    public get_args set_key(ByteBuffer key) {
+      this.key = key;
+      return this;
+    }
+
+    public void unset_key() {
+      this.key = null;
+    }
+
+    /** Returns true if field key is set (has been assigned a value) and false otherwise */
+    public boolean is_set_key() {
+      return this.key != null;
+    }
+
+    public void set_key_isSet(boolean value) {
+      if (!value) {
+        this.key = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEY:
+        if (value == null) {
+          unset_key();
+        } else {
+          set_key((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEY:
+        return get_key();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEY:
+        return is_set_key();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof get_args)
+        return this.equals((get_args)that);
+      return false;
+    }
+
+    public boolean equals(get_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_key = true && this.is_set_key();
+      boolean that_present_key = true && that.is_set_key();
+      if (this_present_key || that_present_key) {
+        if (!(this_present_key && that_present_key))
+          return false;
+        if (!this.key.equals(that.key))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_key = true && (is_set_key());
+      builder.append(present_key);
+      if (present_key)
+        builder.append(key);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(get_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      get_args typedOther = (get_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_key()).compareTo(typedOther.is_set_key());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_key()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.key, typedOther.key);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("get_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("key:");
+      if (this.key == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.key, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class get_argsStandardSchemeFactory implements SchemeFactory {
+      public get_argsStandardScheme getScheme() {
+        return new get_argsStandardScheme();
+      }
+    }
+
+    private static class get_argsStandardScheme extends StandardScheme<get_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, get_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.key = iprot.readBinary();
+                struct.set_key_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, get_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.key != null) {
+          oprot.writeFieldBegin(KEY_FIELD_DESC);
+          oprot.writeBinary(struct.key);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class get_argsTupleSchemeFactory implements SchemeFactory {
+      public get_argsTupleScheme getScheme() {
+        return new get_argsTupleScheme();
+      }
+    }
+
+    private static class get_argsTupleScheme extends TupleScheme<get_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, get_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_key()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_key()) {
+          oprot.writeBinary(struct.key);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, get_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.key = iprot.readBinary();
+          struct.set_key_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class get_result implements org.apache.thrift.TBase<get_result, get_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new get_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new get_resultTupleSchemeFactory());
+    }
+
+    public HankResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_result.class, metaDataMap);
+    }
+
+    public get_result() {
+    }
+
+    public get_result(
+      HankResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public get_result(get_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankResponse(other.success);
+      }
+    }
+
+    public get_result deepCopy() {
+      return new get_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankResponse get_success() {
+      return this.success;
+    }
+
+    public get_result set_success(HankResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof get_result)
+        return this.equals((get_result)that);
+      return false;
+    }
+
+    public boolean equals(get_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(get_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      get_result typedOther = (get_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("get_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class get_resultStandardSchemeFactory implements SchemeFactory {
+      public get_resultStandardScheme getScheme() {
+        return new get_resultStandardScheme();
+      }
+    }
+
+    private static class get_resultStandardScheme extends StandardScheme<get_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, get_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, get_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class get_resultTupleSchemeFactory implements SchemeFactory {
+      public get_resultTupleScheme getScheme() {
+        return new get_resultTupleScheme();
+      }
+    }
+
+    private static class get_resultTupleScheme extends TupleScheme<get_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, get_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, get_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getBulk_args implements org.apache.thrift.TBase<getBulk_args, getBulk_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulk_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("keys", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getBulk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getBulk_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public List<ByteBuffer> keys; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEYS((short)2, "keys");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEYS
+            return KEYS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEYS, new org.apache.thrift.meta_data.FieldMetaData("keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING              , true))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulk_args.class, metaDataMap);
+    }
+
+    public getBulk_args() {
+    }
+
+    public getBulk_args(
+      int domain_id,
+      List<ByteBuffer> keys)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.keys = keys;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBulk_args(getBulk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_keys()) {
+        List<ByteBuffer> __this__keys = new ArrayList<ByteBuffer>();
+        for (ByteBuffer other_element : other.keys) {
+          ByteBuffer temp_binary_element = org.apache.thrift.TBaseHelper.copyBinary(other_element);
+;
+          __this__keys.add(temp_binary_element);
+        }
+        this.keys = __this__keys;
+      }
+    }
+
+    public getBulk_args deepCopy() {
+      return new getBulk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.keys = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public getBulk_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public int get_keys_size() {
+      return (this.keys == null) ? 0 : this.keys.size();
+    }
+
+    public java.util.Iterator<ByteBuffer> get_keys_iterator() {
+      return (this.keys == null) ? null : this.keys.iterator();
+    }
+
+    public void add_to_keys(ByteBuffer elem) {
+      if (this.keys == null) {
+        this.keys = new ArrayList<ByteBuffer>();
+      }
+      this.keys.add(elem);
+    }
+
+    public List<ByteBuffer> get_keys() {
+      return this.keys;
+    }
+
+    public getBulk_args set_keys(List<ByteBuffer> keys) {
+      this.keys = keys;
+      return this;
+    }
+
+    public void unset_keys() {
+      this.keys = null;
+    }
+
+    /** Returns true if field keys is set (has been assigned a value) and false otherwise */
+    public boolean is_set_keys() {
+      return this.keys != null;
+    }
+
+    public void set_keys_isSet(boolean value) {
+      if (!value) {
+        this.keys = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEYS:
+        if (value == null) {
+          unset_keys();
+        } else {
+          set_keys((List<ByteBuffer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEYS:
+        return get_keys();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEYS:
+        return is_set_keys();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBulk_args)
+        return this.equals((getBulk_args)that);
+      return false;
+    }
+
+    public boolean equals(getBulk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_keys = true && this.is_set_keys();
+      boolean that_present_keys = true && that.is_set_keys();
+      if (this_present_keys || that_present_keys) {
+        if (!(this_present_keys && that_present_keys))
+          return false;
+        if (!this.keys.equals(that.keys))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_keys = true && (is_set_keys());
+      builder.append(present_keys);
+      if (present_keys)
+        builder.append(keys);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getBulk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getBulk_args typedOther = (getBulk_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_keys()).compareTo(typedOther.is_set_keys());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_keys()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.keys, typedOther.keys);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getBulk_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("keys:");
+      if (this.keys == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.keys);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBulk_argsStandardSchemeFactory implements SchemeFactory {
+      public getBulk_argsStandardScheme getScheme() {
+        return new getBulk_argsStandardScheme();
+      }
+    }
+
+    private static class getBulk_argsStandardScheme extends StandardScheme<getBulk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEYS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list122 = iprot.readListBegin();
+                  struct.keys = new ArrayList<ByteBuffer>(_list122.size);
+                  for (int _i123 = 0; _i123 < _list122.size; ++_i123)
+                  {
+                    ByteBuffer _elem124; // required
+                    _elem124 = iprot.readBinary();
+                    struct.keys.add(_elem124);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_keys_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.keys != null) {
+          oprot.writeFieldBegin(KEYS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.keys.size()));
+            for (ByteBuffer _iter125 : struct.keys)
+            {
+              oprot.writeBinary(_iter125);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBulk_argsTupleSchemeFactory implements SchemeFactory {
+      public getBulk_argsTupleScheme getScheme() {
+        return new getBulk_argsTupleScheme();
+      }
+    }
+
+    private static class getBulk_argsTupleScheme extends TupleScheme<getBulk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBulk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_keys()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_keys()) {
+          {
+            oprot.writeI32(struct.keys.size());
+            for (ByteBuffer _iter126 : struct.keys)
+            {
+              oprot.writeBinary(_iter126);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBulk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list127 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.keys = new ArrayList<ByteBuffer>(_list127.size);
+            for (int _i128 = 0; _i128 < _list127.size; ++_i128)
+            {
+              ByteBuffer _elem129; // required
+              _elem129 = iprot.readBinary();
+              struct.keys.add(_elem129);
+            }
+          }
+          struct.set_keys_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getBulk_result implements org.apache.thrift.TBase<getBulk_result, getBulk_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulk_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getBulk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getBulk_resultTupleSchemeFactory());
+    }
+
+    public HankBulkResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankBulkResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulk_result.class, metaDataMap);
+    }
+
+    public getBulk_result() {
+    }
+
+    public getBulk_result(
+      HankBulkResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBulk_result(getBulk_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankBulkResponse(other.success);
+      }
+    }
+
+    public getBulk_result deepCopy() {
+      return new getBulk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankBulkResponse get_success() {
+      return this.success;
+    }
+
+    public getBulk_result set_success(HankBulkResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankBulkResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBulk_result)
+        return this.equals((getBulk_result)that);
+      return false;
+    }
+
+    public boolean equals(getBulk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getBulk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getBulk_result typedOther = (getBulk_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getBulk_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBulk_resultStandardSchemeFactory implements SchemeFactory {
+      public getBulk_resultStandardScheme getScheme() {
+        return new getBulk_resultStandardScheme();
+      }
+    }
+
+    private static class getBulk_resultStandardScheme extends StandardScheme<getBulk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankBulkResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBulk_resultTupleSchemeFactory implements SchemeFactory {
+      public getBulk_resultTupleScheme getScheme() {
+        return new getBulk_resultTupleScheme();
+      }
+    }
+
+    private static class getBulk_resultTupleScheme extends TupleScheme<getBulk_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBulk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBulk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankBulkResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getBulkCompact_args implements org.apache.thrift.TBase<getBulkCompact_args, getBulkCompact_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulkCompact_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("keys", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getBulkCompact_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getBulkCompact_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public List<ByteBuffer> keys; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEYS((short)2, "keys");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEYS
+            return KEYS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEYS, new org.apache.thrift.meta_data.FieldMetaData("keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING              , true))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulkCompact_args.class, metaDataMap);
+    }
+
+    public getBulkCompact_args() {
+    }
+
+    public getBulkCompact_args(
+      int domain_id,
+      List<ByteBuffer> keys)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.keys = keys;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBulkCompact_args(getBulkCompact_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_keys()) {
+        List<ByteBuffer> __this__keys = new ArrayList<ByteBuffer>();
+        for (ByteBuffer other_element : other.keys) {
+          ByteBuffer temp_binary_element = org.apache.thrift.TBaseHelper.copyBinary(other_element);
+;
+          __this__keys.add(temp_binary_element);
+        }
+        this.keys = __this__keys;
+      }
+    }
+
+    public getBulkCompact_args deepCopy() {
+      return new getBulkCompact_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.keys = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public getBulkCompact_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public int get_keys_size() {
+      return (this.keys == null) ? 0 : this.keys.size();
+    }
+
+    public java.util.Iterator<ByteBuffer> get_keys_iterator() {
+      return (this.keys == null) ? null : this.keys.iterator();
+    }
+
+    public void add_to_keys(ByteBuffer elem) {
+      if (this.keys == null) {
+        this.keys = new ArrayList<ByteBuffer>();
+      }
+      this.keys.add(elem);
+    }
+
+    public List<ByteBuffer> get_keys() {
+      return this.keys;
+    }
+
+    public getBulkCompact_args set_keys(List<ByteBuffer> keys) {
+      this.keys = keys;
+      return this;
+    }
+
+    public void unset_keys() {
+      this.keys = null;
+    }
+
+    /** Returns true if field keys is set (has been assigned a value) and false otherwise */
+    public boolean is_set_keys() {
+      return this.keys != null;
+    }
+
+    public void set_keys_isSet(boolean value) {
+      if (!value) {
+        this.keys = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEYS:
+        if (value == null) {
+          unset_keys();
+        } else {
+          set_keys((List<ByteBuffer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEYS:
+        return get_keys();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEYS:
+        return is_set_keys();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBulkCompact_args)
+        return this.equals((getBulkCompact_args)that);
+      return false;
+    }
+
+    public boolean equals(getBulkCompact_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_keys = true && this.is_set_keys();
+      boolean that_present_keys = true && that.is_set_keys();
+      if (this_present_keys || that_present_keys) {
+        if (!(this_present_keys && that_present_keys))
+          return false;
+        if (!this.keys.equals(that.keys))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_keys = true && (is_set_keys());
+      builder.append(present_keys);
+      if (present_keys)
+        builder.append(keys);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getBulkCompact_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getBulkCompact_args typedOther = (getBulkCompact_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_keys()).compareTo(typedOther.is_set_keys());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_keys()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.keys, typedOther.keys);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getBulkCompact_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("keys:");
+      if (this.keys == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.keys);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBulkCompact_argsStandardSchemeFactory implements SchemeFactory {
+      public getBulkCompact_argsStandardScheme getScheme() {
+        return new getBulkCompact_argsStandardScheme();
+      }
+    }
+
+    private static class getBulkCompact_argsStandardScheme extends StandardScheme<getBulkCompact_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulkCompact_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEYS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list130 = iprot.readListBegin();
+                  struct.keys = new ArrayList<ByteBuffer>(_list130.size);
+                  for (int _i131 = 0; _i131 < _list130.size; ++_i131)
+                  {
+                    ByteBuffer _elem132; // required
+                    _elem132 = iprot.readBinary();
+                    struct.keys.add(_elem132);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_keys_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulkCompact_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.keys != null) {
+          oprot.writeFieldBegin(KEYS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.keys.size()));
+            for (ByteBuffer _iter133 : struct.keys)
+            {
+              oprot.writeBinary(_iter133);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBulkCompact_argsTupleSchemeFactory implements SchemeFactory {
+      public getBulkCompact_argsTupleScheme getScheme() {
+        return new getBulkCompact_argsTupleScheme();
+      }
+    }
+
+    private static class getBulkCompact_argsTupleScheme extends TupleScheme<getBulkCompact_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBulkCompact_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_keys()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_keys()) {
+          {
+            oprot.writeI32(struct.keys.size());
+            for (ByteBuffer _iter134 : struct.keys)
+            {
+              oprot.writeBinary(_iter134);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBulkCompact_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list135 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.keys = new ArrayList<ByteBuffer>(_list135.size);
+            for (int _i136 = 0; _i136 < _list135.size; ++_i136)
+            {
+              ByteBuffer _elem137; // required
+              _elem137 = iprot.readBinary();
+              struct.keys.add(_elem137);
+            }
+          }
+          struct.set_keys_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getBulkCompact_result implements org.apache.thrift.TBase<getBulkCompact_result, getBulkCompact_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulkCompact_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getBulkCompact_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getBulkCompact_resultTupleSchemeFactory());
+    }
+
+    public HankCompactBulkResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankCompactBulkResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulkCompact_result.class, metaDataMap);
+    }
+
+    public getBulkCompact_result() {
+    }
+
+    public getBulkCompact_result(
+      HankCompactBulkResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getBulkCompact_result(getBulkCompact_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankCompactBulkResponse(other.success);
+      }
+    }
+
+    public getBulkCompact_result deepCopy() {
+      return new getBulkCompact_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankCompactBulkResponse get_success() {
+      return this.success;
+    }
+
+    public getBulkCompact_result set_success(HankCompactBulkResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankCompactBulkResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getBulkCompact_result)
+        return this.equals((getBulkCompact_result)that);
+      return false;
+    }
+
+    public boolean equals(getBulkCompact_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getBulkCompact_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getBulkCompact_result typedOther = (getBulkCompact_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getBulkCompact_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getBulkCompact_resultStandardSchemeFactory implements SchemeFactory {
+      public getBulkCompact_resultStandardScheme getScheme() {
+        return new getBulkCompact_resultStandardScheme();
+      }
+    }
+
+    private static class getBulkCompact_resultStandardScheme extends StandardScheme<getBulkCompact_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulkCompact_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankCompactBulkResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulkCompact_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getBulkCompact_resultTupleSchemeFactory implements SchemeFactory {
+      public getBulkCompact_resultTupleScheme getScheme() {
+        return new getBulkCompact_resultTupleScheme();
+      }
+    }
+
+    private static class getBulkCompact_resultTupleScheme extends TupleScheme<getBulkCompact_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getBulkCompact_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getBulkCompact_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankCompactBulkResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class negotiateWireCompression_args implements org.apache.thrift.TBase<negotiateWireCompression_args, negotiateWireCompression_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("negotiateWireCompression_args");
+
+    private static final org.apache.thrift.protocol.TField CODECS_FIELD_DESC = new org.apache.thrift.protocol.TField("codecs", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new negotiateWireCompression_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new negotiateWireCompression_argsTupleSchemeFactory());
+    }
+
+    public List<String> codecs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CODECS((short)1, "codecs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CODECS
+            return CODECS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CODECS, new org.apache.thrift.meta_data.FieldMetaData("codecs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(negotiateWireCompression_args.class, metaDataMap);
+    }
+
+    public negotiateWireCompression_args() {
+    }
+
+    public negotiateWireCompression_args(
+      List<String> codecs)
+    {
+      this();
+      this.codecs = codecs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public negotiateWireCompression_args(negotiateWireCompression_args other) {
+      if (other.is_set_codecs()) {
+        List<String> __this__codecs = new ArrayList<String>();
+        for (String other_element : other.codecs) {
+          __this__codecs.add(other_element);
+        }
+        this.codecs = __this__codecs;
+      }
+    }
+
+    public negotiateWireCompression_args deepCopy() {
+      return new negotiateWireCompression_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.codecs = null;
+    }
+
+    public int get_codecs_size() {
+      return (this.codecs == null) ? 0 : this.codecs.size();
+    }
+
+    public java.util.Iterator<String> get_codecs_iterator() {
+      return (this.codecs == null) ? null : this.codecs.iterator();
+    }
+
+    public void add_to_codecs(String elem) {
+      if (this.codecs == null) {
+        this.codecs = new ArrayList<String>();
+      }
+      this.codecs.add(elem);
+    }
+
+    public List<String> get_codecs() {
+      return this.codecs;
+    }
+
+    public negotiateWireCompression_args set_codecs(List<String> codecs) {
+      this.codecs = codecs;
+      return this;
+    }
+
+    public void unset_codecs() {
+      this.codecs = null;
+    }
+
+    /** Returns true if field codecs is set (has been assigned a value) and false otherwise */
+    public boolean is_set_codecs() {
+      return this.codecs != null;
+    }
+
+    public void set_codecs_isSet(boolean value) {
+      if (!value) {
+        this.codecs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CODECS:
+        if (value == null) {
+          unset_codecs();
+        } else {
+          set_codecs((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CODECS:
+        return get_codecs();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CODECS:
+        return is_set_codecs();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof negotiateWireCompression_args)
+        return this.equals((negotiateWireCompression_args)that);
+      return false;
+    }
+
+    public boolean equals(negotiateWireCompression_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_codecs = true && this.is_set_codecs();
+      boolean that_present_codecs = true && that.is_set_codecs();
+      if (this_present_codecs || that_present_codecs) {
+        if (!(this_present_codecs && that_present_codecs))
+          return false;
+        if (!this.codecs.equals(that.codecs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_codecs = true && (is_set_codecs());
+      builder.append(present_codecs);
+      if (present_codecs)
+        builder.append(codecs);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(negotiateWireCompression_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      negotiateWireCompression_args typedOther = (negotiateWireCompression_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_codecs()).compareTo(typedOther.is_set_codecs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_codecs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.codecs, typedOther.codecs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("negotiateWireCompression_args(");
+      boolean first = true;
+
+      sb.append("codecs:");
+      if (this.codecs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.codecs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class negotiateWireCompression_argsStandardSchemeFactory implements SchemeFactory {
+      public negotiateWireCompression_argsStandardScheme getScheme() {
+        return new negotiateWireCompression_argsStandardScheme();
+      }
+    }
+
+    private static class negotiateWireCompression_argsStandardScheme extends StandardScheme<negotiateWireCompression_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, negotiateWireCompression_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CODECS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list138 = iprot.readListBegin();
+                  struct.codecs = new ArrayList<String>(_list138.size);
+                  for (int _i139 = 0; _i139 < _list138.size; ++_i139)
+                  {
+                    String _elem140; // required
+                    _elem140 = iprot.readString();
+                    struct.codecs.add(_elem140);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_codecs_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, negotiateWireCompression_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.codecs != null) {
+          oprot.writeFieldBegin(CODECS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.codecs.size()));
+            for (String _iter141 : struct.codecs)
+            {
+              oprot.writeString(_iter141);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class negotiateWireCompression_argsTupleSchemeFactory implements SchemeFactory {
+      public negotiateWireCompression_argsTupleScheme getScheme() {
+        return new negotiateWireCompression_argsTupleScheme();
+      }
+    }
+
+    private static class negotiateWireCompression_argsTupleScheme extends TupleScheme<negotiateWireCompression_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, negotiateWireCompression_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_codecs()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_codecs()) {
+          {
+            oprot.writeI32(struct.codecs.size());
+            for (String _iter142 : struct.codecs)
+            {
+              oprot.writeString(_iter142);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, negotiateWireCompression_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list143 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.codecs = new ArrayList<String>(_list143.size);
+            for (int _i144 = 0; _i144 < _list143.size; ++_i144)
+            {
+              String _elem145; // required
+              _elem145 = iprot.readString();
+              struct.codecs.add(_elem145);
+            }
+          }
+          struct.set_codecs_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class negotiateWireCompression_result implements org.apache.thrift.TBase<negotiateWireCompression_result, negotiateWireCompression_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("negotiateWireCompression_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new negotiateWireCompression_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new negotiateWireCompression_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(negotiateWireCompression_result.class, metaDataMap);
+    }
+
+    public negotiateWireCompression_result() {
+    }
+
+    public negotiateWireCompression_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public negotiateWireCompression_result(negotiateWireCompression_result other) {
+      if (other.is_set_success()) {
+        this.success = other.success;
+      }
+    }
+
+    public negotiateWireCompression_result deepCopy() {
+      return new negotiateWireCompression_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String get_success() {
+      return this.success;
+    }
+
+    public negotiateWireCompression_result set_success(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof negotiateWireCompression_result)
+        return this.equals((negotiateWireCompression_result)that);
+      return false;
+    }
+
+    public boolean equals(negotiateWireCompression_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(negotiateWireCompression_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      negotiateWireCompression_result typedOther = (negotiateWireCompression_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("negotiateWireCompression_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class negotiateWireCompression_resultStandardSchemeFactory implements SchemeFactory {
+      public negotiateWireCompression_resultStandardScheme getScheme() {
+        return new negotiateWireCompression_resultStandardScheme();
+      }
+    }
+
+    private static class negotiateWireCompression_resultStandardScheme extends StandardScheme<negotiateWireCompression_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, negotiateWireCompression_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, negotiateWireCompression_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class negotiateWireCompression_resultTupleSchemeFactory implements SchemeFactory {
+      public negotiateWireCompression_resultTupleScheme getScheme() {
+        return new negotiateWireCompression_resultTupleScheme();
+      }
+    }
+
+    private static class negotiateWireCompression_resultTupleScheme extends TupleScheme<negotiateWireCompression_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, negotiateWireCompression_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, negotiateWireCompression_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getHashed_args implements org.apache.thrift.TBase<getHashed_args, getHashed_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHashed_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PARTITION_FIELD_DESC = new org.apache.thrift.protocol.TField("partition", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField HASHED_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("hashed_key", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getHashed_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getHashed_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public int partition; // required
+    public ByteBuffer hashed_key; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      PARTITION((short)2, "partition"),
+      HASHED_KEY((short)3, "hashed_key");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // PARTITION
+            return PARTITION;
+          case 3: // HASHED_KEY
+            return HASHED_KEY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private static final int __PARTITION_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PARTITION, new org.apache.thrift.meta_data.FieldMetaData("partition", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.HASHED_KEY, new org.apache.thrift.meta_data.FieldMetaData("hashed_key", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHashed_args.class, metaDataMap);
+    }
+
+    public getHashed_args() {
+    }
+
+    public getHashed_args(
+      int domain_id,
+      int partition,
+      ByteBuffer hashed_key)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.partition = partition;
+      set_partition_isSet(true);
+      this.hashed_key = hashed_key;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getHashed_args(getHashed_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      this.partition = other.partition;
+      if (other.is_set_hashed_key()) {
+        this.hashed_key = org.apache.thrift.TBaseHelper.copyBinary(other.hashed_key);
+;
+      }
+    }
+
+    public getHashed_args deepCopy() {
+      return new getHashed_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      set_partition_isSet(false);
+      this.partition = 0;
+      this.hashed_key = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public getHashed_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public int get_partition() {
+      return this.partition;
+    }
+
+    public getHashed_args set_partition(int partition) {
+      this.partition = partition;
+      set_partition_isSet(true);
+      return this;
+    }
+
+    public void unset_partition() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTITION_ISSET_ID);
+    }
+
+    /** Returns true if field partition is set (has been assigned a value) and false otherwise */
+    public boolean is_set_partition() {
+      return EncodingUtils.testBit(__isset_bitfield, __PARTITION_ISSET_ID);
+    }
+
+    public void set_partition_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTITION_ISSET_ID, value);
+    }
+
+    public byte[] get_hashed_key() {
+      set_hashed_key(org.apache.thrift.TBaseHelper.rightSize(hashed_key));
+      return hashed_key == null ? null : hashed_key.array();
+    }
+
+    public ByteBuffer buffer_for_hashed_key() {
+      return hashed_key;
+    }
+
+    public getHashed_args set_hashed_key(byte[] hashed_key) {
+      set_hashed_key(hashed_key == null ? (ByteBuffer)null : ByteBuffer.wrap(hashed_key));
+      return this;
+    }
+
+    public getHashed_args set_hashed_key(ByteBuffer hashed_key) {
+      this.hashed_key = hashed_key;
+      return this;
+    }
+
+    public void unset_hashed_key() {
+      this.hashed_key = null;
+    }
+
+    /** Returns true if field hashed_key is set (has been assigned a value) and false otherwise */
+    public boolean is_set_hashed_key() {
+      return this.hashed_key != null;
+    }
+
+    public void set_hashed_key_isSet(boolean value) {
+      if (!value) {
+        this.hashed_key = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case PARTITION:
+        if (value == null) {
+          unset_partition();
+        } else {
+          set_partition((Integer)value);
+        }
+        break;
+
+      case HASHED_KEY:
+        if (value == null) {
+          unset_hashed_key();
+        } else {
+          set_hashed_key((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case PARTITION:
+        return Integer.valueOf(get_partition());
+
+      case HASHED_KEY:
+        return get_hashed_key();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case PARTITION:
+        return is_set_partition();
+      case HASHED_KEY:
+        return is_set_hashed_key();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getHashed_args)
+        return this.equals((getHashed_args)that);
+      return false;
+    }
+
+    public boolean equals(getHashed_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_partition = true;
+      boolean that_present_partition = true;
+      if (this_present_partition || that_present_partition) {
+        if (!(this_present_partition && that_present_partition))
+          return false;
+        if (this.partition != that.partition)
+          return false;
+      }
+
+      boolean this_present_hashed_key = true && this.is_set_hashed_key();
+      boolean that_present_hashed_key = true && that.is_set_hashed_key();
+      if (this_present_hashed_key || that_present_hashed_key) {
+        if (!(this_present_hashed_key && that_present_hashed_key))
+          return false;
+        if (!this.hashed_key.equals(that.hashed_key))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_partition = true;
+      builder.append(present_partition);
+      if (present_partition)
+        builder.append(partition);
+
+      boolean present_hashed_key = true && (is_set_hashed_key());
+      builder.append(present_hashed_key);
+      if (present_hashed_key)
+        builder.append(hashed_key);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getHashed_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getHashed_args typedOther = (getHashed_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_partition()).compareTo(typedOther.is_set_partition());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_partition()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partition, typedOther.partition);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_hashed_key()).compareTo(typedOther.is_set_hashed_key());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_hashed_key()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.hashed_key, typedOther.hashed_key);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getHashed_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("partition:");
+      sb.append(this.partition);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("hashed_key:");
+      if (this.hashed_key == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.hashed_key, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getHashed_argsStandardSchemeFactory implements SchemeFactory {
+      public getHashed_argsStandardScheme getScheme() {
+        return new getHashed_argsStandardScheme();
+      }
+    }
+
+    private static class getHashed_argsStandardScheme extends StandardScheme<getHashed_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHashed_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARTITION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.partition = iprot.readI32();
+                struct.set_partition_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // HASHED_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.hashed_key = iprot.readBinary();
+                struct.set_hashed_key_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHashed_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(PARTITION_FIELD_DESC);
+        oprot.writeI32(struct.partition);
+        oprot.writeFieldEnd();
+        if (struct.hashed_key != null) {
+          oprot.writeFieldBegin(HASHED_KEY_FIELD_DESC);
+          oprot.writeBinary(struct.hashed_key);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getHashed_argsTupleSchemeFactory implements SchemeFactory {
+      public getHashed_argsTupleScheme getScheme() {
+        return new getHashed_argsTupleScheme();
+      }
+    }
+
+    private static class getHashed_argsTupleScheme extends TupleScheme<getHashed_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHashed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_partition()) {
+          optionals.set(1);
+        }
+        if (struct.is_set_hashed_key()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_partition()) {
+          oprot.writeI32(struct.partition);
+        }
+        if (struct.is_set_hashed_key()) {
+          oprot.writeBinary(struct.hashed_key);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHashed_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.partition = iprot.readI32();
+          struct.set_partition_isSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.hashed_key = iprot.readBinary();
+          struct.set_hashed_key_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getHashed_result implements org.apache.thrift.TBase<getHashed_result, getHashed_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHashed_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getHashed_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getHashed_resultTupleSchemeFactory());
+    }
+
+    public HankResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHashed_result.class, metaDataMap);
+    }
+
+    public getHashed_result() {
+    }
+
+    public getHashed_result(
+      HankResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getHashed_result(getHashed_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankResponse(other.success);
+      }
+    }
+
+    public getHashed_result deepCopy() {
+      return new getHashed_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankResponse get_success() {
+      return this.success;
+    }
+
+    public getHashed_result set_success(HankResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getHashed_result)
+        return this.equals((getHashed_result)that);
+      return false;
+    }
+
+    public boolean equals(getHashed_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getHashed_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getHashed_result typedOther = (getHashed_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getHashed_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getHashed_resultStandardSchemeFactory implements SchemeFactory {
+      public getHashed_resultStandardScheme getScheme() {
+        return new getHashed_resultStandardScheme();
+      }
+    }
+
+    private static class getHashed_resultStandardScheme extends StandardScheme<getHashed_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHashed_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHashed_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getHashed_resultTupleSchemeFactory implements SchemeFactory {
+      public getHashed_resultTupleScheme getScheme() {
+        return new getHashed_resultTupleScheme();
+      }
+    }
+
+    private static class getHashed_resultTupleScheme extends TupleScheme<getHashed_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHashed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHashed_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getMulti_args implements org.apache.thrift.TBase<getMulti_args, getMulti_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMulti_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_keys", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMulti_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMulti_argsTupleSchemeFactory());
+    }
+
+    public List<HankDomainKey> domain_keys; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_KEYS((short)1, "domain_keys");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_KEYS
+            return DOMAIN_KEYS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_KEYS, new org.apache.thrift.meta_data.FieldMetaData("domain_keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankDomainKey.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMulti_args.class, metaDataMap);
+    }
+
+    public getMulti_args() {
+    }
+
+    public getMulti_args(
+      List<HankDomainKey> domain_keys)
+    {
+      this();
+      this.domain_keys = domain_keys;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMulti_args(getMulti_args other) {
+      if (other.is_set_domain_keys()) {
+        List<HankDomainKey> __this__domain_keys = new ArrayList<HankDomainKey>();
+        for (HankDomainKey other_element : other.domain_keys) {
+          __this__domain_keys.add(new HankDomainKey(other_element));
+        }
+        this.domain_keys = __this__domain_keys;
+      }
+    }
+
+    public getMulti_args deepCopy() {
+      return new getMulti_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.domain_keys = null;
+    }
+
+    public int get_domain_keys_size() {
+      return (this.domain_keys == null) ? 0 : this.domain_keys.size();
+    }
+
+    public java.util.Iterator<HankDomainKey> get_domain_keys_iterator() {
+      return (this.domain_keys == null) ? null : this.domain_keys.iterator();
+    }
+
+    public void add_to_domain_keys(HankDomainKey elem) {
+      if (this.domain_keys == null) {
+        this.domain_keys = new ArrayList<HankDomainKey>();
+      }
+      this.domain_keys.add(elem);
+    }
+
+    public List<HankDomainKey> get_domain_keys() {
+      return this.domain_keys;
+    }
+
+    public getMulti_args set_domain_keys(List<HankDomainKey> domain_keys) {
+      this.domain_keys = domain_keys;
+      return this;
+    }
+
+    public void unset_domain_keys() {
+      this.domain_keys = null;
+    }
+
+    /** Returns true if field domain_keys is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_keys() {
+      return this.domain_keys != null;
+    }
+
+    public void set_domain_keys_isSet(boolean value) {
+      if (!value) {
+        this.domain_keys = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_KEYS:
+        if (value == null) {
+          unset_domain_keys();
+        } else {
+          set_domain_keys((List<HankDomainKey>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_KEYS:
+        return get_domain_keys();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_KEYS:
+        return is_set_domain_keys();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMulti_args)
+        return this.equals((getMulti_args)that);
+      return false;
+    }
+
+    public boolean equals(getMulti_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_keys = true && this.is_set_domain_keys();
+      boolean that_present_domain_keys = true && that.is_set_domain_keys();
+      if (this_present_domain_keys || that_present_domain_keys) {
+        if (!(this_present_domain_keys && that_present_domain_keys))
+          return false;
+        if (!this.domain_keys.equals(that.domain_keys))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_keys = true && (is_set_domain_keys());
+      builder.append(present_domain_keys);
+      if (present_domain_keys)
+        builder.append(domain_keys);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getMulti_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMulti_args typedOther = (getMulti_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_keys()).compareTo(typedOther.is_set_domain_keys());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_keys()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_keys, typedOther.domain_keys);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMulti_args(");
+      boolean first = true;
+
+      sb.append("domain_keys:");
+      if (this.domain_keys == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.domain_keys);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getMulti_argsStandardSchemeFactory implements SchemeFactory {
+      public getMulti_argsStandardScheme getScheme() {
+        return new getMulti_argsStandardScheme();
+      }
+    }
+
+    private static class getMulti_argsStandardScheme extends StandardScheme<getMulti_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMulti_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_KEYS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list146 = iprot.readListBegin();
+                  struct.domain_keys = new ArrayList<HankDomainKey>(_list146.size);
+                  for (int _i147 = 0; _i147 < _list146.size; ++_i147)
+                  {
+                    HankDomainKey _elem148; // required
+                    _elem148 = new HankDomainKey();
+                    _elem148.read(iprot);
+                    struct.domain_keys.add(_elem148);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_domain_keys_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMulti_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.domain_keys != null) {
+          oprot.writeFieldBegin(DOMAIN_KEYS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.domain_keys.size()));
+            for (HankDomainKey _iter149 : struct.domain_keys)
+            {
+              _iter149.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMulti_argsTupleSchemeFactory implements SchemeFactory {
+      public getMulti_argsTupleScheme getScheme() {
+        return new getMulti_argsTupleScheme();
+      }
+    }
+
+    private static class getMulti_argsTupleScheme extends TupleScheme<getMulti_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMulti_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_keys()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_domain_keys()) {
+          {
+            oprot.writeI32(struct.domain_keys.size());
+            for (HankDomainKey _iter150 : struct.domain_keys)
+            {
+              _iter150.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMulti_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list151 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.domain_keys = new ArrayList<HankDomainKey>(_list151.size);
+            for (int _i152 = 0; _i152 < _list151.size; ++_i152)
+            {
+              HankDomainKey _elem153; // required
+              _elem153 = new HankDomainKey();
+              _elem153.read(iprot);
+              struct.domain_keys.add(_elem153);
+            }
+          }
+          struct.set_domain_keys_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getMulti_result implements org.apache.thrift.TBase<getMulti_result, getMulti_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMulti_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMulti_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMulti_resultTupleSchemeFactory());
+    }
+
+    public HankBulkResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankBulkResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMulti_result.class, metaDataMap);
+    }
+
+    public getMulti_result() {
+    }
+
+    public getMulti_result(
+      HankBulkResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMulti_result(getMulti_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankBulkResponse(other.success);
+      }
+    }
+
+    public getMulti_result deepCopy() {
+      return new getMulti_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankBulkResponse get_success() {
+      return this.success;
+    }
+
+    public getMulti_result set_success(HankBulkResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankBulkResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMulti_result)
+        return this.equals((getMulti_result)that);
+      return false;
+    }
+
+    public boolean equals(getMulti_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getMulti_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMulti_result typedOther = (getMulti_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMulti_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getMulti_resultStandardSchemeFactory implements SchemeFactory {
+      public getMulti_resultStandardScheme getScheme() {
+        return new getMulti_resultStandardScheme();
+      }
+    }
+
+    private static class getMulti_resultStandardScheme extends StandardScheme<getMulti_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMulti_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankBulkResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMulti_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMulti_resultTupleSchemeFactory implements SchemeFactory {
+      public getMulti_resultTupleScheme getScheme() {
+        return new getMulti_resultTupleScheme();
+      }
+    }
+
+    private static class getMulti_resultTupleScheme extends TupleScheme<getMulti_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMulti_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMulti_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankBulkResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class exists_args implements org.apache.thrift.TBase<exists_args, exists_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("key", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new exists_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new exists_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public ByteBuffer key; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEY((short)2, "key");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEY
+            return KEY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEY, new org.apache.thrift.meta_data.FieldMetaData("key", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_args.class, metaDataMap);
+    }
+
+    public exists_args() {
+    }
+
+    public exists_args(
+      int domain_id,
+      ByteBuffer key)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.key = key;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public exists_args(exists_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_key()) {
+        this.key = org.apache.thrift.TBaseHelper.copyBinary(other.key);
+;
+      }
+    }
+
+    public exists_args deepCopy() {
+      return new exists_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.key = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public exists_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public byte[] get_key() {
+      set_key(org.apache.thrift.TBaseHelper.rightSize(key));
+      return key == null ? null : key.array();
+    }
+
+    public ByteBuffer buffer_for_key() {
+      return key;
+    }
+
+    public exists_args set_key(byte[] key) {
+      set_key(key == null ? (ByteBuffer)null : ByteBuffer.wrap(key));
+      return this;
+    }
+
+    public exists_args set_key(ByteBuffer key) {
+      this.key = key;
+      return this;
+    }
+
+    public void unset_key() {
+      this.key = null;
+    }
+
+    /** Returns true if field key is set (has been assigned a value) and false otherwise */
+    public boolean is_set_key() {
+      return this.key != null;
+    }
+
+    public void set_key_isSet(boolean value) {
+      if (!value) {
+        this.key = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEY:
+        if (value == null) {
+          unset_key();
+        } else {
+          set_key((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEY:
+        return get_key();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEY:
+        return is_set_key();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof exists_args)
+        return this.equals((exists_args)that);
+      return false;
+    }
+
+    public boolean equals(exists_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_key = true && this.is_set_key();
+      boolean that_present_key = true && that.is_set_key();
+      if (this_present_key || that_present_key) {
+        if (!(this_present_key && that_present_key))
+          return false;
+        if (!this.key.equals(that.key))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_key = true && (is_set_key());
+      builder.append(present_key);
+      if (present_key)
+        builder.append(key);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(exists_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      exists_args typedOther = (exists_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_key()).compareTo(typedOther.is_set_key());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_key()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.key, typedOther.key);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("exists_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("key:");
+      if (this.key == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.key, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class exists_argsStandardSchemeFactory implements SchemeFactory {
+      public exists_argsStandardScheme getScheme() {
+        return new exists_argsStandardScheme();
+      }
+    }
+
+    private static class exists_argsStandardScheme extends StandardScheme<exists_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.key = iprot.readBinary();
+                struct.set_key_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.key != null) {
+          oprot.writeFieldBegin(KEY_FIELD_DESC);
+          oprot.writeBinary(struct.key);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class exists_argsTupleSchemeFactory implements SchemeFactory {
+      public exists_argsTupleScheme getScheme() {
+        return new exists_argsTupleScheme();
+      }
+    }
+
+    private static class exists_argsTupleScheme extends TupleScheme<exists_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_key()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_key()) {
+          oprot.writeBinary(struct.key);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, exists_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.key = iprot.readBinary();
+          struct.set_key_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class exists_result implements org.apache.thrift.TBase<exists_result, exists_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("exists_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new exists_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new exists_resultTupleSchemeFactory());
+    }
+
+    public HankExistsResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankExistsResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(exists_result.class, metaDataMap);
+    }
+
+    public exists_result() {
+    }
+
+    public exists_result(
+      HankExistsResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public exists_result(exists_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankExistsResponse(other.success);
+      }
+    }
+
+    public exists_result deepCopy() {
+      return new exists_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankExistsResponse get_success() {
+      return this.success;
+    }
+
+    public exists_result set_success(HankExistsResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankExistsResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof exists_result)
+        return this.equals((exists_result)that);
+      return false;
+    }
+
+    public boolean equals(exists_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(exists_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      exists_result typedOther = (exists_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("exists_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class exists_resultStandardSchemeFactory implements SchemeFactory {
+      public exists_resultStandardScheme getScheme() {
+        return new exists_resultStandardScheme();
+      }
+    }
+
+    private static class exists_resultStandardScheme extends StandardScheme<exists_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, exists_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankExistsResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, exists_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class exists_resultTupleSchemeFactory implements SchemeFactory {
+      public exists_resultTupleScheme getScheme() {
+        return new exists_resultTupleScheme();
+      }
+    }
+
+    private static class exists_resultTupleScheme extends TupleScheme<exists_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, exists_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankExistsResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class existsBulk_args implements org.apache.thrift.TBase<existsBulk_args, existsBulk_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("existsBulk_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("keys", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new existsBulk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new existsBulk_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public List<ByteBuffer> keys; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEYS((short)2, "keys");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEYS
+            return KEYS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEYS, new org.apache.thrift.meta_data.FieldMetaData("keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING              , true))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(existsBulk_args.class, metaDataMap);
+    }
+
+    public existsBulk_args() {
+    }
+
+    public existsBulk_args(
+      int domain_id,
+      List<ByteBuffer> keys)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.keys = keys;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public existsBulk_args(existsBulk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_keys()) {
+        List<ByteBuffer> __this__keys = new ArrayList<ByteBuffer>();
+        for (ByteBuffer other_element : other.keys) {
+          ByteBuffer temp_binary_element = org.apache.thrift.TBaseHelper.copyBinary(other_element);
+;
+          __this__keys.add(temp_binary_element);
+        }
+        this.keys = __this__keys;
+      }
+    }
+
+    public existsBulk_args deepCopy() {
+      return new existsBulk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.keys = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public existsBulk_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public int get_keys_size() {
+      return (this.keys == null) ? 0 : this.keys.size();
+    }
+
+    public java.util.Iterator<ByteBuffer> get_keys_iterator() {
+      return (this.keys == null) ? null : this.keys.iterator();
+    }
+
+    public void add_to_keys(ByteBuffer elem) {
+      if (this.keys == null) {
+        this.keys = new ArrayList<ByteBuffer>();
+      }
+      this.keys.add(elem);
+    }
+
+    public List<ByteBuffer> get_keys() {
+      return this.keys;
+    }
+
+    public existsBulk_args set_keys(List<ByteBuffer> keys) {
+      this.keys = keys;
+      return this;
+    }
+
+    public void unset_keys() {
+      this.keys = null;
+    }
+
+    /** Returns true if field keys is set (has been assigned a value) and false otherwise */
+    public boolean is_set_keys() {
+      return this.keys != null;
+    }
+
+    public void set_keys_isSet(boolean value) {
+      if (!value) {
+        this.keys = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEYS:
+        if (value == null) {
+          unset_keys();
+        } else {
+          set_keys((List<ByteBuffer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEYS:
+        return get_keys();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEYS:
+        return is_set_keys();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof existsBulk_args)
+        return this.equals((existsBulk_args)that);
+      return false;
+    }
+
+    public boolean equals(existsBulk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_keys = true && this.is_set_keys();
+      boolean that_present_keys = true && that.is_set_keys();
+      if (this_present_keys || that_present_keys) {
+        if (!(this_present_keys && that_present_keys))
+          return false;
+        if (!this.keys.equals(that.keys))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_keys = true && (is_set_keys());
+      builder.append(present_keys);
+      if (present_keys)
+        builder.append(keys);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(existsBulk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      existsBulk_args typedOther = (existsBulk_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_keys()).compareTo(typedOther.is_set_keys());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_keys()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.keys, typedOther.keys);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("existsBulk_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("keys:");
+      if (this.keys == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.keys);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class existsBulk_argsStandardSchemeFactory implements SchemeFactory {
+      public existsBulk_argsStandardScheme getScheme() {
+        return new existsBulk_argsStandardScheme();
+      }
+    }
+
+    private static class existsBulk_argsStandardScheme extends StandardScheme<existsBulk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, existsBulk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEYS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list154 = iprot.readListBegin();
+                  struct.keys = new ArrayList<ByteBuffer>(_list154.size);
+                  for (int _i155 = 0; _i155 < _list154.size; ++_i155)
+                  {
+                    ByteBuffer _elem156; // required
+                    _elem156 = iprot.readBinary();
+                    struct.keys.add(_elem156);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_keys_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, existsBulk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.keys != null) {
+          oprot.writeFieldBegin(KEYS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.keys.size()));
+            for (ByteBuffer _iter157 : struct.keys)
+            {
+              oprot.writeBinary(_iter157);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class existsBulk_argsTupleSchemeFactory implements SchemeFactory {
+      public existsBulk_argsTupleScheme getScheme() {
+        return new existsBulk_argsTupleScheme();
+      }
+    }
+
+    private static class existsBulk_argsTupleScheme extends TupleScheme<existsBulk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, existsBulk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_keys()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_keys()) {
+          {
+            oprot.writeI32(struct.keys.size());
+            for (ByteBuffer _iter158 : struct.keys)
+            {
+              oprot.writeBinary(_iter158);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, existsBulk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list159 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.keys = new ArrayList<ByteBuffer>(_list159.size);
+            for (int _i160 = 0; _i160 < _list159.size; ++_i160)
+            {
+              ByteBuffer _elem161; // required
+              _elem161 = iprot.readBinary();
+              struct.keys.add(_elem161);
+            }
+          }
+          struct.set_keys_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class existsBulk_result implements org.apache.thrift.TBase<existsBulk_result, existsBulk_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("existsBulk_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new existsBulk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new existsBulk_resultTupleSchemeFactory());
+    }
+
+    public HankExistsBulkResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankExistsBulkResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(existsBulk_result.class, metaDataMap);
+    }
+
+    public existsBulk_result() {
+    }
+
+    public existsBulk_result(
+      HankExistsBulkResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public existsBulk_result(existsBulk_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankExistsBulkResponse(other.success);
+      }
+    }
+
+    public existsBulk_result deepCopy() {
+      return new existsBulk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankExistsBulkResponse get_success() {
+      return this.success;
+    }
+
+    public existsBulk_result set_success(HankExistsBulkResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankExistsBulkResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof existsBulk_result)
+        return this.equals((existsBulk_result)that);
+      return false;
+    }
+
+    public boolean equals(existsBulk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(existsBulk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      existsBulk_result typedOther = (existsBulk_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("existsBulk_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class existsBulk_resultStandardSchemeFactory implements SchemeFactory {
+      public existsBulk_resultStandardScheme getScheme() {
+        return new existsBulk_resultStandardScheme();
+      }
+    }
+
+    private static class existsBulk_resultStandardScheme extends StandardScheme<existsBulk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, existsBulk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankExistsBulkResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, existsBulk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class existsBulk_resultTupleSchemeFactory implements SchemeFactory {
+      public existsBulk_resultTupleScheme getScheme() {
+        return new existsBulk_resultTupleScheme();
+      }
+    }
+
+    private static class existsBulk_resultTupleScheme extends TupleScheme<existsBulk_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, existsBulk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, existsBulk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankExistsBulkResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getValueSize_args implements org.apache.thrift.TBase<getValueSize_args, getValueSize_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getValueSize_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("key", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getValueSize_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getValueSize_argsTupleSchemeFactory());
+    }
+
+    public int domain_id; // required
+    public ByteBuffer key; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domain_id"),
+      KEY((short)2, "key");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // KEY
+            return KEY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.KEY, new org.apache.thrift.meta_data.FieldMetaData("key", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getValueSize_args.class, metaDataMap);
+    }
+
+    public getValueSize_args() {
+    }
+
+    public getValueSize_args(
+      int domain_id,
+      ByteBuffer key)
+    {
+      this();
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      this.key = key;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getValueSize_args(getValueSize_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.domain_id = other.domain_id;
+      if (other.is_set_key()) {
+        this.key = org.apache.thrift.TBaseHelper.copyBinary(other.key);
+;
+      }
+    }
+
+    public getValueSize_args deepCopy() {
+      return new getValueSize_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_domain_id_isSet(false);
+      this.domain_id = 0;
+      this.key = null;
+    }
+
+    public int get_domain_id() {
+      return this.domain_id;
+    }
+
+    public getValueSize_args set_domain_id(int domain_id) {
+      this.domain_id = domain_id;
+      set_domain_id_isSet(true);
+      return this;
+    }
+
+    public void unset_domain_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field domain_id is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID);
+    }
+
+    public void set_domain_id_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
+    }
+
+    public byte[] get_key() {
+      set_key(org.apache.thrift.TBaseHelper.rightSize(key));
+      return key == null ? null : key.array();
+    }
+
+    public ByteBuffer buffer_for_key() {
+      return key;
+    }
+
+    public getValueSize_args set_key(byte[] key) {
+      set_key(key == null ? (ByteBuffer)null : ByteBuffer.wrap(key));
+      return this;
+    }
+
+    public getValueSize_args set_key(ByteBuffer key) {
+      this.key = key;
+      return this;
+    }
+
+    public void unset_key() {
+      this.key = null;
+    }
+
+    /** Returns true if field key is set (has been assigned a value) and false otherwise */
+    public boolean is_set_key() {
+      return this.key != null;
+    }
+
+    public void set_key_isSet(boolean value) {
+      if (!value) {
+        this.key = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unset_domain_id();
+        } else {
+          set_domain_id((Integer)value);
+        }
+        break;
+
+      case KEY:
+        if (value == null) {
+          unset_key();
+        } else {
+          set_key((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return Integer.valueOf(get_domain_id());
+
+      case KEY:
+        return get_key();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return is_set_domain_id();
+      case KEY:
+        return is_set_key();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getValueSize_args)
+        return this.equals((getValueSize_args)that);
+      return false;
+    }
+
+    public boolean equals(getValueSize_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_id = true;
+      boolean that_present_domain_id = true;
+      if (this_present_domain_id || that_present_domain_id) {
+        if (!(this_present_domain_id && that_present_domain_id))
+          return false;
+        if (this.domain_id != that.domain_id)
+          return false;
+      }
+
+      boolean this_present_key = true && this.is_set_key();
+      boolean that_present_key = true && that.is_set_key();
+      if (this_present_key || that_present_key) {
+        if (!(this_present_key && that_present_key))
+          return false;
+        if (!this.key.equals(that.key))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_id = true;
+      builder.append(present_domain_id);
+      if (present_domain_id)
+        builder.append(domain_id);
+
+      boolean present_key = true && (is_set_key());
+      builder.append(present_key);
+      if (present_key)
+        builder.append(key);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getValueSize_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getValueSize_args typedOther = (getValueSize_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_id, typedOther.domain_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_key()).compareTo(typedOther.is_set_key());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_key()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.key, typedOther.key);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getValueSize_args(");
+      boolean first = true;
+
+      sb.append("domain_id:");
+      sb.append(this.domain_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("key:");
+      if (this.key == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.key, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getValueSize_argsStandardSchemeFactory implements SchemeFactory {
+      public getValueSize_argsStandardScheme getScheme() {
+        return new getValueSize_argsStandardScheme();
+      }
+    }
+
+    private static class getValueSize_argsStandardScheme extends StandardScheme<getValueSize_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getValueSize_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.domain_id = iprot.readI32();
+                struct.set_domain_id_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.key = iprot.readBinary();
+                struct.set_key_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getValueSize_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+        oprot.writeI32(struct.domain_id);
+        oprot.writeFieldEnd();
+        if (struct.key != null) {
+          oprot.writeFieldBegin(KEY_FIELD_DESC);
+          oprot.writeBinary(struct.key);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getValueSize_argsTupleSchemeFactory implements SchemeFactory {
+      public getValueSize_argsTupleScheme getScheme() {
+        return new getValueSize_argsTupleScheme();
+      }
+    }
+
+    private static class getValueSize_argsTupleScheme extends TupleScheme<getValueSize_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getValueSize_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_id()) {
+          optionals.set(0);
+        }
+        if (struct.is_set_key()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_domain_id()) {
+          oprot.writeI32(struct.domain_id);
+        }
+        if (struct.is_set_key()) {
+          oprot.writeBinary(struct.key);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getValueSize_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.domain_id = iprot.readI32();
+          struct.set_domain_id_isSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.key = iprot.readBinary();
+          struct.set_key_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getValueSize_result implements org.apache.thrift.TBase<getValueSize_result, getValueSize_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getValueSize_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getValueSize_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getValueSize_resultTupleSchemeFactory());
+    }
+
+    public HankValueSizeResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankValueSizeResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getValueSize_result.class, metaDataMap);
+    }
+
+    public getValueSize_result() {
+    }
+
+    public getValueSize_result(
+      HankValueSizeResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getValueSize_result(getValueSize_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankValueSizeResponse(other.success);
+      }
+    }
+
+    public getValueSize_result deepCopy() {
+      return new getValueSize_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankValueSizeResponse get_success() {
+      return this.success;
+    }
+
+    public getValueSize_result set_success(HankValueSizeResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankValueSizeResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getValueSize_result)
+        return this.equals((getValueSize_result)that);
+      return false;
+    }
+
+    public boolean equals(getValueSize_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getValueSize_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getValueSize_result typedOther = (getValueSize_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getValueSize_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
     }
 
-    public static class get<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_args> {
-      public get() {
-        super("get");
+    private static class getValueSize_resultStandardSchemeFactory implements SchemeFactory {
+      public getValueSize_resultStandardScheme getScheme() {
+        return new getValueSize_resultStandardScheme();
       }
+    }
 
-      public get_args getEmptyArgsInstance() {
-        return new get_args();
-      }
+    private static class getValueSize_resultStandardScheme extends StandardScheme<getValueSize_result> {
 
-      protected boolean isOneway() {
-        return false;
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getValueSize_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankValueSizeResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      public get_result getResult(I iface, get_args args) throws org.apache.thrift.TException {
-        get_result result = new get_result();
-        result.success = iface.get(args.domain_id, args.key);
-        return result;
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getValueSize_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
+
     }
 
-    public static class getBulk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getBulk_args> {
-      public getBulk() {
-        super("getBulk");
+    private static class getValueSize_resultTupleSchemeFactory implements SchemeFactory {
+      public getValueSize_resultTupleScheme getScheme() {
+        return new getValueSize_resultTupleScheme();
       }
+    }
 
-      public getBulk_args getEmptyArgsInstance() {
-        return new getBulk_args();
-      }
+    private static class getValueSize_resultTupleScheme extends TupleScheme<getValueSize_result> {
 
-      protected boolean isOneway() {
-        return false;
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getValueSize_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
       }
 
-      public getBulk_result getResult(I iface, getBulk_args args) throws org.apache.thrift.TException {
-        getBulk_result result = new getBulk_result();
-        result.success = iface.getBulk(args.domain_id, args.keys);
-        return result;
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getValueSize_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankValueSizeResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
       }
     }
 
   }
 
-  public static class get_args implements org.apache.thrift.TBase<get_args, get_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_args");
+  public static class getRange_args implements org.apache.thrift.TBase<getRange_args, getRange_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRange_args");
 
     private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
     private static final org.apache.thrift.protocol.TField KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("key", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField VERSION_NUMBER_FIELD_DESC = new org.apache.thrift.protocol.TField("version_number", org.apache.thrift.protocol.TType.I32, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new get_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new get_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getRange_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRange_argsTupleSchemeFactory());
     }
 
     public int domain_id; // required
     public ByteBuffer key; // required
+    public int offset; // required
+    public int length; // required
+    public int version_number; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       DOMAIN_ID((short)1, "domain_id"),
-      KEY((short)2, "key");
+      KEY((short)2, "key"),
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length"),
+      VERSION_NUMBER((short)5, "version_number");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -302,6 +8729,12 @@ public class PartitionServer {
             return DOMAIN_ID;
           case 2: // KEY
             return KEY;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
+          case 5: // VERSION_NUMBER
+            return VERSION_NUMBER;
           default:
             return null;
         }
@@ -343,6 +8776,9 @@ public class PartitionServer {
 
     // isset id assignments
     private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private static final int __LENGTH_ISSET_ID = 2;
+    private static final int __VERSION_NUMBER_ISSET_ID = 3;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -351,37 +8787,57 @@ public class PartitionServer {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       tmpMap.put(_Fields.KEY, new org.apache.thrift.meta_data.FieldMetaData("key", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.VERSION_NUMBER, new org.apache.thrift.meta_data.FieldMetaData("version_number", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRange_args.class, metaDataMap);
     }
 
-    public get_args() {
+    public getRange_args() {
+      this.version_number = -1;
+
     }
 
-    public get_args(
+    public getRange_args(
       int domain_id,
-      ByteBuffer key)
+      ByteBuffer key,
+      int offset,
+      int length,
+      int version_number)
     {
       this();
       this.domain_id = domain_id;
       set_domain_id_isSet(true);
       this.key = key;
+      this.offset = offset;
+      set_offset_isSet(true);
+      this.length = length;
+      set_length_isSet(true);
+      this.version_number = version_number;
+      set_version_number_isSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_args(get_args other) {
+    public getRange_args(getRange_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.domain_id = other.domain_id;
       if (other.is_set_key()) {
         this.key = org.apache.thrift.TBaseHelper.copyBinary(other.key);
 ;
       }
+      this.offset = other.offset;
+      this.length = other.length;
+      this.version_number = other.version_number;
     }
 
-    public get_args deepCopy() {
-      return new get_args(this);
+    public getRange_args deepCopy() {
+      return new getRange_args(this);
     }
 
     @Override
@@ -389,13 +8845,19 @@ public class PartitionServer {
       set_domain_id_isSet(false);
       this.domain_id = 0;
       this.key = null;
+      set_offset_isSet(false);
+      this.offset = 0;
+      set_length_isSet(false);
+      this.length = 0;
+      this.version_number = -1;
+
     }
 
     public int get_domain_id() {
       return this.domain_id;
     }
 
-    public get_args set_domain_id(int domain_id) {
+    public getRange_args set_domain_id(int domain_id) {
       this.domain_id = domain_id;
       set_domain_id_isSet(true);
       return this;
@@ -423,12 +8885,12 @@ public class PartitionServer {
       return key;
     }
 
-    public get_args set_key(byte[] key) {
+    public getRange_args set_key(byte[] key) {
       set_key(key == null ? (ByteBuffer)null : ByteBuffer.wrap(key));
       return this;
     }
 
-    public get_args set_key(ByteBuffer key) {
+    public getRange_args set_key(ByteBuffer key) {
       this.key = key;
       return this;
     }
@@ -448,6 +8910,75 @@ public class PartitionServer {
       }
     }
 
+    public int get_offset() {
+      return this.offset;
+    }
+
+    public getRange_args set_offset(int offset) {
+      this.offset = offset;
+      set_offset_isSet(true);
+      return this;
+    }
+
+    public void unset_offset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean is_set_offset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void set_offset_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int get_length() {
+      return this.length;
+    }
+
+    public getRange_args set_length(int length) {
+      this.length = length;
+      set_length_isSet(true);
+      return this;
+    }
+
+    public void unset_length() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean is_set_length() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void set_length_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
+    public int get_version_number() {
+      return this.version_number;
+    }
+
+    public getRange_args set_version_number(int version_number) {
+      this.version_number = version_number;
+      set_version_number_isSet(true);
+      return this;
+    }
+
+    public void unset_version_number() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __VERSION_NUMBER_ISSET_ID);
+    }
+
+    /** Returns true if field version_number is set (has been assigned a value) and false otherwise */
+    public boolean is_set_version_number() {
+      return EncodingUtils.testBit(__isset_bitfield, __VERSION_NUMBER_ISSET_ID);
+    }
+
+    public void set_version_number_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __VERSION_NUMBER_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DOMAIN_ID:
@@ -466,6 +8997,30 @@ public class PartitionServer {
         }
         break;
 
+      case OFFSET:
+        if (value == null) {
+          unset_offset();
+        } else {
+          set_offset((Integer)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unset_length();
+        } else {
+          set_length((Integer)value);
+        }
+        break;
+
+      case VERSION_NUMBER:
+        if (value == null) {
+          unset_version_number();
+        } else {
+          set_version_number((Integer)value);
+        }
+        break;
+
       }
     }
 
@@ -477,6 +9032,15 @@ public class PartitionServer {
       case KEY:
         return get_key();
 
+      case OFFSET:
+        return Integer.valueOf(get_offset());
+
+      case LENGTH:
+        return Integer.valueOf(get_length());
+
+      case VERSION_NUMBER:
+        return Integer.valueOf(get_version_number());
+
       }
       throw new IllegalStateException();
     }
@@ -492,6 +9056,12 @@ public class PartitionServer {
         return is_set_domain_id();
       case KEY:
         return is_set_key();
+      case OFFSET:
+        return is_set_offset();
+      case LENGTH:
+        return is_set_length();
+      case VERSION_NUMBER:
+        return is_set_version_number();
       }
       throw new IllegalStateException();
     }
@@ -500,12 +9070,12 @@ public class PartitionServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof get_args)
-        return this.equals((get_args)that);
+      if (that instanceof getRange_args)
+        return this.equals((getRange_args)that);
       return false;
     }
 
-    public boolean equals(get_args that) {
+    public boolean equals(getRange_args that) {
       if (that == null)
         return false;
 
@@ -527,6 +9097,33 @@ public class PartitionServer {
           return false;
       }
 
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
+          return false;
+      }
+
+      boolean this_present_version_number = true;
+      boolean that_present_version_number = true;
+      if (this_present_version_number || that_present_version_number) {
+        if (!(this_present_version_number && that_present_version_number))
+          return false;
+        if (this.version_number != that.version_number)
+          return false;
+      }
+
       return true;
     }
 
@@ -544,16 +9141,31 @@ public class PartitionServer {
       if (present_key)
         builder.append(key);
 
+      boolean present_offset = true;
+      builder.append(present_offset);
+      if (present_offset)
+        builder.append(offset);
+
+      boolean present_length = true;
+      builder.append(present_length);
+      if (present_length)
+        builder.append(length);
+
+      boolean present_version_number = true;
+      builder.append(present_version_number);
+      if (present_version_number)
+        builder.append(version_number);
+
       return builder.toHashCode();
     }
 
-    public int compareTo(get_args other) {
+    public int compareTo(getRange_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_args typedOther = (get_args)other;
+      getRange_args typedOther = (getRange_args)other;
 
       lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
       if (lastComparison != 0) {
@@ -575,6 +9187,36 @@ public class PartitionServer {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(is_set_offset()).compareTo(typedOther.is_set_offset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_offset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, typedOther.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_length()).compareTo(typedOther.is_set_length());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_length()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, typedOther.length);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_version_number()).compareTo(typedOther.is_set_version_number());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_version_number()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.version_number, typedOther.version_number);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -592,7 +9234,7 @@ public class PartitionServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_args(");
+      StringBuilder sb = new StringBuilder("getRange_args(");
       boolean first = true;
 
       sb.append("domain_id:");
@@ -606,6 +9248,18 @@ public class PartitionServer {
         org.apache.thrift.TBaseHelper.toString(this.key, sb);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("version_number:");
+      sb.append(this.version_number);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -633,15 +9287,15 @@ public class PartitionServer {
       }
     }
 
-    private static class get_argsStandardSchemeFactory implements SchemeFactory {
-      public get_argsStandardScheme getScheme() {
-        return new get_argsStandardScheme();
+    private static class getRange_argsStandardSchemeFactory implements SchemeFactory {
+      public getRange_argsStandardScheme getScheme() {
+        return new getRange_argsStandardScheme();
       }
     }
 
-    private static class get_argsStandardScheme extends StandardScheme<get_args> {
+    private static class getRange_argsStandardScheme extends StandardScheme<getRange_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, get_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -667,6 +9321,30 @@ public class PartitionServer {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.offset = iprot.readI32();
+                struct.set_offset_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.set_length_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // VERSION_NUMBER
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.version_number = iprot.readI32();
+                struct.set_version_number_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -678,7 +9356,7 @@ public class PartitionServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, get_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRange_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -690,22 +9368,31 @@ public class PartitionServer {
           oprot.writeBinary(struct.key);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI32(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(VERSION_NUMBER_FIELD_DESC);
+        oprot.writeI32(struct.version_number);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class get_argsTupleSchemeFactory implements SchemeFactory {
-      public get_argsTupleScheme getScheme() {
-        return new get_argsTupleScheme();
+    private static class getRange_argsTupleSchemeFactory implements SchemeFactory {
+      public getRange_argsTupleScheme getScheme() {
+        return new getRange_argsTupleScheme();
       }
     }
 
-    private static class get_argsTupleScheme extends TupleScheme<get_args> {
+    private static class getRange_argsTupleScheme extends TupleScheme<getRange_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, get_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRange_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.is_set_domain_id()) {
@@ -714,19 +9401,37 @@ public class PartitionServer {
         if (struct.is_set_key()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_offset()) {
+          optionals.set(2);
+        }
+        if (struct.is_set_length()) {
+          optionals.set(3);
+        }
+        if (struct.is_set_version_number()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.is_set_domain_id()) {
           oprot.writeI32(struct.domain_id);
         }
         if (struct.is_set_key()) {
           oprot.writeBinary(struct.key);
         }
+        if (struct.is_set_offset()) {
+          oprot.writeI32(struct.offset);
+        }
+        if (struct.is_set_length()) {
+          oprot.writeI32(struct.length);
+        }
+        if (struct.is_set_version_number()) {
+          oprot.writeI32(struct.version_number);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, get_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRange_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.domain_id = iprot.readI32();
           struct.set_domain_id_isSet(true);
@@ -735,20 +9440,32 @@ public class PartitionServer {
           struct.key = iprot.readBinary();
           struct.set_key_isSet(true);
         }
+        if (incoming.get(2)) {
+          struct.offset = iprot.readI32();
+          struct.set_offset_isSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.length = iprot.readI32();
+          struct.set_length_isSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.version_number = iprot.readI32();
+          struct.set_version_number_isSet(true);
+        }
       }
     }
 
   }
 
-  public static class get_result implements org.apache.thrift.TBase<get_result, get_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_result");
+  public static class getRange_result implements org.apache.thrift.TBase<getRange_result, getRange_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getRange_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new get_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new get_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getRange_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getRange_resultTupleSchemeFactory());
     }
 
     public HankResponse success; // required
@@ -818,13 +9535,13 @@ public class PartitionServer {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getRange_result.class, metaDataMap);
     }
 
-    public get_result() {
+    public getRange_result() {
     }
 
-    public get_result(
+    public getRange_result(
       HankResponse success)
     {
       this();
@@ -834,14 +9551,14 @@ public class PartitionServer {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public get_result(get_result other) {
+    public getRange_result(getRange_result other) {
       if (other.is_set_success()) {
         this.success = new HankResponse(other.success);
       }
     }
 
-    public get_result deepCopy() {
-      return new get_result(this);
+    public getRange_result deepCopy() {
+      return new getRange_result(this);
     }
 
     @Override
@@ -853,7 +9570,7 @@ public class PartitionServer {
       return this.success;
     }
 
-    public get_result set_success(HankResponse success) {
+    public getRange_result set_success(HankResponse success) {
       this.success = success;
       return this;
     }
@@ -911,13 +9628,13 @@ public class PartitionServer {
     @Override
     public boolean equals(Object that) {
       if (that == null)
-        return false;
-      if (that instanceof get_result)
-        return this.equals((get_result)that);
+        return false;
+      if (that instanceof getRange_result)
+        return this.equals((getRange_result)that);
       return false;
     }
 
-    public boolean equals(get_result that) {
+    public boolean equals(getRange_result that) {
       if (that == null)
         return false;
 
@@ -945,13 +9662,13 @@ public class PartitionServer {
       return builder.toHashCode();
     }
 
-    public int compareTo(get_result other) {
+    public int compareTo(getRange_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      get_result typedOther = (get_result)other;
+      getRange_result typedOther = (getRange_result)other;
 
       lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
       if (lastComparison != 0) {
@@ -980,7 +9697,7 @@ public class PartitionServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("get_result(");
+      StringBuilder sb = new StringBuilder("getRange_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1015,15 +9732,15 @@ public class PartitionServer {
       }
     }
 
-    private static class get_resultStandardSchemeFactory implements SchemeFactory {
-      public get_resultStandardScheme getScheme() {
-        return new get_resultStandardScheme();
+    private static class getRange_resultStandardSchemeFactory implements SchemeFactory {
+      public getRange_resultStandardScheme getScheme() {
+        return new getRange_resultStandardScheme();
       }
     }
 
-    private static class get_resultStandardScheme extends StandardScheme<get_result> {
+    private static class getRange_resultStandardScheme extends StandardScheme<getRange_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, get_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1053,7 +9770,7 @@ public class PartitionServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, get_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getRange_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1068,16 +9785,16 @@ public class PartitionServer {
 
     }
 
-    private static class get_resultTupleSchemeFactory implements SchemeFactory {
-      public get_resultTupleScheme getScheme() {
-        return new get_resultTupleScheme();
+    private static class getRange_resultTupleSchemeFactory implements SchemeFactory {
+      public getRange_resultTupleScheme getScheme() {
+        return new getRange_resultTupleScheme();
       }
     }
 
-    private static class get_resultTupleScheme extends TupleScheme<get_result> {
+    private static class getRange_resultTupleScheme extends TupleScheme<getRange_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, get_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getRange_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.is_set_success()) {
@@ -1090,7 +9807,7 @@ public class PartitionServer {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, get_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getRange_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -1103,25 +9820,31 @@ public class PartitionServer {
 
   }
 
-  public static class getBulk_args implements org.apache.thrift.TBase<getBulk_args, getBulk_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulk_args");
+  public static class scanPartition_args implements org.apache.thrift.TBase<scanPartition_args, scanPartition_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scanPartition_args");
 
     private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_id", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("keys", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField PARTITION_FIELD_DESC = new org.apache.thrift.protocol.TField("partition", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getBulk_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getBulk_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scanPartition_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scanPartition_argsTupleSchemeFactory());
     }
 
     public int domain_id; // required
-    public List<ByteBuffer> keys; // required
+    public int partition; // required
+    public ByteBuffer cursor; // required
+    public int limit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       DOMAIN_ID((short)1, "domain_id"),
-      KEYS((short)2, "keys");
+      PARTITION((short)2, "partition"),
+      CURSOR((short)3, "cursor"),
+      LIMIT((short)4, "limit");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1138,8 +9861,12 @@ public class PartitionServer {
         switch(fieldId) {
           case 1: // DOMAIN_ID
             return DOMAIN_ID;
-          case 2: // KEYS
-            return KEYS;
+          case 2: // PARTITION
+            return PARTITION;
+          case 3: // CURSOR
+            return CURSOR;
+          case 4: // LIMIT
+            return LIMIT;
           default:
             return null;
         }
@@ -1181,65 +9908,77 @@ public class PartitionServer {
 
     // isset id assignments
     private static final int __DOMAIN_ID_ISSET_ID = 0;
+    private static final int __PARTITION_ISSET_ID = 1;
+    private static final int __LIMIT_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domain_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.KEYS, new org.apache.thrift.meta_data.FieldMetaData("keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING              , true))));
+      tmpMap.put(_Fields.PARTITION, new org.apache.thrift.meta_data.FieldMetaData("partition", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulk_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scanPartition_args.class, metaDataMap);
     }
 
-    public getBulk_args() {
+    public scanPartition_args() {
     }
 
-    public getBulk_args(
+    public scanPartition_args(
       int domain_id,
-      List<ByteBuffer> keys)
+      int partition,
+      ByteBuffer cursor,
+      int limit)
     {
       this();
       this.domain_id = domain_id;
       set_domain_id_isSet(true);
-      this.keys = keys;
+      this.partition = partition;
+      set_partition_isSet(true);
+      this.cursor = cursor;
+      this.limit = limit;
+      set_limit_isSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBulk_args(getBulk_args other) {
+    public scanPartition_args(scanPartition_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.domain_id = other.domain_id;
-      if (other.is_set_keys()) {
-        List<ByteBuffer> __this__keys = new ArrayList<ByteBuffer>();
-        for (ByteBuffer other_element : other.keys) {
-          ByteBuffer temp_binary_element = org.apache.thrift.TBaseHelper.copyBinary(other_element);
+      this.partition = other.partition;
+      if (other.is_set_cursor()) {
+        this.cursor = org.apache.thrift.TBaseHelper.copyBinary(other.cursor);
 ;
-          __this__keys.add(temp_binary_element);
-        }
-        this.keys = __this__keys;
       }
+      this.limit = other.limit;
     }
 
-    public getBulk_args deepCopy() {
-      return new getBulk_args(this);
+    public scanPartition_args deepCopy() {
+      return new scanPartition_args(this);
     }
 
     @Override
     public void clear() {
       set_domain_id_isSet(false);
       this.domain_id = 0;
-      this.keys = null;
+      set_partition_isSet(false);
+      this.partition = 0;
+      this.cursor = null;
+      set_limit_isSet(false);
+      this.limit = 0;
     }
 
     public int get_domain_id() {
       return this.domain_id;
     }
 
-    public getBulk_args set_domain_id(int domain_id) {
+    public scanPartition_args set_domain_id(int domain_id) {
       this.domain_id = domain_id;
       set_domain_id_isSet(true);
       return this;
@@ -1258,45 +9997,86 @@ public class PartitionServer {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DOMAIN_ID_ISSET_ID, value);
     }
 
-    public int get_keys_size() {
-      return (this.keys == null) ? 0 : this.keys.size();
+    public int get_partition() {
+      return this.partition;
     }
 
-    public java.util.Iterator<ByteBuffer> get_keys_iterator() {
-      return (this.keys == null) ? null : this.keys.iterator();
+    public scanPartition_args set_partition(int partition) {
+      this.partition = partition;
+      set_partition_isSet(true);
+      return this;
     }
 
-    public void add_to_keys(ByteBuffer elem) {
-      if (this.keys == null) {
-        this.keys = new ArrayList<ByteBuffer>();
-      }
-      this.keys.add(elem);
+    public void unset_partition() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTITION_ISSET_ID);
     }
 
-    public List<ByteBuffer> get_keys() {
-      return this.keys;
+    /** Returns true if field partition is set (has been assigned a value) and false otherwise */
+    public boolean is_set_partition() {
+      return EncodingUtils.testBit(__isset_bitfield, __PARTITION_ISSET_ID);
     }
 
-    public getBulk_args set_keys(List<ByteBuffer> keys) {
-      this.keys = keys;
+    public void set_partition_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTITION_ISSET_ID, value);
+    }
+
+    public byte[] get_cursor() {
+      set_cursor(org.apache.thrift.TBaseHelper.rightSize(cursor));
+      return cursor == null ? null : cursor.array();
+    }
+
+    public ByteBuffer buffer_for_cursor() {
+      return cursor;
+    }
+
+    public scanPartition_args set_cursor(byte[] cursor) {
+      set_cursor(cursor == null ? (ByteBuffer)null : ByteBuffer.wrap(cursor));
       return this;
     }
 
-    public void unset_keys() {
-      this.keys = null;
+    public scanPartition_args set_cursor(ByteBuffer cursor) {
+      this.cursor = cursor;
+      return this;
     }
 
-    /** Returns true if field keys is set (has been assigned a value) and false otherwise */
-    public boolean is_set_keys() {
-      return this.keys != null;
+    public void unset_cursor() {
+      this.cursor = null;
     }
 
-    public void set_keys_isSet(boolean value) {
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean is_set_cursor() {
+      return this.cursor != null;
+    }
+
+    public void set_cursor_isSet(boolean value) {
       if (!value) {
-        this.keys = null;
+        this.cursor = null;
       }
     }
 
+    public int get_limit() {
+      return this.limit;
+    }
+
+    public scanPartition_args set_limit(int limit) {
+      this.limit = limit;
+      set_limit_isSet(true);
+      return this;
+    }
+
+    public void unset_limit() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
+
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean is_set_limit() {
+      return EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
+
+    public void set_limit_isSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case DOMAIN_ID:
@@ -1307,11 +10087,27 @@ public class PartitionServer {
         }
         break;
 
-      case KEYS:
+      case PARTITION:
         if (value == null) {
-          unset_keys();
+          unset_partition();
         } else {
-          set_keys((List<ByteBuffer>)value);
+          set_partition((Integer)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unset_cursor();
+        } else {
+          set_cursor((ByteBuffer)value);
+        }
+        break;
+
+      case LIMIT:
+        if (value == null) {
+          unset_limit();
+        } else {
+          set_limit((Integer)value);
         }
         break;
 
@@ -1323,8 +10119,14 @@ public class PartitionServer {
       case DOMAIN_ID:
         return Integer.valueOf(get_domain_id());
 
-      case KEYS:
-        return get_keys();
+      case PARTITION:
+        return Integer.valueOf(get_partition());
+
+      case CURSOR:
+        return get_cursor();
+
+      case LIMIT:
+        return Integer.valueOf(get_limit());
 
       }
       throw new IllegalStateException();
@@ -1339,8 +10141,12 @@ public class PartitionServer {
       switch (field) {
       case DOMAIN_ID:
         return is_set_domain_id();
-      case KEYS:
-        return is_set_keys();
+      case PARTITION:
+        return is_set_partition();
+      case CURSOR:
+        return is_set_cursor();
+      case LIMIT:
+        return is_set_limit();
       }
       throw new IllegalStateException();
     }
@@ -1349,12 +10155,12 @@ public class PartitionServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBulk_args)
-        return this.equals((getBulk_args)that);
+      if (that instanceof scanPartition_args)
+        return this.equals((scanPartition_args)that);
       return false;
     }
 
-    public boolean equals(getBulk_args that) {
+    public boolean equals(scanPartition_args that) {
       if (that == null)
         return false;
 
@@ -1367,12 +10173,30 @@ public class PartitionServer {
           return false;
       }
 
-      boolean this_present_keys = true && this.is_set_keys();
-      boolean that_present_keys = true && that.is_set_keys();
-      if (this_present_keys || that_present_keys) {
-        if (!(this_present_keys && that_present_keys))
+      boolean this_present_partition = true;
+      boolean that_present_partition = true;
+      if (this_present_partition || that_present_partition) {
+        if (!(this_present_partition && that_present_partition))
           return false;
-        if (!this.keys.equals(that.keys))
+        if (this.partition != that.partition)
+          return false;
+      }
+
+      boolean this_present_cursor = true && this.is_set_cursor();
+      boolean that_present_cursor = true && that.is_set_cursor();
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (!this.cursor.equals(that.cursor))
+          return false;
+      }
+
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
+          return false;
+        if (this.limit != that.limit)
           return false;
       }
 
@@ -1388,21 +10212,31 @@ public class PartitionServer {
       if (present_domain_id)
         builder.append(domain_id);
 
-      boolean present_keys = true && (is_set_keys());
-      builder.append(present_keys);
-      if (present_keys)
-        builder.append(keys);
+      boolean present_partition = true;
+      builder.append(present_partition);
+      if (present_partition)
+        builder.append(partition);
+
+      boolean present_cursor = true && (is_set_cursor());
+      builder.append(present_cursor);
+      if (present_cursor)
+        builder.append(cursor);
+
+      boolean present_limit = true;
+      builder.append(present_limit);
+      if (present_limit)
+        builder.append(limit);
 
       return builder.toHashCode();
     }
 
-    public int compareTo(getBulk_args other) {
+    public int compareTo(scanPartition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getBulk_args typedOther = (getBulk_args)other;
+      scanPartition_args typedOther = (scanPartition_args)other;
 
       lastComparison = Boolean.valueOf(is_set_domain_id()).compareTo(typedOther.is_set_domain_id());
       if (lastComparison != 0) {
@@ -1414,12 +10248,32 @@ public class PartitionServer {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(is_set_keys()).compareTo(typedOther.is_set_keys());
+      lastComparison = Boolean.valueOf(is_set_partition()).compareTo(typedOther.is_set_partition());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (is_set_keys()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.keys, typedOther.keys);
+      if (is_set_partition()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partition, typedOther.partition);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_cursor()).compareTo(typedOther.is_set_cursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_cursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, typedOther.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_limit()).compareTo(typedOther.is_set_limit());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_limit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, typedOther.limit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1441,20 +10295,28 @@ public class PartitionServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getBulk_args(");
+      StringBuilder sb = new StringBuilder("scanPartition_args(");
       boolean first = true;
 
       sb.append("domain_id:");
       sb.append(this.domain_id);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("keys:");
-      if (this.keys == null) {
+      sb.append("partition:");
+      sb.append(this.partition);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      if (this.cursor == null) {
         sb.append("null");
       } else {
-        sb.append(this.keys);
+        org.apache.thrift.TBaseHelper.toString(this.cursor, sb);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("limit:");
+      sb.append(this.limit);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1482,15 +10344,15 @@ public class PartitionServer {
       }
     }
 
-    private static class getBulk_argsStandardSchemeFactory implements SchemeFactory {
-      public getBulk_argsStandardScheme getScheme() {
-        return new getBulk_argsStandardScheme();
+    private static class scanPartition_argsStandardSchemeFactory implements SchemeFactory {
+      public scanPartition_argsStandardScheme getScheme() {
+        return new scanPartition_argsStandardScheme();
       }
     }
 
-    private static class getBulk_argsStandardScheme extends StandardScheme<getBulk_args> {
+    private static class scanPartition_argsStandardScheme extends StandardScheme<scanPartition_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulk_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scanPartition_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1508,20 +10370,26 @@ public class PartitionServer {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // KEYS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
-                  struct.keys = new ArrayList<ByteBuffer>(_list96.size);
-                  for (int _i97 = 0; _i97 < _list96.size; ++_i97)
-                  {
-                    ByteBuffer _elem98; // required
-                    _elem98 = iprot.readBinary();
-                    struct.keys.add(_elem98);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.set_keys_isSet(true);
+            case 2: // PARTITION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.partition = iprot.readI32();
+                struct.set_partition_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursor = iprot.readBinary();
+                struct.set_cursor_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.set_limit_isSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1537,102 +10405,106 @@ public class PartitionServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulk_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scanPartition_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
         oprot.writeI32(struct.domain_id);
         oprot.writeFieldEnd();
-        if (struct.keys != null) {
-          oprot.writeFieldBegin(KEYS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.keys.size()));
-            for (ByteBuffer _iter99 : struct.keys)
-            {
-              oprot.writeBinary(_iter99);
-            }
-            oprot.writeListEnd();
-          }
+        oprot.writeFieldBegin(PARTITION_FIELD_DESC);
+        oprot.writeI32(struct.partition);
+        oprot.writeFieldEnd();
+        if (struct.cursor != null) {
+          oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+          oprot.writeBinary(struct.cursor);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getBulk_argsTupleSchemeFactory implements SchemeFactory {
-      public getBulk_argsTupleScheme getScheme() {
-        return new getBulk_argsTupleScheme();
+    private static class scanPartition_argsTupleSchemeFactory implements SchemeFactory {
+      public scanPartition_argsTupleScheme getScheme() {
+        return new scanPartition_argsTupleScheme();
       }
     }
 
-    private static class getBulk_argsTupleScheme extends TupleScheme<getBulk_args> {
+    private static class scanPartition_argsTupleScheme extends TupleScheme<scanPartition_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBulk_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scanPartition_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.is_set_domain_id()) {
           optionals.set(0);
         }
-        if (struct.is_set_keys()) {
+        if (struct.is_set_partition()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.is_set_cursor()) {
+          optionals.set(2);
+        }
+        if (struct.is_set_limit()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.is_set_domain_id()) {
           oprot.writeI32(struct.domain_id);
         }
-        if (struct.is_set_keys()) {
-          {
-            oprot.writeI32(struct.keys.size());
-            for (ByteBuffer _iter100 : struct.keys)
-            {
-              oprot.writeBinary(_iter100);
-            }
-          }
+        if (struct.is_set_partition()) {
+          oprot.writeI32(struct.partition);
+        }
+        if (struct.is_set_cursor()) {
+          oprot.writeBinary(struct.cursor);
+        }
+        if (struct.is_set_limit()) {
+          oprot.writeI32(struct.limit);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBulk_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scanPartition_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.domain_id = iprot.readI32();
           struct.set_domain_id_isSet(true);
         }
         if (incoming.get(1)) {
-          {
-            org.apache.thrift.protocol.TList _list101 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.keys = new ArrayList<ByteBuffer>(_list101.size);
-            for (int _i102 = 0; _i102 < _list101.size; ++_i102)
-            {
-              ByteBuffer _elem103; // required
-              _elem103 = iprot.readBinary();
-              struct.keys.add(_elem103);
-            }
-          }
-          struct.set_keys_isSet(true);
+          struct.partition = iprot.readI32();
+          struct.set_partition_isSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.cursor = iprot.readBinary();
+          struct.set_cursor_isSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.limit = iprot.readI32();
+          struct.set_limit_isSet(true);
         }
       }
     }
 
   }
 
-  public static class getBulk_result implements org.apache.thrift.TBase<getBulk_result, getBulk_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getBulk_result");
+  public static class scanPartition_result implements org.apache.thrift.TBase<scanPartition_result, scanPartition_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scanPartition_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getBulk_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getBulk_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scanPartition_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scanPartition_resultTupleSchemeFactory());
     }
 
-    public HankBulkResponse success; // required
+    public HankScanResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -1697,16 +10569,16 @@ public class PartitionServer {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankBulkResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankScanResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getBulk_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scanPartition_result.class, metaDataMap);
     }
 
-    public getBulk_result() {
+    public scanPartition_result() {
     }
 
-    public getBulk_result(
-      HankBulkResponse success)
+    public scanPartition_result(
+      HankScanResponse success)
     {
       this();
       this.success = success;
@@ -1715,14 +10587,14 @@ public class PartitionServer {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getBulk_result(getBulk_result other) {
+    public scanPartition_result(scanPartition_result other) {
       if (other.is_set_success()) {
-        this.success = new HankBulkResponse(other.success);
+        this.success = new HankScanResponse(other.success);
       }
     }
 
-    public getBulk_result deepCopy() {
-      return new getBulk_result(this);
+    public scanPartition_result deepCopy() {
+      return new scanPartition_result(this);
     }
 
     @Override
@@ -1730,11 +10602,11 @@ public class PartitionServer {
       this.success = null;
     }
 
-    public HankBulkResponse get_success() {
+    public HankScanResponse get_success() {
       return this.success;
     }
 
-    public getBulk_result set_success(HankBulkResponse success) {
+    public scanPartition_result set_success(HankScanResponse success) {
       this.success = success;
       return this;
     }
@@ -1760,7 +10632,7 @@ public class PartitionServer {
         if (value == null) {
           unset_success();
         } else {
-          set_success((HankBulkResponse)value);
+          set_success((HankScanResponse)value);
         }
         break;
 
@@ -1793,12 +10665,12 @@ public class PartitionServer {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getBulk_result)
-        return this.equals((getBulk_result)that);
+      if (that instanceof scanPartition_result)
+        return this.equals((scanPartition_result)that);
       return false;
     }
 
-    public boolean equals(getBulk_result that) {
+    public boolean equals(scanPartition_result that) {
       if (that == null)
         return false;
 
@@ -1826,13 +10698,13 @@ public class PartitionServer {
       return builder.toHashCode();
     }
 
-    public int compareTo(getBulk_result other) {
+    public int compareTo(scanPartition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getBulk_result typedOther = (getBulk_result)other;
+      scanPartition_result typedOther = (scanPartition_result)other;
 
       lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
       if (lastComparison != 0) {
@@ -1861,7 +10733,7 @@ public class PartitionServer {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getBulk_result(");
+      StringBuilder sb = new StringBuilder("scanPartition_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1896,15 +10768,15 @@ public class PartitionServer {
       }
     }
 
-    private static class getBulk_resultStandardSchemeFactory implements SchemeFactory {
-      public getBulk_resultStandardScheme getScheme() {
-        return new getBulk_resultStandardScheme();
+    private static class scanPartition_resultStandardSchemeFactory implements SchemeFactory {
+      public scanPartition_resultStandardScheme getScheme() {
+        return new scanPartition_resultStandardScheme();
       }
     }
 
-    private static class getBulk_resultStandardScheme extends StandardScheme<getBulk_result> {
+    private static class scanPartition_resultStandardScheme extends StandardScheme<scanPartition_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getBulk_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scanPartition_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1916,7 +10788,7 @@ public class PartitionServer {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new HankBulkResponse();
+                struct.success = new HankScanResponse();
                 struct.success.read(iprot);
                 struct.set_success_isSet(true);
               } else { 
@@ -1934,7 +10806,7 @@ public class PartitionServer {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getBulk_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scanPartition_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1949,16 +10821,16 @@ public class PartitionServer {
 
     }
 
-    private static class getBulk_resultTupleSchemeFactory implements SchemeFactory {
-      public getBulk_resultTupleScheme getScheme() {
-        return new getBulk_resultTupleScheme();
+    private static class scanPartition_resultTupleSchemeFactory implements SchemeFactory {
+      public scanPartition_resultTupleScheme getScheme() {
+        return new scanPartition_resultTupleScheme();
       }
     }
 
-    private static class getBulk_resultTupleScheme extends TupleScheme<getBulk_result> {
+    private static class scanPartition_resultTupleScheme extends TupleScheme<scanPartition_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getBulk_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scanPartition_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.is_set_success()) {
@@ -1971,11 +10843,11 @@ public class PartitionServer {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getBulk_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scanPartition_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new HankBulkResponse();
+          struct.success = new HankScanResponse();
           struct.success.read(iprot);
           struct.set_success_isSet(true);
         }
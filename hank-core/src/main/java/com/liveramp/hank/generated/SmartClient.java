@@ -39,6 +39,8 @@ public class SmartClient {
 
     public HankBulkResponse getBulk(String domain_name, List<ByteBuffer> keys) throws org.apache.thrift.TException;
 
+    public HankBulkResponse getMulti(List<HankDomainNameKey> domain_keys) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -47,6 +49,8 @@ public class SmartClient {
 
     public void getBulk(String domain_name, List<ByteBuffer> keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getBulk_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void getMulti(List<HankDomainNameKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getMulti_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -117,6 +121,29 @@ public class SmartClient {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getBulk failed: unknown result");
     }
 
+    public HankBulkResponse getMulti(List<HankDomainNameKey> domain_keys) throws org.apache.thrift.TException
+    {
+      send_getMulti(domain_keys);
+      return recv_getMulti();
+    }
+
+    public void send_getMulti(List<HankDomainNameKey> domain_keys) throws org.apache.thrift.TException
+    {
+      getMulti_args args = new getMulti_args();
+      args.set_domain_keys(domain_keys);
+      sendBase("getMulti", args);
+    }
+
+    public HankBulkResponse recv_getMulti() throws org.apache.thrift.TException
+    {
+      getMulti_result result = new getMulti_result();
+      receiveBase(result, "getMulti");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getMulti failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -205,6 +232,38 @@ public class SmartClient {
       }
     }
 
+    public void getMulti(List<HankDomainNameKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<getMulti_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getMulti_call method_call = new getMulti_call(domain_keys, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getMulti_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<HankDomainNameKey> domain_keys;
+      public getMulti_call(List<HankDomainNameKey> domain_keys, org.apache.thrift.async.AsyncMethodCallback<getMulti_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domain_keys = domain_keys;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getMulti", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getMulti_args args = new getMulti_args();
+        args.set_domain_keys(domain_keys);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public HankBulkResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getMulti();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -220,6 +279,7 @@ public class SmartClient {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("get", new get());
       processMap.put("getBulk", new getBulk());
+      processMap.put("getMulti", new getMulti());
       return processMap;
     }
 
@@ -263,6 +323,26 @@ public class SmartClient {
       }
     }
 
+    public static class getMulti<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getMulti_args> {
+      public getMulti() {
+        super("getMulti");
+      }
+
+      public getMulti_args getEmptyArgsInstance() {
+        return new getMulti_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getMulti_result getResult(I iface, getMulti_args args) throws org.apache.thrift.TException {
+        getMulti_result result = new getMulti_result();
+        result.success = iface.getMulti(args.domain_keys);
+        return result;
+      }
+    }
+
   }
 
   public static class get_args implements org.apache.thrift.TBase<get_args, get_args._Fields>, java.io.Serializable, Cloneable   {
@@ -1513,13 +1593,13 @@ public class SmartClient {
             case 2: // KEYS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list104 = iprot.readListBegin();
-                  struct.keys = new ArrayList<ByteBuffer>(_list104.size);
-                  for (int _i105 = 0; _i105 < _list104.size; ++_i105)
+                  org.apache.thrift.protocol.TList _list162 = iprot.readListBegin();
+                  struct.keys = new ArrayList<ByteBuffer>(_list162.size);
+                  for (int _i163 = 0; _i163 < _list162.size; ++_i163)
                   {
-                    ByteBuffer _elem106; // required
-                    _elem106 = iprot.readBinary();
-                    struct.keys.add(_elem106);
+                    ByteBuffer _elem164; // required
+                    _elem164 = iprot.readBinary();
+                    struct.keys.add(_elem164);
                   }
                   iprot.readListEnd();
                 }
@@ -1552,9 +1632,9 @@ public class SmartClient {
           oprot.writeFieldBegin(KEYS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.keys.size()));
-            for (ByteBuffer _iter107 : struct.keys)
+            for (ByteBuffer _iter165 : struct.keys)
             {
-              oprot.writeBinary(_iter107);
+              oprot.writeBinary(_iter165);
             }
             oprot.writeListEnd();
           }
@@ -1591,9 +1671,9 @@ public class SmartClient {
         if (struct.is_set_keys()) {
           {
             oprot.writeI32(struct.keys.size());
-            for (ByteBuffer _iter108 : struct.keys)
+            for (ByteBuffer _iter166 : struct.keys)
             {
-              oprot.writeBinary(_iter108);
+              oprot.writeBinary(_iter166);
             }
           }
         }
@@ -1609,13 +1689,13 @@ public class SmartClient {
         }
         if (incoming.get(1)) {
           {
-            org.apache.thrift.protocol.TList _list109 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.keys = new ArrayList<ByteBuffer>(_list109.size);
-            for (int _i110 = 0; _i110 < _list109.size; ++_i110)
+            org.apache.thrift.protocol.TList _list167 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.keys = new ArrayList<ByteBuffer>(_list167.size);
+            for (int _i168 = 0; _i168 < _list167.size; ++_i168)
             {
-              ByteBuffer _elem111; // required
-              _elem111 = iprot.readBinary();
-              struct.keys.add(_elem111);
+              ByteBuffer _elem169; // required
+              _elem169 = iprot.readBinary();
+              struct.keys.add(_elem169);
             }
           }
           struct.set_keys_isSet(true);
@@ -1988,4 +2068,782 @@ public class SmartClient {
 
   }
 
+  public static class getMulti_args implements org.apache.thrift.TBase<getMulti_args, getMulti_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMulti_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_KEYS_FIELD_DESC = new org.apache.thrift.protocol.TField("domain_keys", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMulti_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMulti_argsTupleSchemeFactory());
+    }
+
+    public List<HankDomainNameKey> domain_keys; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_KEYS((short)1, "domain_keys");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_KEYS
+            return DOMAIN_KEYS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_KEYS, new org.apache.thrift.meta_data.FieldMetaData("domain_keys", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankDomainNameKey.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMulti_args.class, metaDataMap);
+    }
+
+    public getMulti_args() {
+    }
+
+    public getMulti_args(
+      List<HankDomainNameKey> domain_keys)
+    {
+      this();
+      this.domain_keys = domain_keys;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMulti_args(getMulti_args other) {
+      if (other.is_set_domain_keys()) {
+        List<HankDomainNameKey> __this__domain_keys = new ArrayList<HankDomainNameKey>();
+        for (HankDomainNameKey other_element : other.domain_keys) {
+          __this__domain_keys.add(new HankDomainNameKey(other_element));
+        }
+        this.domain_keys = __this__domain_keys;
+      }
+    }
+
+    public getMulti_args deepCopy() {
+      return new getMulti_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.domain_keys = null;
+    }
+
+    public int get_domain_keys_size() {
+      return (this.domain_keys == null) ? 0 : this.domain_keys.size();
+    }
+
+    public java.util.Iterator<HankDomainNameKey> get_domain_keys_iterator() {
+      return (this.domain_keys == null) ? null : this.domain_keys.iterator();
+    }
+
+    public void add_to_domain_keys(HankDomainNameKey elem) {
+      if (this.domain_keys == null) {
+        this.domain_keys = new ArrayList<HankDomainNameKey>();
+      }
+      this.domain_keys.add(elem);
+    }
+
+    public List<HankDomainNameKey> get_domain_keys() {
+      return this.domain_keys;
+    }
+
+    public getMulti_args set_domain_keys(List<HankDomainNameKey> domain_keys) {
+      this.domain_keys = domain_keys;
+      return this;
+    }
+
+    public void unset_domain_keys() {
+      this.domain_keys = null;
+    }
+
+    /** Returns true if field domain_keys is set (has been assigned a value) and false otherwise */
+    public boolean is_set_domain_keys() {
+      return this.domain_keys != null;
+    }
+
+    public void set_domain_keys_isSet(boolean value) {
+      if (!value) {
+        this.domain_keys = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DOMAIN_KEYS:
+        if (value == null) {
+          unset_domain_keys();
+        } else {
+          set_domain_keys((List<HankDomainNameKey>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_KEYS:
+        return get_domain_keys();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_KEYS:
+        return is_set_domain_keys();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMulti_args)
+        return this.equals((getMulti_args)that);
+      return false;
+    }
+
+    public boolean equals(getMulti_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_domain_keys = true && this.is_set_domain_keys();
+      boolean that_present_domain_keys = true && that.is_set_domain_keys();
+      if (this_present_domain_keys || that_present_domain_keys) {
+        if (!(this_present_domain_keys && that_present_domain_keys))
+          return false;
+        if (!this.domain_keys.equals(that.domain_keys))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_domain_keys = true && (is_set_domain_keys());
+      builder.append(present_domain_keys);
+      if (present_domain_keys)
+        builder.append(domain_keys);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getMulti_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMulti_args typedOther = (getMulti_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_domain_keys()).compareTo(typedOther.is_set_domain_keys());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_domain_keys()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domain_keys, typedOther.domain_keys);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMulti_args(");
+      boolean first = true;
+
+      sb.append("domain_keys:");
+      if (this.domain_keys == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.domain_keys);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getMulti_argsStandardSchemeFactory implements SchemeFactory {
+      public getMulti_argsStandardScheme getScheme() {
+        return new getMulti_argsStandardScheme();
+      }
+    }
+
+    private static class getMulti_argsStandardScheme extends StandardScheme<getMulti_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMulti_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_KEYS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list170 = iprot.readListBegin();
+                  struct.domain_keys = new ArrayList<HankDomainNameKey>(_list170.size);
+                  for (int _i171 = 0; _i171 < _list170.size; ++_i171)
+                  {
+                    HankDomainNameKey _elem172; // required
+                    _elem172 = new HankDomainNameKey();
+                    _elem172.read(iprot);
+                    struct.domain_keys.add(_elem172);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.set_domain_keys_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMulti_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.domain_keys != null) {
+          oprot.writeFieldBegin(DOMAIN_KEYS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.domain_keys.size()));
+            for (HankDomainNameKey _iter173 : struct.domain_keys)
+            {
+              _iter173.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMulti_argsTupleSchemeFactory implements SchemeFactory {
+      public getMulti_argsTupleScheme getScheme() {
+        return new getMulti_argsTupleScheme();
+      }
+    }
+
+    private static class getMulti_argsTupleScheme extends TupleScheme<getMulti_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMulti_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_domain_keys()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_domain_keys()) {
+          {
+            oprot.writeI32(struct.domain_keys.size());
+            for (HankDomainNameKey _iter174 : struct.domain_keys)
+            {
+              _iter174.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMulti_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list175 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.domain_keys = new ArrayList<HankDomainNameKey>(_list175.size);
+            for (int _i176 = 0; _i176 < _list175.size; ++_i176)
+            {
+              HankDomainNameKey _elem177; // required
+              _elem177 = new HankDomainNameKey();
+              _elem177.read(iprot);
+              struct.domain_keys.add(_elem177);
+            }
+          }
+          struct.set_domain_keys_isSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getMulti_result implements org.apache.thrift.TBase<getMulti_result, getMulti_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMulti_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMulti_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMulti_resultTupleSchemeFactory());
+    }
+
+    public HankBulkResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HankBulkResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMulti_result.class, metaDataMap);
+    }
+
+    public getMulti_result() {
+    }
+
+    public getMulti_result(
+      HankBulkResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMulti_result(getMulti_result other) {
+      if (other.is_set_success()) {
+        this.success = new HankBulkResponse(other.success);
+      }
+    }
+
+    public getMulti_result deepCopy() {
+      return new getMulti_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public HankBulkResponse get_success() {
+      return this.success;
+    }
+
+    public getMulti_result set_success(HankBulkResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((HankBulkResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMulti_result)
+        return this.equals((getMulti_result)that);
+      return false;
+    }
+
+    public boolean equals(getMulti_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getMulti_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMulti_result typedOther = (getMulti_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMulti_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getMulti_resultStandardSchemeFactory implements SchemeFactory {
+      public getMulti_resultStandardScheme getScheme() {
+        return new getMulti_resultStandardScheme();
+      }
+    }
+
+    private static class getMulti_resultStandardScheme extends StandardScheme<getMulti_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMulti_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new HankBulkResponse();
+                struct.success.read(iprot);
+                struct.set_success_isSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMulti_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMulti_resultTupleSchemeFactory implements SchemeFactory {
+      public getMulti_resultTupleScheme getScheme() {
+        return new getMulti_resultTupleScheme();
+      }
+    }
+
+    private static class getMulti_resultTupleScheme extends TupleScheme<getMulti_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMulti_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.is_set_success()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.is_set_success()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMulti_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new HankBulkResponse();
+          struct.success.read(iprot);
+          struct.set_success_isSet(true);
+        }
+      }
+    }
+
+  }
+
 }
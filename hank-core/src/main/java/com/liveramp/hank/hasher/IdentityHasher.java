@@ -25,6 +25,6 @@ public class IdentityHasher implements Hasher {
     if (value.remaining() != hashSize) {
       throw new IllegalStateException("Tried to compute an identity hash of " + hashSize + " bytes with an incoming value of " + value.remaining() + " bytes.");
     }
-    System.arraycopy(value.array(), value.arrayOffset() + value.position(), hashBytes, 0, hashSize);
+    value.duplicate().get(hashBytes, 0, hashSize);
   }
 }
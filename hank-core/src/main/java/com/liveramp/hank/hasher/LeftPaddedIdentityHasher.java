@@ -12,7 +12,7 @@ public class LeftPaddedIdentityHasher implements Hasher {
 
     int bytesToPad = hashSize - value.remaining();
 
-    System.arraycopy(value.array(), value.arrayOffset() + value.position(), hashBytes, bytesToPad, value.remaining());
+    value.duplicate().get(hashBytes, bytesToPad, value.remaining());
 
   }
 }
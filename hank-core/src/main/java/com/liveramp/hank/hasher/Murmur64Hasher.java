@@ -18,6 +18,7 @@ package com.liveramp.hank.hasher;
 import com.liveramp.commons.util.BytesUtils;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * This is a very fast, non-cryptographic hash suitable for general hash-based
@@ -98,16 +99,69 @@ public final class Murmur64Hasher implements Hasher {
     return murmurHash64(data, INITIAL_SEED);
   }
 
+  // Works on heap, direct and read-only buffers alike, without copying them
   public static long murmurHash64(final ByteBuffer data, final int seed) {
-    return murmurHash64(data.array(), data.arrayOffset() + data.position(), data.remaining(), seed);
+    return murmurHash64LittleEndian(littleEndian(data), data.position(), data.remaining(), seed);
+  }
+
+  private static ByteBuffer littleEndian(final ByteBuffer data) {
+    return data.order() == ByteOrder.LITTLE_ENDIAN ? data : data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  // Same as murmurHash64(byte[], int, int, int) but reads whole 8-byte words, data must be little endian
+  private static long murmurHash64LittleEndian(final ByteBuffer data, final int off, final int length, final int seed) {
+    final long m = 0xc6a4a7935bd1e995L;
+    final int r = 47;
+
+    long h = seed ^ (length * m);
+
+    final int remainder = length & 7;
+    final int end = off + length - remainder;
+    for (int i = off; i < end; i += 8) {
+      long k = data.getLong(i);
+
+      k *= m;
+      k ^= k >>> r;
+      k *= m;
+
+      h ^= k;
+      h *= m;
+    }
+
+    switch (remainder) {
+      case 7:
+        h ^= (long) (data.get(end + 6) & 0xff) << 48;
+      case 6:
+        h ^= (long) (data.get(end + 5) & 0xff) << 40;
+      case 5:
+        h ^= (long) (data.get(end + 4) & 0xff) << 32;
+      case 4:
+        h ^= (long) (data.get(end + 3) & 0xff) << 24;
+      case 3:
+        h ^= (long) (data.get(end + 2) & 0xff) << 16;
+      case 2:
+        h ^= (long) (data.get(end + 1) & 0xff) << 8;
+      case 1:
+        h ^= (long) (data.get(end) & 0xff);
+        h *= m;
+    }
+
+    h ^= h >>> r;
+    h *= m;
+    h ^= h >>> r;
+
+    return h;
   }
 
   @Override
   public void hash(ByteBuffer value, int hashSize, byte[] hashBytes) {
+    ByteBuffer littleEndianValue = littleEndian(value);
+    int off = value.position();
+    int length = value.remaining();
     int seed = INITIAL_SEED;
     long hashValue;
     for (int i = 0; i <= hashSize - 8; i += 8) {
-      hashValue = murmurHash64(value, seed);
+      hashValue = murmurHash64LittleEndian(littleEndianValue, off, length, seed);
       seed = (int) hashValue;
       hashBytes[i] = (byte) ((hashValue >> 56) & 0xff);
       hashBytes[i + 1] = (byte) ((hashValue >> 48) & 0xff);
@@ -121,23 +175,23 @@ public final class Murmur64Hasher implements Hasher {
 
     int shortHashBytes = hashSize % 8;
     if (shortHashBytes > 0) {
-      hashValue = murmurHash64(value, seed);
-      int off = hashSize - 1;
+      hashValue = murmurHash64LittleEndian(littleEndianValue, off, length, seed);
+      int hashOff = hashSize - 1;
       switch (shortHashBytes) {
         case 7:
-          hashBytes[off--] = (byte) ((hashValue >> 8) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 8) & 0xff);
         case 6:
-          hashBytes[off--] = (byte) ((hashValue >> 16) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 16) & 0xff);
         case 5:
-          hashBytes[off--] = (byte) ((hashValue >> 24) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 24) & 0xff);
         case 4:
-          hashBytes[off--] = (byte) ((hashValue >> 32) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 32) & 0xff);
         case 3:
-          hashBytes[off--] = (byte) ((hashValue >> 40) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 40) & 0xff);
         case 2:
-          hashBytes[off--] = (byte) ((hashValue >> 48) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 48) & 0xff);
         case 1:
-          hashBytes[off--] = (byte) ((hashValue >> 56) & 0xff);
+          hashBytes[hashOff--] = (byte) ((hashValue >> 56) & 0xff);
       }
     }
   }
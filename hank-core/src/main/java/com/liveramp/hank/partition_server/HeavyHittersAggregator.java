@@ -0,0 +1,161 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.partition_server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The hottest key hashes and partitions of a domain, with their approximate
+ * request rates. Identifiers are only meaningful within a domain, so
+ * aggregators of different domains should not be combined.
+ */
+public class HeavyHittersAggregator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HeavyHittersAggregator.class);
+
+  public static final int MAX_NUM_HEAVY_HITTERS = 10;
+
+  private final List<HeavyHitter> hotKeys;
+  private final List<HeavyHitter> hotPartitions;
+
+  public static class HeavyHitter {
+
+    private final String id;
+    private final double throughput;
+
+    public HeavyHitter(String id, double throughput) {
+      this.id = id;
+      this.throughput = throughput;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    // Requests per second
+    public double getThroughput() {
+      return throughput;
+    }
+  }
+
+  public HeavyHittersAggregator() {
+    this(Collections.<HeavyHitter>emptyList(), Collections.<HeavyHitter>emptyList());
+  }
+
+  public HeavyHittersAggregator(List<HeavyHitter> hotKeys, List<HeavyHitter> hotPartitions) {
+    this.hotKeys = hotKeys;
+    this.hotPartitions = hotPartitions;
+  }
+
+  // Hottest first
+  public List<HeavyHitter> getHotKeys() {
+    return hotKeys;
+  }
+
+  // Hottest first
+  public List<HeavyHitter> getHotPartitions() {
+    return hotPartitions;
+  }
+
+  // Throughputs of the same key or partition on different hosts add up
+  public static HeavyHittersAggregator combine(Collection<HeavyHittersAggregator> heavyHittersAggregators) {
+    List<List<HeavyHitter>> hotKeys = new ArrayList<List<HeavyHitter>>(heavyHittersAggregators.size());
+    List<List<HeavyHitter>> hotPartitions = new ArrayList<List<HeavyHitter>>(heavyHittersAggregators.size());
+    for (HeavyHittersAggregator heavyHittersAggregator : heavyHittersAggregators) {
+      hotKeys.add(heavyHittersAggregator.hotKeys);
+      hotPartitions.add(heavyHittersAggregator.hotPartitions);
+    }
+    return new HeavyHittersAggregator(combineHeavyHitters(hotKeys), combineHeavyHitters(hotPartitions));
+  }
+
+  private static List<HeavyHitter> combineHeavyHitters(List<List<HeavyHitter>> heavyHittersLists) {
+    Map<String, Double> throughputs = new HashMap<String, Double>();
+    for (List<HeavyHitter> heavyHitters : heavyHittersLists) {
+      for (HeavyHitter heavyHitter : heavyHitters) {
+        Double throughput = throughputs.get(heavyHitter.id);
+        throughputs.put(heavyHitter.id, (throughput == null ? 0 : throughput) + heavyHitter.throughput);
+      }
+    }
+    List<HeavyHitter> result = new ArrayList<HeavyHitter>(throughputs.size());
+    for (Map.Entry<String, Double> entry : throughputs.entrySet()) {
+      result.add(new HeavyHitter(entry.getKey(), entry.getValue()));
+    }
+    return top(result, MAX_NUM_HEAVY_HITTERS);
+  }
+
+  // Sort hottest first and keep at most maxNumHeavyHitters
+  public static List<HeavyHitter> top(List<HeavyHitter> heavyHitters, int maxNumHeavyHitters) {
+    List<HeavyHitter> result = new ArrayList<HeavyHitter>(heavyHitters);
+    Collections.sort(result, new Comparator<HeavyHitter>() {
+      @Override
+      public int compare(HeavyHitter a, HeavyHitter b) {
+        return Double.compare(b.throughput, a.throughput);
+      }
+    });
+    return result.size() > maxNumHeavyHitters ? new ArrayList<HeavyHitter>(result.subList(0, maxNumHeavyHitters)) : result;
+  }
+
+  // Hot keys and hot partitions, separated by a semicolon. Each is a comma separated list of id:throughput.
+  public static String toString(HeavyHittersAggregator heavyHittersAggregator) {
+    return toString(heavyHittersAggregator.hotKeys) + ";" + toString(heavyHittersAggregator.hotPartitions);
+  }
+
+  private static String toString(List<HeavyHitter> heavyHitters) {
+    StringBuilder result = new StringBuilder();
+    for (HeavyHitter heavyHitter : heavyHitters) {
+      if (result.length() > 0) {
+        result.append(',');
+      }
+      result.append(heavyHitter.id);
+      result.append(':');
+      result.append(heavyHitter.throughput);
+    }
+    return result.toString();
+  }
+
+  public static HeavyHittersAggregator parse(String str) {
+    try {
+      String[] tokens = str.split(";", -1);
+      return new HeavyHittersAggregator(parseHeavyHitters(tokens[0]), parseHeavyHitters(tokens[1]));
+    } catch (Exception e) {
+      LOG.error("Failed to parse heavy hitters aggregator with string: " + str, e);
+      return new HeavyHittersAggregator();
+    }
+  }
+
+  private static List<HeavyHitter> parseHeavyHitters(String str) {
+    List<HeavyHitter> result = new ArrayList<HeavyHitter>();
+    if (str.isEmpty()) {
+      return result;
+    }
+    for (String heavyHitter : str.split(",")) {
+      int separatorIndex = heavyHitter.lastIndexOf(':');
+      result.add(new HeavyHitter(heavyHitter.substring(0, separatorIndex),
+          Double.parseDouble(heavyHitter.substring(separatorIndex + 1))));
+    }
+    return result;
+  }
+}
@@ -37,6 +37,7 @@ public class RuntimeStatisticsAggregator {
   private long numL2CacheHitsTotal;
   private DoublePopulationStatisticsAggregator getRequestsPopulationStatistics;
   private CacheStatistics cacheStatisticsTotal;
+  private HeavyHittersAggregator heavyHitters;
 
   public RuntimeStatisticsAggregator() {
     throughputTotal = 0;
@@ -47,6 +48,7 @@ public class RuntimeStatisticsAggregator {
     numL2CacheHitsTotal = 0;
     getRequestsPopulationStatistics = new DoublePopulationStatisticsAggregator();
     cacheStatisticsTotal = new CacheStatistics(0, 0, 0, 0);
+    heavyHitters = new HeavyHittersAggregator();
   }
 
   public RuntimeStatisticsAggregator(double throughputTotal,
@@ -65,6 +67,7 @@ public class RuntimeStatisticsAggregator {
     this.numL2CacheHitsTotal = numL2CacheHitsTotal;
     this.getRequestsPopulationStatistics = getRequestsPopulationStatistics;
     this.cacheStatisticsTotal = cacheStatisticsTotal;
+    this.heavyHitters = new HeavyHittersAggregator();
   }
 
   public void add(PartitionAccessorRuntimeStatistics runtimeStatistics) {
@@ -81,6 +84,8 @@ public class RuntimeStatisticsAggregator {
     RuntimeStatisticsAggregator result = new RuntimeStatisticsAggregator();
     List<DoublePopulationStatisticsAggregator> doublePopulationStatisticsAggregators
         = new ArrayList<DoublePopulationStatisticsAggregator>(runtimeStatisticsAggregators.size());
+    List<HeavyHittersAggregator> heavyHittersAggregators
+        = new ArrayList<HeavyHittersAggregator>(runtimeStatisticsAggregators.size());
     for (RuntimeStatisticsAggregator runtimeStatisticsAggregator : runtimeStatisticsAggregators) {
       result.throughputTotal += runtimeStatisticsAggregator.throughputTotal;
       result.responseDataThroughputTotal += runtimeStatisticsAggregator.responseDataThroughputTotal;
@@ -90,8 +95,10 @@ public class RuntimeStatisticsAggregator {
       result.numL2CacheHitsTotal += runtimeStatisticsAggregator.numL2CacheHitsTotal;
       doublePopulationStatisticsAggregators.add(runtimeStatisticsAggregator.getRequestsPopulationStatistics);
       result.cacheStatisticsTotal.add(runtimeStatisticsAggregator.cacheStatisticsTotal);
+      heavyHittersAggregators.add(runtimeStatisticsAggregator.heavyHitters);
     }
     result.getRequestsPopulationStatistics = DoublePopulationStatisticsAggregator.combine(doublePopulationStatisticsAggregators);
+    result.heavyHitters = HeavyHittersAggregator.combine(heavyHittersAggregators);
     return result;
   }
 
@@ -139,6 +146,15 @@ public class RuntimeStatisticsAggregator {
     return cacheStatisticsTotal;
   }
 
+  public void setHeavyHitters(HeavyHittersAggregator heavyHitters) {
+    this.heavyHitters = heavyHitters;
+  }
+
+  // Only meaningful for the runtime statistics of a single domain
+  public HeavyHittersAggregator getHeavyHitters() {
+    return heavyHitters;
+  }
+
 
   public void putToStatistics(DomainStatisticsSummary summary){
     summary.set_throughput_total(throughputTotal);
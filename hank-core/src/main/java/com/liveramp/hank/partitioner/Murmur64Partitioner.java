@@ -34,10 +34,7 @@ public class Murmur64Partitioner implements Partitioner {
 
   @Override
   public int partition(ByteBuffer key, int numPartitions) {
-    return Math.abs((int) Murmur64Hasher.murmurHash64(key.array(),
-        key.arrayOffset() + key.position(),
-        key.remaining(),
-        SEED)) % numPartitions;
+    return Math.abs((int) Murmur64Hasher.murmurHash64(key, SEED)) % numPartitions;
   }
 
   @Override
@@ -0,0 +1,31 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reader that can look up several keys of its partition at once. Keys are
+ * looked up in storage order, so that keys that fall in the same block are
+ * read and decompressed only once per batch.
+ */
+public interface BatchReader extends Reader {
+
+  // Look up keys[i] into results[i]. Results must be distinct.
+  public void getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException;
+}
@@ -0,0 +1,35 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Reader whose cache can be saved to local disk and reloaded by a later
+ * Reader of the same partition, so that it does not start cold.
+ */
+public interface CacheSnapshotReader extends Reader {
+
+  // Write the version number and the cache entries
+  public void saveCache(DataOutput output) throws IOException;
+
+  // Reload the entries that are still valid for this Reader's version.
+  // Return the number of reloaded entries.
+  public int loadCache(DataInput input) throws IOException;
+}
@@ -0,0 +1,107 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.liveramp.hank.util.SynchronizedMemoryBoundCache;
+
+/**
+ * Writes and reads the entries of a byte buffer cache, from least to most
+ * recently used so that reloading them restores the eviction order. Each
+ * entry is a length prefixed key followed by a length prefixed value, or by
+ * -1 for the not found marker. A key length of -1 ends the entries.
+ */
+public final class CacheSnapshots {
+
+  private static final int END_OF_ENTRIES = -1;
+  private static final int NOT_FOUND = -1;
+
+  public interface KeyFilter {
+
+    public boolean accept(ByteBuffer key);
+  }
+
+  private CacheSnapshots() {
+  }
+
+  // Compare against the not found marker by address, as the caches do
+  public static void write(DataOutput output,
+                           SynchronizedMemoryBoundCache<ByteBuffer, ByteBuffer> cache,
+                           ByteBuffer notFoundMarker) throws IOException {
+    for (Map.Entry<ByteBuffer, ByteBuffer> entry : cache.getEntries()) {
+      writeBuffer(output, entry.getKey());
+      if (entry.getValue() == notFoundMarker) {
+        output.writeInt(NOT_FOUND);
+      } else {
+        writeBuffer(output, entry.getValue());
+      }
+    }
+    output.writeInt(END_OF_ENTRIES);
+  }
+
+  // Read all entries, and put the ones accepted by the filter (or all of them when it is null) in the cache
+  public static int read(DataInput input,
+                         SynchronizedMemoryBoundCache<ByteBuffer, ByteBuffer> cache,
+                         ByteBuffer notFoundMarker,
+                         KeyFilter filter) throws IOException {
+    int numLoadedEntries = 0;
+    while (true) {
+      ByteBuffer key = readBuffer(input);
+      if (key == null) {
+        return numLoadedEntries;
+      }
+      ByteBuffer value = readBuffer(input);
+      if (value == null) {
+        value = notFoundMarker;
+      }
+      if (filter == null || filter.accept(key)) {
+        cache.put(key, value);
+        ++numLoadedEntries;
+      }
+    }
+  }
+
+  private static void writeBuffer(DataOutput output, ByteBuffer buffer) throws IOException {
+    output.writeInt(buffer.remaining());
+    if (buffer.hasArray()) {
+      output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    } else {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.duplicate().get(bytes);
+      output.write(bytes);
+    }
+  }
+
+  // Return null for a length of -1
+  private static ByteBuffer readBuffer(DataInput input) throws IOException {
+    int length = input.readInt();
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0) {
+      throw new IOException("Invalid cache snapshot: negative buffer length " + length);
+    }
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+}
@@ -0,0 +1,34 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reader that can tell whether a key is present, or how large its value is,
+ * without reading the value itself. For stores that keep values in a separate
+ * file, only the key file (and at most a value's length header) is read.
+ */
+public interface ExistenceReader extends Reader {
+
+  // Set result to found or not found. The content of the result buffer is undefined.
+  public void exists(ByteBuffer key, ReaderResult result) throws IOException;
+
+  // Return the size of the key's value in bytes, or -1 if the key is not found
+  public int getValueSize(ByteBuffer key, ReaderResult result) throws IOException;
+}
@@ -0,0 +1,30 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Storage engine that indexes values by a deterministic hash of their key.
+ * Clients can compute that hash themselves and query readers with it,
+ * see {@link HashedKeyReader}.
+ */
+public interface HashedKeyStorageEngine extends StorageEngine {
+
+  // Return a new buffer containing the hashed key
+  public ByteBuffer getHashedKey(ByteBuffer key);
+}
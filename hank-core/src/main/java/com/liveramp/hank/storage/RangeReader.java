@@ -0,0 +1,33 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reader that can read a range of a value without reading the whole value.
+ */
+public interface RangeReader extends Reader {
+
+  // Read at most length bytes of the value, starting at offset. Ranges are truncated at the end of the value.
+  public void getRange(ByteBuffer key, int offset, int length, ReaderResult result) throws IOException;
+
+  // Return false when ranges can only be read by reading whole values, for example when values are compressed
+  // together. Values should not be streamed in ranges then, since each range would read the whole value again.
+  public boolean readsPartialValues();
+}
@@ -102,6 +102,18 @@ public class ReaderResult {
     buffer.flip();
   }
 
+  // Restrict the value in the buffer to at most length bytes starting at offset, truncated at the end of the value
+  public void restrictToRange(int offset, int length) {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException("Invalid range: offset " + offset + ", length " + length);
+    }
+    int valueStart = buffer.position();
+    int valueSize = buffer.remaining();
+    int rangeStart = Math.min(offset, valueSize);
+    buffer.limit(valueStart + rangeStart + Math.min(length, valueSize - rangeStart));
+    buffer.position(valueStart + rangeStart);
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("ReaderResult [found=");
@@ -0,0 +1,45 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reader that can iterate over its records by increasing key hash, reading
+ * its files sequentially.
+ */
+public interface ScanReader extends Reader {
+
+  public interface RecordVisitor {
+
+    // Buffers are only valid for the duration of the call.
+    // Return false to end the scan without taking the record, which is then left for the next scan.
+    public boolean visit(ByteBuffer keyHash, ByteBuffer value) throws IOException;
+  }
+
+  public interface ReadPermits {
+
+    // Called before numBytes bytes are read from disk.
+    // Return false to end the scan before the read, leaving the records it holds for the next scan.
+    public boolean tryAcquire(int numBytes);
+  }
+
+  // Visit at most maxNumRecords records whose key hash is strictly greater than afterKeyHash,
+  // or starting from the first record when afterKeyHash is null. Reads are not throttled when readPermits is null.
+  // Return true if there are records left after the last visited one.
+  public boolean scan(ByteBuffer afterKeyHash, int maxNumRecords, ReadPermits readPermits, RecordVisitor visitor) throws IOException;
+}
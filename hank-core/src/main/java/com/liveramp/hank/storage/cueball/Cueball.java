@@ -47,6 +47,7 @@ import com.liveramp.hank.partition_server.DiskPartitionAssignment;
 import com.liveramp.hank.storage.Compactor;
 import com.liveramp.hank.storage.Deleter;
 import com.liveramp.hank.storage.FileOpsUtil;
+import com.liveramp.hank.storage.HashedKeyStorageEngine;
 import com.liveramp.hank.storage.PartitionRemoteFileOps;
 import com.liveramp.hank.storage.PartitionRemoteFileOpsFactory;
 import com.liveramp.hank.storage.PartitionUpdater;
@@ -64,7 +65,7 @@ import com.liveramp.hank.util.FsUtils;
 /**
  * Cueball is a storage engine optimized for small, fixed-size values.
  */
-public class Cueball extends IncrementalStorageEngine implements StorageEngine {
+public class Cueball extends IncrementalStorageEngine implements HashedKeyStorageEngine {
 
   private static final Pattern BASE_OR_DELTA_PATTERN = Pattern.compile(".*(\\d{5})\\.((base)|(delta))\\.cueball");
   static final String BASE_REGEX = ".*\\d{5}\\.base\\.cueball";
@@ -279,6 +280,13 @@ public class Cueball extends IncrementalStorageEngine implements StorageEngine {
     return keyHashBuffer;
   }
 
+  @Override
+  public ByteBuffer getHashedKey(ByteBuffer key) {
+    byte[] hashedKey = new byte[keyHashSize];
+    hasher.hash(key, keyHashSize, hashedKey);
+    return ByteBuffer.wrap(hashedKey);
+  }
+
   @Override
   public PartitionRemoteFileOpsFactory getPartitionRemoteFileOpsFactory(RemoteLocation location) {
     return partitionRemoteFileOpsFactory;
@@ -17,6 +17,7 @@ package com.liveramp.hank.storage.cueball;
 
 import com.liveramp.hank.compression.cueball.CueballCompressionCodec;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -50,6 +51,17 @@ public final class CueballMerger implements ICueballMerger {
     CueballWriter newCueballBaseWriter =
         new CueballWriter(newCueballBaseOutputStream, keyHashSize, null, valueSize, compressionCodec, hashIndexBits);
 
+    // Record the key hashes taken from deltas, so that Readers can keep cache entries of the base.
+    // Transformed values differ from the base ones even for key hashes that are not in deltas.
+    UpdatedKeyHashes.Writer updatedKeyHashesWriter = null;
+    if (transformer == null) {
+      File newBaseFile = new File(newBasePath);
+      updatedKeyHashesWriter = new UpdatedKeyHashes.Writer(
+          newBaseFile.getParent() + "/" + UpdatedKeyHashes.getName(Cueball.parseVersionNumber(newBaseFile.getName())),
+          base.getVersion(),
+          keyHashSize);
+    }
+
     while (true) {
       KeyHashAndValueAndStreamIndex keyValuePair = cueballStreamBufferMergeSort.nextKeyHashAndValueAndStreamIndex();
       if (keyValuePair == null) {
@@ -58,10 +70,17 @@ public final class CueballMerger implements ICueballMerger {
 
       // Write next key hash and value
       newCueballBaseWriter.writeHash(keyValuePair.keyHash, keyValuePair.value);
+      // Stream 0 is the base
+      if (updatedKeyHashesWriter != null && keyValuePair.streamIndex != 0) {
+        updatedKeyHashesWriter.write(keyValuePair.keyHash);
+      }
     }
 
     // Close all buffers and the base writer
     cueballStreamBufferMergeSort.close();
     newCueballBaseWriter.close();
+    if (updatedKeyHashesWriter != null) {
+      updatedKeyHashesWriter.close();
+    }
   }
 }
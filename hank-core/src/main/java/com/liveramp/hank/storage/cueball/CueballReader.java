@@ -15,29 +15,39 @@
  */
 package com.liveramp.hank.storage.cueball;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.SortedSet;
 
 import com.liveramp.commons.util.ByteBufferMemoryUsageEstimator;
 import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.compression.cueball.CueballCompressionCodec;
 import com.liveramp.hank.hasher.Hasher;
+import com.liveramp.hank.storage.CacheSnapshotReader;
+import com.liveramp.hank.storage.CacheSnapshots;
+import com.liveramp.hank.storage.BatchReader;
 import com.liveramp.hank.storage.CacheStatistics;
-import com.liveramp.hank.storage.Reader;
+import com.liveramp.hank.storage.ExistenceReader;
+import com.liveramp.hank.storage.HashedKeyReader;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 import com.liveramp.hank.util.SynchronizedMemoryBoundCache;
 
-public class CueballReader implements Reader {
+public class CueballReader implements HashedKeyReader, ExistenceReader, ScanReader, CacheSnapshotReader, BatchReader {
 
   private static final KeyHashBufferThreadLocal keyHashBufferThreadLocal = new KeyHashBufferThreadLocal();
   private static final ByteBuffer NOT_FOUND_MARKER = ByteBuffer.wrap(new byte[]{});
 
+  private final String partitionRoot;
   private final Hasher hasher;
   private final int valueSize;
   private final long[] hashIndex;
+  private final long dataLength;
   private final FileChannel channel;
   private final int keyHashSize;
   private final int fullRecordSize;
@@ -61,6 +71,7 @@ public class CueballReader implements Reader {
       throw new IOException("Could not detect any Cueball base in " + partitionRoot);
     }
     CueballFilePath latestBase = bases.last();
+    this.partitionRoot = partitionRoot;
     this.keyHashSize = keyHashSize;
     this.hasher = hasher;
     this.valueSize = valueSize;
@@ -72,6 +83,7 @@ public class CueballReader implements Reader {
     channel = new FileInputStream(latestBase.getPath()).getChannel();
     Footer footer = new Footer(channel, hashIndexBits);
     hashIndex = footer.getHashIndex();
+    dataLength = footer.getDataLength();
     maxUncompressedBufferSize = footer.getMaxUncompressedBufferSize();
     maxCompressedBufferSize = footer.getMaxCompressedBufferSize();
     cache = new SynchronizedMemoryBoundCache<ByteBuffer, ByteBuffer>(
@@ -84,8 +96,147 @@ public class CueballReader implements Reader {
 
   @Override
   public void get(ByteBuffer key, ReaderResult result) throws IOException {
-    // Note: keyHash buffer might be larger than keyHashSize
-    byte[] keyHash = computeKeyHash(key);
+    get(computeKeyHash(key), result);
+  }
+
+  @Override
+  public void getHashed(ByteBuffer hashedKey, ReaderResult result) throws IOException {
+    if (hashedKey.remaining() != keyHashSize) {
+      throw new IOException("Hashed key size (" + hashedKey.remaining()
+          + ") does not match key hash size (" + keyHashSize + ")");
+    }
+    // Copy the hashed key into the same buffer a computed key hash would use, so that cache entries match
+    byte[] keyHash = keyHashBufferThreadLocal.getAndRequireBufferSize(keyHashSize);
+    hashedKey.duplicate().get(keyHash, 0, keyHashSize);
+    get(keyHash, result);
+  }
+
+  // Keys that are not cached are looked up by hash prefix, so that each block is read and decompressed once
+  @Override
+  public void getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException {
+    byte[][] keyHashes = new byte[keys.length][];
+    // Hash prefix in the high bits, key index in the low bits
+    long[] prefixAndIndexes = new long[keys.length];
+    int numBlockLookups = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      results[i].notFound();
+      byte[] keyHash = new byte[keyHashSize];
+      hasher.hash(keys[i], keyHashSize, keyHash);
+      keyHashes[i] = keyHash;
+      int hashPrefix = prefixer.getHashPrefix(keyHash, 0);
+      if (hashIndex[hashPrefix] < 0 || loadValueFromCache(ByteBuffer.wrap(keyHash), results[i])) {
+        continue;
+      }
+      prefixAndIndexes[numBlockLookups++] = ((long) hashPrefix << 32) | i;
+    }
+    if (numBlockLookups == 0) {
+      return;
+    }
+    Arrays.sort(prefixAndIndexes, 0, numBlockLookups);
+    byte[] compressedBuffer = new byte[maxCompressedBufferSize];
+    byte[] uncompressedBuffer = new byte[maxUncompressedBufferSize];
+    int currentHashPrefix = -1;
+    int decompressedLength = 0;
+    for (int j = 0; j < numBlockLookups; ++j) {
+      int hashPrefix = (int) (prefixAndIndexes[j] >>> 32);
+      int i = (int) prefixAndIndexes[j];
+      if (hashPrefix != currentHashPrefix) {
+        // Read and decompress the block like a single get does
+        ByteBuffer compressed = ByteBuffer.wrap(compressedBuffer);
+        int bytesRead = channel.read(compressed, hashIndex[hashPrefix]);
+        decompressedLength = compressionCodec.decompress(compressedBuffer, 0, bytesRead, uncompressedBuffer, 0);
+        currentHashPrefix = hashPrefix;
+      }
+      ByteBuffer keyHashByteBuffer = ByteBuffer.wrap(keyHashes[i]);
+      int valueOffset = getValueOffset(uncompressedBuffer, 0, decompressedLength, keyHashes[i]);
+      if (valueOffset > -1) {
+        ByteBuffer value = ByteBuffer.wrap(uncompressedBuffer, valueOffset, valueSize);
+        results[i].deepCopyIntoResultBuffer(value);
+        results[i].found();
+        addValueToCache(keyHashByteBuffer, value);
+      } else {
+        addNotFoundToCache(keyHashByteBuffer);
+      }
+    }
+  }
+
+  // Values are stored next to their key hashes, there is nothing to save
+  @Override
+  public void exists(ByteBuffer key, ReaderResult result) throws IOException {
+    get(key, result);
+  }
+
+  // All values have the same size
+  @Override
+  public int getValueSize(ByteBuffer key, ReaderResult result) throws IOException {
+    get(key, result);
+    return result.isFound() ? valueSize : -1;
+  }
+
+  // Blocks are read one after the other, by increasing offset. Scanned records are not cached.
+  // Permits are acquired for each block before it is read.
+  @Override
+  public boolean scan(ByteBuffer afterKeyHash, int maxNumRecords, ReadPermits readPermits, RecordVisitor visitor) throws IOException {
+    byte[] afterKeyHashBytes = null;
+    int hashPrefix = 0;
+    if (afterKeyHash != null) {
+      if (afterKeyHash.remaining() != keyHashSize) {
+        throw new IOException("Scan cursor size (" + afterKeyHash.remaining()
+            + ") does not match key hash size (" + keyHashSize + ")");
+      }
+      // Records following the cursor can only be in its block or in the following ones
+      afterKeyHashBytes = BytesUtils.byteBufferDeepCopy(afterKeyHash).array();
+      hashPrefix = prefixer.getHashPrefix(afterKeyHashBytes, 0);
+    }
+    byte[] compressedBuffer = new byte[maxCompressedBufferSize];
+    byte[] uncompressedBuffer = new byte[maxUncompressedBufferSize];
+    int numVisitedRecords = 0;
+    for (; hashPrefix < hashIndex.length; ++hashPrefix) {
+      long blockOffset = hashIndex[hashPrefix];
+      if (blockOffset < 0) {
+        continue;
+      }
+      int blockLength = (int) (getBlockEnd(hashPrefix) - blockOffset);
+      if (readPermits != null && !readPermits.tryAcquire(blockLength)) {
+        return true;
+      }
+      ByteBuffer compressed = ByteBuffer.wrap(compressedBuffer, 0, blockLength);
+      while (compressed.hasRemaining()) {
+        if (channel.read(compressed, blockOffset + compressed.position()) < 0) {
+          throw new IOException("Unexpected end of file while reading block at offset " + blockOffset);
+        }
+      }
+      int decompressedLength = compressionCodec.decompress(compressedBuffer, 0, blockLength, uncompressedBuffer, 0);
+      for (int off = 0; off < decompressedLength; off += fullRecordSize) {
+        if (afterKeyHashBytes != null
+            && BytesUtils.compareBytesUnsigned(uncompressedBuffer, off, afterKeyHashBytes, 0, keyHashSize) <= 0) {
+          continue;
+        }
+        if (numVisitedRecords == maxNumRecords) {
+          return true;
+        }
+        if (!visitor.visit(ByteBuffer.wrap(uncompressedBuffer, off, keyHashSize),
+            ByteBuffer.wrap(uncompressedBuffer, off + keyHashSize, valueSize))) {
+          return true;
+        }
+        ++numVisitedRecords;
+      }
+    }
+    return false;
+  }
+
+  // A block ends where the next non empty block starts, or at the end of the data
+  private long getBlockEnd(int hashPrefix) {
+    for (int i = hashPrefix + 1; i < hashIndex.length; ++i) {
+      if (hashIndex[i] >= 0) {
+        return hashIndex[i];
+      }
+    }
+    return dataLength;
+  }
+
+  // Note: keyHash buffer might be larger than keyHashSize
+  private void get(byte[] keyHash, ReaderResult result) throws IOException {
     ByteBuffer keyHashByteBuffer = ByteBuffer.wrap(keyHash);
 
     int hashPrefix = prefixer.getHashPrefix(keyHash, 0);
@@ -149,6 +300,32 @@ public class CueballReader implements Reader {
         cache.getMaxNumManagedBytes());
   }
 
+  @Override
+  public void saveCache(DataOutput output) throws IOException {
+    output.writeInt(versionNumber);
+    CacheSnapshots.write(output, cache, NOT_FOUND_MARKER);
+  }
+
+  // Entries of the same version are all valid. Entries of the base this version was merged from are
+  // valid unless their key hashes were updated by the merged deltas.
+  @Override
+  public int loadCache(DataInput input) throws IOException {
+    int snapshotVersionNumber = input.readInt();
+    if (snapshotVersionNumber == versionNumber) {
+      return CacheSnapshots.read(input, cache, NOT_FOUND_MARKER, null);
+    }
+    final UpdatedKeyHashes updatedKeyHashes = UpdatedKeyHashes.load(partitionRoot, versionNumber);
+    if (updatedKeyHashes == null || updatedKeyHashes.getBaseVersion() != snapshotVersionNumber) {
+      return 0;
+    }
+    return CacheSnapshots.read(input, cache, NOT_FOUND_MARKER, new CacheSnapshots.KeyFilter() {
+      @Override
+      public boolean accept(ByteBuffer keyHash) {
+        return !updatedKeyHashes.contains(keyHash);
+      }
+    });
+  }
+
   @Override
   public void close() throws IOException {
     channel.close();
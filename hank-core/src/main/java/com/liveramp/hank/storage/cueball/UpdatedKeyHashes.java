@@ -0,0 +1,124 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.storage.cueball;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.liveramp.commons.util.BytesUtils;
+
+/**
+ * Key hashes whose values were taken from deltas when merging a new base,
+ * sorted. Values of all other key hashes are the same as in the base the
+ * deltas were merged into, which lets a Reader keep cache entries of that
+ * base version.
+ */
+public class UpdatedKeyHashes {
+
+  private final int baseVersion;
+  private final int keyHashSize;
+  private final byte[] keyHashes;
+
+  private UpdatedKeyHashes(int baseVersion, int keyHashSize, byte[] keyHashes) {
+    this.baseVersion = baseVersion;
+    this.keyHashSize = keyHashSize;
+    this.keyHashes = keyHashes;
+  }
+
+  public static String getName(int versionNumber) {
+    return Cueball.padVersionNumber(versionNumber) + ".updated_key_hashes.cueball";
+  }
+
+  // Return null if there is no such file
+  public static UpdatedKeyHashes load(String partitionRoot, int versionNumber) throws IOException {
+    File file = new File(partitionRoot + "/" + getName(versionNumber));
+    if (!file.exists()) {
+      return null;
+    }
+    DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+    try {
+      int baseVersion = input.readInt();
+      int keyHashSize = input.readInt();
+      long numBytes = file.length() - 8;
+      if (keyHashSize <= 0 || numBytes > Integer.MAX_VALUE || numBytes % keyHashSize != 0) {
+        throw new IOException("Invalid updated key hashes file: " + file.getAbsolutePath());
+      }
+      byte[] keyHashes = new byte[(int) numBytes];
+      input.readFully(keyHashes);
+      return new UpdatedKeyHashes(baseVersion, keyHashSize, keyHashes);
+    } finally {
+      input.close();
+    }
+  }
+
+  public int getBaseVersion() {
+    return baseVersion;
+  }
+
+  // Only the first keyHashSize bytes of the given buffer are compared
+  public boolean contains(ByteBuffer keyHash) {
+    if (keyHash.remaining() < keyHashSize) {
+      return false;
+    }
+    byte[] keyHashBytes = keyHash.array();
+    int keyHashOffset = keyHash.arrayOffset() + keyHash.position();
+    int low = 0;
+    int high = keyHashes.length / keyHashSize - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = BytesUtils.compareBytesUnsigned(keyHashes, middle * keyHashSize,
+          keyHashBytes, keyHashOffset, keyHashSize);
+      if (comparison == 0) {
+        return true;
+      } else if (comparison < 0) {
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return false;
+  }
+
+  public static class Writer {
+
+    private final DataOutputStream output;
+    private final int keyHashSize;
+
+    public Writer(String path, int baseVersion, int keyHashSize) throws IOException {
+      this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+      this.keyHashSize = keyHashSize;
+      output.writeInt(baseVersion);
+      output.writeInt(keyHashSize);
+    }
+
+    // Key hashes must be written in increasing order
+    public void write(ByteBuffer keyHash) throws IOException {
+      output.write(keyHash.array(), keyHash.arrayOffset() + keyHash.position(), keyHashSize);
+    }
+
+    public void close() throws IOException {
+      output.close();
+    }
+  }
+}
@@ -42,6 +42,7 @@ import com.liveramp.hank.partition_server.DiskPartitionAssignment;
 import com.liveramp.hank.storage.Compactor;
 import com.liveramp.hank.storage.Deleter;
 import com.liveramp.hank.storage.FileOpsUtil;
+import com.liveramp.hank.storage.HashedKeyStorageEngine;
 import com.liveramp.hank.storage.PartitionRemoteFileOps;
 import com.liveramp.hank.storage.PartitionRemoteFileOpsFactory;
 import com.liveramp.hank.storage.PartitionUpdater;
@@ -63,7 +64,7 @@ import com.liveramp.hank.util.FsUtils;
  * Curly is a storage engine designed for larger, variable-sized values. It uses
  * Cueball under the hood.
  */
-public class Curly extends IncrementalStorageEngine implements StorageEngine {
+public class Curly extends IncrementalStorageEngine implements HashedKeyStorageEngine {
 
   private static final Pattern BASE_OR_REGEX_PATTERN = Pattern.compile(".*(\\d{5})\\.((base)|(delta))\\.curly");
   static final String BASE_REGEX = ".*\\d{5}\\.base\\.curly";
@@ -387,6 +388,11 @@ public class Curly extends IncrementalStorageEngine implements StorageEngine {
     return cueballStorageEngine.getComparableKey(key);
   }
 
+  @Override
+  public ByteBuffer getHashedKey(ByteBuffer key) {
+    return cueballStorageEngine.getHashedKey(key);
+  }
+
   @Override
   public PartitionRemoteFileOpsFactory getPartitionRemoteFileOpsFactory(RemoteLocation location) {
     return partitionRemoteFileOpsFactory;
@@ -16,10 +16,14 @@
 
 package com.liveramp.hank.storage.curly;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedSet;
@@ -28,14 +32,21 @@ import com.liveramp.commons.util.ByteBufferMemoryUsageEstimator;
 import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.compression.Decompressor;
+import com.liveramp.hank.storage.BatchReader;
+import com.liveramp.hank.storage.CacheSnapshotReader;
+import com.liveramp.hank.storage.CacheSnapshots;
 import com.liveramp.hank.storage.CacheStatistics;
+import com.liveramp.hank.storage.ExistenceReader;
+import com.liveramp.hank.storage.HashedKeyReader;
+import com.liveramp.hank.storage.RangeReader;
 import com.liveramp.hank.storage.Reader;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 import com.liveramp.hank.util.EncodingHelper;
 import com.liveramp.hank.util.SynchronizedMemoryBoundCache;
 import com.liveramp.hank.util.UnsafeByteArrayOutputStream;
 
-public class CurlyReader implements Reader, ICurlyReader {
+public class CurlyReader implements Reader, ICurlyReader, HashedKeyReader, ExistenceReader, RangeReader, ScanReader, CacheSnapshotReader, BatchReader {
 
   private final Reader keyFileReader;
   private final int readBufferSize;
@@ -153,11 +164,23 @@ public class CurlyReader implements Reader, ICurlyReader {
     }
     // Deep copy the location if caching is active, since result might point to location and overwrite it
     ByteBuffer locationDeepCopy = cache.isEnabled() ? BytesUtils.byteBufferDeepCopy(location) : null;
+    readRecordFromFile(location, result);
+    // Store result in cache if needed
+    addValueToCache(locationDeepCopy, result.getBuffer());
+  }
+
+  // Note: the buffer in result must be at least readBufferSize long
+  private void readRecordFromFile(ByteBuffer location, ReaderResult result) throws IOException {
+    readRecordFromFile(location, result, null);
+  }
+
+  // Return false when permits were not granted, before reading from the record file
+  private boolean readRecordFromFile(ByteBuffer location, ReaderResult result, ReadPermits readPermits) throws IOException {
     if (blockCompressionCodec == null) {
       // When not using block compression, location just contains an offset. Decode it.
       long recordFileOffset = EncodingHelper.decodeLittleEndianFixedWidthLong(location);
       // Directly read record into result
-      readRecordAtOffset(recordFileOffset, result);
+      return readRecordAtOffset(recordFileOffset, result, readPermits);
     } else {
       // When using block compression, location contains the block's offset and an offset in the block. Decode them.
       long recordFileBlockOffset = EncodingHelper.decodeLittleEndianFixedWidthLong(location.array(),
@@ -171,7 +194,9 @@ public class CurlyReader implements Reader, ICurlyReader {
         decompressedBlockByteBuffer = lastDecompressedBlock;
       } else {
         // Read in the compressed block into the result
-        readRecordAtOffset(recordFileBlockOffset, result);
+        if (!readRecordAtOffset(recordFileBlockOffset, result, readPermits)) {
+          return false;
+        }
         // Decompress block
         decompressedBlockByteBuffer = decompressBlock(result.getBuffer());
         // Cache the decompressed block if requested
@@ -181,25 +206,28 @@ public class CurlyReader implements Reader, ICurlyReader {
         }
       }
 
-      // Position ourselves at the beginning of the actual value
-      decompressedBlockByteBuffer.position((int)offsetInBlock);
-      // Determine result value size
-      int valueSize = EncodingHelper.decodeLittleEndianVarInt(decompressedBlockByteBuffer);
-
-      // Copy decompressed result into final result buffer
-      result.requiresBufferSize(valueSize);
-      result.getBuffer().clear();
-      // We can exactly wrap our value
-      result.getBuffer().put(
-          decompressedBlockByteBuffer.array(),
-          decompressedBlockByteBuffer.arrayOffset() + decompressedBlockByteBuffer.position(),
-          valueSize);
-      result.getBuffer().flip();
+      copyValueFromBlock(decompressedBlockByteBuffer, offsetInBlock, result);
       // Drop decompression buffer if needed, it's not used anymore
       dropDecompressionBuffer();
+      return true;
     }
-    // Store result in cache if needed
-    addValueToCache(locationDeepCopy, result.getBuffer());
+  }
+
+  private void copyValueFromBlock(ByteBuffer decompressedBlockByteBuffer, long offsetInBlock, ReaderResult result) {
+    // Position ourselves at the beginning of the actual value
+    decompressedBlockByteBuffer.position((int)offsetInBlock);
+    // Determine result value size
+    int valueSize = EncodingHelper.decodeLittleEndianVarInt(decompressedBlockByteBuffer);
+
+    // Copy decompressed result into final result buffer
+    result.requiresBufferSize(valueSize);
+    result.getBuffer().clear();
+    // We can exactly wrap our value
+    result.getBuffer().put(
+        decompressedBlockByteBuffer.array(),
+        decompressedBlockByteBuffer.arrayOffset() + decompressedBlockByteBuffer.position(),
+        valueSize);
+    result.getBuffer().flip();
   }
 
   private ByteBuffer decompressBlock(ByteBuffer block) throws IOException {
@@ -223,6 +251,15 @@ public class CurlyReader implements Reader, ICurlyReader {
 
   // Note: the buffer in result must be at least readBufferSize long
   private void readRecordAtOffset(long recordFileOffset, ReaderResult result) throws IOException {
+    readRecordAtOffset(recordFileOffset, result, null);
+  }
+
+  // Permits are acquired for the first read, and for the second read of records larger than the read buffer.
+  // Return false when permits were not granted.
+  private boolean readRecordAtOffset(long recordFileOffset, ReaderResult result, ReadPermits readPermits) throws IOException {
+    if (readPermits != null && !readPermits.tryAcquire(readBufferSize)) {
+      return false;
+    }
     // Let's reset the buffer so we can do our read.
     result.getBuffer().rewind();
     // the buffer is already at least this big, so we'll extend it back out.
@@ -241,6 +278,9 @@ public class CurlyReader implements Reader, ICurlyReader {
     // we may already have read the entire value in during our first read. we
     // can tell this if the remainin() is >= the record size.
     if (result.getBuffer().remaining() < recordSize) {
+      if (readPermits != null && !readPermits.tryAcquire(recordSize - result.getBuffer().remaining())) {
+        return false;
+      }
       // hm, looks like we didn't read the whole value the first time. bummer.
       // the good news is that we *do* know how much to read this time. the
       // new size we select is big enough to hold this value and its varint
@@ -274,6 +314,7 @@ public class CurlyReader implements Reader, ICurlyReader {
     // the value should start at buffer.position() and go for recordSize
     // bytes, so limit it appropriately.
     result.getBuffer().limit(recordSize + result.getBuffer().position());
+    return true;
   }
 
   @Override
@@ -292,6 +333,203 @@ public class CurlyReader implements Reader, ICurlyReader {
     }
   }
 
+  // Locations are looked up as a batch when the key file Reader supports it. Records are then read by
+  // increasing offset, and each compressed block is read and decompressed once.
+  @Override
+  public void getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException {
+    for (ReaderResult result : results) {
+      result.requiresBufferSize(readBufferSize);
+    }
+    if (keyFileReader instanceof BatchReader) {
+      ((BatchReader)keyFileReader).getBatch(keys, results);
+    } else {
+      for (int i = 0; i < keys.length; ++i) {
+        keyFileReader.get(keys[i], results[i]);
+      }
+    }
+    // Decode locations before results are overwritten by values
+    final long[] offsets = new long[keys.length];
+    final long[] offsetsInBlock = new long[keys.length];
+    ByteBuffer[] locations = new ByteBuffer[keys.length];
+    Integer[] recordIndexes = new Integer[keys.length];
+    int numRecords = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      if (!results[i].isFound()) {
+        continue;
+      }
+      ByteBuffer location = results[i].getBuffer();
+      // Deep copy the location if caching is active, since result will be overwritten
+      locations[i] = cache.isEnabled() ? BytesUtils.byteBufferDeepCopy(location) : null;
+      if (locations[i] != null && loadValueFromCache(locations[i], results[i])) {
+        continue;
+      }
+      if (blockCompressionCodec == null) {
+        offsets[i] = EncodingHelper.decodeLittleEndianFixedWidthLong(location);
+      } else {
+        offsets[i] = EncodingHelper.decodeLittleEndianFixedWidthLong(location.array(),
+            location.arrayOffset() + location.position(), offsetNumBytes);
+        offsetsInBlock[i] = EncodingHelper.decodeLittleEndianFixedWidthLong(location.array(),
+            location.arrayOffset() + location.position() + offsetNumBytes, offsetInBlockNumBytes);
+      }
+      recordIndexes[numRecords++] = i;
+    }
+    if (numRecords == 0) {
+      return;
+    }
+    Arrays.sort(recordIndexes, 0, numRecords, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        int comparison = Long.compare(offsets[a], offsets[b]);
+        return comparison != 0 ? comparison : Long.compare(offsetsInBlock[a], offsetsInBlock[b]);
+      }
+    });
+    if (blockCompressionCodec == null) {
+      for (int j = 0; j < numRecords; ++j) {
+        int i = recordIndexes[j];
+        readRecordAtOffset(offsets[i], results[i]);
+        if (locations[i] != null) {
+          addValueToCache(locations[i], results[i].getBuffer());
+        }
+      }
+    } else {
+      ReaderResult blockResult = new ReaderResult(readBufferSize);
+      ByteBuffer decompressedBlockByteBuffer = null;
+      long currentBlockOffset = -1;
+      for (int j = 0; j < numRecords; ++j) {
+        int i = recordIndexes[j];
+        if (offsets[i] != currentBlockOffset) {
+          readRecordAtOffset(offsets[i], blockResult);
+          decompressedBlockByteBuffer = decompressBlock(blockResult.getBuffer());
+          currentBlockOffset = offsets[i];
+        }
+        copyValueFromBlock(decompressedBlockByteBuffer, offsetsInBlock[i], results[i]);
+        if (locations[i] != null) {
+          addValueToCache(locations[i], results[i].getBuffer());
+        }
+      }
+      // Drop decompression buffer if needed, it's not used anymore
+      dropDecompressionBuffer();
+    }
+  }
+
+  @Override
+  public void getHashed(ByteBuffer hashedKey, ReaderResult result) throws IOException {
+    if (!(keyFileReader instanceof HashedKeyReader)) {
+      throw new IOException("Key file Reader does not support hashed key lookups: " + keyFileReader);
+    }
+    result.requiresBufferSize(readBufferSize);
+    ((HashedKeyReader)keyFileReader).getHashed(hashedKey, result);
+    if (result.isFound()) {
+      readRecord(result.getBuffer(), result);
+    }
+  }
+
+  // Records are written by increasing key hash, so the record file is read sequentially as well.
+  // Scanned records are not cached. Permits are acquired before each read of the key file and of the record file,
+  // except for records in the last decompressed block.
+  @Override
+  public boolean scan(ByteBuffer afterKeyHash,
+                      int maxNumRecords,
+                      final ReadPermits readPermits,
+                      final RecordVisitor visitor) throws IOException {
+    if (!(keyFileReader instanceof ScanReader)) {
+      throw new IOException("Key file Reader does not support scans: " + keyFileReader);
+    }
+    final ReaderResult result = new ReaderResult(readBufferSize);
+    return ((ScanReader)keyFileReader).scan(afterKeyHash, maxNumRecords, readPermits, new RecordVisitor() {
+      @Override
+      public boolean visit(ByteBuffer keyHash, ByteBuffer location) throws IOException {
+        return readRecordFromFile(location, result, readPermits) && visitor.visit(keyHash, result.getBuffer());
+      }
+    });
+  }
+
+  // Only the key file is read
+  @Override
+  public void exists(ByteBuffer key, ReaderResult result) throws IOException {
+    result.requiresBufferSize(readBufferSize);
+    keyFileReader.get(key, result);
+  }
+
+  // Only the key file and the record's length header are read, unless records are block compressed
+  @Override
+  public int getValueSize(ByteBuffer key, ReaderResult result) throws IOException {
+    result.requiresBufferSize(readBufferSize);
+    keyFileReader.get(key, result);
+    if (!result.isFound()) {
+      return -1;
+    }
+    ByteBuffer location = result.getBuffer();
+    ByteBuffer cachedValue = cache.get(location);
+    if (cachedValue != null) {
+      result.setL2CacheHit(true);
+      return cachedValue.remaining();
+    }
+    if (blockCompressionCodec == null) {
+      long recordFileOffset = EncodingHelper.decodeLittleEndianFixedWidthLong(location);
+      return readRecordSizeAtOffset(recordFileOffset, result);
+    } else {
+      // The length header is inside the compressed block
+      readRecord(location, result);
+      return result.getBuffer().remaining();
+    }
+  }
+
+  // Block compressed values have to be decompressed entirely
+  @Override
+  public boolean readsPartialValues() {
+    return blockCompressionCodec == null;
+  }
+
+  // Only the requested bytes are read from the record file, unless records are block compressed
+  @Override
+  public void getRange(ByteBuffer key, int offset, int length, ReaderResult result) throws IOException {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException("Invalid range: offset " + offset + ", length " + length);
+    }
+    result.requiresBufferSize(readBufferSize);
+    keyFileReader.get(key, result);
+    if (!result.isFound()) {
+      return;
+    }
+    ByteBuffer location = result.getBuffer();
+    if (loadValueFromCache(location, result)) {
+      // Cached values are complete
+      result.restrictToRange(offset, length);
+    } else if (blockCompressionCodec != null) {
+      // Block compressed values have to be decompressed entirely
+      readRecord(location, result);
+      result.restrictToRange(offset, length);
+    } else {
+      // Ranges are not cached
+      long recordFileOffset = EncodingHelper.decodeLittleEndianFixedWidthLong(location);
+      int valueSize = readRecordSizeAtOffset(recordFileOffset, result);
+      long valueOffset = recordFileOffset + result.getBuffer().position();
+      int rangeStart = Math.min(offset, valueSize);
+      int rangeSize = Math.min(length, valueSize - rangeStart);
+      result.requiresBufferSize(rangeSize);
+      ByteBuffer buffer = result.getBuffer();
+      buffer.clear();
+      buffer.limit(rangeSize);
+      while (buffer.hasRemaining()) {
+        if (recordFile.read(buffer, valueOffset + rangeStart + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of record file while reading record at offset " + recordFileOffset);
+        }
+      }
+      buffer.flip();
+    }
+  }
+
+  // Leave the result buffer positioned right after the record's length header
+  private int readRecordSizeAtOffset(long recordFileOffset, ReaderResult result) throws IOException {
+    ByteBuffer buffer = result.getBuffer();
+    buffer.clear();
+    buffer.limit(EncodingHelper.MAX_VARINT_SIZE);
+    recordFile.read(buffer, recordFileOffset);
+    buffer.flip();
+    return EncodingHelper.decodeLittleEndianVarInt(buffer);
+  }
+
   @Override
   public Integer getVersionNumber() {
     return versionNumber;
@@ -307,6 +545,33 @@ public class CurlyReader implements Reader, ICurlyReader {
         keyReaderCacheStatistics.getMaxNumManagedBytes() + cache.getMaxNumManagedBytes());
   }
 
+  @Override
+  public void saveCache(DataOutput output) throws IOException {
+    output.writeInt(versionNumber);
+    boolean saveKeyFileReaderCache = keyFileReader instanceof CacheSnapshotReader;
+    output.writeBoolean(saveKeyFileReaderCache);
+    if (saveKeyFileReaderCache) {
+      ((CacheSnapshotReader) keyFileReader).saveCache(output);
+    }
+    CacheSnapshots.write(output, cache, null);
+  }
+
+  // Both caches hold record file locations, which only stay valid for the same version
+  @Override
+  public int loadCache(DataInput input) throws IOException {
+    if (input.readInt() != versionNumber) {
+      return 0;
+    }
+    int numLoadedEntries = 0;
+    if (input.readBoolean()) {
+      if (!(keyFileReader instanceof CacheSnapshotReader)) {
+        throw new IOException("Key file Reader cannot load the saved cache of " + keyFileReader);
+      }
+      numLoadedEntries += ((CacheSnapshotReader) keyFileReader).loadCache(input);
+    }
+    return numLoadedEntries + CacheSnapshots.read(input, cache, null, null);
+  }
+
   // Note: location should already be a deep copy that won't get modified
   private void addValueToCache(ByteBuffer location, ByteBuffer value) {
     cache.put(location, BytesUtils.byteBufferDeepCopy(value));
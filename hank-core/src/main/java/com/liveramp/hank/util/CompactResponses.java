@@ -0,0 +1,126 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.liveramp.hank.generated.HankCompactResponses;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankResponse;
+
+/**
+ * Converts lists of responses to and from their columnar form: a bitmap of
+ * found values, one array of varint value lengths and one blob of
+ * concatenated values. Errors are listed by index since they are rare.
+ *
+ * Decoded values are views of the value blob, which itself is a view of
+ * the received frame when read with a ZeroCopyCompactProtocol.
+ */
+public final class CompactResponses {
+
+  private CompactResponses() {
+  }
+
+  public static HankCompactResponses encode(List<HankResponse> responses) {
+    int numResponses = responses.size();
+    // Size the columns first so that values are copied only once
+    int numValues = 0;
+    int valuesSize = 0;
+    for (HankResponse response : responses) {
+      if (response.is_set_value()) {
+        ++numValues;
+        valuesSize += response.buffer_for_value().remaining();
+      }
+    }
+    byte[] found = new byte[(numResponses + 7) / 8];
+    byte[] valueLengths = new byte[numValues * EncodingHelper.MAX_VARINT_SIZE];
+    byte[] values = new byte[valuesSize];
+    int valueLengthsSize = 0;
+    int valuesOffset = 0;
+    Map<Integer, HankException> exceptions = null;
+    for (int i = 0; i < numResponses; ++i) {
+      HankResponse response = responses.get(i);
+      if (response.is_set_value()) {
+        ByteBuffer value = response.buffer_for_value();
+        int valueSize = value.remaining();
+        found[i >> 3] |= 1 << (i & 7);
+        valueLengthsSize += EncodingHelper.encodeLittleEndianVarInt(valueSize, valueLengths, valueLengthsSize);
+        value.duplicate().get(values, valuesOffset, valueSize);
+        valuesOffset += valueSize;
+      } else if (response.is_set_xception()) {
+        if (exceptions == null) {
+          exceptions = new HashMap<Integer, HankException>();
+        }
+        exceptions.put(i, response.get_xception());
+      }
+    }
+    HankCompactResponses result = new HankCompactResponses(
+        numResponses,
+        ByteBuffer.wrap(found),
+        ByteBuffer.wrap(valueLengths, 0, valueLengthsSize),
+        ByteBuffer.wrap(values));
+    if (exceptions != null) {
+      result.set_exceptions(exceptions);
+    }
+    return result;
+  }
+
+  public static List<HankResponse> decode(HankCompactResponses compactResponses) throws IOException {
+    int numResponses = compactResponses.get_num_responses();
+    ByteBuffer found = compactResponses.buffer_for_found();
+    ByteBuffer valueLengths = compactResponses.buffer_for_value_lengths().duplicate();
+    ByteBuffer values = compactResponses.buffer_for_values();
+    Map<Integer, HankException> exceptions = compactResponses.get_exceptions();
+    if (numResponses < 0 || found.remaining() < (numResponses + 7) / 8) {
+      throw new IOException("Invalid compact responses: found bitmap does not cover " + numResponses + " responses.");
+    }
+    int foundOffset = found.position();
+    int valuesOffset = values.position();
+    List<HankResponse> responses = new ArrayList<HankResponse>(numResponses);
+    try {
+      for (int i = 0; i < numResponses; ++i) {
+        if ((found.get(foundOffset + (i >> 3)) & (1 << (i & 7))) != 0) {
+          int valueSize = EncodingHelper.decodeLittleEndianVarInt(valueLengths);
+          if (valueSize < 0 || valueSize > values.limit() - valuesOffset) {
+            throw new IOException("Invalid compact responses: value #" + i + " exceeds the values blob.");
+          }
+          ByteBuffer value = values.duplicate();
+          value.limit(valuesOffset + valueSize);
+          value.position(valuesOffset);
+          responses.add(HankResponse.value(value.slice()));
+          valuesOffset += valueSize;
+        } else {
+          HankException exception = exceptions == null ? null : exceptions.get(i);
+          if (exception != null) {
+            responses.add(HankResponse.xception(exception));
+          } else {
+            responses.add(HankResponse.not_found(true));
+          }
+        }
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Invalid compact responses: missing value lengths.", e);
+    }
+    return responses;
+  }
+}
@@ -55,11 +55,16 @@ public final class EncodingHelper {
   }
 
   public static int encodeLittleEndianVarInt(int n, byte[] buffer) {
+    return encodeLittleEndianVarInt(n, buffer, 0);
+  }
+
+  // Return the number of bytes written at the given offset
+  public static int encodeLittleEndianVarInt(int n, byte[] buffer, int off) {
     if (n == 0) {
-      buffer[0] = 0;
+      buffer[off] = 0;
       return 1;
     }
-    int i = 0;
+    int i = off;
     while (n > 0) {
       byte b = (byte) (n & 0x7f);
       n >>= 7;
@@ -68,7 +73,7 @@ public final class EncodingHelper {
       }
       buffer[i++] = b;
     }
-    return i;
+    return i - off;
   }
 
   public static int decodeLittleEndianVarInt(ByteBuffer buffer) {
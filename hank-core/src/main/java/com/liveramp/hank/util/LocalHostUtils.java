@@ -15,7 +15,9 @@
  */
 package com.liveramp.hank.util;
 
+import java.io.IOException;
 import java.net.InetAddress;
+import java.net.NetworkInterface;
 import java.net.UnknownHostException;
 
 public final class LocalHostUtils {
@@ -24,4 +26,16 @@ public final class LocalHostUtils {
   public static String getHostName() throws UnknownHostException {
     return InetAddress.getLocalHost().getHostName();
   }
+
+  // Whether the host name resolves to an address of this machine. Host names that cannot be resolved are not local.
+  public static boolean isLocalHost(String hostName) {
+    try {
+      InetAddress address = InetAddress.getByName(hostName);
+      return address.isLoopbackAddress()
+          || address.isAnyLocalAddress()
+          || NetworkInterface.getByInetAddress(address) != null;
+    } catch (IOException e) {
+      return false;
+    }
+  }
 }
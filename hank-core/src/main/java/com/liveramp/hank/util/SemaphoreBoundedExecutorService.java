@@ -0,0 +1,96 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of tasks of an executor that run at the same time with
+ * a semaphore, regardless of how many threads it has. Permits are acquired
+ * by the task itself once it runs, so that executing a task never blocks:
+ * with an executor that starts a virtual thread per task, tasks in excess
+ * wait as parked virtual threads instead of in a queue.
+ */
+public class SemaphoreBoundedExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final int maxConcurrency;
+
+  public SemaphoreBoundedExecutorService(ExecutorService executor, int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("Maximum concurrency must be positive but was: " + maxConcurrency);
+    }
+    this.executor = executor;
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  // Number of tasks running right now
+  public int getNumRunningTasks() {
+    return maxConcurrency - permits.availablePermits();
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        // Uninterruptibly, since a task that never runs would leave its future incomplete
+        permits.acquireUninterruptibly();
+        try {
+          task.run();
+        } finally {
+          permits.release();
+        }
+      }
+    });
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return executor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate counts of the most frequent items of a stream, in bounded
+ * memory, with the Space-Saving algorithm. At most capacity items are counted
+ * at a time. An item that is not counted replaces the item with the lowest
+ * count, and inherits that count as its maximum overestimation. Any item that
+ * accounts for more than 1 / capacity of the stream is always counted.
+ */
+public class SpaceSavingCounter<K> {
+
+  private final int capacity;
+  private final Map<K, Counter<K>> counters;
+
+  public static class Counter<K> {
+
+    private final K item;
+    private long count;
+    private long error;
+
+    private Counter(K item, long count, long error) {
+      this.item = item;
+      this.count = count;
+      this.error = error;
+    }
+
+    public K getItem() {
+      return item;
+    }
+
+    // Upper bound of the number of occurrences of the item
+    public long getCount() {
+      return count;
+    }
+
+    // Maximum overestimation of the count
+    public long getError() {
+      return error;
+    }
+  }
+
+  public SpaceSavingCounter(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<K, Counter<K>>(capacity * 2);
+  }
+
+  // The lowest counter is looked up linearly, which is cheap enough for small capacities and sampled streams
+  public synchronized void add(K item) {
+    Counter<K> counter = counters.get(item);
+    if (counter != null) {
+      ++counter.count;
+    } else if (counters.size() < capacity) {
+      counters.put(item, new Counter<K>(item, 1, 0));
+    } else {
+      Counter<K> lowestCounter = null;
+      for (Counter<K> candidate : counters.values()) {
+        if (lowestCounter == null || candidate.count < lowestCounter.count) {
+          lowestCounter = candidate;
+        }
+      }
+      counters.remove(lowestCounter.item);
+      counters.put(item, new Counter<K>(item, lowestCounter.count + 1, lowestCounter.count));
+    }
+  }
+
+  // Most frequent items first. Counting starts over.
+  public synchronized List<Counter<K>> getTopAndReset(int maxNumItems) {
+    List<Counter<K>> result = new ArrayList<Counter<K>>(counters.values());
+    counters.clear();
+    Collections.sort(result, new Comparator<Counter<K>>() {
+      @Override
+      public int compare(Counter<K> a, Counter<K> b) {
+        return Long.compare(b.count, a.count);
+      }
+    });
+    return result.size() > maxNumItems ? new ArrayList<Counter<K>>(result.subList(0, maxNumItems)) : result;
+  }
+}
@@ -16,6 +16,12 @@
 
 package com.liveramp.hank.util;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import com.liveramp.commons.collections.MemoryBoundLruHashMap;
 import com.liveramp.commons.util.MemoryUsageEstimator;
 
@@ -61,6 +67,21 @@ public class SynchronizedMemoryBoundCache<K, V> {
     }
   }
 
+  // Copy of the entries, from least to most recently used
+  public List<Map.Entry<K, V>> getEntries() {
+    if (!isEnabled()) {
+      return Collections.emptyList();
+    } else {
+      synchronized (cache) {
+        List<Map.Entry<K, V>> result = new ArrayList<Map.Entry<K, V>>(cache.size());
+        for (Map.Entry<K, V> entry : cache.entrySet()) {
+          result.add(new AbstractMap.SimpleImmutableEntry<K, V>(entry.getKey(), entry.getValue()));
+        }
+        return result;
+      }
+    }
+  }
+
   public int size() {
     if (!isEnabled()) {
       return 0;
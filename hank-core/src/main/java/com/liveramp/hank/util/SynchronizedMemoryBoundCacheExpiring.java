@@ -16,6 +16,11 @@
 
 package com.liveramp.hank.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Predicate;
+
 import com.liveramp.commons.collections.MemoryBoundLruHashMap;
 import com.liveramp.commons.util.MemoryUsageEstimator;
 
@@ -80,6 +85,26 @@ public class SynchronizedMemoryBoundCacheExpiring<K, V> {
     }
   }
 
+  // Remove all entries whose key matches the given predicate, and return how many were removed
+  public int removeAll(Predicate<K> keyPredicate) {
+    if (!isEnabled()) {
+      return 0;
+    } else {
+      synchronized (cache) {
+        List<K> keysToRemove = new ArrayList<K>();
+        for (K key : cache.keySet()) {
+          if (keyPredicate.apply(key)) {
+            keysToRemove.add(key);
+          }
+        }
+        for (K key : keysToRemove) {
+          cache.remove(key);
+        }
+        return keysToRemove.size();
+      }
+    }
+  }
+
   public int size() {
     if (!isEnabled()) {
       return 0;
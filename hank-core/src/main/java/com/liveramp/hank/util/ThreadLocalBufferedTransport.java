@@ -0,0 +1,207 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+import com.liveramp.hank.compression.CompressionCodec;
+
+/**
+ * Output transport that accumulates a whole message in a buffer owned by the
+ * current thread, and writes it to the underlying transport in a single call
+ * when flushed. A thread must write and flush one message at a time.
+ *
+ * The buffer is reused across messages written by the same thread, so that
+ * large messages (such as bulk responses) do not repeatedly grow, copy and
+ * discard intermediate buffers. The underlying transport then
+ * receives the message at once, and can size its own buffer exactly.
+ *
+ * Buffers that grew larger than a given size are released after use, so that
+ * a few very large messages do not pin memory on every thread.
+ *
+ * When framed, messages are prefixed with their size as with a
+ * TFramedTransport. This is what the non blocking Thrift servers expect from
+ * their output transports. Framed messages can also be compressed with the
+ * codec accepted by the client (see WireCompression), when they are larger
+ * than a threshold and compression actually makes them smaller.
+ */
+public class ThreadLocalBufferedTransport extends TTransport {
+
+  private static final int INITIAL_BUFFER_SIZE = 1 << 10;
+  private static final int FRAME_SIZE_SIZE = 4;
+  private static final byte[] FRAME_SIZE_PLACEHOLDER = new byte[FRAME_SIZE_SIZE];
+
+  private static final ThreadLocal<UnsafeByteArrayOutputStream> buffers = new ThreadLocal<UnsafeByteArrayOutputStream>() {
+    @Override
+    protected UnsafeByteArrayOutputStream initialValue() {
+      return new UnsafeByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    }
+  };
+
+  private static final ThreadLocal<UnsafeByteArrayOutputStream> compressedBuffers = new ThreadLocal<UnsafeByteArrayOutputStream>() {
+    @Override
+    protected UnsafeByteArrayOutputStream initialValue() {
+      return new UnsafeByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    }
+  };
+
+  public static class Factory extends TTransportFactory {
+
+    private final int bufferReuseMaxSize;
+    private final int compressionThreshold;
+    private final WireCompressionStatistics compressionStatistics;
+
+    public Factory(int bufferReuseMaxSize) {
+      this(bufferReuseMaxSize, 0, new WireCompressionStatistics());
+    }
+
+    public Factory(int bufferReuseMaxSize, int compressionThreshold, WireCompressionStatistics compressionStatistics) {
+      this.bufferReuseMaxSize = bufferReuseMaxSize;
+      this.compressionThreshold = compressionThreshold;
+      this.compressionStatistics = compressionStatistics;
+    }
+
+    @Override
+    public TTransport getTransport(TTransport transport) {
+      ThreadLocalBufferedTransport result = new ThreadLocalBufferedTransport(transport, bufferReuseMaxSize, true);
+      result.compressionThreshold = compressionThreshold;
+      result.compressionStatistics = compressionStatistics;
+      return result;
+    }
+  }
+
+  private final TTransport transport;
+  private final int bufferReuseMaxSize;
+  private final boolean framed;
+  private UnsafeByteArrayOutputStream buffer = null;
+  private CompressionCodec compressionCodec = null;
+  private int compressionThreshold = 0;
+  private WireCompressionStatistics compressionStatistics = null;
+
+  public ThreadLocalBufferedTransport(TTransport transport, int bufferReuseMaxSize) {
+    this(transport, bufferReuseMaxSize, false);
+  }
+
+  public ThreadLocalBufferedTransport(TTransport transport, int bufferReuseMaxSize, boolean framed) {
+    this.transport = transport;
+    this.bufferReuseMaxSize = bufferReuseMaxSize;
+    this.framed = framed;
+  }
+
+  // Compress the following framed messages with the given codec, null to stop compressing
+  public void setCompressionCodec(CompressionCodec compressionCodec) {
+    this.compressionCodec = compressionCodec;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return transport.isOpen();
+  }
+
+  @Override
+  public void open() throws TTransportException {
+    transport.open();
+  }
+
+  @Override
+  public void close() {
+    transport.close();
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws TTransportException {
+    return transport.read(bytes, offset, length);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws TTransportException {
+    // Borrow the current thread's buffer, discarding anything left in it by a message that failed to be written
+    if (buffer == null) {
+      buffer = buffers.get();
+      buffer.reset();
+      // Reserve room for the frame size, which is known once the message is complete
+      if (framed) {
+        buffer.write(FRAME_SIZE_PLACEHOLDER, 0, FRAME_SIZE_SIZE);
+      }
+    }
+    buffer.write(bytes, offset, length);
+  }
+
+  @Override
+  public void flush() throws TTransportException {
+    if (buffer == null) {
+      transport.flush();
+      return;
+    }
+    try {
+      if (framed) {
+        int messageSize = buffer.count() - FRAME_SIZE_SIZE;
+        if (compressionCodec != null && messageSize >= compressionThreshold) {
+          if (writeCompressed(messageSize)) {
+            return;
+          }
+        }
+        TFramedTransport.encodeFrameSize(messageSize, buffer.array());
+      }
+      transport.write(buffer.array(), 0, buffer.count());
+      transport.flush();
+    } finally {
+      if (buffer.array().length > bufferReuseMaxSize) {
+        buffers.remove();
+      } else {
+        buffer.reset();
+      }
+      buffer = null;
+    }
+  }
+
+  // Return false, without writing anything, when compression would not make the message smaller
+  private boolean writeCompressed(int messageSize) throws TTransportException {
+    UnsafeByteArrayOutputStream compressedBuffer = compressedBuffers.get();
+    try {
+      long startNanos = System.nanoTime();
+      compressedBuffer.reset();
+      compressedBuffer.write(FRAME_SIZE_PLACEHOLDER, 0, FRAME_SIZE_SIZE);
+      try {
+        WireCompression.writeCompressedMessage(compressionCodec, buffer.array(), FRAME_SIZE_SIZE, messageSize, compressedBuffer);
+      } catch (IOException e) {
+        throw new TTransportException(e);
+      }
+      int compressedMessageSize = compressedBuffer.count() - FRAME_SIZE_SIZE;
+      boolean smaller = compressedMessageSize < messageSize;
+      compressionStatistics.record(messageSize, smaller ? compressedMessageSize : messageSize, System.nanoTime() - startNanos);
+      if (!smaller) {
+        return false;
+      }
+      TFramedTransport.encodeFrameSize(compressedMessageSize, compressedBuffer.array());
+      transport.write(compressedBuffer.array(), 0, compressedBuffer.count());
+      transport.flush();
+      return true;
+    } finally {
+      if (compressedBuffer.array().length > bufferReuseMaxSize) {
+        compressedBuffers.remove();
+      } else {
+        compressedBuffer.reset();
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non blocking Thrift server transport listening on a Unix domain socket,
+ * the counterpart of TNonblockingServerSocket. A socket file left behind
+ * by a previous process is replaced, and the socket file is deleted when
+ * the transport is closed.
+ */
+public class UnixDomainServerSocket extends TNonblockingServerTransport {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UnixDomainServerSocket.class);
+
+  private final String path;
+  private ServerSocketChannel serverChannel;
+
+  // Fail early when Unix domain sockets are not supported
+  public UnixDomainServerSocket(String path) throws TTransportException {
+    if (!UnixDomainSockets.isSupported()) {
+      throw new TTransportException("Unix domain sockets require Java 16 or later, running Java "
+          + System.getProperty("java.version"));
+    }
+    this.path = path;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public void listen() throws TTransportException {
+    if (serverChannel != null) {
+      return;
+    }
+    try {
+      File file = new File(path);
+      if (file.exists() && !file.delete()) {
+        throw new IOException("Failed to delete existing socket file " + path);
+      }
+      serverChannel = UnixDomainSockets.openServerChannel();
+      serverChannel.bind(UnixDomainSockets.getAddress(path));
+      serverChannel.configureBlocking(false);
+    } catch (IOException e) {
+      close();
+      throw new TTransportException("Could not listen on Unix domain socket " + path, e);
+    }
+  }
+
+  @Override
+  protected UnixDomainSocket acceptImpl() throws TTransportException {
+    if (serverChannel == null) {
+      throw new TTransportException(TTransportException.NOT_OPEN, "No underlying server socket.");
+    }
+    try {
+      SocketChannel channel = serverChannel.accept();
+      if (channel == null) {
+        return null;
+      }
+      return new UnixDomainSocket(channel);
+    } catch (IOException e) {
+      throw new TTransportException(e);
+    }
+  }
+
+  @Override
+  public void registerSelector(Selector selector) {
+    try {
+      serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    } catch (ClosedChannelException e) {
+      // Accepting is over
+    }
+  }
+
+  @Override
+  public void close() {
+    if (serverChannel != null) {
+      try {
+        serverChannel.close();
+      } catch (IOException e) {
+        LOG.warn("Could not close Unix domain server socket " + path, e);
+      }
+      serverChannel = null;
+      if (!new File(path).delete()) {
+        LOG.warn("Could not delete Unix domain socket file " + path);
+      }
+    }
+  }
+
+  @Override
+  public void interrupt() {
+    // Like TNonblockingServerSocket, interrupting stops accepting
+    close();
+  }
+}
@@ -0,0 +1,238 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import org.apache.thrift.transport.TNonblockingTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * Thrift transport over a Unix domain socket, the counterpart of TSocket
+ * and TNonblockingSocket for clients and servers on the same machine.
+ *
+ * The channel is always non blocking. Blocking reads and writes wait on
+ * private selectors, which is how timeouts are enforced since Unix domain
+ * socket channels have no socket to set a timeout on. Reads and writes have
+ * their own selector, so that one thread can read while another one writes.
+ */
+public class UnixDomainSocket extends TNonblockingTransport {
+
+  private final String path;
+  private SocketChannel channel;
+  // Created on first use, guarded by this
+  private Selector readSelector;
+  private Selector writeSelector;
+  // In milliseconds, 0 means no timeout
+  private int timeout;
+
+  // Client socket, connected when opened
+  public UnixDomainSocket(String path, int timeout) {
+    this.path = path;
+    this.timeout = timeout;
+  }
+
+  // Accepted by a server socket
+  public UnixDomainSocket(SocketChannel channel) throws IOException {
+    this.path = null;
+    this.channel = channel;
+    channel.configureBlocking(false);
+  }
+
+  public void setTimeout(int timeout) {
+    this.timeout = timeout;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel != null && channel.isOpen();
+  }
+
+  @Override
+  public void open() throws TTransportException {
+    if (isOpen()) {
+      throw new TTransportException(TTransportException.ALREADY_OPEN, "Unix domain socket already open: " + path);
+    }
+    try {
+      // Connecting to a Unix domain socket does not wait on the network
+      channel = UnixDomainSockets.openChannel();
+      channel.connect(UnixDomainSockets.getAddress(path));
+      channel.configureBlocking(false);
+    } catch (IOException e) {
+      close();
+      throw new TTransportException(TTransportException.NOT_OPEN, "Failed to connect to Unix domain socket: " + path, e);
+    }
+  }
+
+  @Override
+  public boolean startConnect() throws IOException {
+    channel = UnixDomainSockets.openChannel();
+    channel.configureBlocking(false);
+    SocketAddress address = UnixDomainSockets.getAddress(path);
+    return channel.connect(address);
+  }
+
+  @Override
+  public boolean finishConnect() throws IOException {
+    return channel.finishConnect();
+  }
+
+  @Override
+  public SelectionKey registerSelector(Selector selector, int interests) throws IOException {
+    return channel.register(selector, interests);
+  }
+
+  @Override
+  public int read(ByteBuffer buffer) throws IOException {
+    return channel.read(buffer);
+  }
+
+  @Override
+  public int write(ByteBuffer buffer) throws IOException {
+    return channel.write(buffer);
+  }
+
+  @Override
+  public int read(byte[] buf, int off, int len) throws TTransportException {
+    ensureOpen();
+    ByteBuffer buffer = ByteBuffer.wrap(buf, off, len);
+    try {
+      while (true) {
+        int numBytesRead = channel.read(buffer);
+        if (numBytesRead < 0) {
+          throw new TTransportException(TTransportException.END_OF_FILE, "Unix domain socket closed by peer: " + path);
+        } else if (numBytesRead > 0 || len == 0) {
+          return numBytesRead;
+        }
+        await(SelectionKey.OP_READ);
+      }
+    } catch (IOException e) {
+      throw new TTransportException(e);
+    }
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) throws TTransportException {
+    ensureOpen();
+    ByteBuffer buffer = ByteBuffer.wrap(buf, off, len);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.write(buffer) == 0) {
+          await(SelectionKey.OP_WRITE);
+        }
+      }
+    } catch (IOException e) {
+      throw new TTransportException(e);
+    }
+  }
+
+  // Writes are not buffered
+  @Override
+  public void flush() throws TTransportException {
+    ensureOpen();
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closeSelector(readSelector);
+      closeSelector(writeSelector);
+      readSelector = null;
+      writeSelector = null;
+    }
+    try {
+      if (channel != null) {
+        channel.close();
+      }
+    } catch (IOException e) {
+      // Nothing left to do with the channel
+    }
+    channel = null;
+  }
+
+  private static void closeSelector(Selector selector) {
+    if (selector != null) {
+      try {
+        selector.close();
+      } catch (IOException e) {
+        // Nothing left to do with the selector
+      }
+    }
+  }
+
+  private void ensureOpen() throws TTransportException {
+    if (!isOpen()) {
+      throw new TTransportException(TTransportException.NOT_OPEN, "Unix domain socket not open: " + path);
+    }
+  }
+
+  // Wait until the channel is ready for the given operation (read or write), or until the timeout
+  private void await(int operation) throws IOException, TTransportException {
+    Selector selector = getSelector(operation);
+    long deadlineMs = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+    try {
+      while (selector.select(timeout > 0 ? Math.max(1, deadlineMs - System.currentTimeMillis()) : 0) == 0) {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new TTransportException(TTransportException.UNKNOWN, "Interrupted while waiting on Unix domain socket: " + path);
+        }
+        if (timeout > 0 && System.currentTimeMillis() >= deadlineMs) {
+          throw new TTransportException(TTransportException.TIMED_OUT, "Timed out after " + timeout + "ms on Unix domain socket: " + path);
+        }
+      }
+      selector.selectedKeys().clear();
+    } catch (ClosedSelectorException e) {
+      throw new TTransportException(TTransportException.NOT_OPEN, "Unix domain socket closed while waiting: " + path);
+    }
+  }
+
+  private synchronized Selector getSelector(int operation) throws IOException, TTransportException {
+    ensureOpen();
+    if (operation == SelectionKey.OP_READ) {
+      if (readSelector == null) {
+        readSelector = openSelector(operation);
+      }
+      return readSelector;
+    } else {
+      if (writeSelector == null) {
+        writeSelector = openSelector(operation);
+      }
+      return writeSelector;
+    }
+  }
+
+  private Selector openSelector(int operation) throws IOException {
+    Selector selector = Selector.open();
+    try {
+      channel.register(selector, operation);
+    } catch (IOException e) {
+      selector.close();
+      throw e;
+    }
+    return selector;
+  }
+
+  @Override
+  public String toString() {
+    return "UnixDomainSocket [path=" + path + ", channel=" + channel + "]";
+  }
+}
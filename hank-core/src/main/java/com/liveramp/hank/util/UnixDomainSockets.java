@@ -0,0 +1,105 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Unix domain socket channels, which require Java 16 or later. They are
+ * reached by reflection so that Hank still builds and runs on older
+ * versions, where they are simply not supported.
+ */
+public final class UnixDomainSockets {
+
+  private static final ProtocolFamily UNIX_PROTOCOL_FAMILY;
+  private static final Method GET_ADDRESS_METHOD;
+  private static final Method OPEN_CHANNEL_METHOD;
+  private static final Method OPEN_SERVER_CHANNEL_METHOD;
+
+  static {
+    ProtocolFamily unixProtocolFamily = null;
+    Method getAddressMethod = null;
+    Method openChannelMethod = null;
+    Method openServerChannelMethod = null;
+    try {
+      unixProtocolFamily = StandardProtocolFamily.valueOf("UNIX");
+      getAddressMethod = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class);
+      openChannelMethod = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+      openServerChannelMethod = ServerSocketChannel.class.getMethod("open", ProtocolFamily.class);
+    } catch (IllegalArgumentException e) {
+      unixProtocolFamily = null;
+    } catch (ClassNotFoundException e) {
+      unixProtocolFamily = null;
+    } catch (NoSuchMethodException e) {
+      unixProtocolFamily = null;
+    }
+    UNIX_PROTOCOL_FAMILY = unixProtocolFamily;
+    GET_ADDRESS_METHOD = getAddressMethod;
+    OPEN_CHANNEL_METHOD = openChannelMethod;
+    OPEN_SERVER_CHANNEL_METHOD = openServerChannelMethod;
+  }
+
+  private UnixDomainSockets() {
+  }
+
+  public static boolean isSupported() {
+    return UNIX_PROTOCOL_FAMILY != null;
+  }
+
+  // Several partition servers can run on the same machine, each one serves the socket path suffixed with its port
+  public static String getPartitionServerPath(String path, int port) {
+    return path + "." + port;
+  }
+
+  public static SocketAddress getAddress(String path) throws IOException {
+    return (SocketAddress) invoke(GET_ADDRESS_METHOD, path);
+  }
+
+  // Blocking, not connected
+  public static SocketChannel openChannel() throws IOException {
+    return (SocketChannel) invoke(OPEN_CHANNEL_METHOD, UNIX_PROTOCOL_FAMILY);
+  }
+
+  // Blocking, not bound
+  public static ServerSocketChannel openServerChannel() throws IOException {
+    return (ServerSocketChannel) invoke(OPEN_SERVER_CHANNEL_METHOD, UNIX_PROTOCOL_FAMILY);
+  }
+
+  private static Object invoke(Method staticMethod, Object argument) throws IOException {
+    if (!isSupported()) {
+      throw new IOException("Unix domain sockets require Java 16 or later, running Java "
+          + System.getProperty("java.version"));
+    }
+    try {
+      return staticMethod.invoke(null, argument);
+    } catch (IllegalAccessException e) {
+      throw new IOException(e);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads, which require Java 21 or later. They are reached by
+ * reflection so that Hank still builds and runs on older versions, where
+ * they are simply not supported.
+ *
+ * Virtual threads are cheap enough to run every blocking task on its own
+ * thread. Their concurrency is bounded explicitly with a
+ * SemaphoreBoundedExecutorService rather than by the size of a pool.
+ */
+public final class VirtualThreads {
+
+  private static final Method OF_VIRTUAL_METHOD;
+  private static final Method NAME_METHOD;
+  private static final Method FACTORY_METHOD;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method nameMethod = null;
+    Method factoryMethod = null;
+    Method newThreadPerTaskExecutorMethod = null;
+    try {
+      // Methods are looked up on the public builder interface since its implementations are not accessible
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      nameMethod = builderClass.getMethod("name", String.class, long.class);
+      factoryMethod = builderClass.getMethod("factory");
+      newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // Virtual threads are a preview feature before Java 21, disabled unless explicitly enabled
+      ofVirtualMethod.invoke(null);
+    } catch (ClassNotFoundException e) {
+      ofVirtualMethod = null;
+    } catch (NoSuchMethodException e) {
+      ofVirtualMethod = null;
+    } catch (IllegalAccessException e) {
+      ofVirtualMethod = null;
+    } catch (InvocationTargetException e) {
+      ofVirtualMethod = null;
+    }
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    NAME_METHOD = nameMethod;
+    FACTORY_METHOD = factoryMethod;
+    NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+  }
+
+  private VirtualThreads() {
+  }
+
+  public static boolean isSupported() {
+    return OF_VIRTUAL_METHOD != null;
+  }
+
+  // Threads are named with the given prefix followed by a counter
+  public static ThreadFactory newThreadFactory(String namePrefix) throws IOException {
+    if (!isSupported()) {
+      throw new IOException("Virtual threads require Java 21 or later, running Java "
+          + System.getProperty("java.version"));
+    }
+    try {
+      Object builder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), namePrefix, 0L);
+      return (ThreadFactory) FACTORY_METHOD.invoke(builder);
+    } catch (IllegalAccessException e) {
+      throw new IOException(e);
+    } catch (InvocationTargetException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  // Each task is executed on a new virtual thread
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix) throws IOException {
+    ThreadFactory threadFactory = newThreadFactory(namePrefix);
+    try {
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    } catch (IllegalAccessException e) {
+      throw new IOException(e);
+    } catch (InvocationTargetException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  // Each task is executed on a new virtual thread, at most maxConcurrency at a time
+  public static ExecutorService newBoundedExecutor(String namePrefix, int maxConcurrency) throws IOException {
+    return new SemaphoreBoundedExecutorService(newThreadPerTaskExecutor(namePrefix), maxConcurrency);
+  }
+}
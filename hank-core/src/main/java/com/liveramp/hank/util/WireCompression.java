@@ -0,0 +1,122 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.liveramp.hank.compression.CompressionCodec;
+
+/**
+ * Compression of the messages exchanged by smart clients and partition
+ * servers. Clients and servers first agree on a codec with the
+ * negotiateWireCompression call. Clients then prefix their requests with an
+ * accept header naming that codec, and servers compress the responses that are
+ * larger than a threshold.
+ *
+ * Messages otherwise start with the compact protocol id, which the markers
+ * below cannot be mistaken for.
+ */
+public final class WireCompression {
+
+  // Accept header: marker, codec id
+  public static final byte ACCEPT_CODEC_MARKER = 0x01;
+  public static final int ACCEPT_CODEC_HEADER_SIZE = 2;
+  // Compressed message: marker, codec id, varint uncompressed size, compressed message
+  public static final byte COMPRESSED_MESSAGE_MARKER = 0x02;
+
+  private WireCompression() {
+  }
+
+  // Ids are part of the wire format and must not change
+  public static byte getCodecId(CompressionCodec codec) {
+    switch (codec) {
+      case SNAPPY:
+        return 1;
+      case DEFLATE:
+        return 2;
+      case GZIP:
+        return 3;
+      default:
+        throw new IllegalArgumentException("Unsupported wire compression codec: " + codec);
+    }
+  }
+
+  // Return null for unknown ids
+  public static CompressionCodec getCodec(byte codecId) {
+    switch (codecId) {
+      case 1:
+        return CompressionCodec.SNAPPY;
+      case 2:
+        return CompressionCodec.DEFLATE;
+      case 3:
+        return CompressionCodec.GZIP;
+      default:
+        return null;
+    }
+  }
+
+  public static List<CompressionCodec> parseCodecs(List<String> codecNames) {
+    List<CompressionCodec> codecs = new ArrayList<CompressionCodec>(codecNames.size());
+    for (String codecName : codecNames) {
+      CompressionCodec codec = CompressionCodec.valueOf(codecName.toUpperCase());
+      // Fail early on codecs that cannot be used on the wire
+      getCodecId(codec);
+      codecs.add(codec);
+    }
+    return codecs;
+  }
+
+  public static List<String> getCodecNames(List<CompressionCodec> codecs) {
+    List<String> codecNames = new ArrayList<String>(codecs.size());
+    for (CompressionCodec codec : codecs) {
+      codecNames.add(codec.name());
+    }
+    return codecNames;
+  }
+
+  // Return the first of the offered codecs that is supported, null if there is none.
+  // Codecs unknown to this side are ignored.
+  public static CompressionCodec negotiate(List<String> offeredCodecNames, Collection<CompressionCodec> supportedCodecs) {
+    for (String codecName : offeredCodecNames) {
+      for (CompressionCodec codec : supportedCodecs) {
+        if (codec.name().equals(codecName)) {
+          return codec;
+        }
+      }
+    }
+    return null;
+  }
+
+  public static void writeCompressedMessage(CompressionCodec codec,
+                                            byte[] message,
+                                            int offset,
+                                            int length,
+                                            OutputStream outputStream) throws IOException {
+    byte[] header = new byte[2 + EncodingHelper.MAX_VARINT_SIZE];
+    header[0] = COMPRESSED_MESSAGE_MARKER;
+    header[1] = getCodecId(codec);
+    int headerSize = 2 + EncodingHelper.encodeLittleEndianVarInt(length, header, 2);
+    outputStream.write(header, 0, headerSize);
+    OutputStream compressedOutputStream = codec.getFactory().getCompressor().getOutputStream(outputStream);
+    compressedOutputStream.write(message, offset, length);
+    compressedOutputStream.close();
+  }
+}
@@ -0,0 +1,194 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.compression.Decompressor;
+
+/**
+ * Framed transport, compatible with TFramedTransport, that can accept
+ * compressed messages (see WireCompression). Once a codec has been negotiated
+ * with the server, written messages are prefixed with an accept header naming
+ * it. Compressed messages that are read are decompressed into a new buffer, so
+ * that values read as views of the buffer (see ZeroCopyCompactProtocol) remain
+ * valid after the next message is read.
+ */
+public class WireCompressionFramedTransport extends TTransport {
+
+  private static final int MAX_FRAME_SIZE = 16384000;
+
+  private final TTransport transport;
+  private final WireCompressionStatistics decompressionStatistics;
+  private final TMemoryInputTransport readBuffer = new TMemoryInputTransport();
+  private final UnsafeByteArrayOutputStream writeBuffer = new UnsafeByteArrayOutputStream(1024);
+  // Frames can be read and written concurrently (see PipelinedConnection), each direction has its own buffer
+  private final byte[] readFrameSizeBuffer = new byte[4];
+  private final byte[] writeFrameSizeBuffer = new byte[4];
+  private final byte[] acceptHeader = new byte[WireCompression.ACCEPT_CODEC_HEADER_SIZE];
+  private final Map<CompressionCodec, Decompressor> decompressors = new EnumMap<CompressionCodec, Decompressor>(CompressionCodec.class);
+  private volatile CompressionCodec acceptedCodec = null;
+
+  public WireCompressionFramedTransport(TTransport transport, WireCompressionStatistics decompressionStatistics) {
+    this.transport = transport;
+    this.decompressionStatistics = decompressionStatistics;
+  }
+
+  // Accept messages compressed with the given codec in responses to the following messages, null to stop
+  public void setAcceptedCodec(CompressionCodec acceptedCodec) {
+    this.acceptedCodec = acceptedCodec;
+  }
+
+  public CompressionCodec getAcceptedCodec() {
+    return acceptedCodec;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return transport.isOpen();
+  }
+
+  @Override
+  public void open() throws TTransportException {
+    transport.open();
+  }
+
+  @Override
+  public void close() {
+    transport.close();
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws TTransportException {
+    int numBytesRead = readBuffer.read(bytes, offset, length);
+    if (numBytesRead > 0) {
+      return numBytesRead;
+    }
+    readFrame();
+    return readBuffer.read(bytes, offset, length);
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return readBuffer.getBuffer();
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return readBuffer.getBufferPosition();
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return readBuffer.getBytesRemainingInBuffer();
+  }
+
+  @Override
+  public void consumeBuffer(int length) {
+    readBuffer.consumeBuffer(length);
+  }
+
+  private void readFrame() throws TTransportException {
+    transport.readAll(readFrameSizeBuffer, 0, readFrameSizeBuffer.length);
+    int frameSize = TFramedTransport.decodeFrameSize(readFrameSizeBuffer);
+    if (frameSize < 0) {
+      throw new TTransportException("Read a negative frame size (" + frameSize + ")!");
+    }
+    if (frameSize > MAX_FRAME_SIZE) {
+      throw new TTransportException("Frame size (" + frameSize + ") larger than max length (" + MAX_FRAME_SIZE + ")!");
+    }
+    byte[] frame = new byte[frameSize];
+    transport.readAll(frame, 0, frameSize);
+    if (frameSize > 0 && frame[0] == WireCompression.COMPRESSED_MESSAGE_MARKER) {
+      long startNanos = System.nanoTime();
+      UnsafeByteArrayOutputStream message = decompress(frame);
+      decompressionStatistics.record(message.count(), frameSize, System.nanoTime() - startNanos);
+      readBuffer.reset(message.array(), 0, message.count());
+    } else {
+      readBuffer.reset(frame);
+    }
+  }
+
+  private UnsafeByteArrayOutputStream decompress(byte[] frame) throws TTransportException {
+    if (frame.length < 2) {
+      throw new TTransportException("Truncated compressed message header.");
+    }
+    CompressionCodec codec = WireCompression.getCodec(frame[1]);
+    if (codec == null) {
+      throw new TTransportException("Unknown wire compression codec id: " + frame[1]);
+    }
+    Decompressor decompressor = decompressors.get(codec);
+    if (decompressor == null) {
+      decompressor = codec.getFactory().getDecompressor();
+      decompressors.put(codec, decompressor);
+    }
+    try {
+      ByteBuffer header = ByteBuffer.wrap(frame, 2, frame.length - 2);
+      int messageSize = EncodingHelper.decodeLittleEndianVarInt(header);
+      if (messageSize < 0 || messageSize > MAX_FRAME_SIZE) {
+        throw new TTransportException("Invalid uncompressed message size: " + messageSize);
+      }
+      UnsafeByteArrayOutputStream message = new UnsafeByteArrayOutputStream(messageSize);
+      decompressor.decompressBlock(frame, header.position(), header.remaining(), message);
+      if (message.count() != messageSize) {
+        throw new TTransportException("Decompressed message size (" + message.count() + ") does not match its expected size (" + messageSize + ")");
+      }
+      return message;
+    } catch (IOException e) {
+      throw new TTransportException("Failed to decompress message", e);
+    } catch (BufferUnderflowException e) {
+      throw new TTransportException("Truncated compressed message header.", e);
+    }
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws TTransportException {
+    writeBuffer.write(bytes, offset, length);
+  }
+
+  @Override
+  public void flush() throws TTransportException {
+    CompressionCodec codec = acceptedCodec;
+    try {
+      int frameSize = writeBuffer.count();
+      if (codec != null) {
+        frameSize += acceptHeader.length;
+      }
+      TFramedTransport.encodeFrameSize(frameSize, writeFrameSizeBuffer);
+      transport.write(writeFrameSizeBuffer, 0, writeFrameSizeBuffer.length);
+      if (codec != null) {
+        acceptHeader[0] = WireCompression.ACCEPT_CODEC_MARKER;
+        acceptHeader[1] = WireCompression.getCodecId(codec);
+        transport.write(acceptHeader, 0, acceptHeader.length);
+      }
+      transport.write(writeBuffer.array(), 0, writeBuffer.count());
+    } finally {
+      writeBuffer.reset();
+    }
+    transport.flush();
+  }
+}
@@ -0,0 +1,71 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the messages (de)compressed on the wire, their sizes before and after
+ * compression, and the time spent (de)compressing them.
+ */
+public class WireCompressionStatistics {
+
+  private final AtomicLong numMessages = new AtomicLong(0);
+  private final AtomicLong numUncompressedBytes = new AtomicLong(0);
+  private final AtomicLong numCompressedBytes = new AtomicLong(0);
+  private final AtomicLong durationNanos = new AtomicLong(0);
+
+  public void record(long uncompressedSize, long compressedSize, long durationNanos) {
+    numMessages.incrementAndGet();
+    numUncompressedBytes.addAndGet(uncompressedSize);
+    numCompressedBytes.addAndGet(compressedSize);
+    this.durationNanos.addAndGet(durationNanos);
+  }
+
+  public long getNumMessages() {
+    return numMessages.get();
+  }
+
+  public long getNumUncompressedBytes() {
+    return numUncompressedBytes.get();
+  }
+
+  public long getNumCompressedBytes() {
+    return numCompressedBytes.get();
+  }
+
+  public long getDurationNanos() {
+    return durationNanos.get();
+  }
+
+  public double getCompressionRatio() {
+    long compressedBytes = getNumCompressedBytes();
+    if (compressedBytes == 0) {
+      return 1;
+    }
+    return (double)getNumUncompressedBytes() / (double)compressedBytes;
+  }
+
+  @Override
+  public String toString() {
+    return getNumMessages() + " messages, "
+        + FormatUtils.formatNumBytes(getNumUncompressedBytes()) + " uncompressed, "
+        + FormatUtils.formatNumBytes(getNumCompressedBytes()) + " compressed, ratio "
+        + FormatUtils.formatDouble(getCompressionRatio()) + ", "
+        + (getDurationNanos() / 1000000L) + "ms of CPU time";
+  }
+}
@@ -0,0 +1,89 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.util;
+
+import java.nio.ByteBuffer;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TTransport;
+
+/**
+ * Compact protocol that reads binary fields (keys and values) as views of the
+ * transport's buffer when the whole field is buffered, which is always the case
+ * with framed transports, instead of allocating and copying a new array for
+ * each of them. The wire format is unchanged.
+ *
+ * Binary fields share the underlying frame buffer, which must therefore not be
+ * reused for subsequent frames. This is the case of Thrift's framed transports
+ * and non blocking servers, which allocate a buffer per frame: fields remain
+ * valid after the next frame is read, and a frame is garbage collected when all
+ * its fields have been.
+ */
+public class ZeroCopyCompactProtocol extends TCompactProtocol {
+
+  private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.wrap(new byte[0]);
+
+  public static class Factory implements TProtocolFactory {
+
+    @Override
+    public TProtocol getProtocol(TTransport transport) {
+      return new ZeroCopyCompactProtocol(transport);
+    }
+  }
+
+  public ZeroCopyCompactProtocol(TTransport transport) {
+    super(transport);
+  }
+
+  @Override
+  public ByteBuffer readBinary() throws TException {
+    int length = readVarint32();
+    if (length < 0) {
+      throw new TProtocolException(TProtocolException.NEGATIVE_SIZE, "Negative length: " + length);
+    }
+    if (length == 0) {
+      return EMPTY_BUFFER.duplicate();
+    }
+    if (trans_.getBytesRemainingInBuffer() >= length) {
+      ByteBuffer result = ByteBuffer.wrap(trans_.getBuffer(), trans_.getBufferPosition(), length).slice();
+      trans_.consumeBuffer(length);
+      return result;
+    } else {
+      byte[] bytes = new byte[length];
+      trans_.readAll(bytes, 0, length);
+      return ByteBuffer.wrap(bytes);
+    }
+  }
+
+  // Same encoding as TCompactProtocol's (private) varint reader
+  private int readVarint32() throws TException {
+    int result = 0;
+    int shift = 0;
+    while (true) {
+      byte b = readByte();
+      result |= (b & 0x7f) << shift;
+      if ((b & 0x80) != 0x80) {
+        return result;
+      }
+      shift += 7;
+    }
+  }
+}
@@ -18,6 +18,9 @@ union HankException {
 
   /** There was some internal error in the server. This is pretty bad. */
   6: string internal_error;
+
+  /** The server does not support the query for the requested domain. The client may fall back to another query. */
+  7: string not_supported;
 }
 
 union HankResponse {
@@ -42,11 +45,21 @@ union HankBulkResponse {
 service PartitionServer {
   HankResponse get(1:i32 domain_id, 2:binary key);
   HankBulkResponse getBulk(1:i32 domain_id, 2:list<binary> keys);
+  HankCompactBulkResponse getBulkCompact(1:i32 domain_id, 2:list<binary> keys);
+  string negotiateWireCompression(1:list<string> codecs);
+  HankResponse getHashed(1:i32 domain_id, 2:i32 partition, 3:binary hashed_key);
+  HankBulkResponse getMulti(1:list<HankDomainKey> domain_keys);
+  HankExistsResponse exists(1:i32 domain_id, 2:binary key);
+  HankExistsBulkResponse existsBulk(1:i32 domain_id, 2:list<binary> keys);
+  HankValueSizeResponse getValueSize(1:i32 domain_id, 2:binary key);
+  HankResponse getRange(1:i32 domain_id, 2:binary key, 3:i32 offset, 4:i32 length, 5:i32 version_number = -1);
+  HankScanResponse scanPartition(1:i32 domain_id, 2:i32 partition, 3:binary cursor, 4:i32 limit);
 }
 
 service SmartClient {
   HankResponse get(1:string domain_name, 2:binary key);
   HankBulkResponse getBulk(1:string domain_name, 2:list<binary> keys);
+  HankBulkResponse getMulti(1:list<HankDomainNameKey> domain_keys);
 }
 
 struct DomainMetadata {
@@ -143,4 +156,91 @@ struct DomainStatisticsSummary {
 struct RuntimeStatisticsSummary {
   1: required map<string, DomainStatisticsSummary> domain_statistics;
 
-}
\ No newline at end of file
+}
+
+/* Columnar form of a list of responses, compact when values are small */
+struct HankCompactResponses {
+  /* Number of responses */
+  1: required i32 num_responses;
+
+  /* Bitmap of found values, bit (i % 8) of byte (i / 8) is set when response i is a value */
+  2: required binary found;
+
+  /* Varint lengths of the found values, in order */
+  3: required binary value_lengths;
+
+  /* Found values, concatenated in order */
+  4: required binary values;
+
+  /* Error states of individual responses, by index. Other responses that are not found values are not found */
+  5: optional map<i32, HankException> exceptions;
+}
+
+union HankCompactBulkResponse {
+  /* Individual responses */
+  1: HankCompactResponses responses;
+
+  /* Error states */
+  2: HankException xception;
+}
+
+/* A key in a given domain, for queries spanning several domains */
+struct HankDomainKey {
+  1: required i32 domain_id;
+  2: required binary key;
+}
+
+/* A key in a given domain designated by name, for queries spanning several domains */
+struct HankDomainNameKey {
+  1: required string domain_name;
+  2: required binary key;
+}
+
+union HankExistsResponse {
+  /* Whether the key is in the domain. Values are not read */
+  1: bool exists;
+
+  /* Error states */
+  2: HankException xception;
+}
+
+union HankExistsBulkResponse {
+  /* Individual responses */
+  1: list<HankExistsResponse> responses;
+
+  /* Error states */
+  2: HankException xception;
+}
+
+union HankValueSizeResponse {
+  /* Size of the value in bytes. The value itself is not sent */
+  1: i32 value_size;
+
+  /* Not found state */
+  2: bool not_found;
+
+  /* Error states */
+  3: HankException xception;
+}
+
+/* A record read by a partition scan. Keys are not stored, only their hashes */
+struct HankScanRecord {
+  1: required binary key_hash;
+  2: required binary value;
+}
+
+struct HankScanRecords {
+  /* Records by increasing key hash, the last one being the cursor of the next scan */
+  1: required list<HankScanRecord> records;
+
+  /* Whether there are no records left after these */
+  2: required bool end_of_partition;
+}
+
+union HankScanResponse {
+  /* Scanned records */
+  1: HankScanRecords records;
+
+  /* Error states */
+  2: HankException xception;
+}
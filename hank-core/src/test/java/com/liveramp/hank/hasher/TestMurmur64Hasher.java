@@ -18,7 +18,9 @@ package com.liveramp.hank.hasher;
 import com.liveramp.commons.util.BytesUtils;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -77,4 +79,31 @@ public class TestMurmur64Hasher {
     hsh.hash(buffer, 8, hash64);
     assertTrue(Arrays.equals(new byte[]{0x08, 0x51, 0x77, 0x72, 0x42, 0x6e, 0x7f, (byte) 0xa6}, hash64));
   }
+
+  @Test
+  public void testAnyByteBuffer() {
+    Random random = new Random(42);
+    for (int length = 0; length < 40; ++length) {
+      byte[] data = new byte[length + 3];
+      random.nextBytes(data);
+      long expectedHash = Murmur64Hasher.murmurHash64(data, 3, length, 645568);
+      byte[] expectedHashBytes = new byte[10];
+      hsh.hash(ByteBuffer.wrap(data, 3, length), 10, expectedHashBytes);
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+      direct.put(data);
+      direct.position(3);
+      ByteBuffer slice = ByteBuffer.wrap(data, 1, length + 2).slice();
+      slice.position(2);
+      ByteBuffer littleEndian = ByteBuffer.wrap(data, 3, length).order(ByteOrder.LITTLE_ENDIAN);
+      for (ByteBuffer buffer : Arrays.asList(direct, direct.asReadOnlyBuffer(), slice, slice.asReadOnlyBuffer(), littleEndian)) {
+        assertEquals(expectedHash, Murmur64Hasher.murmurHash64(buffer, 645568));
+        byte[] hashBytes = new byte[10];
+        hsh.hash(buffer, 10, hashBytes);
+        assertTrue(Arrays.equals(expectedHashBytes, hashBytes));
+        // Buffers are left untouched
+        assertEquals(length, buffer.remaining());
+      }
+    }
+  }
 }
@@ -0,0 +1,149 @@
+/**
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.junit.Test;
+
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactResponses;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestCompactResponses extends BaseTestCase {
+
+  @Test
+  public void testEncodeDecode() throws Exception {
+    List<HankResponse> responses = new ArrayList<HankResponse>();
+    responses.add(HankResponse.value(new byte[]{1, 2, 3}));
+    responses.add(HankResponse.not_found(true));
+    responses.add(HankResponse.value(new byte[0]));
+    // Value with a multi byte length
+    byte[] largeValue = new byte[1000];
+    for (int i = 0; i < largeValue.length; ++i) {
+      largeValue[i] = (byte)i;
+    }
+    responses.add(HankResponse.value(largeValue));
+    responses.add(HankResponse.xception(HankException.internal_error("error")));
+    // Value that is a view of a larger buffer
+    responses.add(HankResponse.value(ByteBuffer.wrap(new byte[]{9, 8, 7, 6}, 1, 2)));
+    for (int i = 0; i < 10; ++i) {
+      responses.add(HankResponse.not_found(true));
+    }
+    responses.add(HankResponse.value(new byte[]{42}));
+
+    HankCompactResponses compactResponses = CompactResponses.encode(responses);
+    assertEquals(responses.size(), compactResponses.get_num_responses());
+    assertEquals(1, compactResponses.get_exceptions().size());
+
+    List<HankResponse> result = CompactResponses.decode(compactResponses);
+    assertEquals(responses.size(), result.size());
+    for (int i = 0; i < responses.size(); ++i) {
+      assertEquals(responses.get(i), result.get(i));
+    }
+  }
+
+  @Test
+  public void testEmpty() throws Exception {
+    HankCompactResponses compactResponses = CompactResponses.encode(Collections.<HankResponse>emptyList());
+    assertEquals(0, compactResponses.get_num_responses());
+    assertFalse(compactResponses.is_set_exceptions());
+    assertEquals(Collections.<HankResponse>emptyList(), CompactResponses.decode(compactResponses));
+  }
+
+  @Test
+  public void testDecodedValuesAreViews() throws Exception {
+    List<HankResponse> responses = new ArrayList<HankResponse>();
+    responses.add(HankResponse.value(new byte[]{1, 2, 3}));
+    responses.add(HankResponse.not_found(true));
+    responses.add(HankResponse.value(new byte[]{4, 5}));
+
+    // Serialize with the regular compact protocol
+    TMemoryBuffer output = new TMemoryBuffer(64);
+    CompactResponses.encode(responses).write(new TCompactProtocol(output));
+    byte[] serialized = output.getArray();
+
+    // Deserialize
+    HankCompactResponses compactResponses = new HankCompactResponses();
+    compactResponses.read(new ZeroCopyCompactProtocol(new TMemoryInputTransport(serialized, 0, output.length())));
+    List<HankResponse> result = CompactResponses.decode(compactResponses);
+    assertEquals(responses, result);
+
+    // Values are views of the serialized buffer
+    assertSame(serialized, result.get(0).buffer_for_value().array());
+    assertSame(serialized, result.get(2).buffer_for_value().array());
+  }
+
+  @Test
+  public void testSmallerThanBulkResponse() throws Exception {
+    List<HankResponse> responses = new ArrayList<HankResponse>();
+    for (int i = 0; i < 1000; ++i) {
+      if (i % 3 == 0) {
+        responses.add(HankResponse.not_found(true));
+      } else {
+        responses.add(HankResponse.value(new byte[]{(byte)i, (byte)(i >> 8)}));
+      }
+    }
+    TMemoryBuffer bulkOutput = new TMemoryBuffer(64);
+    HankBulkResponse.responses(responses).write(new TCompactProtocol(bulkOutput));
+    TMemoryBuffer compactOutput = new TMemoryBuffer(64);
+    CompactResponses.encode(responses).write(new TCompactProtocol(compactOutput));
+    assertTrue(compactOutput.length() < bulkOutput.length() * 2 / 3);
+  }
+
+  @Test
+  public void testInvalid() throws Exception {
+    List<HankResponse> responses = new ArrayList<HankResponse>();
+    responses.add(HankResponse.value(new byte[]{1, 2, 3}));
+    responses.add(HankResponse.value(new byte[]{4, 5}));
+    HankCompactResponses compactResponses = CompactResponses.encode(responses);
+
+    // Truncated values
+    HankCompactResponses truncatedValues = new HankCompactResponses(compactResponses);
+    truncatedValues.set_values(new byte[]{1, 2, 3});
+    try {
+      CompactResponses.decode(truncatedValues);
+      fail("Should fail");
+    } catch (IOException e) {
+      // Expected
+    }
+
+    // More responses than the found bitmap covers
+    HankCompactResponses truncatedBitmap = new HankCompactResponses(compactResponses);
+    truncatedBitmap.set_num_responses(9);
+    try {
+      CompactResponses.decode(truncatedBitmap);
+      fail("Should fail");
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.liveramp.hank.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+public class TestSemaphoreBoundedExecutorService {
+
+  @Test
+  public void testBoundsConcurrency() throws Exception {
+    // An unbounded pool stands in for virtual threads
+    SemaphoreBoundedExecutorService executor = new SemaphoreBoundedExecutorService(Executors.newCachedThreadPool(), 3);
+    assertEquals(3, executor.getMaxConcurrency());
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger numRunning = new AtomicInteger(0);
+    final AtomicInteger maxNumRunning = new AtomicInteger(0);
+    List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < 10; ++i) {
+      final int value = i;
+      futures.add(executor.submit(new Callable<Integer>() {
+        @Override
+        public Integer call() throws Exception {
+          int running = numRunning.incrementAndGet();
+          synchronized (maxNumRunning) {
+            maxNumRunning.set(Math.max(maxNumRunning.get(), running));
+          }
+          release.await();
+          numRunning.decrementAndGet();
+          return value;
+        }
+      }));
+    }
+    // Executing never blocks, tasks in excess wait for a permit
+    WaitUntil.orDie(new Condition() {
+      @Override
+      public boolean test() {
+        return numRunning.get() == 3;
+      }
+    });
+    assertEquals(3, executor.getNumRunningTasks());
+    release.countDown();
+    for (int i = 0; i < 10; ++i) {
+      assertEquals(Integer.valueOf(i), futures.get(i).get());
+    }
+    assertEquals(3, maxNumRunning.get());
+
+    // Permits are released once tasks return, after their futures complete
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(executor.isTerminated());
+    assertEquals(0, executor.getNumRunningTasks());
+  }
+
+  @Test
+  public void testVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    ExecutorService executor = VirtualThreads.newBoundedExecutor("Test virtual thread ", 2);
+    Future<Boolean> isDaemon = executor.submit(new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        // Virtual threads are always daemon threads
+        return Thread.currentThread().isDaemon();
+      }
+    });
+    assertTrue(isDaemon.get());
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testUnsupportedVirtualThreads() {
+    assumeTrue(!VirtualThreads.isSupported());
+    try {
+      VirtualThreads.newThreadPerTaskExecutor("Test virtual thread ");
+      fail("should have thrown an exception");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.liveramp.hank.util;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestSpaceSavingCounter {
+
+  @Test
+  public void testExactCountsUnderCapacity() {
+    SpaceSavingCounter<String> counter = new SpaceSavingCounter<String>(3);
+    counter.add("a");
+    counter.add("b");
+    counter.add("a");
+    List<SpaceSavingCounter.Counter<String>> top = counter.getTopAndReset(10);
+    assertEquals(2, top.size());
+    assertEquals("a", top.get(0).getItem());
+    assertEquals(2, top.get(0).getCount());
+    assertEquals(0, top.get(0).getError());
+    assertEquals("b", top.get(1).getItem());
+    assertEquals(1, top.get(1).getCount());
+    // Counting starts over
+    assertTrue(counter.getTopAndReset(10).isEmpty());
+  }
+
+  @Test
+  public void testHeavyHittersAreKept() {
+    SpaceSavingCounter<Integer> counter = new SpaceSavingCounter<Integer>(4);
+    // Item 0 is one request out of three, all other items are seen once
+    for (int i = 1; i <= 300; ++i) {
+      counter.add(0);
+      counter.add(i * 2);
+      counter.add(i * 2 + 1);
+    }
+    List<SpaceSavingCounter.Counter<Integer>> top = counter.getTopAndReset(1);
+    assertEquals(1, top.size());
+    assertEquals(0, (int)top.get(0).getItem());
+    assertTrue(top.get(0).getCount() >= 300);
+    assertTrue(top.get(0).getCount() - top.get(0).getError() <= 300);
+  }
+}
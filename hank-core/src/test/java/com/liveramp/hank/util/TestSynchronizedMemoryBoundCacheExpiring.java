@@ -0,0 +1,44 @@
+package com.liveramp.hank.util;
+
+import com.google.common.base.Predicate;
+import org.junit.Test;
+
+import com.liveramp.commons.util.MemoryUsageEstimator;
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TestSynchronizedMemoryBoundCacheExpiring extends BaseTestCase {
+
+  private static final MemoryUsageEstimator<String> STRING_ESTIMATOR = new MemoryUsageEstimator<String>() {
+    @Override
+    public long estimateMemorySize(String item) {
+      return item.length();
+    }
+  };
+
+  @Test
+  public void testRemoveAll() {
+    SynchronizedMemoryBoundCacheExpiring<String, String> cache =
+        new SynchronizedMemoryBoundCacheExpiring<String, String>(true, 1000, 10, 60, STRING_ESTIMATOR, STRING_ESTIMATOR);
+    cache.put("a1", "x");
+    cache.put("a2", "y");
+    cache.put("b1", "z");
+    assertEquals(9, cache.getNumManagedBytes());
+
+    int numRemoved = cache.removeAll(new Predicate<String>() {
+      @Override
+      public boolean apply(String key) {
+        return key.startsWith("a");
+      }
+    });
+
+    assertEquals(2, numRemoved);
+    assertEquals(1, cache.size());
+    assertEquals(3, cache.getNumManagedBytes());
+    assertNull(cache.get("a1"));
+    assertNull(cache.get("a2"));
+    assertEquals("z", cache.get("b1"));
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.util;
+
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestThreadLocalBufferedTransport {
+
+  @Test
+  public void testWritesOnFlush() throws Exception {
+    TMemoryBuffer output = new TMemoryBuffer(16);
+    ThreadLocalBufferedTransport transport = new ThreadLocalBufferedTransport(output, 1024);
+    transport.write(new byte[]{1, 2});
+    transport.write(new byte[]{3});
+    assertEquals(0, output.length());
+    transport.flush();
+    assertEquals(3, output.length());
+    assertEquals("\u0001\u0002\u0003", output.toString("ISO-8859-1"));
+  }
+
+  @Test
+  public void testUnflushedMessageIsDiscarded() throws Exception {
+    // A message that failed to be written is never flushed
+    new ThreadLocalBufferedTransport(new TMemoryBuffer(16), 1024).write(new byte[]{1, 2});
+
+    TMemoryBuffer output = new TMemoryBuffer(16);
+    ThreadLocalBufferedTransport transport = new ThreadLocalBufferedTransport(output, 1024);
+    transport.write(new byte[]{3});
+    transport.flush();
+    assertEquals("\u0003", output.toString("ISO-8859-1"));
+  }
+
+  @Test
+  public void testLargeMessages() throws Exception {
+    TMemoryBuffer output = new TMemoryBuffer(16);
+    ThreadLocalBufferedTransport transport = new ThreadLocalBufferedTransport(output, 4);
+    transport.write(new byte[100]);
+    transport.flush();
+    assertEquals(100, output.length());
+    // Buffer is reallocated for the next message
+    transport.write(new byte[]{1});
+    transport.flush();
+    assertEquals(101, output.length());
+  }
+
+  @Test
+  public void testFramed() throws Exception {
+    TMemoryBuffer output = new TMemoryBuffer(16);
+    TTransport transport = new ThreadLocalBufferedTransport.Factory(1024).getTransport(output);
+    transport.write(new byte[]{1, 2});
+    transport.write(new byte[]{3});
+    transport.flush();
+    transport.write(new byte[]{4});
+    transport.flush();
+    assertEquals(12, output.length());
+    // Messages can be read back as frames
+    TFramedTransport input = new TFramedTransport(output);
+    byte[] message = new byte[3];
+    input.readAll(message, 0, 3);
+    assertEquals("\u0001\u0002\u0003", new String(message, "ISO-8859-1"));
+    assertEquals(0, input.getBytesRemainingInBuffer());
+    input.readAll(message, 0, 1);
+    assertEquals(4, message[0]);
+  }
+}
@@ -0,0 +1,143 @@
+package com.liveramp.hank.util;
+
+import java.io.File;
+import java.nio.channels.Selector;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.thrift.transport.TTransportException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+public class TestUnixDomainSocket {
+
+  // Socket paths are limited to about a hundred characters
+  private final String path = System.getProperty("java.io.tmpdir") + "/hank-" + System.nanoTime() + ".sock";
+
+  @Before
+  public void setUp() {
+    assumeTrue(UnixDomainSockets.isSupported());
+  }
+
+  @Test
+  public void testReadWrite() throws Exception {
+    UnixDomainServerSocket serverSocket = new UnixDomainServerSocket(path);
+    serverSocket.listen();
+    Selector selector = Selector.open();
+    serverSocket.registerSelector(selector);
+
+    UnixDomainSocket client = new UnixDomainSocket(path, 1000);
+    client.open();
+    assertTrue(client.isOpen());
+    assertEquals(1, selector.select(1000));
+    UnixDomainSocket server = (UnixDomainSocket) serverSocket.accept();
+    assertNotNull(server);
+
+    client.write(new byte[]{1, 2, 3}, 0, 3);
+    byte[] buffer = new byte[3];
+    assertEquals(3, server.readAll(buffer, 0, 3));
+    assertEquals(3, buffer[2]);
+
+    server.write(new byte[]{4, 5}, 0, 2);
+    assertEquals(2, client.readAll(buffer, 0, 2));
+    assertEquals(5, buffer[1]);
+
+    // Reads time out when nothing is written
+    client.setTimeout(10);
+    try {
+      client.read(buffer, 0, 1);
+      fail("Should have timed out");
+    } catch (TTransportException e) {
+      assertEquals(TTransportException.TIMED_OUT, e.getType());
+    }
+
+    // Reads fail once the peer is closed
+    server.close();
+    try {
+      client.read(buffer, 0, 1);
+      fail("Should have reached the end of file");
+    } catch (TTransportException e) {
+      assertEquals(TTransportException.END_OF_FILE, e.getType());
+    }
+    client.close();
+    assertFalse(client.isOpen());
+
+    // The socket file is deleted on close
+    serverSocket.close();
+    selector.close();
+    assertFalse(new File(path).exists());
+  }
+
+  @Test
+  public void testPartitionServerPath() {
+    assertEquals("/path/to/partition_server.sock.12345",
+        UnixDomainSockets.getPartitionServerPath("/path/to/partition_server.sock", 12345));
+  }
+
+  // Messages are larger than socket buffers, so that both directions wait for the channel at the same time
+  @Test(timeout = 60000)
+  public void testConcurrentReadsAndWrites() throws Exception {
+    UnixDomainServerSocket serverSocket = new UnixDomainServerSocket(path);
+    serverSocket.listen();
+    Selector selector = Selector.open();
+    serverSocket.registerSelector(selector);
+
+    final UnixDomainSocket client = new UnixDomainSocket(path, 10000);
+    client.open();
+    assertEquals(1, selector.select(1000));
+    final UnixDomainSocket server = (UnixDomainSocket) serverSocket.accept();
+    server.setTimeout(10000);
+
+    final byte[] request = new byte[8 << 20];
+    final byte[] response = new byte[8 << 20];
+    new Random(0).nextBytes(request);
+    new Random(1).nextBytes(response);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<byte[]> clientReads = executor.submit(new Callable<byte[]>() {
+        @Override
+        public byte[] call() throws Exception {
+          byte[] buffer = new byte[response.length];
+          client.readAll(buffer, 0, buffer.length);
+          return buffer;
+        }
+      });
+      Future<byte[]> serverReads = executor.submit(new Callable<byte[]>() {
+        @Override
+        public byte[] call() throws Exception {
+          byte[] buffer = new byte[request.length];
+          server.readAll(buffer, 0, buffer.length);
+          return buffer;
+        }
+      });
+      Future<Void> serverWrites = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          server.write(response, 0, response.length);
+          return null;
+        }
+      });
+      client.write(request, 0, request.length);
+      serverWrites.get();
+      assertArrayEquals(request, serverReads.get());
+      assertArrayEquals(response, clientReads.get());
+    } finally {
+      executor.shutdownNow();
+      client.close();
+      server.close();
+      serverSocket.close();
+      selector.close();
+    }
+  }
+}
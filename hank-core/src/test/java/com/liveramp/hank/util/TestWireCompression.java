@@ -0,0 +1,204 @@
+/**
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.util;
+
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Test;
+
+import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankResponse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestWireCompression {
+
+  @Test
+  public void testNegotiate() throws Exception {
+    assertEquals(Arrays.asList(CompressionCodec.SNAPPY, CompressionCodec.DEFLATE),
+        WireCompression.parseCodecs(Arrays.asList("snappy", "DEFLATE")));
+    assertEquals(CompressionCodec.DEFLATE, WireCompression.negotiate(Arrays.asList("ZSTD", "DEFLATE", "SNAPPY"),
+        Arrays.asList(CompressionCodec.SNAPPY, CompressionCodec.DEFLATE)));
+    assertNull(WireCompression.negotiate(Arrays.asList("SNAPPY"), Collections.<CompressionCodec>emptyList()));
+    assertNull(WireCompression.negotiate(Arrays.asList(""), Arrays.asList(CompressionCodec.SNAPPY)));
+  }
+
+  @Test
+  public void testAcceptHeader() throws Exception {
+    TMemoryBuffer output = new TMemoryBuffer(16);
+    WireCompressionFramedTransport transport = new WireCompressionFramedTransport(output, new WireCompressionStatistics());
+    transport.write(new byte[]{42});
+    transport.flush();
+    transport.setAcceptedCodec(CompressionCodec.DEFLATE);
+    transport.write(new byte[]{43});
+    transport.flush();
+
+    TFramedTransport input = new TFramedTransport(output);
+    byte[] message = new byte[3];
+    input.readAll(message, 0, 1);
+    assertEquals(42, message[0]);
+    input.readAll(message, 0, 3);
+    assertEquals(WireCompression.ACCEPT_CODEC_MARKER, message[0]);
+    assertEquals(CompressionCodec.DEFLATE, WireCompression.getCodec(message[1]));
+    assertEquals(43, message[2]);
+  }
+
+  @Test
+  public void testCompressedResponses() throws Exception {
+    for (CompressionCodec codec : Arrays.asList(CompressionCodec.SNAPPY, CompressionCodec.DEFLATE, CompressionCodec.GZIP)) {
+      HankBulkResponse bulkResponse = HankBulkResponse.responses(new ArrayList<HankResponse>());
+      for (int i = 0; i < 100; ++i) {
+        bulkResponse.get_responses().add(HankResponse.value(new byte[100]));
+      }
+      WireCompressionStatistics compressionStatistics = new WireCompressionStatistics();
+      WireCompressionStatistics decompressionStatistics = new WireCompressionStatistics();
+      TMemoryBuffer wire = new TMemoryBuffer(64);
+      ThreadLocalBufferedTransport.Factory factory = new ThreadLocalBufferedTransport.Factory(1 << 20, 1024, compressionStatistics);
+
+      // Large message is compressed
+      TTransport output = factory.getTransport(wire);
+      ((ThreadLocalBufferedTransport)output).setCompressionCodec(codec);
+      bulkResponse.write(new TCompactProtocol(output));
+      output.flush();
+      assertEquals(1, compressionStatistics.getNumMessages());
+      assertTrue(wire.length() < 1000);
+
+      // Small message is not compressed
+      HankResponse smallResponse = HankResponse.value(new byte[10]);
+      output = factory.getTransport(wire);
+      ((ThreadLocalBufferedTransport)output).setCompressionCodec(codec);
+      smallResponse.write(new TCompactProtocol(output));
+      output.flush();
+      assertEquals(1, compressionStatistics.getNumMessages());
+
+      // Incompressible message is not compressed
+      byte[] randomValue = new byte[2000];
+      new Random(0).nextBytes(randomValue);
+      HankResponse randomResponse = HankResponse.value(randomValue);
+      output = factory.getTransport(wire);
+      ((ThreadLocalBufferedTransport)output).setCompressionCodec(codec);
+      randomResponse.write(new TCompactProtocol(output));
+      output.flush();
+      assertEquals(2, compressionStatistics.getNumMessages());
+
+      // Read back
+      WireCompressionFramedTransport input = new WireCompressionFramedTransport(wire, decompressionStatistics);
+      HankBulkResponse bulkResult = new HankBulkResponse();
+      bulkResult.read(new ZeroCopyCompactProtocol(input));
+      assertEquals(bulkResponse, bulkResult);
+      // Values are views of the decompressed message
+      assertSame(input.getBuffer(), bulkResult.get_responses().get(0).buffer_for_value().array());
+      HankResponse smallResult = new HankResponse();
+      smallResult.read(new ZeroCopyCompactProtocol(input));
+      assertEquals(smallResponse, smallResult);
+      HankResponse randomResult = new HankResponse();
+      randomResult.read(new ZeroCopyCompactProtocol(input));
+      assertEquals(randomResponse, randomResult);
+
+      assertEquals(1, decompressionStatistics.getNumMessages());
+      assertTrue(decompressionStatistics.getCompressionRatio() > 10);
+    }
+  }
+
+  // A corrupted frame size would make the readers wait for bytes that never come
+  @Test(timeout = 30000)
+  public void testConcurrentReadsAndWrites() throws Exception {
+    final int numFrames = 10000;
+    PipedOutputStream peerOutput = new PipedOutputStream();
+    PipedInputStream transportInput = new PipedInputStream(peerOutput, 1 << 16);
+    PipedOutputStream transportOutput = new PipedOutputStream();
+    PipedInputStream peerInput = new PipedInputStream(transportOutput, 1 << 16);
+    final TTransport peerWriter = new TFramedTransport(new TIOStreamTransport(peerOutput));
+    final TTransport peerReader = new TFramedTransport(new TIOStreamTransport(peerInput));
+    final WireCompressionFramedTransport transport = new WireCompressionFramedTransport(
+        new TIOStreamTransport(transportInput, transportOutput), new WireCompressionStatistics());
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      // Frames are read by one thread while another one writes frames
+      Future<Void> peerWrites = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          writeFrames(peerWriter, numFrames);
+          return null;
+        }
+      });
+      Future<Void> reads = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          readFrames(transport, numFrames);
+          return null;
+        }
+      });
+      Future<Void> peerReads = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          readFrames(peerReader, numFrames);
+          return null;
+        }
+      });
+      writeFrames(transport, numFrames);
+      peerWrites.get();
+      reads.get();
+      peerReads.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void writeFrames(TTransport transport, int numFrames) throws Exception {
+    for (int i = 0; i < numFrames; ++i) {
+      byte[] frame = new byte[i % 100 + 1];
+      Arrays.fill(frame, frameByte(i));
+      transport.write(frame);
+      transport.flush();
+    }
+  }
+
+  private static void readFrames(TTransport transport, int numFrames) throws Exception {
+    for (int i = 0; i < numFrames; ++i) {
+      byte[] frame = new byte[i % 100 + 1];
+      transport.readAll(frame, 0, frame.length);
+      for (byte b : frame) {
+        assertEquals(frameByte(i), b);
+      }
+      assertEquals(0, transport.getBytesRemainingInBuffer());
+    }
+  }
+
+  // Never a wire compression marker
+  private static byte frameByte(int frameIndex) {
+    return (byte)(0x10 + frameIndex % 100);
+  }
+}
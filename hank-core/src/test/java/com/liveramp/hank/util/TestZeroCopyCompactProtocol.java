@@ -0,0 +1,64 @@
+/**
+ *  Copyright 2011 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.liveramp.hank.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.junit.Test;
+
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankResponse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TestZeroCopyCompactProtocol {
+
+  @Test
+  public void testReadBinaryAsViews() throws Exception {
+    HankBulkResponse bulkResponse = HankBulkResponse.responses(new ArrayList<HankResponse>());
+    bulkResponse.get_responses().add(HankResponse.value(new byte[]{1, 2, 3}));
+    bulkResponse.get_responses().add(HankResponse.not_found(true));
+    bulkResponse.get_responses().add(HankResponse.value(new byte[0]));
+    // Value with a multi byte length
+    byte[] largeValue = new byte[1000];
+    for (int i = 0; i < largeValue.length; ++i) {
+      largeValue[i] = (byte)i;
+    }
+    bulkResponse.get_responses().add(HankResponse.value(largeValue));
+    bulkResponse.get_responses().add(HankResponse.xception(HankException.internal_error("error")));
+
+    // Serialize with the regular compact protocol
+    TMemoryBuffer output = new TMemoryBuffer(64);
+    bulkResponse.write(new TCompactProtocol(output));
+    byte[] serialized = output.getArray();
+
+    // Deserialize
+    HankBulkResponse result = new HankBulkResponse();
+    result.read(new ZeroCopyCompactProtocol(new TMemoryInputTransport(serialized, 0, output.length())));
+    assertEquals(bulkResponse, result);
+
+    // Values are views of the serialized buffer
+    assertSame(serialized, result.get_responses().get(0).buffer_for_value().array());
+    assertSame(serialized, result.get_responses().get(3).buffer_for_value().array());
+    assertEquals(ByteBuffer.wrap(largeValue), result.get_responses().get(3).buffer_for_value());
+  }
+}
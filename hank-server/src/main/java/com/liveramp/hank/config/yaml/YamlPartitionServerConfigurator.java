@@ -24,10 +24,12 @@ import java.util.Set;
 
 import com.google.common.collect.Maps;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.BaseReaderConfigurator;
 import com.liveramp.hank.config.InvalidConfigurationException;
 import com.liveramp.hank.config.PartitionServerConfigurator;
 import com.liveramp.hank.config.ReaderConfigurator;
+import com.liveramp.hank.util.WireCompression;
 
 public class YamlPartitionServerConfigurator extends YamlCoordinatorConfigurator implements PartitionServerConfigurator {
 
@@ -48,6 +50,36 @@ public class YamlPartitionServerConfigurator extends YamlCoordinatorConfigurator
   public static final String CACHE_NUM_BYTES_CAPACITY = "cache_num_bytes_capacity";
   public static final String CACHE_NUM_ITEMS_CAPACITY = "cache_num_items_capacity";
   public static final String ENVIRONMENT_FLAGS = "environment_flags";
+  public static final String WIRE_COMPRESSION_CODECS = "wire_compression_codecs";
+  public static final String WIRE_COMPRESSION_THRESHOLD = "wire_compression_threshold";
+  public static final String SCAN_MAX_BYTES_PER_SECOND = "scan_max_bytes_per_second";
+  public static final String SCAN_MAX_NUM_RECORDS = "scan_max_num_records";
+  public static final String SCAN_MAX_NUM_BYTES = "scan_max_num_bytes";
+  public static final String KEY_SAMPLE_PERIOD = "key_sample_period";
+  public static final String WARMUP_KEY_SAMPLE_PATH = "warmup_key_sample_path";
+  public static final String WARMUP_KEY_SAMPLE_MAX_NUM_KEYS = "warmup_key_sample_max_num_keys";
+  public static final String WARMUP_MAX_DURATION_MS = "warmup_max_duration_ms";
+  public static final String WARMUP_TARGET_HIT_RATE = "warmup_target_hit_rate";
+  public static final String NUM_CONCURRENT_READER_LOADS = "num_concurrent_reader_loads";
+  public static final String LAZY_READER_LOADING = "lazy_reader_loading";
+  public static final String CACHE_SNAPSHOT_PATH = "cache_snapshot_path";
+  public static final String UNIX_DOMAIN_SOCKET_PATH = "unix_domain_socket_path";
+  public static final String VIRTUAL_THREADS_ENABLED = "virtual_threads_enabled";
+  public static final String GET_BATCH_WINDOW_MICROSECONDS = "get_batch_window_microseconds";
+  public static final String GET_BATCH_MAX_SIZE = "get_batch_max_size";
+
+  public static final int DEFAULT_WIRE_COMPRESSION_THRESHOLD = 4096;
+  public static final int DEFAULT_SCAN_MAX_BYTES_PER_SECOND = 8 << 20;
+  public static final int DEFAULT_SCAN_MAX_NUM_RECORDS = 1000;
+  public static final int DEFAULT_SCAN_MAX_NUM_BYTES = 4 << 20;
+  public static final int DEFAULT_KEY_SAMPLE_PERIOD = 100;
+  public static final int DEFAULT_WARMUP_KEY_SAMPLE_MAX_NUM_KEYS = 100000;
+  public static final int DEFAULT_WARMUP_MAX_DURATION_MS = 60000;
+  public static final double DEFAULT_WARMUP_TARGET_HIT_RATE = 0.9;
+  public static final int DEFAULT_NUM_CONCURRENT_READER_LOADS = 8;
+  public static final boolean DEFAULT_LAZY_READER_LOADING = false;
+  public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+  public static final int DEFAULT_GET_BATCH_MAX_SIZE = 64;
 
   public YamlPartitionServerConfigurator(String path) throws IOException,
       InvalidConfigurationException {
@@ -144,6 +176,157 @@ public class YamlPartitionServerConfigurator extends YamlCoordinatorConfigurator
     return envVars;
   }
 
+  @Override
+  public List<CompressionCodec> getWireCompressionCodecs() {
+    return WireCompression.parseCodecs(getOptionalStringList(PARTITION_SERVER_SECTION_KEY,
+        PARTITION_SERVER_DAEMON_SECTION_KEY, WIRE_COMPRESSION_CODECS));
+  }
+
+  @Override
+  public int getWireCompressionThreshold() {
+    Integer threshold = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        WIRE_COMPRESSION_THRESHOLD);
+    if (threshold == null) {
+      return DEFAULT_WIRE_COMPRESSION_THRESHOLD;
+    }
+    return threshold;
+  }
+
+  @Override
+  public int getScanMaxBytesPerSecond() {
+    Integer maxBytesPerSecond = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        SCAN_MAX_BYTES_PER_SECOND);
+    if (maxBytesPerSecond == null) {
+      return DEFAULT_SCAN_MAX_BYTES_PER_SECOND;
+    }
+    return maxBytesPerSecond;
+  }
+
+  @Override
+  public int getScanMaxNumRecords() {
+    Integer maxNumRecords = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        SCAN_MAX_NUM_RECORDS);
+    if (maxNumRecords == null) {
+      return DEFAULT_SCAN_MAX_NUM_RECORDS;
+    }
+    return maxNumRecords;
+  }
+
+  @Override
+  public int getScanMaxNumBytes() {
+    Integer maxNumBytes = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        SCAN_MAX_NUM_BYTES);
+    if (maxNumBytes == null) {
+      return DEFAULT_SCAN_MAX_NUM_BYTES;
+    }
+    return maxNumBytes;
+  }
+
+  @Override
+  public int getKeySamplePeriod() {
+    Integer samplePeriod = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        KEY_SAMPLE_PERIOD);
+    if (samplePeriod == null) {
+      return DEFAULT_KEY_SAMPLE_PERIOD;
+    }
+    return samplePeriod;
+  }
+
+  @Override
+  public String getWarmupKeySamplePath() {
+    return getOptionalString(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY, WARMUP_KEY_SAMPLE_PATH);
+  }
+
+  @Override
+  public int getWarmupKeySampleMaxNumKeys() {
+    Integer maxNumKeys = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        WARMUP_KEY_SAMPLE_MAX_NUM_KEYS);
+    if (maxNumKeys == null) {
+      return DEFAULT_WARMUP_KEY_SAMPLE_MAX_NUM_KEYS;
+    }
+    return maxNumKeys;
+  }
+
+  @Override
+  public int getWarmupMaxDurationMs() {
+    Integer maxDurationMs = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        WARMUP_MAX_DURATION_MS);
+    if (maxDurationMs == null) {
+      return DEFAULT_WARMUP_MAX_DURATION_MS;
+    }
+    return maxDurationMs;
+  }
+
+  @Override
+  public double getWarmupTargetHitRate() {
+    Double targetHitRate = getOptionalDouble(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        WARMUP_TARGET_HIT_RATE);
+    if (targetHitRate == null) {
+      return DEFAULT_WARMUP_TARGET_HIT_RATE;
+    }
+    return targetHitRate;
+  }
+
+  @Override
+  public int getNumConcurrentReaderLoads() {
+    Integer numConcurrentReaderLoads = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        NUM_CONCURRENT_READER_LOADS);
+    if (numConcurrentReaderLoads == null) {
+      return DEFAULT_NUM_CONCURRENT_READER_LOADS;
+    }
+    return numConcurrentReaderLoads;
+  }
+
+  @Override
+  public boolean getLazyReaderLoading() {
+    Boolean lazyReaderLoading = getOptionalBoolean(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        LAZY_READER_LOADING);
+    if (lazyReaderLoading == null) {
+      return DEFAULT_LAZY_READER_LOADING;
+    }
+    return lazyReaderLoading;
+  }
+
+  @Override
+  public String getCacheSnapshotPath() {
+    return getOptionalString(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY, CACHE_SNAPSHOT_PATH);
+  }
+
+  @Override
+  public String getUnixDomainSocketPath() {
+    return getOptionalString(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY, UNIX_DOMAIN_SOCKET_PATH);
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    Boolean virtualThreadsEnabled = getOptionalBoolean(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        VIRTUAL_THREADS_ENABLED);
+    if (virtualThreadsEnabled == null) {
+      return DEFAULT_VIRTUAL_THREADS_ENABLED;
+    }
+    return virtualThreadsEnabled;
+  }
+
+  @Override
+  public int getGetBatchWindowMicroseconds() {
+    Integer batchWindowMicroseconds = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        GET_BATCH_WINDOW_MICROSECONDS);
+    if (batchWindowMicroseconds == null) {
+      return 0;
+    }
+    return batchWindowMicroseconds;
+  }
+
+  @Override
+  public int getGetBatchMaxSize() {
+    Integer batchMaxSize = getOptionalInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
+        GET_BATCH_MAX_SIZE);
+    if (batchMaxSize == null) {
+      return DEFAULT_GET_BATCH_MAX_SIZE;
+    }
+    return batchMaxSize;
+  }
+
   @Override
   public int getBufferReuseMaxSize() {
     return getInteger(PARTITION_SERVER_SECTION_KEY, PARTITION_SERVER_DAEMON_SECTION_KEY,
@@ -16,18 +16,30 @@
 
 package com.liveramp.hank.partition_server;
 
+import com.google.common.util.concurrent.RateLimiter;
 import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.coordinator.HostDomain;
 import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
+import com.liveramp.hank.hasher.Murmur64Hasher;
 import com.liveramp.hank.partitioner.Partitioner;
 import com.liveramp.hank.storage.ReaderResult;
 import com.liveramp.hank.util.HankTimer;
 import com.liveramp.hank.util.HankTimerEventAggregator;
+import com.liveramp.hank.util.SpaceSavingCounter;
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Class that manages accessing data on behalf of a particular Domain.
@@ -35,27 +47,81 @@ import java.nio.ByteBuffer;
 public class DomainAccessor {
 
   private static final HankResponse WRONG_HOST = HankResponse.xception(HankException.wrong_host(true));
+  private static final HankExistsResponse WRONG_HOST_EXISTS = HankExistsResponse.xception(HankException.wrong_host(true));
+  private static final HankScanResponse WRONG_HOST_SCAN = HankScanResponse.xception(HankException.wrong_host(true));
+  private static final HankValueSizeResponse WRONG_HOST_VALUE_SIZE = HankValueSizeResponse.xception(HankException.wrong_host(true));
+
+  // Number of key hashes counted at a time. Keys hotter than 1% of sampled requests are always counted.
+  private static final int NUM_TRACKED_KEY_HASHES = 100;
 
   private static final Logger LOG = LoggerFactory.getLogger(DomainAccessor.class);
   private final HostDomain hostDomain;
   private final PartitionAccessor[] partitionAccessors;
   private final Partitioner partitioner;
   private final HankTimerEventAggregator getRequestsTimerAggregator;
+  private final int keySamplePeriod;
+  // Null when hot keys are not tracked
+  private final SpaceSavingCounter<Long> hotKeyHashes;
+  // Null when keys are not sampled for warmup
+  private final KeySampler keySampler;
+  private final HankTimer heavyHittersWindowTimer = new HankTimer();
 
   DomainAccessor(HostDomain hostDomain,
                  PartitionAccessor[] partitionAccessors,
                  Partitioner partitioner,
                  int getTimerAggregatorWindow) throws IOException {
+    this(hostDomain, partitionAccessors, partitioner, getTimerAggregatorWindow, 0, null);
+  }
+
+  // One request out of every key sample period is counted towards hot keys, and added to the warmup key sample
+  // when a key sampler is given. Requests are not sampled when the period is not positive.
+  DomainAccessor(HostDomain hostDomain,
+                 PartitionAccessor[] partitionAccessors,
+                 Partitioner partitioner,
+                 int getTimerAggregatorWindow,
+                 int keySamplePeriod,
+                 KeySampler keySampler) throws IOException {
     this.hostDomain = hostDomain;
     this.partitionAccessors = partitionAccessors;
     this.partitioner = partitioner;
     this.getRequestsTimerAggregator = new HankTimerEventAggregator("GET " + hostDomain.getDomain().getName(),
         getTimerAggregatorWindow);
+    this.keySamplePeriod = keySamplePeriod;
+    this.hotKeyHashes = keySamplePeriod > 0 ? new SpaceSavingCounter<Long>(NUM_TRACKED_KEY_HASHES) : null;
+    this.keySampler = keySamplePeriod > 0 ? keySampler : null;
+    heavyHittersWindowTimer.restart();
+  }
+
+  // Hot keys and the warmup key sample are fed the same sampled requests.
+  // Only the 64 bit Murmur hash of the key is counted towards hot keys.
+  private void sampleKey(ByteBuffer key) {
+    if (!isSampled()) {
+      return;
+    }
+    hotKeyHashes.add(Murmur64Hasher.murmurHash64(key));
+    if (keySampler != null) {
+      keySampler.add(hostDomain.getDomain().getId(), key);
+    }
+  }
+
+  private void sampleHashedKey(int partition, ByteBuffer hashedKey) {
+    if (!isSampled()) {
+      return;
+    }
+    hotKeyHashes.add(Murmur64Hasher.murmurHash64(hashedKey));
+    if (keySampler != null) {
+      keySampler.addHashed(hostDomain.getDomain().getId(), partition, hashedKey);
+    }
+  }
+
+  private boolean isSampled() {
+    return keySamplePeriod > 0 && ThreadLocalRandom.current().nextInt(keySamplePeriod) == 0;
   }
 
   public HankResponse get(ByteBuffer key, ReaderResult result) throws IOException {
     HankTimer timer = getRequestsTimerAggregator.getTimer();
     try {
+      sampleKey(key);
       int partition = partitioner.partition(key, partitionAccessors.length);
       PartitionAccessor partitionAccessor = partitionAccessors[partition];
       if (partitionAccessor == null) {
@@ -69,6 +135,139 @@ public class DomainAccessor {
     }
   }
 
+  // Keys are grouped by partition, and each partition reads its keys in a single batch. The batch is timed
+  // as one event. A partition that fails to read its keys fails only the responses to these keys.
+  public HankResponse[] getBatch(ByteBuffer[] keys, ReaderResult[] results) {
+    HankTimer timer = getRequestsTimerAggregator.getTimer();
+    try {
+      HankResponse[] responses = new HankResponse[keys.length];
+      Map<Integer, List<Integer>> partitionToKeyIndexes = new TreeMap<Integer, List<Integer>>();
+      for (int i = 0; i < keys.length; ++i) {
+        sampleKey(keys[i]);
+        int partition = partitioner.partition(keys[i], partitionAccessors.length);
+        if (partitionAccessors[partition] == null) {
+          LOG.error("Failed to perform get because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+              + ", partition: " + partition + ", key: " + BytesUtils.bytesToHexString(keys[i]) + ", response: " + WRONG_HOST);
+          responses[i] = WRONG_HOST;
+          continue;
+        }
+        List<Integer> keyIndexes = partitionToKeyIndexes.get(partition);
+        if (keyIndexes == null) {
+          keyIndexes = new ArrayList<Integer>();
+          partitionToKeyIndexes.put(partition, keyIndexes);
+        }
+        keyIndexes.add(i);
+      }
+      for (Map.Entry<Integer, List<Integer>> entry : partitionToKeyIndexes.entrySet()) {
+        List<Integer> keyIndexes = entry.getValue();
+        ByteBuffer[] partitionKeys = new ByteBuffer[keyIndexes.size()];
+        ReaderResult[] partitionResults = new ReaderResult[keyIndexes.size()];
+        for (int j = 0; j < keyIndexes.size(); ++j) {
+          partitionKeys[j] = keys[keyIndexes.get(j)];
+          partitionResults[j] = results[keyIndexes.get(j)];
+        }
+        HankResponse[] partitionResponses;
+        try {
+          partitionResponses = partitionAccessors[entry.getKey()].getBatch(partitionKeys, partitionResults);
+        } catch (IOException e) {
+          String errMsg = String.format("Exception during GET BATCH. Domain: %s Partition: %d Num keys: %d",
+              hostDomain.getDomain().getName(), entry.getKey(), partitionKeys.length);
+          LOG.error(errMsg, e);
+          HankResponse error = HankResponse.xception(
+              HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+          partitionResponses = new HankResponse[partitionKeys.length];
+          Arrays.fill(partitionResponses, error);
+        }
+        for (int j = 0; j < keyIndexes.size(); ++j) {
+          responses[keyIndexes.get(j)] = partitionResponses[j];
+        }
+      }
+      return responses;
+    } finally {
+      getRequestsTimerAggregator.add(timer, keys.length);
+    }
+  }
+
+  // The client has already partitioned and hashed the key
+  // Hashed keys are sampled as they are, so they are reported under a different hash than their keys
+  public HankResponse getHashed(int partition, ByteBuffer hashedKey, ReaderResult result) throws IOException {
+    HankTimer timer = getRequestsTimerAggregator.getTimer();
+    try {
+      sampleHashedKey(partition, hashedKey);
+      PartitionAccessor partitionAccessor = partition >= 0 && partition < partitionAccessors.length ? partitionAccessors[partition] : null;
+      if (partitionAccessor == null) {
+        LOG.error("Failed to perform get hashed because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+            + ", partition: " + partition + ", hashed key: " + BytesUtils.bytesToHexString(hashedKey) + ", response: " + WRONG_HOST);
+        return WRONG_HOST;
+      }
+      return partitionAccessor.getHashed(hashedKey, result);
+    } finally {
+      getRequestsTimerAggregator.add(timer);
+    }
+  }
+
+  public HankResponse getRange(ByteBuffer key, int offset, int length, int versionNumber, ReaderResult result) throws IOException {
+    HankTimer timer = getRequestsTimerAggregator.getTimer();
+    try {
+      sampleKey(key);
+      int partition = partitioner.partition(key, partitionAccessors.length);
+      PartitionAccessor partitionAccessor = partitionAccessors[partition];
+      if (partitionAccessor == null) {
+        LOG.error("Failed to perform get range because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+            + ", partition: " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", response: " + WRONG_HOST);
+        return WRONG_HOST;
+      }
+      return partitionAccessor.getRange(key, offset, length, versionNumber, result);
+    } finally {
+      getRequestsTimerAggregator.add(timer);
+    }
+  }
+
+  // Scans are not timed, so that they do not skew GET latencies
+  public HankScanResponse scan(int partition, ByteBuffer afterKeyHash, int maxNumRecords, int maxNumBytes, RateLimiter rateLimiter) throws IOException {
+    PartitionAccessor partitionAccessor = partition >= 0 && partition < partitionAccessors.length ? partitionAccessors[partition] : null;
+    if (partitionAccessor == null) {
+      LOG.error("Failed to perform scan because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+          + ", partition: " + partition + ", response: " + WRONG_HOST_SCAN);
+      return WRONG_HOST_SCAN;
+    }
+    return partitionAccessor.scan(afterKeyHash, maxNumRecords, maxNumBytes, rateLimiter);
+  }
+
+  public HankExistsResponse exists(ByteBuffer key, ReaderResult result) throws IOException {
+    HankTimer timer = getRequestsTimerAggregator.getTimer();
+    try {
+      sampleKey(key);
+      int partition = partitioner.partition(key, partitionAccessors.length);
+      PartitionAccessor partitionAccessor = partitionAccessors[partition];
+      if (partitionAccessor == null) {
+        LOG.error("Failed to perform exists because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+            + ", partition: " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", response: " + WRONG_HOST_EXISTS);
+        return WRONG_HOST_EXISTS;
+      }
+      return partitionAccessor.exists(key, result);
+    } finally {
+      getRequestsTimerAggregator.add(timer);
+    }
+  }
+
+  public HankValueSizeResponse getValueSize(ByteBuffer key, ReaderResult result) throws IOException {
+    HankTimer timer = getRequestsTimerAggregator.getTimer();
+    try {
+      sampleKey(key);
+      int partition = partitioner.partition(key, partitionAccessors.length);
+      PartitionAccessor partitionAccessor = partitionAccessors[partition];
+      if (partitionAccessor == null) {
+        LOG.error("Failed to perform get value size because of an Exception: wrong host for domain: " + hostDomain.getDomain().getName()
+            + ", partition: " + partition + ", key: " + BytesUtils.bytesToHexString(key) + ", response: " + WRONG_HOST_VALUE_SIZE);
+        return WRONG_HOST_VALUE_SIZE;
+      }
+      return partitionAccessor.getValueSize(key, result);
+    } finally {
+      getRequestsTimerAggregator.add(timer);
+    }
+  }
+
   public String getName() {
     return hostDomain.getDomain().getName();
   }
@@ -77,6 +276,15 @@ public class DomainAccessor {
     return hostDomain;
   }
 
+  // Readers that are not loaded have nothing to save
+  public void saveCacheSnapshots(ReaderCacheSnapshots cacheSnapshots) {
+    for (PartitionAccessor partitionAccessor : partitionAccessors) {
+      if (partitionAccessor != null) {
+        partitionAccessor.saveCacheSnapshot(cacheSnapshots, hostDomain.getDomain().getName());
+      }
+    }
+  }
+
   public void shutDown() {
     // Shutdown partition accessors
     for (PartitionAccessor partitionAccessor : partitionAccessors) {
@@ -88,13 +296,41 @@ public class DomainAccessor {
 
   public RuntimeStatisticsAggregator getRuntimeStatistics() {
     RuntimeStatisticsAggregator runtimeStatisticsAggregator = new RuntimeStatisticsAggregator();
-    for (PartitionAccessor partitionAccessor : partitionAccessors) {
+    List<HeavyHittersAggregator.HeavyHitter> hotPartitions = new ArrayList<HeavyHittersAggregator.HeavyHitter>();
+    for (int partition = 0; partition < partitionAccessors.length; ++partition) {
+      PartitionAccessor partitionAccessor = partitionAccessors[partition];
       if (partitionAccessor != null) {
-        runtimeStatisticsAggregator.add(partitionAccessor.getRuntimeStatistics());
+        PartitionAccessorRuntimeStatistics partitionRuntimeStatistics = partitionAccessor.getRuntimeStatistics();
+        runtimeStatisticsAggregator.add(partitionRuntimeStatistics);
+        if (partitionRuntimeStatistics.throughput > 0) {
+          hotPartitions.add(new HeavyHittersAggregator.HeavyHitter(Integer.toString(partition),
+              partitionRuntimeStatistics.throughput));
+        }
       }
     }
     runtimeStatisticsAggregator.setGetRequestsPopulationStatistics(
         getRequestsTimerAggregator.getAndResetPopulationStatistics());
+    runtimeStatisticsAggregator.setHeavyHitters(new HeavyHittersAggregator(getHotKeysAndReset(),
+        HeavyHittersAggregator.top(hotPartitions, HeavyHittersAggregator.MAX_NUM_HEAVY_HITTERS)));
     return runtimeStatisticsAggregator;
   }
+
+  // Sampled counts are scaled back to request rates over the window
+  private List<HeavyHittersAggregator.HeavyHitter> getHotKeysAndReset() {
+    long windowDurationNanos = heavyHittersWindowTimer.getDuration();
+    heavyHittersWindowTimer.restart();
+    List<HeavyHittersAggregator.HeavyHitter> hotKeys = new ArrayList<HeavyHittersAggregator.HeavyHitter>();
+    if (hotKeyHashes == null) {
+      return hotKeys;
+    }
+    List<SpaceSavingCounter.Counter<Long>> counters = hotKeyHashes.getTopAndReset(HeavyHittersAggregator.MAX_NUM_HEAVY_HITTERS);
+    if (windowDurationNanos == 0) {
+      return hotKeys;
+    }
+    for (SpaceSavingCounter.Counter<Long> counter : counters) {
+      hotKeys.add(new HeavyHittersAggregator.HeavyHitter(String.format("%016x", counter.getItem()),
+          counter.getCount() * keySamplePeriod / (windowDurationNanos / 1000000000d)));
+    }
+    return hotKeys;
+  }
 }
@@ -0,0 +1,253 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.partition_server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.liveramp.commons.util.BytesUtils;
+
+/**
+ * Keeps a bounded sample of the keys recently requested from a partition
+ * server, with their number of sampled requests, and persists it to disk so
+ * that the server can warm up by replaying the hottest keys after a restart
+ * or an update. Requests are sampled by the domain accessors, which count
+ * the same sampled requests towards hot keys, and each one is added here.
+ * Counts are halved every time the sample is persisted, so that the sample follows
+ * the traffic, and keys whose count drops to zero make room for new ones.
+ * Keys that clients already partitioned and hashed are sampled with their
+ * partition, so that they are replayed as hashed keys.
+ */
+public class KeySampler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KeySampler.class);
+
+  // Partition of sampled keys that are not hashed
+  private static final int NO_PARTITION = -1;
+
+  private final File file;
+  private final int maxNumKeys;
+  private final ConcurrentHashMap<DomainKey, AtomicInteger> counts = new ConcurrentHashMap<DomainKey, AtomicInteger>();
+  private volatile boolean enabled = true;
+
+  public KeySampler(File file, int maxNumKeys) {
+    this.file = file;
+    this.maxNumKeys = maxNumKeys;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  // Sampled requests are not added while disabled, for example while sampled keys are being replayed
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void add(int domainId, ByteBuffer key) {
+    add(domainId, NO_PARTITION, key);
+  }
+
+  public void addHashed(int domainId, int partition, ByteBuffer hashedKey) {
+    add(domainId, partition, hashedKey);
+  }
+
+  private void add(int domainId, int partition, ByteBuffer key) {
+    if (!enabled) {
+      return;
+    }
+    // Look up with a view of the key, it is copied only when added
+    AtomicInteger count = counts.get(new DomainKey(domainId, partition, key));
+    if (count == null) {
+      // New keys are dropped once the sample is full, until counts decay
+      if (counts.size() >= maxNumKeys) {
+        return;
+      }
+      count = new AtomicInteger();
+      AtomicInteger previousCount = counts.putIfAbsent(new DomainKey(domainId, partition, BytesUtils.byteBufferDeepCopy(key)), count);
+      if (previousCount != null) {
+        count = previousCount;
+      }
+    }
+    count.incrementAndGet();
+  }
+
+  // Write the sample to disk, hottest keys first, and decay counts.
+  // An empty sample is not written, so that the previous one is kept until the server takes traffic again.
+  public synchronized void flush() throws IOException {
+    List<SampledKey> sampledKeys = new ArrayList<SampledKey>(counts.size());
+    for (Map.Entry<DomainKey, AtomicInteger> entry : counts.entrySet()) {
+      int count = entry.getValue().get();
+      if (count > 0) {
+        sampledKeys.add(new SampledKey(entry.getKey().domainId, entry.getKey().partition, entry.getKey().key, count));
+      }
+    }
+    if (sampledKeys.isEmpty()) {
+      return;
+    }
+    Collections.sort(sampledKeys, new HottestFirstComparator());
+    write(sampledKeys);
+    for (Map.Entry<DomainKey, AtomicInteger> entry : counts.entrySet()) {
+      AtomicInteger count = entry.getValue();
+      int previousCount;
+      do {
+        previousCount = count.get();
+      } while (!count.compareAndSet(previousCount, previousCount / 2));
+      if (previousCount / 2 == 0) {
+        counts.remove(entry.getKey());
+      }
+    }
+    LOG.info("Persisted " + sampledKeys.size() + " sampled keys to " + file.getAbsolutePath());
+  }
+
+  // The sample is written to a temporary file first, so that a crash never leaves a truncated sample behind
+  private void write(List<SampledKey> sampledKeys) throws IOException {
+    File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+    DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+    try {
+      outputStream.writeInt(sampledKeys.size());
+      for (SampledKey sampledKey : sampledKeys) {
+        outputStream.writeInt(sampledKey.getDomainId());
+        outputStream.writeInt(sampledKey.partition);
+        outputStream.writeInt(sampledKey.getCount());
+        ByteBuffer key = sampledKey.getKey();
+        outputStream.writeInt(key.remaining());
+        outputStream.write(key.array(), key.arrayOffset() + key.position(), key.remaining());
+      }
+    } finally {
+      outputStream.close();
+    }
+    if (!tmpFile.renameTo(file)) {
+      throw new IOException("Failed to rename " + tmpFile.getAbsolutePath() + " to " + file.getAbsolutePath());
+    }
+  }
+
+  // Return the persisted sample, hottest keys first. Return an empty sample if none was persisted.
+  public static List<SampledKey> load(File file) throws IOException {
+    List<SampledKey> sampledKeys = new ArrayList<SampledKey>();
+    if (!file.exists()) {
+      return sampledKeys;
+    }
+    DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+    try {
+      int numKeys = inputStream.readInt();
+      for (int i = 0; i < numKeys; ++i) {
+        int domainId = inputStream.readInt();
+        int partition = inputStream.readInt();
+        int count = inputStream.readInt();
+        byte[] key = new byte[inputStream.readInt()];
+        inputStream.readFully(key);
+        sampledKeys.add(new SampledKey(domainId, partition, ByteBuffer.wrap(key), count));
+      }
+    } finally {
+      inputStream.close();
+    }
+    return sampledKeys;
+  }
+
+  public static class SampledKey {
+
+    private final int domainId;
+    private final int partition;
+    private final ByteBuffer key;
+    private final int count;
+
+    SampledKey(int domainId, int partition, ByteBuffer key, int count) {
+      this.domainId = domainId;
+      this.partition = partition;
+      this.key = key;
+      this.count = count;
+    }
+
+    public int getDomainId() {
+      return domainId;
+    }
+
+    // Hashed keys are looked up in their partition with getHashed
+    public boolean isHashed() {
+      return partition != NO_PARTITION;
+    }
+
+    public int getPartition() {
+      return partition;
+    }
+
+    public ByteBuffer getKey() {
+      return key;
+    }
+
+    // Number of sampled requests for this key
+    public int getCount() {
+      return count;
+    }
+  }
+
+  private static class HottestFirstComparator implements Comparator<SampledKey> {
+
+    @Override
+    public int compare(SampledKey a, SampledKey b) {
+      return Integer.compare(b.count, a.count);
+    }
+  }
+
+  private static class DomainKey {
+
+    private final int domainId;
+    private final int partition;
+    private final ByteBuffer key;
+
+    private DomainKey(int domainId, int partition, ByteBuffer key) {
+      this.domainId = domainId;
+      this.partition = partition;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DomainKey)) {
+        return false;
+      }
+      DomainKey other = (DomainKey)o;
+      return domainId == other.domainId && partition == other.partition && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * domainId + partition) + key.hashCode();
+    }
+  }
+}
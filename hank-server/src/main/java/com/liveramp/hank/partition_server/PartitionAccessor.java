@@ -18,13 +18,30 @@ package com.liveramp.hank.partition_server;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
 
+import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.coordinator.HostDomainPartition;
+import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecord;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
+import com.liveramp.hank.storage.BatchReader;
+import com.liveramp.hank.storage.CacheStatistics;
+import com.liveramp.hank.storage.ExistenceReader;
+import com.liveramp.hank.storage.HashedKeyReader;
+import com.liveramp.hank.storage.RangeReader;
 import com.liveramp.hank.storage.Reader;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 import com.liveramp.hank.util.AtomicLongCollection;
 import com.liveramp.hank.util.HankTimer;
 
@@ -36,10 +53,29 @@ import com.liveramp.hank.util.HankTimer;
 public class PartitionAccessor {
 
   private static final HankResponse NOT_FOUND = HankResponse.not_found(true);
+  private static final HankExistsResponse EXISTS = HankExistsResponse.exists(true);
+  private static final HankExistsResponse DOES_NOT_EXIST = HankExistsResponse.exists(false);
+  private static final HankValueSizeResponse VALUE_SIZE_NOT_FOUND = HankValueSizeResponse.not_found(true);
+  private static final HankResponse HASHED_KEYS_NOT_SUPPORTED =
+      HankResponse.xception(HankException.not_supported("Reader does not support hashed key lookups"));
+  private static final HankResponse RANGES_NOT_SUPPORTED =
+      HankResponse.xception(HankException.not_supported("Reader can only read ranges by reading whole values"));
+  private static final HankScanResponse SCANS_NOT_SUPPORTED =
+      HankScanResponse.xception(HankException.internal_error("Reader does not support scans"));
+  private static final CacheStatistics EMPTY_CACHE_STATISTICS = new CacheStatistics(0, 0, 0, 0);
   private static final Logger LOG = LoggerFactory.getLogger(PartitionAccessor.class);
 
   private final HostDomainPartition partition;
-  private final Reader reader;
+  // Null until loaded when the reader is loaded lazily
+  private volatile Reader reader;
+  private final ReaderLoader readerLoader;
+  // Null when GETs are not batched
+  private final PartitionGetBatcher getBatcher;
+  private IOException readerLoadingException;
+  private boolean isShutDown = false;
+  // Guards loading and closing the reader. A lock rather than a monitor so that virtual threads waiting
+  // for a reader to load do not pin their carrier thread.
+  private final ReentrantLock readerLock = new ReentrantLock();
   private final HankTimer windowTimer = new HankTimer();
   //0: num requests
   //1: num hits
@@ -48,41 +84,234 @@ public class PartitionAccessor {
   //4: num L2 cache hits
   private final AtomicLongCollection countersWindow;
 
+  public interface ReaderLoader {
+
+    public Reader load() throws IOException;
+  }
+
   public PartitionAccessor(HostDomainPartition partition, Reader reader) {
+    this(partition, reader, null);
+  }
+
+  // Concurrent GETs are read in batches when a batcher is given and the reader supports it
+  public PartitionAccessor(HostDomainPartition partition, Reader reader, PartitionGetBatcher getBatcher) {
     if (reader == null) {
       throw new IllegalArgumentException("Reader may not be null!");
     }
     this.partition = partition;
     this.reader = reader;
+    this.readerLoader = null;
+    this.getBatcher = getBatcher;
+    windowTimer.restart();
+    countersWindow = new AtomicLongCollection(5, new long[]{0, 0, 0, 0, 0});
+  }
+
+  // The reader is loaded on first access, or when prefetched
+  public PartitionAccessor(HostDomainPartition partition, ReaderLoader readerLoader) {
+    this(partition, readerLoader, null);
+  }
+
+  public PartitionAccessor(HostDomainPartition partition, ReaderLoader readerLoader, PartitionGetBatcher getBatcher) {
+    if (readerLoader == null) {
+      throw new IllegalArgumentException("Reader loader may not be null!");
+    }
+    this.partition = partition;
+    this.reader = null;
+    this.readerLoader = readerLoader;
+    this.getBatcher = getBatcher;
     windowTimer.restart();
     countersWindow = new AtomicLongCollection(5, new long[]{0, 0, 0, 0, 0});
   }
 
+  // Load the reader if it is not loaded yet. A reader that failed to load is not loaded again.
+  public void prefetch() throws IOException {
+    getReader();
+  }
+
+  private Reader getReader() throws IOException {
+    Reader result = reader;
+    if (result != null) {
+      return result;
+    }
+    readerLock.lock();
+    try {
+      if (reader == null) {
+        if (isShutDown) {
+          throw new IOException("Partition accessor is shut down");
+        }
+        if (readerLoadingException == null) {
+          try {
+            reader = readerLoader.load();
+          } catch (IOException e) {
+            readerLoadingException = e;
+          }
+        }
+        if (readerLoadingException != null) {
+          throw new IOException("Failed to load reader", readerLoadingException);
+        }
+      }
+      return reader;
+    } finally {
+      readerLock.unlock();
+    }
+  }
+
   public HostDomainPartition getHostDomainPartition() {
     return partition;
   }
 
+  // Single-key GETs are batched with concurrent GETs of the partition when a batcher is given
   public HankResponse get(ByteBuffer key, ReaderResult result) throws IOException {
-    // Increment requests counter
     LOG.trace("Partition GET");
-    reader.get(key, result);
-    int l1CacheHit = result.getL1CacheHit() ? 1 : 0;
-    int l2CacheHit = result.getL2CacheHit() ? 1 : 0;
+    Reader reader = getReader();
+    if (getBatcher != null && reader instanceof BatchReader) {
+      getBatcher.get((BatchReader)reader, key, result);
+    } else {
+      reader.get(key, result);
+    }
+    return toResponse(result);
+  }
+
+  // Keys of a GET BULK are read together right away, they do not wait for concurrent GETs to join them.
+  // Results must be distinct.
+  public HankResponse[] getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException {
+    LOG.trace("Partition GET BATCH");
+    Reader reader = getReader();
+    if (reader instanceof BatchReader) {
+      ((BatchReader)reader).getBatch(keys, results);
+    } else {
+      for (int i = 0; i < keys.length; ++i) {
+        reader.get(keys[i], results[i]);
+      }
+    }
+    HankResponse[] responses = new HankResponse[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      responses[i] = toResponse(results[i]);
+    }
+    return responses;
+  }
+
+  public HankResponse getHashed(ByteBuffer hashedKey, ReaderResult result) throws IOException {
+    Reader reader = getReader();
+    if (!(reader instanceof HashedKeyReader)) {
+      return HASHED_KEYS_NOT_SUPPORTED;
+    }
+    LOG.trace("Partition GET HASHED");
+    ((HashedKeyReader)reader).getHashed(hashedKey, result);
+    return toResponse(result);
+  }
+
+  // Ranges are only read by readers that do not read whole values, so that streaming a value in ranges never
+  // reads it once per range. Ranges are only read from the requested version, unless it is negative, so that
+  // ranges of different versions of a value are never put together.
+  public HankResponse getRange(ByteBuffer key, int offset, int length, int versionNumber, ReaderResult result) throws IOException {
+    LOG.trace("Partition GET RANGE");
+    Reader reader = getReader();
+    if (!(reader instanceof RangeReader) || !((RangeReader)reader).readsPartialValues()) {
+      return RANGES_NOT_SUPPORTED;
+    }
+    Integer readerVersionNumber = reader.getVersionNumber();
+    if (versionNumber >= 0 && readerVersionNumber != null && readerVersionNumber != versionNumber) {
+      return HankResponse.xception(HankException.internal_error("Partition " + partition.getPartitionNumber()
+          + " is serving version " + readerVersionNumber + " instead of requested version " + versionNumber));
+    }
+    ((RangeReader)reader).getRange(key, offset, length, result);
+    return toResponse(result);
+  }
+
+  // Readers that cannot skip values fall back to reading them
+  public HankExistsResponse exists(ByteBuffer key, ReaderResult result) throws IOException {
+    LOG.trace("Partition EXISTS");
+    Reader reader = getReader();
+    if (reader instanceof ExistenceReader) {
+      ((ExistenceReader)reader).exists(key, result);
+    } else {
+      reader.get(key, result);
+    }
+    // No value is sent
+    countRequest(result, result.isFound(), 0);
+    return result.isFound() ? EXISTS : DOES_NOT_EXIST;
+  }
+
+  // Readers that cannot skip values fall back to reading them
+  public HankValueSizeResponse getValueSize(ByteBuffer key, ReaderResult result) throws IOException {
+    LOG.trace("Partition GET VALUE SIZE");
+    Reader reader = getReader();
+    int valueSize;
+    if (reader instanceof ExistenceReader) {
+      valueSize = ((ExistenceReader)reader).getValueSize(key, result);
+    } else {
+      reader.get(key, result);
+      valueSize = result.isFound() ? result.getBuffer().remaining() : -1;
+    }
+    // No value is sent
+    countRequest(result, valueSize >= 0, 0);
+    return valueSize >= 0 ? HankValueSizeResponse.value_size(valueSize) : VALUE_SIZE_NOT_FOUND;
+  }
+
+  // Scans are not counted as requests, so that they do not skew hit rates and throughputs.
+  // Readers acquire as many permits from the rate limiter as the number of bytes they are about to read from disk.
+  // Scans run on query threads, so they never wait for permits: the records read so far are returned instead,
+  // possibly none. The first record is always returned when permits allow, even if it is larger than maxNumBytes.
+  public HankScanResponse scan(ByteBuffer afterKeyHash, int maxNumRecords, final int maxNumBytes, final RateLimiter rateLimiter) throws IOException {
+    LOG.trace("Partition SCAN");
+    Reader reader = getReader();
+    if (!(reader instanceof ScanReader)) {
+      return SCANS_NOT_SUPPORTED;
+    }
+    ScanReader.ReadPermits readPermits = null;
+    if (rateLimiter != null) {
+      readPermits = new ScanReader.ReadPermits() {
+        @Override
+        public boolean tryAcquire(int numBytes) {
+          return rateLimiter.tryAcquire(Math.max(1, numBytes));
+        }
+      };
+    }
+    final List<HankScanRecord> records = new ArrayList<HankScanRecord>();
+    boolean hasMoreRecords = ((ScanReader)reader).scan(afterKeyHash, maxNumRecords, readPermits, new ScanReader.RecordVisitor() {
+
+      private long numBytes = 0;
+
+      @Override
+      public boolean visit(ByteBuffer keyHash, ByteBuffer value) {
+        int recordNumBytes = keyHash.remaining() + value.remaining();
+        if (!records.isEmpty() && numBytes + recordNumBytes > maxNumBytes) {
+          return false;
+        }
+        records.add(new HankScanRecord(BytesUtils.byteBufferDeepCopy(keyHash), BytesUtils.byteBufferDeepCopy(value)));
+        numBytes += recordNumBytes;
+        return true;
+      }
+    });
+    return HankScanResponse.records(new HankScanRecords(records, !hasMoreRecords));
+  }
+
+  private HankResponse toResponse(ReaderResult result) {
     if (result.isFound()) {
-      countersWindow.increment(1, 1, result.getBuffer().remaining(), l1CacheHit, l2CacheHit);
+      countRequest(result, true, result.getBuffer().remaining());
       return HankResponse.value(result.getBuffer());
     } else {
-      countersWindow.increment(1, 0, 0, l1CacheHit, l2CacheHit);
+      countRequest(result, false, 0);
       return NOT_FOUND;
     }
   }
 
+  // Increment requests counter
+  private void countRequest(ReaderResult result, boolean isHit, int responseNumBytes) {
+    int l1CacheHit = result.getL1CacheHit() ? 1 : 0;
+    int l2CacheHit = result.getL2CacheHit() ? 1 : 0;
+    countersWindow.increment(1, isHit ? 1 : 0, responseNumBytes, l1CacheHit, l2CacheHit);
+  }
+
   public PartitionAccessorRuntimeStatistics getRuntimeStatistics() {
     // Copy duration and counts
     long windowDurationNanos = windowTimer.getDuration();
     windowTimer.restart();
     // Get atomic counters
     long[] counters = countersWindow.getAsArrayAndSet(0, 0, 0, 0, 0);
+    // Readers that are not loaded yet have empty caches
+    Reader currentReader = reader;
     long numRequestsInWindow = counters[0];
     long numHitsInWindow = counters[1];
     long responsesNumBytesInWindow = counters[2];
@@ -101,16 +330,33 @@ public class PartitionAccessor {
         responseDataThroughput,
         numL1CacheHitsInWindow,
         numL2CacheHitsInWindow,
-        reader.getCacheStatistics());
+        currentReader != null ? currentReader.getCacheStatistics() : EMPTY_CACHE_STATISTICS);
+  }
+
+  public void saveCacheSnapshot(ReaderCacheSnapshots cacheSnapshots, String domainName) {
+    readerLock.lock();
+    try {
+      if (!isShutDown && reader != null) {
+        cacheSnapshots.save(domainName, partition.getPartitionNumber(), reader);
+      }
+    } finally {
+      readerLock.unlock();
+    }
   }
 
   public void shutDown() {
-    if (reader != null) {
-      try {
-        reader.close();
-      } catch (IOException e) {
-        LOG.error("Exception while closing Reader", e);
+    readerLock.lock();
+    try {
+      isShutDown = true;
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          LOG.error("Exception while closing Reader", e);
+        }
       }
+    } finally {
+      readerLock.unlock();
     }
   }
 }
@@ -0,0 +1,184 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.partition_server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.liveramp.hank.storage.BatchReader;
+import com.liveramp.hank.storage.ReaderResult;
+
+/**
+ * Combines concurrent GETs of a partition into batches read with a single
+ * BatchReader call. A GET arriving while other GETs of the partition are in
+ * flight opens a batch and waits for more GETs to join, until the batch is
+ * full, the batch window has elapsed, or every GET in flight has either
+ * joined the batch or completed, since no other GET can join it then. It
+ * then reads the whole batch on behalf of the GETs that joined it. A GET
+ * arriving when the partition is idle is read right away, so that batching
+ * only adds latency under concurrent load, and no more than the time it
+ * takes to read the GETs that were already in flight, bounded by the window.
+ * Only single-key GETs should be batched: GET BULK keys are read together
+ * with BatchReader directly.
+ */
+public class PartitionGetBatcher {
+
+  private final long batchWindowNanos;
+  private final int batchMaxSize;
+  private final AtomicInteger numGetsInFlight = new AtomicInteger(0);
+  // Guards the open batch. A lock rather than a monitor so that waiting virtual threads do not pin their carrier thread.
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition openBatchClosable = lock.newCondition();
+  // Volatile so that completing GETs only take the lock when a batch is open
+  private volatile Batch openBatch = null;
+
+  private static class Batch {
+
+    private final List<ByteBuffer> keys = new ArrayList<ByteBuffer>();
+    private final List<ReaderResult> results = new ArrayList<ReaderResult>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    // Published by the done latch
+    private Throwable failure;
+
+    private int size() {
+      return keys.size();
+    }
+  }
+
+  public PartitionGetBatcher(int batchWindowMicroseconds, int batchMaxSize) {
+    if (batchWindowMicroseconds <= 0) {
+      throw new IllegalArgumentException("Batch window must be positive");
+    }
+    if (batchMaxSize < 2) {
+      throw new IllegalArgumentException("Batches must hold at least two GETs");
+    }
+    this.batchWindowNanos = TimeUnit.MICROSECONDS.toNanos(batchWindowMicroseconds);
+    this.batchMaxSize = batchMaxSize;
+  }
+
+  // Result must not be shared with other concurrent GETs
+  public void get(BatchReader reader, ByteBuffer key, ReaderResult result) throws IOException {
+    try {
+      if (numGetsInFlight.incrementAndGet() == 1) {
+        reader.get(key, result);
+      } else {
+        getInBatch(reader, key, result);
+      }
+    } finally {
+      numGetsInFlight.decrementAndGet();
+      if (openBatch != null) {
+        // The open batch may now hold every GET in flight
+        signalOpenBatch();
+      }
+    }
+  }
+
+  private void signalOpenBatch() {
+    lock.lock();
+    try {
+      openBatchClosable.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void getInBatch(BatchReader reader, ByteBuffer key, ReaderResult result) throws IOException {
+    Batch batch;
+    boolean isLeader;
+    lock.lock();
+    try {
+      isLeader = openBatch == null;
+      if (isLeader) {
+        openBatch = new Batch();
+      }
+      batch = openBatch;
+      batch.keys.add(key);
+      batch.results.add(result);
+      if (isLeader) {
+        waitForBatch(batch);
+      } else if (batch.size() >= batchMaxSize) {
+        // Full batches do not take any more GETs
+        openBatch = null;
+        openBatchClosable.signal();
+      } else if (batch.size() >= numGetsInFlight.get()) {
+        openBatchClosable.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (isLeader) {
+      readBatch(reader, batch);
+    } else {
+      awaitBatch(batch);
+    }
+  }
+
+  // Called with the lock held. Closes the batch once full, once the window has elapsed, or once no other
+  // GET in flight is left to join it. GETs in flight that have not joined yet are waiting for the lock.
+  private void waitForBatch(Batch batch) {
+    long remainingNanos = batchWindowNanos;
+    try {
+      while (openBatch == batch && remainingNanos > 0 && batch.size() < numGetsInFlight.get()) {
+        remainingNanos = openBatchClosable.awaitNanos(remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      // Read the batch as it is
+      Thread.currentThread().interrupt();
+    }
+    if (openBatch == batch) {
+      openBatch = null;
+    }
+  }
+
+  private void readBatch(BatchReader reader, Batch batch) throws IOException {
+    try {
+      reader.getBatch(batch.keys.toArray(new ByteBuffer[batch.size()]),
+          batch.results.toArray(new ReaderResult[batch.size()]));
+    } catch (Throwable t) {
+      batch.failure = t;
+      throw t;
+    } finally {
+      batch.done.countDown();
+    }
+  }
+
+  private void awaitBatch(Batch batch) throws IOException {
+    // The batch is read shortly, and its results are owned by the reading thread until then
+    boolean interrupted = false;
+    while (true) {
+      try {
+        batch.done.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (batch.failure != null) {
+      throw new IOException("Failed to read batched GET", batch.failure);
+    }
+  }
+}
@@ -21,12 +21,16 @@ import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.nio.channels.Selector;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
 import org.apache.log4j.PropertyConfigurator;
@@ -36,6 +40,7 @@ import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.server.TThreadedSelectorServer;
 import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransportException;
 
@@ -55,7 +60,13 @@ import com.liveramp.hank.generated.ConnectedServerMetadata;
 import com.liveramp.hank.generated.HostMetadata;
 import com.liveramp.hank.util.CommandLineChecker;
 import com.liveramp.hank.util.HankTimer;
+import com.liveramp.hank.util.ThreadLocalBufferedTransport;
+import com.liveramp.hank.util.UnixDomainServerSocket;
+import com.liveramp.hank.util.UnixDomainSockets;
 import com.liveramp.hank.util.UpdateStatisticsRunnable;
+import com.liveramp.hank.util.VirtualThreads;
+import com.liveramp.hank.util.WireCompressionStatistics;
+import com.liveramp.hank.util.ZeroCopyCompactProtocol;
 import com.liveramp.hank.zookeeper.WatchedNodeListener;
 
 import static com.liveramp.hank.util.LocalHostUtils.getHostName;
@@ -69,6 +80,7 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
   private static final int HOST_RING_CONNECT_SLEEP_TIME_MS_DEFAULT = 5*1000;
 
   private static final int NUM_WARMUP_QUERIES_PER_THREAD = 100;
+  private static final int FLUSH_KEY_SAMPLE_THREAD_SLEEP_TIME_MS_DEFAULT = 60 * 1000;
 
   private static final long MAX_BUFFER_SIZE = 1L << 24; //  16MB
 
@@ -87,8 +99,12 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
   private Thread offlineWatcherThread;
 
   private TThreadedSelectorServer dataServer;
+  // Responses compressed by the data server's transports
+  private final WireCompressionStatistics wireCompressionStatistics = new WireCompressionStatistics();
   private Thread dataServerThread;
   private boolean waitForDataServer;
+  // Handler of the data server while it may still be loading Readers in the background, null otherwise
+  private volatile PartitionServerHandler readerLoadingHandler;
 
   private final RingGroup ringGroup;
 
@@ -96,6 +112,10 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
   private UpdateFilesystemStatisticsRunnable updateFilesystemStatisticsRunnable;
   private Thread updateFilesystemStatisticsThread;
 
+  // Null when keys are not sampled for warmup
+  private final KeySampler keySampler;
+  private Thread flushKeySampleThread;
+
   public PartitionServer(PartitionServerConfigurator configurator, String hostName) throws IOException {
     this.configurator = configurator;
     this.coordinator = configurator.createCoordinator();
@@ -106,7 +126,12 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
       throw new RuntimeException("Could not get ring group: " + configurator.getRingGroupName());
     }
     this.hostName = hostName;
-
+    if (configurator.getWarmupKeySamplePath() != null && configurator.getKeySamplePeriod() > 0) {
+      keySampler = new KeySampler(new File(configurator.getWarmupKeySamplePath()),
+          configurator.getWarmupKeySampleMaxNumKeys());
+    } else {
+      keySampler = null;
+    }
   }
 
   private void connectToRing() throws IOException, InterruptedException {
@@ -156,6 +181,13 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
     updateFilesystemStatisticsThread.setDaemon(true);
     updateFilesystemStatisticsThread.start();
 
+    // Start the key sample flushing thread
+    if (keySampler != null) {
+      flushKeySampleThread = new Thread(new FlushKeySampleRunnable(), "Flush Key Sample");
+      flushKeySampleThread.setDaemon(true);
+      flushKeySampleThread.start();
+    }
+
   }
 
   public void run() throws IOException, InterruptedException {
@@ -186,6 +218,12 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
             break;
           }
         }
+        try {
+          checkBackgroundReaderLoads();
+        } catch (IOException e) {
+          LOG.error("Failed to load Readers in the background", e);
+          break;
+        }
       } catch (InterruptedException e) {
         LOG.info("Interrupted in main loop. Exiting.", e);
         break;
@@ -197,6 +235,15 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
     stopServingData();
     // Stop updating if necessary
     stopUpdating();
+    // Persist the key sample one last time for the next start
+    if (keySampler != null) {
+      flushKeySampleThread.interrupt();
+      try {
+        keySampler.flush();
+      } catch (IOException e) {
+        LOG.error("Failed to persist key sample", e);
+      }
+    }
     // Signal OFFLINE
     setStateSynchronized(HostState.OFFLINE); // In case of exception, server will stop and state will be coherent.
     // Remove shutdown hook. We don't need it anymore as we just set the host state to OFFLINE
@@ -269,8 +316,17 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
     stopping = true;
   }
 
+  // Readers loaded in the background are reported to the coordinator by the main thread, and failures stop the
+  // partition server, as they would have if the Readers had been loaded before serving
+  private void checkBackgroundReaderLoads() throws IOException {
+    PartitionServerHandler handler = readerLoadingHandler;
+    if (handler != null && handler.checkBackgroundReaderLoads()) {
+      readerLoadingHandler = null;
+    }
+  }
+
   protected IfaceWithShutdown getHandler() throws IOException {
-    return new PartitionServerHandler(hostAddress, configurator, coordinator);
+    return new PartitionServerHandler(hostAddress, configurator, coordinator, wireCompressionStatistics, keySampler);
   }
 
   protected IUpdateManager getUpdateManager() throws IOException {
@@ -467,18 +523,40 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
 
   protected void startThriftServer() throws TTransportException, IOException, InterruptedException {
     IfaceWithShutdown handler = null;
+    ExecutorService queryExecutor = null;
+    TNonblockingServerSocket serverSocket = null;
+    // Clients on the same machine may also connect through a Unix domain socket, served by its own Thrift server
+    TThreadedSelectorServer unixDomainSocketDataServer = null;
+    Thread unixDomainSocketDataServerThread = null;
+    UnixDomainServerSocket unixDomainServerSocket = null;
     try {
       // Set up the service handler
       handler = getHandler();
+      if (handler instanceof PartitionServerHandler) {
+        readerLoadingHandler = (PartitionServerHandler) handler;
+      }
+      // Both Thrift servers run queries on the same executor, so that the number of concurrent queries is bounded
+      // whatever the socket clients connect through
+      queryExecutor = createQueryExecutor();
       // Launch the thrift server
-      TNonblockingServerSocket serverSocket = new TNonblockingServerSocket(configurator.getServicePort());
-      TThreadedSelectorServer.Args options = new TThreadedSelectorServer.Args(serverSocket);
-      options.processor(new com.liveramp.hank.generated.PartitionServer.Processor(handler));
-      options.workerThreads(configurator.getNumConcurrentQueries());
-      options.selectorThreads(4);
-      options.protocolFactory(new TCompactProtocol.Factory());
-      options.maxReadBufferBytes = MAX_BUFFER_SIZE;
-      dataServer = new TThreadedSelectorServer(options);
+      serverSocket = new TNonblockingServerSocket(configurator.getServicePort());
+      if (configurator.getUnixDomainSocketPath() != null) {
+        unixDomainServerSocket = new UnixDomainServerSocket(
+            UnixDomainSockets.getPartitionServerPath(configurator.getUnixDomainSocketPath(), configurator.getServicePort()));
+        // Listen right away so that failures stop the data server, the Thrift server then reuses the bound socket
+        unixDomainServerSocket.listen();
+        final TThreadedSelectorServer server = createDataServer(unixDomainServerSocket, handler, queryExecutor);
+        unixDomainSocketDataServerThread = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            server.serve();
+          }
+        }, "PartitionServer Thrift Unix domain socket data server thread");
+        LOG.info("Launching Thrift server on Unix domain socket " + unixDomainServerSocket.getPath());
+        unixDomainSocketDataServerThread.start();
+        unixDomainSocketDataServer = server;
+      }
+      dataServer = createDataServer(serverSocket, handler, queryExecutor);
       LOG.info("Launching Thrift server.");
       dataServer.serve();
       LOG.info("Thrift server exited.");
@@ -487,9 +565,26 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
       // TODO: when the bug is fixed in Thrift, remove this ugly hack which takes care of the issue
       List<Selector> selectors = getServerSelectors(dataServer);
       closeServerSelectors(selectors);
-      // Close the socket
-      serverSocket.close();
     } finally {
+      readerLoadingHandler = null;
+      // Close the socket
+      if (serverSocket != null) {
+        serverSocket.close();
+      }
+      // The Unix domain socket server stops with the main one
+      if (unixDomainSocketDataServer != null) {
+        unixDomainSocketDataServer.stop();
+        unixDomainSocketDataServerThread.join();
+        closeServerSelectors(getServerSelectors(unixDomainSocketDataServer));
+        LOG.info("Thrift server on Unix domain socket exited.");
+      }
+      if (unixDomainServerSocket != null) {
+        unixDomainServerSocket.close();
+      }
+      // Servers shut the executor down when they stop, unless they never served
+      if (queryExecutor != null) {
+        queryExecutor.shutdown();
+      }
       // Always shut down the handler
       if (handler != null) {
         LOG.debug("Shutting down Partition Server handler.");
@@ -498,6 +593,34 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
     }
   }
 
+  private ExecutorService createQueryExecutor() throws IOException {
+    if (configurator.getVirtualThreadsEnabled()) {
+      // Each query runs on its own virtual thread, as many at a time as there would be worker threads
+      return VirtualThreads.newBoundedExecutor("PartitionServer query ", configurator.getNumConcurrentQueries());
+    } else {
+      return Executors.newFixedThreadPool(configurator.getNumConcurrentQueries());
+    }
+  }
+
+  private TThreadedSelectorServer createDataServer(TNonblockingServerTransport serverTransport,
+                                                   IfaceWithShutdown handler,
+                                                   ExecutorService queryExecutor) throws IOException {
+    TThreadedSelectorServer.Args options = new TThreadedSelectorServer.Args(serverTransport);
+    // Responses are compressed for clients that negotiated it
+    options.processor(new WireCompressionProcessor(
+        new com.liveramp.hank.generated.PartitionServer.Processor(handler),
+        configurator.getWireCompressionCodecs()));
+    options.executorService(queryExecutor);
+    options.selectorThreads(4);
+    // Keys are read as views of the request frame, responses are buffered in reusable per thread buffers
+    options.inputProtocolFactory(new ZeroCopyCompactProtocol.Factory());
+    options.outputProtocolFactory(new TCompactProtocol.Factory());
+    options.outputTransportFactory(new ThreadLocalBufferedTransport.Factory(configurator.getBufferReuseMaxSize(),
+        configurator.getWireCompressionThreshold(), wireCompressionStatistics));
+    options.maxReadBufferBytes = MAX_BUFFER_SIZE;
+    return new TThreadedSelectorServer(options);
+  }
+
   private void serveData() throws IOException {
     waitForDataServer = true;
     if (dataServer != null) {
@@ -599,26 +722,68 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
     */
   }
 
+  // Exercise the Thrift stack, then replay the hottest sampled keys so that the new readers are warm before serving
   private void warmUp() throws IOException {
     LOG.info("Warming up data server...");
+    List<KeySampler.SampledKey> keysToReplay = getKeysToReplay();
+    long replayDeadlineMs = System.currentTimeMillis() + configurator.getWarmupMaxDurationMs();
+    AtomicInteger numReplayedKeys = new AtomicInteger();
+    int numThreads = configurator.getNumConcurrentQueries();
     List<Thread> threads = new ArrayList<Thread>();
-    for (int i = 0; i < configurator.getNumConcurrentQueries(); ++i) {
-      threads.add(new Thread(new WarmupRunnable(), "Warmup Thread #" + i));
+    for (int i = 0; i < numThreads; ++i) {
+      threads.add(new Thread(new WarmupRunnable(keysToReplay, i, numThreads, replayDeadlineMs, numReplayedKeys),
+          "Warmup Thread #" + i));
     }
     HankTimer timer = new HankTimer();
-    for (Thread thread : threads) {
-      thread.start();
+    // Replayed requests are not sampled again
+    if (keySampler != null) {
+      keySampler.setEnabled(false);
     }
-    for (Thread thread : threads) {
-      try {
-        thread.join();
-      } catch (InterruptedException e) {
-        LOG.error("Failed to warm up data server", e);
-        throw new IOException("Failed to warm up data server", e);
+    try {
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        try {
+          thread.join();
+        } catch (InterruptedException e) {
+          LOG.error("Failed to warm up data server", e);
+          throw new IOException("Failed to warm up data server", e);
+        }
+      }
+    } finally {
+      if (keySampler != null) {
+        keySampler.setEnabled(true);
       }
     }
     long warmupDurationMs = timer.getDurationMs();
-    LOG.info("Warming up data server took " + warmupDurationMs + " ms");
+    LOG.info("Warming up data server took " + warmupDurationMs + " ms. Replayed "
+        + numReplayedKeys.get() + "/" + keysToReplay.size() + " sampled keys");
+  }
+
+  // Hottest sampled keys that account for the target hit rate of sampled requests
+  private List<KeySampler.SampledKey> getKeysToReplay() {
+    if (keySampler == null) {
+      return Collections.emptyList();
+    }
+    List<KeySampler.SampledKey> sampledKeys;
+    try {
+      sampledKeys = KeySampler.load(keySampler.getFile());
+    } catch (IOException e) {
+      LOG.error("Failed to load key sample from " + keySampler.getFile().getAbsolutePath() + ". Not replaying keys.", e);
+      return Collections.emptyList();
+    }
+    long numSampledRequests = 0;
+    for (KeySampler.SampledKey sampledKey : sampledKeys) {
+      numSampledRequests += sampledKey.getCount();
+    }
+    double targetNumRequests = numSampledRequests * configurator.getWarmupTargetHitRate();
+    long numCoveredRequests = 0;
+    int numKeysToReplay = 0;
+    while (numKeysToReplay < sampledKeys.size() && numCoveredRequests < targetNumRequests) {
+      numCoveredRequests += sampledKeys.get(numKeysToReplay++).getCount();
+    }
+    return sampledKeys.subList(0, numKeysToReplay);
   }
 
   /**
@@ -724,6 +889,25 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
 
   private class WarmupRunnable implements Runnable {
 
+    private final List<KeySampler.SampledKey> keysToReplay;
+    private final int threadIndex;
+    private final int numThreads;
+    private final long replayDeadlineMs;
+    private final AtomicInteger numReplayedKeys;
+
+    // Each thread replays the keys at its index modulo the number of threads, hottest first
+    private WarmupRunnable(List<KeySampler.SampledKey> keysToReplay,
+                           int threadIndex,
+                           int numThreads,
+                           long replayDeadlineMs,
+                           AtomicInteger numReplayedKeys) {
+      this.keysToReplay = keysToReplay;
+      this.threadIndex = threadIndex;
+      this.numThreads = numThreads;
+      this.replayDeadlineMs = replayDeadlineMs;
+      this.numReplayedKeys = numReplayedKeys;
+    }
+
     @Override
     public void run() {
       TSocket socket = null;
@@ -738,6 +922,16 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
         for (int i = 0; i < NUM_WARMUP_QUERIES_PER_THREAD; i++) {
           client.get(0, ByteBuffer.wrap(new byte[0]));
         }
+        // Replay sampled keys through the regular query path, until the deadline
+        for (int i = threadIndex; i < keysToReplay.size() && System.currentTimeMillis() < replayDeadlineMs; i += numThreads) {
+          KeySampler.SampledKey sampledKey = keysToReplay.get(i);
+          if (sampledKey.isHashed()) {
+            client.getHashed(sampledKey.getDomainId(), sampledKey.getPartition(), sampledKey.getKey());
+          } else {
+            client.get(sampledKey.getDomainId(), sampledKey.getKey());
+          }
+          numReplayedKeys.incrementAndGet();
+        }
       } catch (TException e) {
         LOG.error("Failed to warm up data server", e);
         throw new RuntimeException("Failed to warm up data server", e);
@@ -751,4 +945,23 @@ public class PartitionServer implements HostCommandQueueChangeListener, WatchedN
       }
     }
   }
+
+  /**
+   * This thread periodically persists the key sample
+   */
+  private class FlushKeySampleRunnable extends UpdateStatisticsRunnable implements Runnable {
+
+    public FlushKeySampleRunnable() {
+      super(FLUSH_KEY_SAMPLE_THREAD_SLEEP_TIME_MS_DEFAULT);
+    }
+
+    @Override
+    public void runCore() throws IOException {
+      keySampler.flush();
+    }
+
+    @Override
+    protected void cleanup() {
+    }
+  }
 }
@@ -18,11 +18,20 @@ package com.liveramp.hank.partition_server;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
@@ -30,11 +39,14 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.liveramp.commons.util.BytesUtils;
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.PartitionServerConfigurator;
+import com.liveramp.hank.config.ReaderConfigurator;
 import com.liveramp.hank.coordinator.Coordinator;
 import com.liveramp.hank.coordinator.Domain;
 import com.liveramp.hank.coordinator.DomainAndVersion;
@@ -46,12 +58,22 @@ import com.liveramp.hank.coordinator.Hosts;
 import com.liveramp.hank.coordinator.PartitionServerAddress;
 import com.liveramp.hank.coordinator.Ring;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
 import com.liveramp.hank.generated.HankException;
+import com.liveramp.hank.generated.HankExistsBulkResponse;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
 import com.liveramp.hank.storage.Reader;
 import com.liveramp.hank.storage.ReaderResult;
 import com.liveramp.hank.storage.StorageEngine;
+import com.liveramp.hank.util.CompactResponses;
 import com.liveramp.hank.util.UpdateStatisticsRunnable;
+import com.liveramp.hank.util.VirtualThreads;
+import com.liveramp.hank.util.WireCompression;
+import com.liveramp.hank.util.WireCompressionStatistics;
 
 /**
  * Implements the actual data serving logic of the PartitionServer
@@ -63,14 +85,31 @@ public class PartitionServerHandler implements IfaceWithShutdown {
   private final Host host;
   private static final HankResponse NO_SUCH_DOMAIN = HankResponse.xception(HankException.no_such_domain(true));
   private static final HankBulkResponse NO_SUCH_DOMAIN_BULK = HankBulkResponse.xception(HankException.no_such_domain(true));
+  private static final HankCompactBulkResponse NO_SUCH_DOMAIN_COMPACT_BULK = HankCompactBulkResponse.xception(HankException.no_such_domain(true));
+  private static final HankExistsResponse NO_SUCH_DOMAIN_EXISTS = HankExistsResponse.xception(HankException.no_such_domain(true));
+  private static final HankExistsBulkResponse NO_SUCH_DOMAIN_EXISTS_BULK = HankExistsBulkResponse.xception(HankException.no_such_domain(true));
+  private static final HankValueSizeResponse NO_SUCH_DOMAIN_VALUE_SIZE = HankValueSizeResponse.xception(HankException.no_such_domain(true));
+  private static final HankScanResponse NO_SUCH_DOMAIN_SCAN = HankScanResponse.xception(HankException.no_such_domain(true));
   private final int getBulkTaskSize;
   private final int bufferReuseMaxSize;
+  private final List<CompressionCodec> wireCompressionCodecs;
+  private final WireCompressionStatistics wireCompressionStatistics;
+  // Shared by all scans, null when scans are not throttled
+  private final RateLimiter scanRateLimiter;
+  private final int scanMaxNumRecords;
+  private final int scanMaxNumBytes;
+  private final KeySampler keySampler;
+  // Null when Reader caches are not saved
+  private final ReaderCacheSnapshots cacheSnapshots;
   private static final long GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_VALUE = 1;
   private static final TimeUnit GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_UNIT = TimeUnit.DAYS;
 
   private static final ReaderResultThreadLocal readerResultThreadLocal = new ReaderResultThreadLocal();
   private final DomainAccessor[] domainAccessors;
-  private final ThreadPoolExecutor getBulkTaskExecutor;
+  private final ExecutorService getBulkTaskExecutor;
+  private final ExecutorService readerLoadingExecutor;
+  // Readers loaded in the background whose outcome is not reported yet. Empty unless Readers are loaded lazily.
+  private final Map<PartitionReaderLoader, Future<Void>> backgroundReaderLoads = new LinkedHashMap<PartitionReaderLoader, Future<Void>>();
   private static final long GET_BULK_TASK_EXECUTOR_AWAIT_TERMINATION_VALUE = 1;
   private static final TimeUnit GET_BULK_TASK_EXECUTOR_AWAIT_TERMINATION_UNIT = TimeUnit.SECONDS;
   private static final double USED_SIZE_THRESHOLD_FOR_VALUE_BUFFER_DEEP_COPY = 0.75;
@@ -83,21 +122,50 @@ public class PartitionServerHandler implements IfaceWithShutdown {
   public PartitionServerHandler(PartitionServerAddress address,
                                 PartitionServerConfigurator configurator,
                                 Coordinator coordinator) throws IOException {
+    this(address, configurator, coordinator, new WireCompressionStatistics());
+  }
+
+  // Statistics of the responses compressed by the server's transports, reported by this handler
+  public PartitionServerHandler(PartitionServerAddress address,
+                                PartitionServerConfigurator configurator,
+                                Coordinator coordinator,
+                                WireCompressionStatistics wireCompressionStatistics) throws IOException {
+    this(address, configurator, coordinator, wireCompressionStatistics, null);
+  }
+
+  // Sampled requests are added to the warmup key sample when a key sampler is given
+  public PartitionServerHandler(PartitionServerAddress address,
+                                PartitionServerConfigurator configurator,
+                                Coordinator coordinator,
+                                WireCompressionStatistics wireCompressionStatistics,
+                                KeySampler keySampler) throws IOException {
 
     // Create the GET executor
-    getBulkTaskExecutor = new ThreadPoolExecutor(
-        configurator.getNumConcurrentGetBulkTasks(),
-        configurator.getNumConcurrentGetBulkTasks(),
-        GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_VALUE,
-        GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_UNIT,
-        new LinkedBlockingQueue<Runnable>(),
-        new GetBulkThreadFactory());
+    if (configurator.getVirtualThreadsEnabled()) {
+      // Each task runs on its own virtual thread, as many at a time as there would be pool threads
+      getBulkTaskExecutor = VirtualThreads.newBoundedExecutor("GET BULK Thread ", configurator.getNumConcurrentGetBulkTasks());
+    } else {
+      ThreadPoolExecutor getBulkTaskThreadPoolExecutor = new ThreadPoolExecutor(
+          configurator.getNumConcurrentGetBulkTasks(),
+          configurator.getNumConcurrentGetBulkTasks(),
+          GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_VALUE,
+          GET_BULK_TASK_EXECUTOR_KEEP_ALIVE_UNIT,
+          new LinkedBlockingQueue<Runnable>(),
+          new GetBulkThreadFactory());
+      // Prestart core threads
+      getBulkTaskThreadPoolExecutor.prestartAllCoreThreads();
+      getBulkTaskExecutor = getBulkTaskThreadPoolExecutor;
+    }
 
     getBulkTaskSize = configurator.getGetBulkTaskSize();
     bufferReuseMaxSize = configurator.getBufferReuseMaxSize();
-
-    // Prestart core threads
-    getBulkTaskExecutor.prestartAllCoreThreads();
+    wireCompressionCodecs = configurator.getWireCompressionCodecs();
+    this.wireCompressionStatistics = wireCompressionStatistics;
+    this.keySampler = keySampler;
+    cacheSnapshots = configurator.getCacheSnapshotPath() != null ? new ReaderCacheSnapshots(configurator.getCacheSnapshotPath()) : null;
+    scanRateLimiter = configurator.getScanMaxBytesPerSecond() > 0 ? RateLimiter.create(configurator.getScanMaxBytesPerSecond()) : null;
+    scanMaxNumRecords = configurator.getScanMaxNumRecords();
+    scanMaxNumBytes = configurator.getScanMaxNumBytes();
 
     // Find the ring
     Ring ring = coordinator.getRingGroup(configurator.getRingGroupName()).getRingForHost(address);
@@ -144,8 +212,9 @@ public class PartitionServerHandler implements IfaceWithShutdown {
     }
     domainAccessors = new DomainAccessor[maxDomainId + 1];
 
-    // Loop over the domains and get set up
+    // Loop over the domains and get set up. Readers are loaded afterwards, all at once.
     List<Exception> exceptions = new ArrayList<Exception>();
+    Map<String, List<PartitionReaderLoader>> dataDirectoryToReaderLoaders = new TreeMap<String, List<PartitionReaderLoader>>();
     for (DomainAndVersion dgvdv : domainGroup.getDomainVersions()) {
       Domain domain = dgvdv.getDomain();
       StorageEngine engine = domain.getStorageEngine();
@@ -183,42 +252,82 @@ public class PartitionServerHandler implements IfaceWithShutdown {
               partition.getPartitionNumber(), domain.getName()));
           continue;
         }
-
-        Reader reader;
-        try {
-          reader = engine.getReader(configurator.getReaderConfigurator(numTotalPartitions), partition.getPartitionNumber(), assignment);
-        } catch (IOException | IllegalArgumentException e) {
-          // Something went wrong when loading this partition's Reader. Set it deletable and signal failure.
-          if (!partition.isDeletable()) {
-            partition.setDeletable(true);
-          }
-          final String msg = String.format("Could not load Reader for partition #%d of domain %s because of an exception.",
-              partition.getPartitionNumber(), domain.getName());
-          LOG.error(msg, e);
-          exceptions.add(new IOException(msg, e));
-          continue;
-        }
-        // Check that Reader's version number and current domain group version number match
-        if (reader.getVersionNumber() != null && !reader.getVersionNumber().equals(partition.getCurrentDomainVersion())) {
-          // Something went wrong when loading this partition's Reader. Set it deletable and signal failure.
-          partition.setDeletable(true);
-          final String msg = String.format("Could not load Reader for partition #%d of domain %s because version numbers reported by the Reader (%d) and by metadata (%d) differ.",
-              partition.getPartitionNumber(), domain.getName(), reader.getVersionNumber(), partition.getCurrentDomainVersion());
-          LOG.error(msg);
-          exceptions.add(new IOException(msg));
-          continue;
-        }
-        LOG.info(String.format("Loaded Reader for domain %s, partition #%d",
-            domain.getName(), partition.getPartitionNumber()));
-        partitionAccessors[partition.getPartitionNumber()] = new PartitionAccessor(partition, reader);
-        // Loading succeeded, if the partition was deletable, it should not be
-        if (partition.isDeletable()) {
-          partition.setDeletable(false);
+        PartitionReaderLoader readerLoader = new PartitionReaderLoader(engine,
+            configurator.getReaderConfigurator(numTotalPartitions), domain, partition, assignment, partitionAccessors,
+            cacheSnapshots);
+        String dataDirectory = String.valueOf(assignment.getDisk(partition.getPartitionNumber()));
+        List<PartitionReaderLoader> readerLoaders = dataDirectoryToReaderLoaders.get(dataDirectory);
+        if (readerLoaders == null) {
+          readerLoaders = new ArrayList<PartitionReaderLoader>();
+          dataDirectoryToReaderLoaders.put(dataDirectory, readerLoaders);
         }
+        readerLoaders.add(readerLoader);
       }
       // configure and store the DomainAccessors
       domainAccessors[domainId] = new DomainAccessor(hostDomain, partitionAccessors, domain.getPartitioner(),
-          configurator.getGetTimerAggregatorWindow());
+          configurator.getGetTimerAggregatorWindow(), configurator.getKeySamplePeriod(), keySampler);
+    }
+
+    // Alternate between data directories so that all disks are read from at the same time
+    List<PartitionReaderLoader> readerLoaders = new ArrayList<PartitionReaderLoader>();
+    for (int i = 0; ; ++i) {
+      boolean hasMoreReaderLoaders = false;
+      for (List<PartitionReaderLoader> dataDirectoryReaderLoaders : dataDirectoryToReaderLoaders.values()) {
+        if (i < dataDirectoryReaderLoaders.size()) {
+          readerLoaders.add(dataDirectoryReaderLoaders.get(i));
+          hasMoreReaderLoaders = true;
+        }
+      }
+      if (!hasMoreReaderLoaders) {
+        break;
+      }
+    }
+
+    readerLoadingExecutor = Executors.newFixedThreadPool(Math.max(1, configurator.getNumConcurrentReaderLoads()),
+        new ReaderLoadingThreadFactory());
+    if (configurator.getLazyReaderLoading()) {
+      // Readers are loaded on first access, and prefetched in the background in the meantime
+      for (PartitionReaderLoader readerLoader : readerLoaders) {
+        readerLoader.setPartitionAccessor(new PartitionAccessor(readerLoader.partition, readerLoader,
+            createGetBatcher(configurator)));
+      }
+      // Outcomes are reported by checkBackgroundReaderLoads()
+      for (final PartitionReaderLoader readerLoader : readerLoaders) {
+        backgroundReaderLoads.put(readerLoader, readerLoadingExecutor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            readerLoader.getPartitionAccessor().prefetch();
+            return null;
+          }
+        }));
+      }
+      readerLoadingExecutor.shutdown();
+      LOG.info("Prefetching " + readerLoaders.size() + " Readers in the background");
+    } else {
+      List<Future<Reader>> futureReaders = new ArrayList<Future<Reader>>(readerLoaders.size());
+      for (final PartitionReaderLoader readerLoader : readerLoaders) {
+        futureReaders.add(readerLoadingExecutor.submit(new Callable<Reader>() {
+          @Override
+          public Reader call() throws IOException {
+            return readerLoader.load();
+          }
+        }));
+      }
+      readerLoadingExecutor.shutdown();
+      for (int i = 0; i < readerLoaders.size(); ++i) {
+        PartitionReaderLoader readerLoader = readerLoaders.get(i);
+        try {
+          readerLoader.setPartitionAccessor(new PartitionAccessor(readerLoader.partition, futureReaders.get(i).get(),
+              createGetBatcher(configurator)));
+          readerLoader.setLoaded(true);
+        } catch (ExecutionException e) {
+          readerLoader.setLoaded(false);
+          exceptions.add(e);
+        } catch (InterruptedException e) {
+          readerLoadingExecutor.shutdownNow();
+          throw new IOException("Interrupted while loading Readers", e);
+        }
+      }
     }
     // If there was a failure, abort and skip current command.
     if (!exceptions.isEmpty()) {
@@ -231,16 +340,37 @@ public class PartitionServerHandler implements IfaceWithShutdown {
     updateRuntimeStatisticsThread.start();
   }
 
+  // Report the Readers loaded in the background since the last call to the coordinator, from the calling thread.
+  // Throw if any failed to load, as it would have failed this handler if it had been loaded on startup.
+  // Return whether all Readers are loaded.
+  public synchronized boolean checkBackgroundReaderLoads() throws IOException {
+    int numFailures = 0;
+    Iterator<Map.Entry<PartitionReaderLoader, Future<Void>>> iterator = backgroundReaderLoads.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<PartitionReaderLoader, Future<Void>> entry = iterator.next();
+      if (!entry.getValue().isDone()) {
+        continue;
+      }
+      iterator.remove();
+      try {
+        entry.getValue().get();
+        entry.getKey().setLoaded(true);
+      } catch (ExecutionException e) {
+        entry.getKey().setLoaded(false);
+        ++numFailures;
+      } catch (InterruptedException e) {
+        throw new IOException("Interrupted while checking Reader loads", e);
+      }
+    }
+    if (numFailures > 0) {
+      throw new IOException("Failed to load Readers in the background. Encountered " + numFailures + " exceptions.");
+    }
+    return backgroundReaderLoads.isEmpty();
+  }
+
   @Override
   public HankResponse get(int domainId, ByteBuffer key) {
-    ReaderResult result = readerResultThreadLocal.get();
-    // If buffer exceeds limit, reset it
-    if (result.getBuffer() != null && result.getBuffer().capacity() > bufferReuseMaxSize) {
-      readerResultThreadLocal.remove();
-      result = readerResultThreadLocal.get();
-    }
-    result.clear();
-    return _get(this, domainId, key, result);
+    return _get(this, domainId, key, getReaderResult());
   }
 
   @Override
@@ -250,29 +380,7 @@ public class PartitionServerHandler implements IfaceWithShutdown {
       if (domainAccessor == null) {
         return NO_SUCH_DOMAIN_BULK;
       }
-      // Build and execute all get bulk tasks
-      HankBulkResponse bulkResponse = HankBulkResponse.responses(new ArrayList<HankResponse>(keys.size()));
-      GetBulkTask[] tasks = new GetBulkTask[(keys.size() / getBulkTaskSize) + 1];
-      int maxTaskIndex = 0;
-      for (int i = 0; i < keys.size(); i += getBulkTaskSize) {
-        GetBulkTask task = new GetBulkTask(new GetBulkRunnable(domainId, keys, i));
-        // No need to synchronize since ThreadPoolExecutor's execute() is thread-safe
-        getBulkTaskExecutor.execute(task);
-        tasks[maxTaskIndex++] = task;
-      }
-      // Wait for all get tasks and retrieve responses
-      for (int taskIndex = 0; taskIndex < maxTaskIndex; ++taskIndex) {
-        HankResponse[] responses = tasks[taskIndex].getResponses();
-        for (HankResponse response : responses) {
-          // Check if we have retrieved all responses
-          if (bulkResponse.get_responses().size() == keys.size()) {
-            break;
-          } else {
-            bulkResponse.get_responses().add(response);
-          }
-        }
-      }
-      return bulkResponse;
+      return HankBulkResponse.responses(_getBulk(Collections.nCopies(keys.size(), domainId), keys));
     } catch (Throwable t) {
       String errMsg = "Throwable during GET BULK";
       LOG.error(errMsg, t);
@@ -281,6 +389,228 @@ public class PartitionServerHandler implements IfaceWithShutdown {
     }
   }
 
+  @Override
+  public HankCompactBulkResponse getBulkCompact(int domainId, List<ByteBuffer> keys) {
+    try {
+      DomainAccessor domainAccessor = getDomainAccessor(domainId);
+      if (domainAccessor == null) {
+        return NO_SUCH_DOMAIN_COMPACT_BULK;
+      }
+      return HankCompactBulkResponse.responses(CompactResponses.encode(_getBulk(Collections.nCopies(keys.size(), domainId), keys)));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during GET BULK COMPACT";
+      LOG.error(errMsg, t);
+      return HankCompactBulkResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  @Override
+  public String negotiateWireCompression(List<String> codecs) {
+    CompressionCodec codec = WireCompression.negotiate(codecs, wireCompressionCodecs);
+    return codec == null ? "" : codec.name();
+  }
+
+  @Override
+  public HankResponse getHashed(int domainId, int partition, ByteBuffer hashedKey) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN;
+    }
+    try {
+      return domainAccessor.getHashed(partition, hashedKey, getReaderResult());
+    } catch (IOException e) {
+      String errMsg = String.format(
+          "Exception during GET HASHED. Domain: %s (domain #%d) Partition: %d Hashed key: %s",
+          domainAccessor.getName(), domainId, partition, BytesUtils.bytesToHexString(hashedKey));
+      LOG.error(errMsg, e);
+      return HankResponse.xception(
+          HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during GET HASHED";
+      LOG.error(errMsg, t);
+      return HankResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  @Override
+  public HankBulkResponse getMulti(List<HankDomainKey> domainKeys) {
+    try {
+      List<Integer> domainIds = new ArrayList<Integer>(domainKeys.size());
+      List<ByteBuffer> keys = new ArrayList<ByteBuffer>(domainKeys.size());
+      for (HankDomainKey domainKey : domainKeys) {
+        domainIds.add(domainKey.get_domain_id());
+        keys.add(domainKey.buffer_for_key());
+      }
+      // Unknown domains are reported in the corresponding responses
+      return HankBulkResponse.responses(_getBulk(domainIds, keys));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during GET MULTI";
+      LOG.error(errMsg, t);
+      return HankBulkResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  @Override
+  public HankExistsResponse exists(int domainId, ByteBuffer key) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN_EXISTS;
+    }
+    return _exists(domainAccessor, domainId, key, getReaderResult());
+  }
+
+  // Existence checks do not read values, keys are checked in the calling thread
+  @Override
+  public HankExistsBulkResponse existsBulk(int domainId, List<ByteBuffer> keys) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN_EXISTS_BULK;
+    }
+    List<HankExistsResponse> responses = new ArrayList<HankExistsResponse>(keys.size());
+    for (ByteBuffer key : keys) {
+      responses.add(_exists(domainAccessor, domainId, key, getReaderResult()));
+    }
+    return HankExistsBulkResponse.responses(responses);
+  }
+
+  @Override
+  public HankValueSizeResponse getValueSize(int domainId, ByteBuffer key) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN_VALUE_SIZE;
+    }
+    try {
+      return domainAccessor.getValueSize(key, getReaderResult());
+    } catch (IOException e) {
+      String errMsg = String.format(
+          "Exception during GET VALUE SIZE. Domain: %s (domain #%d) Key: %s",
+          domainAccessor.getName(), domainId, BytesUtils.bytesToHexString(key));
+      LOG.error(errMsg, e);
+      return HankValueSizeResponse.xception(
+          HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during GET VALUE SIZE";
+      LOG.error(errMsg, t);
+      return HankValueSizeResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  @Override
+  public HankResponse getRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN;
+    }
+    if (offset < 0 || length < 0) {
+      return HankResponse.xception(HankException.internal_error("Invalid range: offset " + offset + ", length " + length));
+    }
+    try {
+      return domainAccessor.getRange(key, offset, length, versionNumber, getReaderResult());
+    } catch (IOException e) {
+      String errMsg = String.format(
+          "Exception during GET RANGE. Domain: %s (domain #%d) Key: %s Offset: %d Length: %d",
+          domainAccessor.getName(), domainId, BytesUtils.bytesToHexString(key), offset, length);
+      LOG.error(errMsg, e);
+      return HankResponse.xception(
+          HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during GET RANGE";
+      LOG.error(errMsg, t);
+      return HankResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  // Scans read partitions sequentially and are throttled so as not to disturb point lookups.
+  // A throttled scan returns early, possibly with no records, rather than holding a query thread.
+  @Override
+  public HankScanResponse scanPartition(int domainId, int partition, ByteBuffer cursor, int limit) {
+    DomainAccessor domainAccessor = getDomainAccessor(domainId);
+    if (domainAccessor == null) {
+      return NO_SUCH_DOMAIN_SCAN;
+    }
+    if (limit <= 0) {
+      return HankScanResponse.xception(HankException.internal_error("Invalid scan limit: " + limit));
+    }
+    try {
+      // An empty cursor starts from the beginning of the partition
+      ByteBuffer afterKeyHash = cursor == null || cursor.remaining() == 0 ? null : cursor;
+      return domainAccessor.scan(partition, afterKeyHash, Math.min(limit, scanMaxNumRecords), scanMaxNumBytes, scanRateLimiter);
+    } catch (IOException e) {
+      String errMsg = String.format(
+          "Exception during SCAN. Domain: %s (domain #%d) Partition: %d Cursor: %s",
+          domainAccessor.getName(), domainId, partition, BytesUtils.bytesToHexString(cursor));
+      LOG.error(errMsg, e);
+      return HankScanResponse.xception(
+          HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during SCAN";
+      LOG.error(errMsg, t);
+      return HankScanResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  private HankExistsResponse _exists(DomainAccessor domainAccessor, int domainId, ByteBuffer key, ReaderResult result) {
+    try {
+      return domainAccessor.exists(key, result);
+    } catch (IOException e) {
+      String errMsg = String.format(
+          "Exception during EXISTS. Domain: %s (domain #%d) Key: %s",
+          domainAccessor.getName(), domainId, BytesUtils.bytesToHexString(key));
+      LOG.error(errMsg, e);
+      return HankExistsResponse.xception(
+          HankException.internal_error(errMsg + " " + (e.getMessage() != null ? e.getMessage() : "")));
+    } catch (Throwable t) {
+      String errMsg = "Throwable during EXISTS";
+      LOG.error(errMsg, t);
+      return HankExistsResponse.xception(
+          HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+    }
+  }
+
+  private ReaderResult getReaderResult() {
+    ReaderResult result = readerResultThreadLocal.get();
+    // If buffer exceeds limit, reset it
+    if (result.getBuffer() != null && result.getBuffer().capacity() > bufferReuseMaxSize) {
+      readerResultThreadLocal.remove();
+      result = readerResultThreadLocal.get();
+    }
+    result.clear();
+    return result;
+  }
+
+  // Key i is looked up in domain domainIds.get(i)
+  private List<HankResponse> _getBulk(List<Integer> domainIds, List<ByteBuffer> keys) throws ExecutionException, InterruptedException {
+    // Build and execute all get bulk tasks
+    List<HankResponse> responses = new ArrayList<HankResponse>(keys.size());
+    GetBulkTask[] tasks = new GetBulkTask[(keys.size() / getBulkTaskSize) + 1];
+    int maxTaskIndex = 0;
+    for (int i = 0; i < keys.size(); i += getBulkTaskSize) {
+      GetBulkTask task = new GetBulkTask(new GetBulkRunnable(domainIds, keys, i));
+      // No need to synchronize since the executor's execute() is thread-safe
+      getBulkTaskExecutor.execute(task);
+      tasks[maxTaskIndex++] = task;
+    }
+    // Wait for all get tasks and retrieve responses
+    for (int taskIndex = 0; taskIndex < maxTaskIndex; ++taskIndex) {
+      HankResponse[] taskResponses = tasks[taskIndex].getResponses();
+      for (HankResponse response : taskResponses) {
+        // Check if we have retrieved all responses
+        if (responses.size() == keys.size()) {
+          break;
+        } else {
+          responses.add(response);
+        }
+      }
+    }
+    return responses;
+  }
+
   private HankResponse _get(PartitionServerHandler partitionServerHandler, int domainId, ByteBuffer key, ReaderResult result) {
     DomainAccessor domainAccessor = partitionServerHandler.getDomainAccessor(domainId);
     if (domainAccessor == null) {
@@ -303,6 +633,100 @@ public class PartitionServerHandler implements IfaceWithShutdown {
     }
   }
 
+  // Each partition batches its own GETs. Null when GETs are not batched.
+  private static PartitionGetBatcher createGetBatcher(PartitionServerConfigurator configurator) {
+    if (configurator.getGetBatchWindowMicroseconds() <= 0 || configurator.getGetBatchMaxSize() < 2) {
+      return null;
+    }
+    return new PartitionGetBatcher(configurator.getGetBatchWindowMicroseconds(), configurator.getGetBatchMaxSize());
+  }
+
+  // Loads the Reader of a partition and checks its version. Loading threads do not update the coordinator,
+  // the outcome is reported with setLoaded() by the thread that starts or checks the handler.
+  private static class PartitionReaderLoader implements PartitionAccessor.ReaderLoader {
+
+    private final StorageEngine engine;
+    private final ReaderConfigurator readerConfigurator;
+    private final Domain domain;
+    private final HostDomainPartition partition;
+    private final DiskPartitionAssignment assignment;
+    private final PartitionAccessor[] partitionAccessors;
+    private final ReaderCacheSnapshots cacheSnapshots;
+
+    private PartitionReaderLoader(StorageEngine engine,
+                                  ReaderConfigurator readerConfigurator,
+                                  Domain domain,
+                                  HostDomainPartition partition,
+                                  DiskPartitionAssignment assignment,
+                                  PartitionAccessor[] partitionAccessors,
+                                  ReaderCacheSnapshots cacheSnapshots) {
+      this.engine = engine;
+      this.readerConfigurator = readerConfigurator;
+      this.domain = domain;
+      this.partition = partition;
+      this.assignment = assignment;
+      this.partitionAccessors = partitionAccessors;
+      this.cacheSnapshots = cacheSnapshots;
+    }
+
+    private PartitionAccessor getPartitionAccessor() {
+      return partitionAccessors[partition.getPartitionNumber()];
+    }
+
+    private void setPartitionAccessor(PartitionAccessor partitionAccessor) {
+      partitionAccessors[partition.getPartitionNumber()] = partitionAccessor;
+    }
+
+    @Override
+    public Reader load() throws IOException {
+      Reader reader;
+      try {
+        reader = engine.getReader(readerConfigurator, partition.getPartitionNumber(), assignment);
+      } catch (IOException | IllegalArgumentException e) {
+        // Something went wrong when loading this partition's Reader. Signal failure.
+        final String msg = String.format("Could not load Reader for partition #%d of domain %s because of an exception.",
+            partition.getPartitionNumber(), domain.getName());
+        LOG.error(msg, e);
+        throw new IOException(msg, e);
+      }
+      // Check that Reader's version number and current domain group version number match
+      if (reader.getVersionNumber() != null && !reader.getVersionNumber().equals(partition.getCurrentDomainVersion())) {
+        // Something went wrong when loading this partition's Reader. Signal failure.
+        final String msg = String.format("Could not load Reader for partition #%d of domain %s because version numbers reported by the Reader (%d) and by metadata (%d) differ.",
+            partition.getPartitionNumber(), domain.getName(), reader.getVersionNumber(), partition.getCurrentDomainVersion());
+        LOG.error(msg);
+        reader.close();
+        throw new IOException(msg);
+      }
+      LOG.info(String.format("Loaded Reader for domain %s, partition #%d",
+          domain.getName(), partition.getPartitionNumber()));
+      if (cacheSnapshots != null) {
+        cacheSnapshots.load(domain.getName(), partition.getPartitionNumber(), reader);
+      }
+      return reader;
+    }
+
+    // Partitions whose Reader failed to load are set deletable. If loading succeeded and the partition was
+    // deletable, it should not be.
+    private void setLoaded(boolean loaded) throws IOException {
+      if (partition.isDeletable() == loaded) {
+        partition.setDeletable(!loaded);
+      }
+    }
+  }
+
+  private static class ReaderLoadingThreadFactory implements ThreadFactory {
+
+    private int threadId = 0;
+
+    @Override
+    public synchronized Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "Reader Loading Thread " + threadId++);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
   private static class ReaderResultThreadLocal extends ThreadLocal<ReaderResult> {
 
     @Override
@@ -330,28 +754,66 @@ public class PartitionServerHandler implements IfaceWithShutdown {
 
   private class GetBulkRunnable implements Runnable {
 
-    private final int domainId;
+    private final List<Integer> domainIds;
     private final List<ByteBuffer> keys;
     private final int firstKeyIndex;
     private HankResponse[] responses;
 
     // Perform GET requests for keys starting at firstKeyIndex and in a window of size GET_BULK_TASK_SIZE
-    public GetBulkRunnable(int domainId, List<ByteBuffer> keys, int firstKeyIndex) {
-      this.domainId = domainId;
+    public GetBulkRunnable(List<Integer> domainIds, List<ByteBuffer> keys, int firstKeyIndex) {
+      this.domainIds = domainIds;
       this.keys = keys;
       this.firstKeyIndex = firstKeyIndex;
     }
 
     @Override
     public void run() {
-      ReaderResult result = readerResultThreadLocal.get();
-      result.clear();
       responses = new HankResponse[getBulkTaskSize];
-      // Perform GET requests for keys starting at firstKeyIndex up to GET_BULK_TASK_SIZE keys or until the last key
-      for (int keyOffset = 0; keyOffset < getBulkTaskSize
-          && (firstKeyIndex + keyOffset) < keys.size(); keyOffset++) {
-        HankResponse response =
-            _get(PartitionServerHandler.this, domainId, keys.get(firstKeyIndex + keyOffset), result);
+      int numKeys = Math.min(getBulkTaskSize, keys.size() - firstKeyIndex);
+      // Group keys starting at firstKeyIndex up to GET_BULK_TASK_SIZE keys or until the last key by domain, so that
+      // each partition reads its keys in a single batch. Keys of a bulk request are not batched with concurrent GETs.
+      Map<Integer, List<Integer>> domainIdToKeyOffsets = new TreeMap<Integer, List<Integer>>();
+      for (int keyOffset = 0; keyOffset < numKeys; ++keyOffset) {
+        int domainId = domainIds.get(firstKeyIndex + keyOffset);
+        List<Integer> keyOffsets = domainIdToKeyOffsets.get(domainId);
+        if (keyOffsets == null) {
+          keyOffsets = new ArrayList<Integer>();
+          domainIdToKeyOffsets.put(domainId, keyOffsets);
+        }
+        keyOffsets.add(keyOffset);
+      }
+      for (Map.Entry<Integer, List<Integer>> entry : domainIdToKeyOffsets.entrySet()) {
+        getBatch(entry.getKey(), entry.getValue());
+      }
+    }
+
+    private void getBatch(int domainId, List<Integer> keyOffsets) {
+      DomainAccessor domainAccessor = getDomainAccessor(domainId);
+      if (domainAccessor == null) {
+        for (int keyOffset : keyOffsets) {
+          responses[keyOffset] = NO_SUCH_DOMAIN;
+        }
+        return;
+      }
+      ByteBuffer[] batchKeys = new ByteBuffer[keyOffsets.size()];
+      ReaderResult[] batchResults = new ReaderResult[keyOffsets.size()];
+      for (int i = 0; i < keyOffsets.size(); ++i) {
+        batchKeys[i] = keys.get(firstKeyIndex + keyOffsets.get(i));
+        batchResults[i] = new ReaderResult();
+      }
+      HankResponse[] batchResponses;
+      try {
+        batchResponses = domainAccessor.getBatch(batchKeys, batchResults);
+      } catch (Throwable t) {
+        String errMsg = "Throwable during GET BULK";
+        LOG.error(errMsg, t);
+        HankResponse error = HankResponse.xception(
+            HankException.internal_error(errMsg + " " + (t.getMessage() != null ? t.getMessage() : "")));
+        batchResponses = new HankResponse[keyOffsets.size()];
+        Arrays.fill(batchResponses, error);
+      }
+      for (int i = 0; i < keyOffsets.size(); ++i) {
+        HankResponse response = batchResponses[i];
         // If a value was found, we have the choice to keep the buffer that was used to read the value, or do a deep
         // copy into the response. This decision is based on a size difference threshold.
         // This allows us to do bulk requests that are large even when the read buffer ends up being much larger
@@ -362,20 +824,12 @@ public class PartitionServerHandler implements IfaceWithShutdown {
           // If buffer used space is less than a threshold times its capacity, do a deep copy.
           if (((double)valueBuffer.limit())
               < (USED_SIZE_THRESHOLD_FOR_VALUE_BUFFER_DEEP_COPY * valueBuffer.capacity())) {
-            // Deep copy the value. Hence we can reuse the result buffer.
             response.set_value(BytesUtils.byteBufferDeepCopy(valueBuffer));
-            result.clear();
-          } else {
-            // Keep the ReaderResult's buffer in the response. Hence we need to create a new result buffer.
-            // Initialize it with the same capacity we had.
-            result = new ReaderResult(valueBuffer.capacity());
           }
         }
         // Store response
-        responses[keyOffset] = response;
+        responses[keyOffsets.get(i)] = response;
       }
-      // Update the thread local result buffer to point to the latest one used (which is valid for reuse)
-      readerResultThreadLocal.set(result);
     }
 
     public HankResponse[] getResponses() {
@@ -429,6 +883,10 @@ public class PartitionServerHandler implements IfaceWithShutdown {
       }
       // Set statistics
       Hosts.setRuntimeStatistics(host, runtimeStatisticsAggregators);
+      // Log wire compression statistics
+      if (wireCompressionStatistics.getNumMessages() > 0) {
+        LOG.info("Wire compression of responses: " + wireCompressionStatistics);
+      }
     }
 
     @Override
@@ -452,6 +910,16 @@ public class PartitionServerHandler implements IfaceWithShutdown {
     } catch (InterruptedException e) {
       LOG.info("Interrupted while waiting for update runtime statistics thread to terminate during shutdown.");
     }
+    // Stop prefetching Readers
+    readerLoadingExecutor.shutdownNow();
+    // Save Reader caches, before they are closed. The handler is shut down before updates as well.
+    if (cacheSnapshots != null) {
+      for (DomainAccessor domainAccessor : domainAccessors) {
+        if (domainAccessor != null) {
+          domainAccessor.saveCacheSnapshots(cacheSnapshots);
+        }
+      }
+    }
     // Shut down domain accessors
     for (DomainAccessor domainAccessor : domainAccessors) {
       if (domainAccessor != null) {
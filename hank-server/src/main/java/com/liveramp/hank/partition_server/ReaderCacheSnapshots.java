@@ -0,0 +1,106 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.partition_server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.liveramp.hank.storage.CacheSnapshotReader;
+import com.liveramp.hank.storage.Reader;
+
+/**
+ * Saves the caches of Readers that support it to one file per partition,
+ * and reloads them into the Readers that replace them after a restart or an
+ * update. The Readers decide which saved entries are still valid for their
+ * version. Caches are optional, so failures are logged and ignored.
+ *
+ * Snapshots are kept outside of the data directories since unknown files are
+ * deleted from there before updates.
+ */
+public class ReaderCacheSnapshots {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReaderCacheSnapshots.class);
+
+  private final File root;
+
+  public ReaderCacheSnapshots(String rootPath) {
+    this.root = new File(rootPath);
+  }
+
+  File getSnapshotFile(String domainName, int partitionNumber) {
+    return new File(root, domainName + "/" + partitionNumber + ".cache");
+  }
+
+  // The snapshot is written to a temporary file first, so that a crash never leaves a truncated snapshot behind
+  public void save(String domainName, int partitionNumber, Reader reader) {
+    if (!(reader instanceof CacheSnapshotReader)) {
+      return;
+    }
+    File file = getSnapshotFile(domainName, partitionNumber);
+    File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+    try {
+      if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+        throw new IOException("Failed to create directory " + file.getParentFile().getAbsolutePath());
+      }
+      DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+      try {
+        ((CacheSnapshotReader) reader).saveCache(outputStream);
+      } finally {
+        outputStream.close();
+      }
+      if (!tmpFile.renameTo(file)) {
+        throw new IOException("Failed to rename " + tmpFile.getAbsolutePath() + " to " + file.getAbsolutePath());
+      }
+      LOG.info(String.format("Saved cache of domain %s, partition #%d to %s",
+          domainName, partitionNumber, file.getAbsolutePath()));
+    } catch (IOException e) {
+      LOG.error(String.format("Failed to save cache of domain %s, partition #%d", domainName, partitionNumber), e);
+      tmpFile.delete();
+    }
+  }
+
+  public void load(String domainName, int partitionNumber, Reader reader) {
+    if (!(reader instanceof CacheSnapshotReader)) {
+      return;
+    }
+    File file = getSnapshotFile(domainName, partitionNumber);
+    if (!file.exists()) {
+      return;
+    }
+    try {
+      DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      try {
+        int numLoadedEntries = ((CacheSnapshotReader) reader).loadCache(inputStream);
+        LOG.info(String.format("Reloaded %d cache entries of domain %s, partition #%d from %s",
+            numLoadedEntries, domainName, partitionNumber, file.getAbsolutePath()));
+      } finally {
+        inputStream.close();
+      }
+    } catch (IOException e) {
+      LOG.error(String.format("Failed to reload cache of domain %s, partition #%d", domainName, partitionNumber), e);
+    }
+  }
+}
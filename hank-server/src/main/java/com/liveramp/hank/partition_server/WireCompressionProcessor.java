@@ -0,0 +1,65 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.partition_server;
+
+import java.util.Collection;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+
+import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.util.ThreadLocalBufferedTransport;
+import com.liveramp.hank.util.WireCompression;
+
+/**
+ * Strips the accept header that clients which negotiated wire compression put
+ * in front of their requests, and has the response compressed with the
+ * accepted codec if the server supports it. Requests without the header are
+ * processed as usual and their responses are never compressed.
+ */
+class WireCompressionProcessor implements TProcessor {
+
+  private static final byte[] EMPTY_BUFFER = new byte[0];
+
+  private final TProcessor processor;
+  private final Collection<CompressionCodec> supportedCodecs;
+
+  WireCompressionProcessor(TProcessor processor, Collection<CompressionCodec> supportedCodecs) {
+    this.processor = processor;
+    this.supportedCodecs = supportedCodecs;
+  }
+
+  @Override
+  public boolean process(TProtocol in, TProtocol out) throws TException {
+    TTransport inputTransport = in.getTransport();
+    // Framed transports read the next frame on an empty read, which makes the start of the request visible
+    if (inputTransport.getBytesRemainingInBuffer() == 0) {
+      inputTransport.read(EMPTY_BUFFER, 0, 0);
+    }
+    if (inputTransport.getBytesRemainingInBuffer() >= WireCompression.ACCEPT_CODEC_HEADER_SIZE
+        && inputTransport.getBuffer()[inputTransport.getBufferPosition()] == WireCompression.ACCEPT_CODEC_MARKER) {
+      CompressionCodec codec = WireCompression.getCodec(inputTransport.getBuffer()[inputTransport.getBufferPosition() + 1]);
+      inputTransport.consumeBuffer(WireCompression.ACCEPT_CODEC_HEADER_SIZE);
+      if (codec != null && supportedCodecs.contains(codec) && out.getTransport() instanceof ThreadLocalBufferedTransport) {
+        ((ThreadLocalBufferedTransport)out.getTransport()).setCompressionCodec(codec);
+      }
+    }
+    return processor.process(in, out);
+  }
+}
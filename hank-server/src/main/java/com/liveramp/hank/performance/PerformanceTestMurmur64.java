@@ -0,0 +1,125 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.performance;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import com.liveramp.hank.hasher.Murmur64Hasher;
+import com.liveramp.hank.util.HankTimer;
+
+// Compares hashing keys of various sizes byte by byte from an array with hashing
+// them 8 bytes at a time from heap, direct and read-only buffers.
+public class PerformanceTestMurmur64 {
+
+  private static final int[] KEY_SIZES = {8, 16, 32, 64, 128, 512, 4096};
+  private static final int NUM_KEYS = 1024;
+  private static final int NUM_WARMUP_ROUNDS = 5;
+  private static final int NUM_ROUNDS = 10;
+  private static final int SEED = 645568;
+
+  private static abstract class Variant {
+
+    private final String name;
+
+    private Variant(String name) {
+      this.name = name;
+    }
+
+    abstract long hash(byte[] key, ByteBuffer heapKey, ByteBuffer directKey, ByteBuffer readOnlyKey);
+  }
+
+  private static final Variant[] VARIANTS = {
+      new Variant("byte[] (byte at a time)") {
+        @Override
+        long hash(byte[] key, ByteBuffer heapKey, ByteBuffer directKey, ByteBuffer readOnlyKey) {
+          return Murmur64Hasher.murmurHash64(key, 0, key.length, SEED);
+        }
+      },
+      new Variant("heap ByteBuffer") {
+        @Override
+        long hash(byte[] key, ByteBuffer heapKey, ByteBuffer directKey, ByteBuffer readOnlyKey) {
+          return Murmur64Hasher.murmurHash64(heapKey, SEED);
+        }
+      },
+      new Variant("direct ByteBuffer") {
+        @Override
+        long hash(byte[] key, ByteBuffer heapKey, ByteBuffer directKey, ByteBuffer readOnlyKey) {
+          return Murmur64Hasher.murmurHash64(directKey, SEED);
+        }
+      },
+      new Variant("read-only ByteBuffer") {
+        @Override
+        long hash(byte[] key, ByteBuffer heapKey, ByteBuffer directKey, ByteBuffer readOnlyKey) {
+          return Murmur64Hasher.murmurHash64(readOnlyKey, SEED);
+        }
+      },
+  };
+
+  private static long run(Variant variant,
+                          byte[][] keys,
+                          ByteBuffer[] heapKeys,
+                          ByteBuffer[] directKeys,
+                          ByteBuffer[] readOnlyKeys,
+                          int numIterations) {
+    long result = 0;
+    for (int iteration = 0; iteration < numIterations; ++iteration) {
+      for (int i = 0; i < keys.length; ++i) {
+        result += variant.hash(keys[i], heapKeys[i], directKeys[i], readOnlyKeys[i]);
+      }
+    }
+    return result;
+  }
+
+  public static void main(String[] args) {
+    // Number of hashes per key size and variant, per round
+    long numHashesPerRound = args.length > 0 ? Long.valueOf(args[0]) : 10000000L;
+    Random random = new Random(0);
+    long checksum = 0;
+    for (int keySize : KEY_SIZES) {
+      byte[][] keys = new byte[NUM_KEYS][];
+      ByteBuffer[] heapKeys = new ByteBuffer[NUM_KEYS];
+      ByteBuffer[] directKeys = new ByteBuffer[NUM_KEYS];
+      ByteBuffer[] readOnlyKeys = new ByteBuffer[NUM_KEYS];
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = new byte[keySize];
+        random.nextBytes(keys[i]);
+        heapKeys[i] = ByteBuffer.wrap(keys[i]);
+        directKeys[i] = ByteBuffer.allocateDirect(keySize);
+        directKeys[i].put(keys[i]);
+        directKeys[i].flip();
+        readOnlyKeys[i] = heapKeys[i].asReadOnlyBuffer();
+      }
+      int numIterations = (int)Math.max(1, Math.min(Integer.MAX_VALUE, numHashesPerRound / NUM_KEYS * 8 / keySize));
+      long numHashes = (long)numIterations * NUM_KEYS;
+      for (Variant variant : VARIANTS) {
+        for (int round = 0; round < NUM_WARMUP_ROUNDS; ++round) {
+          checksum += run(variant, keys, heapKeys, directKeys, readOnlyKeys, numIterations);
+        }
+        HankTimer timer = new HankTimer();
+        for (int round = 0; round < NUM_ROUNDS; ++round) {
+          checksum += run(variant, keys, heapKeys, directKeys, readOnlyKeys, numIterations);
+        }
+        double nanosPerHash = (double)timer.getDuration() / (NUM_ROUNDS * numHashes);
+        System.out.println(String.format("Key size %5d bytes, %-24s: %8.2f ns/hash, %8.2f MB/s",
+            keySize, variant.name, nanosPerHash, keySize / nanosPerHash * 1000000000d / (1 << 20)));
+      }
+    }
+    // Print the checksum so that hashes cannot be optimized away
+    System.out.println("Checksum: " + checksum);
+  }
+}
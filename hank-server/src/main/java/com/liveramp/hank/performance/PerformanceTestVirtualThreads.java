@@ -0,0 +1,267 @@
+/**
+ *  Copyright 2013 LiveRamp
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.liveramp.hank.performance;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.liveramp.hank.config.InvalidConfigurationException;
+import com.liveramp.hank.config.PartitionServerConfigurator;
+import com.liveramp.hank.config.ReaderConfigurator;
+import com.liveramp.hank.config.yaml.YamlPartitionServerConfigurator;
+import com.liveramp.hank.coordinator.Coordinator;
+import com.liveramp.hank.coordinator.Domain;
+import com.liveramp.hank.coordinator.DomainAndVersion;
+import com.liveramp.hank.coordinator.Host;
+import com.liveramp.hank.coordinator.HostDomain;
+import com.liveramp.hank.coordinator.PartitionServerAddress;
+import com.liveramp.hank.coordinator.Ring;
+import com.liveramp.hank.coordinator.RingGroup;
+import com.liveramp.hank.coordinator.mock.MockCoordinator;
+import com.liveramp.hank.coordinator.mock.MockDomain;
+import com.liveramp.hank.coordinator.mock.MockDomainGroup;
+import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.partition_server.DiskPartitionAssignment;
+import com.liveramp.hank.partition_server.PartitionServerHandler;
+import com.liveramp.hank.partitioner.Murmur64Partitioner;
+import com.liveramp.hank.storage.Reader;
+import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.mock.MockReader;
+import com.liveramp.hank.storage.mock.MockStorageEngine;
+import com.liveramp.hank.test.coordinator.MockHost;
+import com.liveramp.hank.test.coordinator.MockHostDomain;
+import com.liveramp.hank.test.coordinator.MockRing;
+import com.liveramp.hank.test.coordinator.MockRingGroup;
+import com.liveramp.hank.util.HankTimer;
+import com.liveramp.hank.util.VirtualThreads;
+
+/**
+ * Compares a thread pool with virtual threads bounded by a semaphore, the
+ * two execution modes of the partition server, on GET BULK requests served
+ * by a partition server handler on a cold cache. Requests go through the
+ * regular handler path, which splits them into GET BULK tasks, and each
+ * key read blocks for a given latency, as a read that misses the page cache
+ * would.
+ *
+ * Usage: num_requests num_keys_per_request io_latency_us concurrency...
+ *
+ * Each concurrency is used both as the number of GET BULK task threads and
+ * as the number of semaphore permits. Requests are sent by as many clients
+ * at a time. Virtual threads require Java 21 or later.
+ */
+public class PerformanceTestVirtualThreads {
+
+  private static final String RING_GROUP_NAME = "ringGroup";
+  private static final int NUM_PARTITIONS = 16;
+  private static final int GET_BULK_TASK_SIZE = 4;
+  private static final byte[] VALUE = new byte[100];
+
+  public static void main(String[] args) throws Exception {
+    int numRequests = Integer.valueOf(args[0]);
+    int numKeysPerRequest = Integer.valueOf(args[1]);
+    long ioLatencyNanos = TimeUnit.MICROSECONDS.toNanos(Integer.valueOf(args[2]));
+    for (int i = 3; i < args.length; ++i) {
+      int concurrency = Integer.valueOf(args[i]);
+      run("Thread pool", false, concurrency, numRequests, numKeysPerRequest, ioLatencyNanos);
+      if (VirtualThreads.isSupported()) {
+        run("Virtual threads", true, concurrency, numRequests, numKeysPerRequest, ioLatencyNanos);
+      } else {
+        System.out.println("Virtual threads are not supported by Java " + System.getProperty("java.version"));
+      }
+    }
+  }
+
+  private static void run(String name,
+                          boolean virtualThreadsEnabled,
+                          int concurrency,
+                          int numRequests,
+                          int numKeysPerRequest,
+                          long ioLatencyNanos) throws IOException, InterruptedException, ExecutionException, InvalidConfigurationException {
+    PartitionServerAddress address = new PartitionServerAddress("localhost", 12345);
+    PartitionServerHandler handler = new PartitionServerHandler(address,
+        getConfigurator(virtualThreadsEnabled, concurrency), getCoordinator(address, ioLatencyNanos));
+    ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    try {
+      List<Future<Long>> futures = new ArrayList<Future<Long>>(numRequests);
+      HankTimer timer = new HankTimer();
+      for (int i = 0; i < numRequests; ++i) {
+        futures.add(clients.submit(new GetBulkRequest(handler, i, numKeysPerRequest)));
+      }
+      long[] latenciesNanos = new long[numRequests];
+      for (int i = 0; i < numRequests; ++i) {
+        latenciesNanos[i] = futures.get(i).get();
+      }
+      double elapsedSecs = timer.getDuration() / 1000000000.0;
+
+      Arrays.sort(latenciesNanos);
+      System.out.println(String.format("%s, concurrency %d: %.2f keys/sec, request latency p50 %.2fms, p99 %.2fms, max %.2fms",
+          name,
+          concurrency,
+          (long) numRequests * numKeysPerRequest / elapsedSecs,
+          latenciesNanos[numRequests / 2] / 1000000.0,
+          latenciesNanos[(int) (numRequests * 0.99)] / 1000000.0,
+          latenciesNanos[numRequests - 1] / 1000000.0));
+    } finally {
+      clients.shutdown();
+      clients.awaitTermination(1, TimeUnit.MINUTES);
+      handler.shutDown();
+    }
+  }
+
+  // Same configuration as a partition server, written to a temporary file
+  private static PartitionServerConfigurator getConfigurator(boolean virtualThreadsEnabled,
+                                                             int concurrency) throws IOException, InvalidConfigurationException {
+    File dataDirectory = File.createTempFile("hank-performance", "");
+    dataDirectory.delete();
+    dataDirectory.mkdirs();
+    dataDirectory.deleteOnExit();
+    File configFile = File.createTempFile("hank-performance", ".yaml");
+    configFile.deleteOnExit();
+    PrintWriter pw = new PrintWriter(new FileWriter(configFile));
+    pw.println("partition_server:");
+    pw.println("  local_data_dirs:");
+    pw.println("    - " + dataDirectory.getAbsolutePath());
+    pw.println("  service_port: 12345");
+    pw.println("  ring_group_name: " + RING_GROUP_NAME);
+    pw.println("  partition_server_daemon:");
+    pw.println("    num_concurrent_queries: " + concurrency);
+    pw.println("    num_concurrent_get_bulk_tasks: " + concurrency);
+    pw.println("    get_bulk_task_size: " + GET_BULK_TASK_SIZE);
+    pw.println("    get_timer_aggregator_window: 1000");
+    pw.println("    buffer_reuse_max_size: 1024");
+    pw.println("    cache_num_bytes_capacity: 0");
+    pw.println("    cache_num_items_capacity: 0");
+    pw.println("    virtual_threads_enabled: " + virtualThreadsEnabled);
+    pw.println("  update_daemon:");
+    pw.println("    num_concurrent_updates: 1");
+    pw.println("    max_concurrent_updates_per_data_directory: 1");
+    pw.println("coordinator:");
+    pw.println("  factory: " + MockCoordinator.Factory.class.getName());
+    pw.println("  options:");
+    pw.println("    unused: unused");
+    pw.close();
+    return new YamlPartitionServerConfigurator(configFile.getAbsolutePath());
+  }
+
+  // A single domain whose partitions are all served by the given host, and whose readers block on every read
+  private static Coordinator getCoordinator(PartitionServerAddress address, final long ioLatencyNanos) {
+    MockStorageEngine storageEngine = new MockStorageEngine() {
+      @Override
+      public Reader getReader(ReaderConfigurator configurator, int partitionNumber, DiskPartitionAssignment assignment) {
+        return new BlockingReader(configurator, partitionNumber, ioLatencyNanos);
+      }
+    };
+    final Domain domain = new MockDomain("domain", 0, NUM_PARTITIONS, new Murmur64Partitioner(), storageEngine, null, null);
+    final int[] partitionNumberAndVersionPairs = new int[2 * NUM_PARTITIONS];
+    for (int partition = 0; partition < NUM_PARTITIONS; ++partition) {
+      partitionNumberAndVersionPairs[2 * partition] = partition;
+      partitionNumberAndVersionPairs[2 * partition + 1] = 1;
+    }
+    final Host host = new MockHost(address) {
+      @Override
+      public HostDomain getHostDomain(Domain requestedDomain) {
+        return new MockHostDomain(domain, partitionNumberAndVersionPairs);
+      }
+    };
+    final MockDomainGroup domainGroup = new MockDomainGroup("domainGroup") {
+      @Override
+      public Set<DomainAndVersion> getDomainVersions() {
+        Set<DomainAndVersion> result = new HashSet<DomainAndVersion>();
+        result.add(new DomainAndVersion(domain, 1));
+        return result;
+      }
+    };
+    final Ring ring = new MockRing(null, new MockRingGroup(domainGroup, RING_GROUP_NAME, null), 1) {
+      @Override
+      public Host getHostByAddress(PartitionServerAddress hostAddress) {
+        return host;
+      }
+    };
+    return new MockCoordinator() {
+      @Override
+      public RingGroup getRingGroup(String ringGroupName) {
+        return new MockRingGroup(domainGroup, RING_GROUP_NAME, null) {
+          @Override
+          public Ring getRingForHost(PartitionServerAddress hostAddress) {
+            return ring;
+          }
+        };
+      }
+    };
+  }
+
+  // Returns its latency, from submission to completion
+  private static class GetBulkRequest implements Callable<Long> {
+
+    private final PartitionServerHandler handler;
+    private final List<ByteBuffer> keys;
+    private final HankTimer timer = new HankTimer();
+
+    private GetBulkRequest(PartitionServerHandler handler, int requestIndex, int numKeys) {
+      this.handler = handler;
+      this.keys = new ArrayList<ByteBuffer>(numKeys);
+      for (int i = 0; i < numKeys; ++i) {
+        ByteBuffer key = ByteBuffer.allocate(8);
+        key.putInt(requestIndex).putInt(i).flip();
+        keys.add(key);
+      }
+    }
+
+    @Override
+    public Long call() throws IOException {
+      HankBulkResponse response = handler.getBulk(0, keys);
+      if (!response.is_set_responses()) {
+        throw new IOException("GET BULK failed: " + response);
+      }
+      return timer.getDuration();
+    }
+  }
+
+  private static class BlockingReader extends MockReader {
+
+    private final long ioLatencyNanos;
+
+    private BlockingReader(ReaderConfigurator configurator, int partitionNumber, long ioLatencyNanos) {
+      super(configurator, partitionNumber, VALUE, null);
+      this.ioLatencyNanos = ioLatencyNanos;
+    }
+
+    @Override
+    public void get(ByteBuffer key, ReaderResult result) throws IOException {
+      try {
+        TimeUnit.NANOSECONDS.sleep(ioLatencyNanos);
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+      super.get(key, result);
+    }
+  }
+}
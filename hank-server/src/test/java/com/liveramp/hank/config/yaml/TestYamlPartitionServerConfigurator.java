@@ -17,16 +17,19 @@ package com.liveramp.hank.config.yaml;
 
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 
 import org.junit.Test;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.coordinator.mock.MockCoordinator;
 import com.liveramp.hank.test.BaseTestCase;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 public class TestYamlPartitionServerConfigurator extends BaseTestCase {
   private final String configPath = localTmpDir + "/config.yml";
@@ -47,6 +50,18 @@ public class TestYamlPartitionServerConfigurator extends BaseTestCase {
     pw.println("    buffer_reuse_max_size: 1024");
     pw.println("    cache_num_bytes_capacity: 1000000");
     pw.println("    cache_num_items_capacity: 2000");
+    pw.println("    wire_compression_codecs:");
+    pw.println("      - snappy");
+    pw.println("      - deflate");
+    pw.println("    scan_max_bytes_per_second: 1048576");
+    pw.println("    key_sample_period: 10");
+    pw.println("    warmup_key_sample_path: /path/to/key/sample");
+    pw.println("    warmup_target_hit_rate: 0.5");
+    pw.println("    lazy_reader_loading: true");
+    pw.println("    cache_snapshot_path: /path/to/cache/snapshots");
+    pw.println("    unix_domain_socket_path: /path/to/partition_server.sock");
+    pw.println("    virtual_threads_enabled: true");
+    pw.println("    get_batch_window_microseconds: 50");
     pw.println("  update_daemon:");
     pw.println("    num_concurrent_updates: 5");
     pw.println("    max_concurrent_updates_per_data_directory: 2");
@@ -68,6 +83,21 @@ public class TestYamlPartitionServerConfigurator extends BaseTestCase {
     assertEquals(1024, conf.getBufferReuseMaxSize());
     assertEquals(1000000, conf.getCacheNumBytesCapacity());
     assertEquals(2000, conf.getCacheNumItemsCapacity());
+    assertEquals(Arrays.asList(CompressionCodec.SNAPPY, CompressionCodec.DEFLATE), conf.getWireCompressionCodecs());
+    assertEquals(YamlPartitionServerConfigurator.DEFAULT_WIRE_COMPRESSION_THRESHOLD, conf.getWireCompressionThreshold());
+    assertEquals(1048576, conf.getScanMaxBytesPerSecond());
+    assertEquals(YamlPartitionServerConfigurator.DEFAULT_SCAN_MAX_NUM_RECORDS, conf.getScanMaxNumRecords());
+    assertEquals(YamlPartitionServerConfigurator.DEFAULT_SCAN_MAX_NUM_BYTES, conf.getScanMaxNumBytes());
+    assertEquals(10, conf.getKeySamplePeriod());
+    assertEquals("/path/to/key/sample", conf.getWarmupKeySamplePath());
+    assertEquals(0.5, conf.getWarmupTargetHitRate(), 0.0);
+    assertEquals(YamlPartitionServerConfigurator.DEFAULT_NUM_CONCURRENT_READER_LOADS, conf.getNumConcurrentReaderLoads());
+    assertTrue(conf.getLazyReaderLoading());
+    assertEquals("/path/to/cache/snapshots", conf.getCacheSnapshotPath());
+    assertEquals("/path/to/partition_server.sock", conf.getUnixDomainSocketPath());
+    assertTrue(conf.getVirtualThreadsEnabled());
+    assertEquals(50, conf.getGetBatchWindowMicroseconds());
+    assertEquals(YamlPartitionServerConfigurator.DEFAULT_GET_BATCH_MAX_SIZE, conf.getGetBatchMaxSize());
 
     Map<String, String> flags = conf.getEnvironmentFlags();
     assertNotEquals("", flags.get("PATH"));
@@ -16,11 +16,13 @@
 package com.liveramp.hank.partition_server;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.Maps;
 
+import com.liveramp.hank.compression.CompressionCodec;
 import com.liveramp.hank.config.PartitionServerConfigurator;
 import com.liveramp.hank.config.ReaderConfigurator;
 import com.liveramp.hank.coordinator.Coordinator;
@@ -93,6 +95,91 @@ public class MockPartitionServerConfigurator implements PartitionServerConfigura
     return Maps.newHashMap();
   }
 
+  @Override
+  public List<CompressionCodec> getWireCompressionCodecs() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public int getWireCompressionThreshold() {
+    return 0;
+  }
+
+  @Override
+  public int getScanMaxBytesPerSecond() {
+    return 0;
+  }
+
+  @Override
+  public int getScanMaxNumRecords() {
+    return 1000;
+  }
+
+  @Override
+  public int getScanMaxNumBytes() {
+    return 4 << 20;
+  }
+
+  @Override
+  public String getWarmupKeySamplePath() {
+    return null;
+  }
+
+  @Override
+  public int getKeySamplePeriod() {
+    return 1;
+  }
+
+  @Override
+  public int getWarmupKeySampleMaxNumKeys() {
+    return 0;
+  }
+
+  @Override
+  public int getWarmupMaxDurationMs() {
+    return 0;
+  }
+
+  @Override
+  public double getWarmupTargetHitRate() {
+    return 0;
+  }
+
+  @Override
+  public int getNumConcurrentReaderLoads() {
+    return 1;
+  }
+
+  @Override
+  public boolean getLazyReaderLoading() {
+    return false;
+  }
+
+  @Override
+  public String getCacheSnapshotPath() {
+    return null;
+  }
+
+  @Override
+  public String getUnixDomainSocketPath() {
+    return null;
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return false;
+  }
+
+  @Override
+  public int getGetBatchWindowMicroseconds() {
+    return 0;
+  }
+
+  @Override
+  public int getGetBatchMaxSize() {
+    return 0;
+  }
+
   @Override
   public int getBufferReuseMaxSize() {
     return 0;
@@ -5,11 +5,25 @@ import com.liveramp.hank.test.coordinator.MockHostDomain;
 import com.liveramp.hank.test.coordinator.MockHostDomainPartition;
 import com.liveramp.hank.coordinator.mock.MockDomain;
 import com.liveramp.hank.test.partitioner.MapPartitioner;
+import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.storage.CacheStatistics;
+import com.liveramp.hank.storage.HashedKeyReader;
+import com.liveramp.hank.storage.RangeReader;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 import com.liveramp.hank.storage.mock.MockReader;
+import com.google.common.util.concurrent.RateLimiter;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TestDomainAccessor extends BaseTestCase {
   @Test
@@ -29,4 +43,180 @@ public class TestDomainAccessor extends BaseTestCase {
     drs.get(key, new ReaderResult());
     drs.get(nullKey, new ReaderResult());
   }
+
+  @Test
+  public void testHeavyHitters() throws Exception {
+    PartitionAccessor partitionAccessors[] = new PartitionAccessor[2];
+    ByteBuffer hotKey = ByteBuffer.wrap("hotKey".getBytes());
+    ByteBuffer coldKey = ByteBuffer.wrap("coldKey".getBytes());
+    partitionAccessors[1] = new PartitionAccessor(new MockHostDomainPartition(1, 1),
+        new MockReader(null, 1, "v".getBytes(), null) {
+          @Override
+          public CacheStatistics getCacheStatistics() {
+            return new CacheStatistics(0, 0, 0, 0);
+          }
+        });
+    // Every request is sampled, for both hot keys and warmup
+    KeySampler keySampler = new KeySampler(new File(localTmpDir, "key_sample"), 10);
+    DomainAccessor drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(hotKey, 1, coldKey, 1), 0, 1, keySampler);
+
+    for (int i = 0; i < 3; ++i) {
+      drs.get(hotKey, new ReaderResult());
+    }
+    drs.get(coldKey, new ReaderResult());
+
+    HeavyHittersAggregator heavyHitters = drs.getRuntimeStatistics().getHeavyHitters();
+    assertEquals(2, heavyHitters.getHotKeys().size());
+    assertTrue(heavyHitters.getHotKeys().get(0).getThroughput() > heavyHitters.getHotKeys().get(1).getThroughput());
+    assertEquals(1, heavyHitters.getHotPartitions().size());
+    assertEquals("1", heavyHitters.getHotPartitions().get(0).getId());
+
+    keySampler.flush();
+    List<KeySampler.SampledKey> sampledKeys = KeySampler.load(keySampler.getFile());
+    assertEquals(2, sampledKeys.size());
+    assertEquals(hotKey, sampledKeys.get(0).getKey());
+    assertEquals(3, sampledKeys.get(0).getCount());
+    assertEquals(coldKey, sampledKeys.get(1).getKey());
+  }
+
+  @Test
+  public void testScanLimits() throws Exception {
+    PartitionAccessor partitionAccessors[] = new PartitionAccessor[1];
+    partitionAccessors[0] = new PartitionAccessor(new MockHostDomainPartition(0, 1), new ScanMockReader(10, 100));
+    DomainAccessor drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(), 0);
+
+    // Records of 101 bytes (key hash and value)
+    HankScanRecords records = drs.scan(0, null, 10, 10000, null).get_records();
+    assertEquals(10, records.get_records().size());
+    assertTrue(records.is_end_of_partition());
+
+    // Limited number of bytes
+    records = drs.scan(0, null, 10, 250, null).get_records();
+    assertEquals(2, records.get_records().size());
+    assertFalse(records.is_end_of_partition());
+
+    // First record is returned even when it is too large
+    records = drs.scan(0, null, 10, 50, null).get_records();
+    assertEquals(1, records.get_records().size());
+    assertFalse(records.is_end_of_partition());
+
+    // Throttled scans return early instead of waiting
+    RateLimiter rateLimiter = RateLimiter.create(1);
+    rateLimiter.acquire(1000);
+    records = drs.scan(0, null, 10, 10000, rateLimiter).get_records();
+    assertEquals(0, records.get_records().size());
+    assertFalse(records.is_end_of_partition());
+  }
+
+  @Test
+  public void testGetHashed() throws Exception {
+    ByteBuffer hashedKey = ByteBuffer.wrap("hashedKey".getBytes());
+    PartitionAccessor partitionAccessors[] = new PartitionAccessor[2];
+    partitionAccessors[1] = new PartitionAccessor(new MockHostDomainPartition(1, 1), new HashedMockReader());
+    DomainAccessor drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(), 0);
+
+    assertEquals(HankResponse.value(ByteBuffer.wrap("v".getBytes())), drs.getHashed(1, hashedKey, new ReaderResult()));
+    // Partitions that are not served
+    HankResponse response = drs.getHashed(0, hashedKey, new ReaderResult());
+    assertTrue(response.is_set_xception() && response.get_xception().is_set_wrong_host());
+
+    // Readers that cannot look up hashed keys refuse them, so that clients send keys instead
+    partitionAccessors[1] = new PartitionAccessor(new MockHostDomainPartition(1, 1),
+        new MockReader(null, 1, "v".getBytes(), null));
+    drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(), 0);
+    response = drs.getHashed(1, hashedKey, new ReaderResult());
+    assertTrue(response.is_set_xception() && response.get_xception().is_set_not_supported());
+  }
+
+  @Test
+  public void testGetRange() throws Exception {
+    ByteBuffer key = ByteBuffer.wrap("key".getBytes());
+    PartitionAccessor partitionAccessors[] = new PartitionAccessor[1];
+    partitionAccessors[0] = new PartitionAccessor(new MockHostDomainPartition(0, 1), new RangeMockReader(true, 3));
+    DomainAccessor drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(key, 0), 0);
+
+    assertEquals(HankResponse.value(ByteBuffer.wrap("al".getBytes())), drs.getRange(key, 1, 2, 3, new ReaderResult()));
+    // Any version
+    assertEquals(HankResponse.value(ByteBuffer.wrap("ue".getBytes())), drs.getRange(key, 3, 10, -1, new ReaderResult()));
+    // Another version
+    HankResponse response = drs.getRange(key, 1, 2, 2, new ReaderResult());
+    assertTrue(response.is_set_xception() && response.get_xception().is_set_internal_error());
+
+    // Readers that read whole values refuse ranges
+    partitionAccessors[0] = new PartitionAccessor(new MockHostDomainPartition(0, 1), new RangeMockReader(false, 3));
+    drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(key, 0), 0);
+    response = drs.getRange(key, 1, 2, 3, new ReaderResult());
+    assertTrue(response.is_set_xception() && response.get_xception().is_set_not_supported());
+
+    // Readers that cannot read ranges refuse them
+    partitionAccessors[0] = new PartitionAccessor(new MockHostDomainPartition(0, 1),
+        new MockReader(null, 0, "value".getBytes(), 3));
+    drs = new DomainAccessor(new MockHostDomain(new MockDomain("domain")), partitionAccessors,
+        new MapPartitioner(key, 0), 0);
+    response = drs.getRange(key, 1, 2, 3, new ReaderResult());
+    assertTrue(response.is_set_xception() && response.get_xception().is_set_not_supported());
+  }
+
+  private static class HashedMockReader extends MockReader implements HashedKeyReader {
+
+    private HashedMockReader() {
+      super(null, 1, "v".getBytes(), null);
+    }
+
+    @Override
+    public void getHashed(ByteBuffer hashedKey, ReaderResult result) throws IOException {
+      get(hashedKey, result);
+    }
+  }
+
+  private static class RangeMockReader extends MockReader implements RangeReader {
+
+    private final boolean readsPartialValues;
+
+    private RangeMockReader(boolean readsPartialValues, int versionNumber) {
+      super(null, 0, "value".getBytes(), versionNumber);
+      this.readsPartialValues = readsPartialValues;
+    }
+
+    @Override
+    public void getRange(ByteBuffer key, int offset, int length, ReaderResult result) throws IOException {
+      get(key, result);
+      result.restrictToRange(offset, length);
+    }
+
+    @Override
+    public boolean readsPartialValues() {
+      return readsPartialValues;
+    }
+  }
+
+  private static class ScanMockReader extends MockReader implements ScanReader {
+
+    private final int numRecords;
+    private final int valueSize;
+
+    private ScanMockReader(int numRecords, int valueSize) {
+      super(null, 0, new byte[0], null);
+      this.numRecords = numRecords;
+      this.valueSize = valueSize;
+    }
+
+    @Override
+    public boolean scan(ByteBuffer afterKeyHash, int maxNumRecords, ReadPermits readPermits, RecordVisitor visitor) throws IOException {
+      for (int i = 0; i < numRecords; ++i) {
+        if (i == maxNumRecords
+            || (readPermits != null && !readPermits.tryAcquire(1 + valueSize))
+            || !visitor.visit(ByteBuffer.wrap(new byte[]{(byte)i}), ByteBuffer.wrap(new byte[valueSize]))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
 }
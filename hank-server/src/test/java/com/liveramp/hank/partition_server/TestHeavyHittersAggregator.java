@@ -0,0 +1,49 @@
+package com.liveramp.hank.partition_server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHeavyHittersAggregator extends BaseTestCase {
+
+  @Test
+  public void testToStringAndParse() {
+    HeavyHittersAggregator heavyHitters = new HeavyHittersAggregator(
+        Arrays.asList(new HeavyHittersAggregator.HeavyHitter("0a1b2c3d4e5f6a7b", 12.5)),
+        Arrays.asList(new HeavyHittersAggregator.HeavyHitter("3", 100.0), new HeavyHittersAggregator.HeavyHitter("7", 20.0)));
+    HeavyHittersAggregator parsed = HeavyHittersAggregator.parse(HeavyHittersAggregator.toString(heavyHitters));
+    assertEquals(1, parsed.getHotKeys().size());
+    assertEquals("0a1b2c3d4e5f6a7b", parsed.getHotKeys().get(0).getId());
+    assertEquals(12.5, parsed.getHotKeys().get(0).getThroughput(), 0.0);
+    assertEquals(2, parsed.getHotPartitions().size());
+    assertEquals("7", parsed.getHotPartitions().get(1).getId());
+
+    HeavyHittersAggregator empty = HeavyHittersAggregator.parse(HeavyHittersAggregator.toString(new HeavyHittersAggregator()));
+    assertTrue(empty.getHotKeys().isEmpty());
+    assertTrue(empty.getHotPartitions().isEmpty());
+  }
+
+  @Test
+  public void testCombine() {
+    HeavyHittersAggregator host1 = new HeavyHittersAggregator(
+        Arrays.asList(new HeavyHittersAggregator.HeavyHitter("aa", 10.0), new HeavyHittersAggregator.HeavyHitter("bb", 8.0)),
+        Collections.<HeavyHittersAggregator.HeavyHitter>emptyList());
+    HeavyHittersAggregator host2 = new HeavyHittersAggregator(
+        Arrays.asList(new HeavyHittersAggregator.HeavyHitter("bb", 5.0)),
+        Arrays.asList(new HeavyHittersAggregator.HeavyHitter("1", 3.0)));
+    HeavyHittersAggregator combined = HeavyHittersAggregator.combine(Arrays.asList(host1, host2));
+    List<HeavyHittersAggregator.HeavyHitter> hotKeys = combined.getHotKeys();
+    assertEquals(2, hotKeys.size());
+    assertEquals("bb", hotKeys.get(0).getId());
+    assertEquals(13.0, hotKeys.get(0).getThroughput(), 0.0);
+    assertEquals("aa", hotKeys.get(1).getId());
+    assertEquals(1, combined.getHotPartitions().size());
+  }
+}
@@ -0,0 +1,84 @@
+package com.liveramp.hank.partition_server;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestKeySampler extends BaseTestCase {
+
+  private static final ByteBuffer KEY_1 = ByteBuffer.wrap(new byte[]{1});
+  private static final ByteBuffer KEY_2 = ByteBuffer.wrap(new byte[]{2});
+  private static final ByteBuffer KEY_3 = ByteBuffer.wrap(new byte[]{3});
+
+  @Test
+  public void testSampleAndLoad() throws Exception {
+    File file = new File(localTmpDir, "key_sample");
+    // Nothing persisted yet
+    assertEquals(0, KeySampler.load(file).size());
+
+    KeySampler keySampler = new KeySampler(file, 2);
+    keySampler.add(0, KEY_1);
+    keySampler.add(1, KEY_2);
+    keySampler.add(1, KEY_2);
+    keySampler.add(1, KEY_2);
+    // The sample is full
+    keySampler.add(0, KEY_3);
+    keySampler.flush();
+
+    // Hottest keys first
+    List<KeySampler.SampledKey> sampledKeys = KeySampler.load(file);
+    assertEquals(2, sampledKeys.size());
+    assertEquals(1, sampledKeys.get(0).getDomainId());
+    assertEquals(KEY_2, sampledKeys.get(0).getKey());
+    assertEquals(3, sampledKeys.get(0).getCount());
+    assertEquals(0, sampledKeys.get(1).getDomainId());
+    assertEquals(KEY_1, sampledKeys.get(1).getKey());
+    assertEquals(1, sampledKeys.get(1).getCount());
+
+    // Counts were halved, which made room for a new key
+    keySampler.add(0, KEY_3);
+    keySampler.flush();
+    sampledKeys = KeySampler.load(file);
+    assertEquals(2, sampledKeys.size());
+    assertEquals(KEY_2, sampledKeys.get(0).getKey());
+    assertEquals(1, sampledKeys.get(0).getCount());
+    assertEquals(KEY_3, sampledKeys.get(1).getKey());
+
+    // Samples are not replaced by empty ones, and disabled samplers do not add keys
+    keySampler.flush();
+    keySampler.flush();
+    keySampler.setEnabled(false);
+    keySampler.add(0, KEY_1);
+    keySampler.flush();
+    assertEquals(2, KeySampler.load(file).size());
+  }
+
+  @Test
+  public void testSampleHashedKeys() throws Exception {
+    File file = new File(localTmpDir, "key_sample");
+    KeySampler keySampler = new KeySampler(file, 10);
+    keySampler.addHashed(0, 5, KEY_1);
+    keySampler.addHashed(0, 5, KEY_1);
+    // Keys and hashed keys are counted separately, even with the same bytes
+    keySampler.add(0, KEY_1);
+    keySampler.flush();
+
+    List<KeySampler.SampledKey> sampledKeys = KeySampler.load(file);
+    assertEquals(2, sampledKeys.size());
+    assertTrue(sampledKeys.get(0).isHashed());
+    assertEquals(5, sampledKeys.get(0).getPartition());
+    assertEquals(KEY_1, sampledKeys.get(0).getKey());
+    assertEquals(2, sampledKeys.get(0).getCount());
+    assertFalse(sampledKeys.get(1).isHashed());
+    assertEquals(KEY_1, sampledKeys.get(1).getKey());
+    assertEquals(1, sampledKeys.get(1).getCount());
+  }
+}
@@ -0,0 +1,162 @@
+package com.liveramp.hank.partition_server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.liveramp.hank.storage.BatchReader;
+import com.liveramp.hank.storage.CacheStatistics;
+import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestPartitionGetBatcher extends BaseTestCase {
+
+  // Returns keys as values. Single GETs block until released.
+  private static class EchoBatchReader implements BatchReader {
+
+    private final CountDownLatch getStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseGets = new CountDownLatch(1);
+    private final List<Integer> batchSizes = new ArrayList<Integer>();
+    private boolean failBatches = false;
+
+    @Override
+    public void get(ByteBuffer key, ReaderResult result) throws IOException {
+      getStarted.countDown();
+      try {
+        releaseGets.await();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+      result.deepCopyIntoResultBuffer(key);
+      result.found();
+    }
+
+    @Override
+    public synchronized void getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException {
+      if (failBatches) {
+        throw new IOException("Failed batch");
+      }
+      batchSizes.add(keys.length);
+      for (int i = 0; i < keys.length; ++i) {
+        results[i].deepCopyIntoResultBuffer(keys[i]);
+        results[i].found();
+      }
+    }
+
+    @Override
+    public Integer getVersionNumber() {
+      return null;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+      return new CacheStatistics(0, 0, 0, 0);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  private static Future<ReaderResult> submitGet(ExecutorService executor,
+                                                final PartitionGetBatcher batcher,
+                                                final EchoBatchReader reader,
+                                                final String key) {
+    return executor.submit(new Callable<ReaderResult>() {
+      @Override
+      public ReaderResult call() throws IOException {
+        ReaderResult result = new ReaderResult();
+        batcher.get(reader, ByteBuffer.wrap(key.getBytes()), result);
+        return result;
+      }
+    });
+  }
+
+  @Test
+  public void testConcurrentGetsAreBatched() throws Exception {
+    // Long window, batches are closed when full
+    PartitionGetBatcher batcher = new PartitionGetBatcher(60000000, 3);
+    EchoBatchReader reader = new EchoBatchReader();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // The partition is idle, the first GET is read right away
+      Future<ReaderResult> first = submitGet(executor, batcher, reader, "k0");
+      reader.getStarted.await();
+      List<Future<ReaderResult>> batched = new ArrayList<Future<ReaderResult>>();
+      for (int i = 1; i <= 3; ++i) {
+        batched.add(submitGet(executor, batcher, reader, "k" + i));
+      }
+      for (int i = 1; i <= 3; ++i) {
+        ReaderResult result = batched.get(i - 1).get();
+        assertTrue(result.isFound());
+        assertEquals(ByteBuffer.wrap(("k" + i).getBytes()), result.getBuffer());
+      }
+      assertEquals(1, reader.batchSizes.size());
+      assertEquals(3, (int)reader.batchSizes.get(0));
+      reader.releaseGets.countDown();
+      assertEquals(ByteBuffer.wrap("k0".getBytes()), first.get().getBuffer());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testBatchClosedOnceNoOtherGetCanJoin() throws Exception {
+    // Long window and large batches, the batch is closed once the GET read right away completes
+    PartitionGetBatcher batcher = new PartitionGetBatcher(600000000, 100);
+    EchoBatchReader reader = new EchoBatchReader();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<ReaderResult> first = submitGet(executor, batcher, reader, "k0");
+      reader.getStarted.await();
+      Future<ReaderResult> second = submitGet(executor, batcher, reader, "k1");
+      Future<ReaderResult> third = submitGet(executor, batcher, reader, "k2");
+      reader.releaseGets.countDown();
+      assertEquals(ByteBuffer.wrap("k0".getBytes()), first.get().getBuffer());
+      assertEquals(ByteBuffer.wrap("k1".getBytes()), second.get().getBuffer());
+      assertEquals(ByteBuffer.wrap("k2".getBytes()), third.get().getBuffer());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailedBatch() throws Exception {
+    PartitionGetBatcher batcher = new PartitionGetBatcher(60000000, 2);
+    EchoBatchReader reader = new EchoBatchReader();
+    reader.failBatches = true;
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<ReaderResult> first = submitGet(executor, batcher, reader, "k0");
+      reader.getStarted.await();
+      Future<ReaderResult> second = submitGet(executor, batcher, reader, "k1");
+      Future<ReaderResult> third = submitGet(executor, batcher, reader, "k2");
+      // Both the reading GET and the GET that joined its batch fail
+      for (Future<ReaderResult> future : new Future[]{second, third}) {
+        try {
+          future.get();
+          fail("Should have failed");
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof IOException);
+        }
+      }
+      reader.releaseGets.countDown();
+      assertTrue(first.get().isFound());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
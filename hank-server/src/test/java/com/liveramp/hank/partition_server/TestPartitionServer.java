@@ -15,6 +15,7 @@
  */
 package com.liveramp.hank.partition_server;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
@@ -25,6 +26,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,12 +41,23 @@ import com.liveramp.hank.coordinator.Ring;
 import com.liveramp.hank.coordinator.RingGroup;
 import com.liveramp.hank.coordinator.mock.MockCoordinator;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankCompactBulkResponse;
+import com.liveramp.hank.generated.HankDomainKey;
+import com.liveramp.hank.generated.HankExistsBulkResponse;
+import com.liveramp.hank.generated.HankExistsResponse;
 import com.liveramp.hank.generated.HankResponse;
+import com.liveramp.hank.generated.HankScanRecord;
+import com.liveramp.hank.generated.HankScanRecords;
+import com.liveramp.hank.generated.HankScanResponse;
+import com.liveramp.hank.generated.HankValueSizeResponse;
 import com.liveramp.hank.test.BaseTestCase;
 import com.liveramp.hank.test.coordinator.MockHost;
 import com.liveramp.hank.test.coordinator.MockRing;
 import com.liveramp.hank.test.coordinator.MockRingGroup;
+import com.liveramp.hank.util.CompactResponses;
 import com.liveramp.hank.util.Condition;
+import com.liveramp.hank.util.UnixDomainSocket;
+import com.liveramp.hank.util.UnixDomainSockets;
 import com.liveramp.hank.util.WaitUntil;
 
 import static org.junit.Assert.assertEquals;
@@ -51,6 +65,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 public class TestPartitionServer extends BaseTestCase {
 
@@ -144,6 +159,52 @@ public class TestPartitionServer extends BaseTestCase {
           return HankBulkResponse.responses(Collections.singletonList(HankResponse.not_found(true)));
         }
 
+        @Override
+        public HankCompactBulkResponse getBulkCompact(int domainId, List<ByteBuffer> keys) throws TException {
+          return HankCompactBulkResponse.responses(
+              CompactResponses.encode(Collections.singletonList(HankResponse.not_found(true))));
+        }
+
+        @Override
+        public String negotiateWireCompression(List<String> codecs) throws TException {
+          return "";
+        }
+
+        @Override
+        public HankResponse getHashed(int domainId, int partition, ByteBuffer hashedKey) throws TException {
+          return HankResponse.not_found(true);
+        }
+
+        @Override
+        public HankBulkResponse getMulti(List<HankDomainKey> domainKeys) throws TException {
+          return HankBulkResponse.responses(Collections.singletonList(HankResponse.not_found(true)));
+        }
+
+        @Override
+        public HankExistsResponse exists(int domainId, ByteBuffer key) throws TException {
+          return HankExistsResponse.exists(false);
+        }
+
+        @Override
+        public HankExistsBulkResponse existsBulk(int domainId, List<ByteBuffer> keys) throws TException {
+          return HankExistsBulkResponse.responses(Collections.singletonList(HankExistsResponse.exists(false)));
+        }
+
+        @Override
+        public HankValueSizeResponse getValueSize(int domainId, ByteBuffer key) throws TException {
+          return HankValueSizeResponse.not_found(true);
+        }
+
+        @Override
+        public HankResponse getRange(int domainId, ByteBuffer key, int offset, int length, int versionNumber) throws TException {
+          return HankResponse.not_found(true);
+        }
+
+        @Override
+        public HankScanResponse scanPartition(int domainId, int partition, ByteBuffer cursor, int limit) throws TException {
+          return HankScanResponse.records(new HankScanRecords(Collections.<HankScanRecord>emptyList(), true));
+        }
+
         @Override
         public void shutDown() throws InterruptedException {
         }
@@ -395,6 +456,46 @@ public class TestPartitionServer extends BaseTestCase {
     assertEquals("Went OFFLINE after failed to start data server.", HostState.OFFLINE, fixtures.host.getState());
   }
 
+  @Test
+  public void testServeThroughUnixDomainSocket() throws Exception {
+    assumeTrue(UnixDomainSockets.isSupported());
+    // Socket paths are limited to about a hundred characters
+    final String unixDomainSocketPath = System.getProperty("java.io.tmpdir") + "/hank-" + System.nanoTime() + ".sock";
+    MockPartitionServerConfigurator configurator =
+        new MockPartitionServerConfigurator(Fixtures.PORT_1, fixtures.mockCoord, "myRingGroup", null) {
+          @Override
+          public String getUnixDomainSocketPath() {
+            return unixDomainSocketPath;
+          }
+        };
+    final PartitionServer partitionServer = new MockPartitionServer(configurator, "localhost");
+    Thread thread = createPartitionServerThread(partitionServer);
+    thread.start();
+    waitUntilHost(HostState.IDLE, fixtures.host);
+    fixtures.host.enqueueCommand(HostCommand.SERVE_DATA);
+    waitUntilHost(HostState.SERVING, fixtures.host);
+
+    // Query the data server the way a client on the same machine would
+    String path = UnixDomainSockets.getPartitionServerPath(unixDomainSocketPath, Fixtures.PORT_1);
+    UnixDomainSocket socket = new UnixDomainSocket(path, 1000);
+    TFramedTransport transport = new TFramedTransport(socket);
+    transport.open();
+    try {
+      com.liveramp.hank.generated.PartitionServer.Client client =
+          new com.liveramp.hank.generated.PartitionServer.Client(new TCompactProtocol(transport));
+      assertEquals(HankResponse.not_found(true), client.get(0, ByteBuffer.wrap(new byte[]{1})));
+      assertEquals(HankExistsResponse.exists(false), client.exists(0, ByteBuffer.wrap(new byte[]{1})));
+    } finally {
+      transport.close();
+    }
+
+    partitionServer.stopSynchronized();
+    thread.join();
+    assertEquals(HostState.OFFLINE, fixtures.host.getState());
+    // The socket file is removed when the data server stops
+    assertFalse(new File(path).exists());
+  }
+
   @Test
   public void testFailToStartWhenHostIsAlreadyOnline() throws IOException, InterruptedException {
     final PartitionServer partitionServer = new MockPartitionServer(fixtures.CONFIGURATOR1, "localhost");
@@ -22,10 +22,15 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.thrift.TException;
 import org.junit.Test;
 
+import com.liveramp.hank.config.DataDirectoriesConfigurator;
 import com.liveramp.hank.config.PartitionServerConfigurator;
 import com.liveramp.hank.config.ReaderConfigurator;
 import com.liveramp.hank.coordinator.Coordinator;
@@ -44,7 +49,9 @@ import com.liveramp.hank.generated.HankBulkResponse;
 import com.liveramp.hank.generated.HankException;
 import com.liveramp.hank.generated.HankResponse;
 import com.liveramp.hank.partitioner.Partitioner;
+import com.liveramp.hank.storage.BatchReader;
 import com.liveramp.hank.storage.Reader;
+import com.liveramp.hank.storage.ReaderResult;
 import com.liveramp.hank.storage.mock.MockReader;
 import com.liveramp.hank.storage.mock.MockStorageEngine;
 import com.liveramp.hank.test.BaseTestCase;
@@ -56,6 +63,7 @@ import com.liveramp.hank.test.coordinator.MockRingGroup;
 import com.liveramp.hank.test.partitioner.MapPartitioner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class TestPartitionServerHandler extends BaseTestCase {
@@ -139,13 +147,84 @@ public class TestPartitionServerHandler extends BaseTestCase {
     assertEquals(HankBulkResponse.responses(responses2), handler.getBulk(0, keys2));
   }
 
+  @Test(timeout = 60000)
+  public void testLazyReaderLoading() throws Exception {
+    PartitionServerHandler handler = createHandler(0, true);
+    assertEquals(HankResponse.value(V1), handler.get((byte)0, K1));
+    assertEquals(HankResponse.xception(HankException.wrong_host(true)),
+        handler.get(0, K2));
+    // Readers loaded in the background are reported once all are loaded
+    while (!handler.checkBackgroundReaderLoads()) {
+      Thread.sleep(10);
+    }
+
+    // Readers that fail to load are reported on access, and when background loads are checked
+    handler = createHandler(42, true);
+    assertTrue(handler.get(0, K1).get_xception().is_set_internal_error());
+    try {
+      while (!handler.checkBackgroundReaderLoads()) {
+        Thread.sleep(10);
+      }
+      fail("Should have reported failed Reader loads");
+    } catch (IOException e) {
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testBatchedGetsDoNotWaitForBatchWindow() throws Exception {
+    // The batch window is much longer than the test timeout
+    final PartitionServerHandler handler = createHandler(0, false, 600000000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> futures = new ArrayList<Future<Object>>();
+      for (int i = 0; i < 4; ++i) {
+        futures.add(executor.submit(new Callable<Object>() {
+          @Override
+          public Object call() throws Exception {
+            for (int j = 0; j < 100; ++j) {
+              assertEquals(HankResponse.value(V1), handler.get(0, j % 2 == 0 ? K1 : K5));
+            }
+            return null;
+          }
+        }));
+      }
+      // Concurrent bulk requests read their keys by partition, without joining GET batches
+      List<ByteBuffer> keys = new ArrayList<ByteBuffer>();
+      List<HankResponse> responses = new ArrayList<HankResponse>();
+      for (int i = 0; i < 1000; ++i) {
+        keys.add(i % 2 == 0 ? K1 : K5);
+        responses.add(HankResponse.value(V1));
+      }
+      assertEquals(HankBulkResponse.responses(responses), handler.getBulk(0, keys));
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private PartitionServerHandler createHandler(final int readerVersionNumber) throws IOException {
+    return createHandler(readerVersionNumber, false);
+  }
+
+  private PartitionServerHandler createHandler(final int readerVersionNumber, final boolean lazyReaderLoading) throws IOException {
+    return createHandler(readerVersionNumber, lazyReaderLoading, 0);
+  }
+
+  // Readers can read batches, and GETs are batched, when the batch window is positive
+  private PartitionServerHandler createHandler(final int readerVersionNumber,
+                                               final boolean lazyReaderLoading,
+                                               final int getBatchWindowMicroseconds) throws IOException {
     Partitioner partitioner = new MapPartitioner(K1, 0, K2, 1, K3, 2, K4, 3,
         K5, 4);
     MockStorageEngine storageEngine = new MockStorageEngine() {
       @Override
       public Reader getReader(ReaderConfigurator configurator, int partitionNumber, DiskPartitionAssignment assignment)
           throws IOException {
+        if (getBatchWindowMicroseconds > 0) {
+          return new SlowBatchMockReader(configurator, partitionNumber, V1, readerVersionNumber);
+        }
         return new MockReader(configurator, partitionNumber, V1, readerVersionNumber) {
           @Override
           public Integer getVersionNumber() {
@@ -186,12 +265,57 @@ public class TestPartitionServerHandler extends BaseTestCase {
       }
     };
     PartitionServerConfigurator config = new MockPartitionServerConfigurator(12345,
-        mockCoordinator, "myRingGroupName", "/tmp/local/data/dir");
+        mockCoordinator, "myRingGroupName", "/tmp/local/data/dir") {
+      @Override
+      public boolean getLazyReaderLoading() {
+        return lazyReaderLoading;
+      }
+
+      @Override
+      public int getGetBatchWindowMicroseconds() {
+        return getBatchWindowMicroseconds;
+      }
+
+      @Override
+      public int getGetBatchMaxSize() {
+        return 1000;
+      }
+    };
     PartitionServerHandler handler = new PartitionServerHandler(new PartitionServerAddress(
         "localhost", 12345), config, mockCoordinator);
     return handler;
   }
 
+  // Reads take some time, so that concurrent GETs are batched
+  private static class SlowBatchMockReader extends MockReader implements BatchReader {
+
+    public SlowBatchMockReader(DataDirectoriesConfigurator configurator, int partitionNumber, byte[] returnValue, Integer versionNumber) {
+      super(configurator, partitionNumber, returnValue, versionNumber);
+    }
+
+    @Override
+    public void get(ByteBuffer key, ReaderResult result) throws IOException {
+      sleep();
+      super.get(key, result);
+    }
+
+    @Override
+    public void getBatch(ByteBuffer[] keys, ReaderResult[] results) throws IOException {
+      sleep();
+      for (int i = 0; i < keys.length; ++i) {
+        super.get(keys[i], results[i]);
+      }
+    }
+
+    private static void sleep() throws IOException {
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
   private static ByteBuffer bb(int i) {
     return ByteBuffer.wrap(new byte[]{(byte)i});
   }
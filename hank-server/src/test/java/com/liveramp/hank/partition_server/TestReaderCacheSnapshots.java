@@ -0,0 +1,129 @@
+package com.liveramp.hank.partition_server;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.liveramp.hank.storage.CacheSnapshotReader;
+import com.liveramp.hank.storage.map.MapReader;
+import com.liveramp.hank.test.BaseTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestReaderCacheSnapshots extends BaseTestCase {
+
+  @Test
+  public void testSaveAndLoad() throws Exception {
+    ReaderCacheSnapshots cacheSnapshots = new ReaderCacheSnapshots(localTmpDir + "/cache_snapshots");
+    File snapshotFile = cacheSnapshots.getSnapshotFile("domain", 3);
+
+    // Nothing saved yet
+    MockCacheSnapshotReader reader = new MockCacheSnapshotReader(0);
+    cacheSnapshots.load("domain", 3, reader);
+    assertEquals(Collections.<Integer>emptyList(), reader.cache);
+
+    reader.cache.addAll(Arrays.asList(1, 2, 3));
+    cacheSnapshots.save("domain", 3, reader);
+    assertTrue(snapshotFile.exists());
+    assertFalse(new File(snapshotFile.getAbsolutePath() + ".tmp").exists());
+
+    // Same partition, the Reader gets the saved entries
+    MockCacheSnapshotReader newReader = new MockCacheSnapshotReader(0);
+    cacheSnapshots.load("domain", 3, newReader);
+    assertEquals(Arrays.asList(1, 2, 3), newReader.cache);
+
+    // Other partitions and domains have their own snapshots
+    newReader = new MockCacheSnapshotReader(0);
+    cacheSnapshots.load("domain", 4, newReader);
+    cacheSnapshots.load("other_domain", 3, newReader);
+    assertEquals(Collections.<Integer>emptyList(), newReader.cache);
+
+    // Newer versions decide which entries are still valid
+    newReader = new MockCacheSnapshotReader(1);
+    cacheSnapshots.load("domain", 3, newReader);
+    assertEquals(Collections.<Integer>emptyList(), newReader.cache);
+
+    // Readers without caches are ignored
+    cacheSnapshots.save("domain", 5, new MapReader(0));
+    assertFalse(cacheSnapshots.getSnapshotFile("domain", 5).exists());
+    cacheSnapshots.load("domain", 3, new MapReader(0));
+  }
+
+  @Test
+  public void testFailures() throws Exception {
+    ReaderCacheSnapshots cacheSnapshots = new ReaderCacheSnapshots(localTmpDir + "/cache_snapshots");
+    File snapshotFile = cacheSnapshots.getSnapshotFile("domain", 0);
+
+    MockCacheSnapshotReader reader = new MockCacheSnapshotReader(0);
+    reader.cache.addAll(Arrays.asList(1, 2));
+    cacheSnapshots.save("domain", 0, reader);
+
+    // A failed save keeps the previous snapshot and leaves no temporary file behind
+    reader.cache.add(3);
+    reader.failSave = true;
+    cacheSnapshots.save("domain", 0, reader);
+    assertFalse(new File(snapshotFile.getAbsolutePath() + ".tmp").exists());
+    MockCacheSnapshotReader newReader = new MockCacheSnapshotReader(0);
+    cacheSnapshots.load("domain", 0, newReader);
+    assertEquals(Arrays.asList(1, 2), newReader.cache);
+
+    // Truncated snapshots are not thrown
+    FileOutputStream outputStream = new FileOutputStream(snapshotFile);
+    outputStream.write(new byte[]{0, 0, 0, 0, 0, 0, 0, 2});
+    outputStream.close();
+    newReader = new MockCacheSnapshotReader(0);
+    cacheSnapshots.load("domain", 0, newReader);
+    assertEquals(Collections.<Integer>emptyList(), newReader.cache);
+
+    // Snapshots cannot be saved under a file
+    new File(localTmpDir + "/not_a_directory").createNewFile();
+    cacheSnapshots = new ReaderCacheSnapshots(localTmpDir + "/not_a_directory");
+    cacheSnapshots.save("domain", 0, reader);
+    assertFalse(cacheSnapshots.getSnapshotFile("domain", 0).exists());
+  }
+
+  // Caches integers, which are saved after the version number
+  private static class MockCacheSnapshotReader extends MapReader implements CacheSnapshotReader {
+
+    private final List<Integer> cache = new ArrayList<Integer>();
+    private boolean failSave = false;
+
+    private MockCacheSnapshotReader(int versionNumber) {
+      super(versionNumber);
+    }
+
+    @Override
+    public void saveCache(DataOutput output) throws IOException {
+      output.writeInt(getVersionNumber());
+      output.writeInt(cache.size());
+      for (Integer entry : cache) {
+        if (failSave) {
+          throw new IOException("Failed to save cache");
+        }
+        output.writeInt(entry);
+      }
+    }
+
+    @Override
+    public int loadCache(DataInput input) throws IOException {
+      if (input.readInt() != getVersionNumber()) {
+        return 0;
+      }
+      int numEntries = input.readInt();
+      for (int i = 0; i < numEntries; ++i) {
+        cache.add(input.readInt());
+      }
+      return numEntries;
+    }
+  }
+}
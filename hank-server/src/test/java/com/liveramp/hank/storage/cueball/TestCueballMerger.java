@@ -23,6 +23,8 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TestCueballMerger extends AbstractCueballTest {
   private final String LOCAL_ROOT = localTmpDir;
@@ -186,5 +188,15 @@ public class TestCueballMerger extends AbstractCueballTest {
     in.readFully(actualMergedData);
 
     assertEquals(ByteBuffer.wrap(EXPECTED_MERGED_DATA), ByteBuffer.wrap(actualMergedData));
+
+    // Key hashes taken from deltas
+    UpdatedKeyHashes updatedKeyHashes = UpdatedKeyHashes.load(LOCAL_ROOT, 2);
+    assertEquals(0, updatedKeyHashes.getBaseVersion());
+    for (byte keyHash : new byte[]{0x01, 0x02, 0x03, 0x04, (byte) 0x8b, (byte) 0x8c}) {
+      assertTrue(updatedKeyHashes.contains(ByteBuffer.wrap(new byte[]{keyHash})));
+    }
+    for (byte keyHash : new byte[]{0x05, (byte) 0x8a, 0x06}) {
+      assertFalse(updatedKeyHashes.contains(ByteBuffer.wrap(new byte[]{keyHash})));
+    }
   }
 }
@@ -15,19 +15,30 @@
  */
 package com.liveramp.hank.storage.cueball;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
+import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.compression.cueball.NoCueballCompressionCodec;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestCueballReader extends AbstractCueballTest {
   @Test
@@ -107,4 +118,220 @@ public class TestCueballReader extends AbstractCueballTest {
     assertEquals(false, result.getL2CacheHit());
     result.clear();
   }
+
+  @Test
+  public void testGetHashed() throws Exception {
+    String root = localTmpDir + "/1";
+    new File(root).mkdir();
+    OutputStream os = new FileOutputStream(root + "/00000.base.cueball");
+    os.write(EXPECTED_DATA);
+    os.flush();
+    os.close();
+
+    CueballReader reader = new CueballReader(root, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 1);
+
+    ReaderResult result = new ReaderResult();
+    reader.getHashed(hash(KEY1), result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}), result.getBuffer());
+    assertEquals(false, result.getL1CacheHit());
+    result.clear();
+
+    // Hashed keys and keys share the same cache entries
+    reader.get(ByteBuffer.wrap(KEY1), result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}), result.getBuffer());
+    assertEquals(true, result.getL1CacheHit());
+    result.clear();
+
+    reader.getHashed(hash(KEY4), result);
+    assertFalse(result.isFound());
+    result.clear();
+
+    // Hashed keys of the wrong size are rejected
+    try {
+      reader.getHashed(ByteBuffer.wrap(new byte[]{1, 1, 1}), result);
+      fail("Should have thrown an IOException");
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testGetBatch() throws Exception {
+    String root = localTmpDir + "/1";
+    new File(root).mkdir();
+    OutputStream os = new FileOutputStream(root + "/00000.base.cueball");
+    os.write(EXPECTED_DATA);
+    os.flush();
+    os.close();
+
+    CueballReader reader = new CueballReader(root, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 10);
+
+    ReaderResult[] results = {new ReaderResult(), new ReaderResult(), new ReaderResult(), new ReaderResult(), new ReaderResult()};
+    reader.getBatch(new ByteBuffer[]{
+        ByteBuffer.wrap(KEY3),
+        ByteBuffer.wrap(KEY4),
+        ByteBuffer.wrap(KEY1),
+        ByteBuffer.wrap(KEY10),
+        ByteBuffer.wrap(KEY2)}, results);
+    assertTrue(results[0].isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{(byte)0x8f, 1, 2, 1, 2}), results[0].getBuffer());
+    assertFalse(results[1].isFound());
+    assertTrue(results[2].isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}), results[2].getBuffer());
+    assertFalse(results[3].isFound());
+    assertTrue(results[4].isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{2, 1, 2, 1, 2}), results[4].getBuffer());
+
+    // Batched values are cached
+    ReaderResult result = new ReaderResult();
+    reader.get(ByteBuffer.wrap(KEY1), result);
+    assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}), result.getBuffer());
+    assertEquals(true, result.getL1CacheHit());
+  }
+
+  @Test
+  public void testScan() throws Exception {
+    String root = localTmpDir + "/1";
+    new File(root).mkdir();
+    OutputStream os = new FileOutputStream(root + "/00000.base.cueball");
+    os.write(EXPECTED_DATA);
+    os.flush();
+    os.close();
+
+    CueballReader reader = new CueballReader(root, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 1);
+
+    // Whole file, across blocks
+    List<ByteBuffer> values = new ArrayList<ByteBuffer>();
+    assertFalse(reader.scan(null, 10, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(
+        ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}),
+        ByteBuffer.wrap(new byte[]{2, 1, 2, 1, 2}),
+        ByteBuffer.wrap(new byte[]{(byte)0x8f, 1, 2, 1, 2})), values);
+
+    // Limited number of records
+    values.clear();
+    assertTrue(reader.scan(null, 2, null, new ValueCollector(values)));
+    assertEquals(2, values.size());
+
+    // Resume after a key hash that is in the file
+    values.clear();
+    assertFalse(reader.scan(hash(KEY2), 10, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(ByteBuffer.wrap(new byte[]{(byte)0x8f, 1, 2, 1, 2})), values);
+
+    // Resume after a key hash that is not in the file
+    values.clear();
+    assertTrue(reader.scan(hash(KEY4), 1, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(ByteBuffer.wrap(new byte[]{2, 1, 2, 1, 2})), values);
+
+    // Visitor ends the scan before the second record
+    values.clear();
+    assertTrue(reader.scan(null, 10, null, new ValueCollector(values) {
+      @Override
+      public boolean visit(ByteBuffer keyHash, ByteBuffer value) {
+        return values.isEmpty() && super.visit(keyHash, value);
+      }
+    }));
+    assertEquals(Arrays.asList(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1})), values);
+
+    // Permits are acquired before each block is read
+    values.clear();
+    assertTrue(reader.scan(null, 10, new ScanReader.ReadPermits() {
+      @Override
+      public boolean tryAcquire(int numBytes) {
+        return false;
+      }
+    }, new ValueCollector(values)));
+    assertEquals(0, values.size());
+  }
+
+  @Test
+  public void testCacheSnapshot() throws Exception {
+    String root = localTmpDir + "/1";
+    new File(root).mkdir();
+    writeBase(root, 0);
+
+    CueballReader reader = new CueballReader(root, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 10);
+    ReaderResult result = new ReaderResult();
+    reader.get(ByteBuffer.wrap(KEY1), result);
+    result.clear();
+    reader.get(ByteBuffer.wrap(KEY2), result);
+    result.clear();
+    reader.get(ByteBuffer.wrap(KEY4), result);
+    result.clear();
+    ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+    reader.saveCache(new DataOutputStream(snapshot));
+    reader.close();
+
+    // Same version, all entries are reloaded, including keys not found
+    reader = new CueballReader(root, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 10);
+    assertEquals(3, loadCache(reader, snapshot));
+    reader.get(ByteBuffer.wrap(KEY1), result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 1, 2, 1}), result.getBuffer());
+    assertTrue(result.getL1CacheHit());
+    result.clear();
+    reader.get(ByteBuffer.wrap(KEY4), result);
+    assertFalse(result.isFound());
+    assertTrue(result.getL1CacheHit());
+    result.clear();
+    reader.close();
+
+    // Newer version without updated key hashes, nothing is reloaded
+    String newRoot = localTmpDir + "/2";
+    new File(newRoot).mkdir();
+    writeBase(newRoot, 1);
+    reader = new CueballReader(newRoot, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 10);
+    assertEquals(0, loadCache(reader, snapshot));
+    reader.close();
+
+    // Newer version merged from the saved version, updated key hashes are not reloaded
+    UpdatedKeyHashes.Writer writer = new UpdatedKeyHashes.Writer(newRoot + "/" + UpdatedKeyHashes.getName(1), 0, 10);
+    writer.write(hash(KEY1));
+    writer.close();
+    reader = new CueballReader(newRoot, 10, HASHER, 5, 1, new NoCueballCompressionCodec(), 1 << 20, 10);
+    assertEquals(2, loadCache(reader, snapshot));
+    reader.get(ByteBuffer.wrap(KEY1), result);
+    assertTrue(result.isFound());
+    assertFalse(result.getL1CacheHit());
+    result.clear();
+    reader.get(ByteBuffer.wrap(KEY2), result);
+    assertTrue(result.isFound());
+    assertTrue(result.getL1CacheHit());
+    result.clear();
+    reader.close();
+  }
+
+  private void writeBase(String root, int versionNumber) throws IOException {
+    OutputStream os = new FileOutputStream(root + "/" + Cueball.getName(versionNumber, true));
+    os.write(EXPECTED_DATA);
+    os.flush();
+    os.close();
+  }
+
+  private static int loadCache(CueballReader reader, ByteArrayOutputStream snapshot) throws IOException {
+    return reader.loadCache(new DataInputStream(new ByteArrayInputStream(snapshot.toByteArray())));
+  }
+
+  private static class ValueCollector implements ScanReader.RecordVisitor {
+
+    private final List<ByteBuffer> values;
+
+    private ValueCollector(List<ByteBuffer> values) {
+      this.values = values;
+    }
+
+    @Override
+    public boolean visit(ByteBuffer keyHash, ByteBuffer value) {
+      values.add(BytesUtils.byteBufferDeepCopy(value));
+      return true;
+    }
+  }
+
+  private static ByteBuffer hash(byte[] key) {
+    byte[] hashedKey = new byte[10];
+    HASHER.hash(ByteBuffer.wrap(key), 10, hashedKey);
+    return ByteBuffer.wrap(hashedKey);
+  }
 }
@@ -15,21 +15,35 @@
  */
 package com.liveramp.hank.storage.curly;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
+import com.liveramp.commons.util.BytesUtils;
 import com.liveramp.hank.compression.CompressionCodec;
+import com.liveramp.hank.storage.CacheSnapshotReader;
+import com.liveramp.hank.storage.HashedKeyReader;
 import com.liveramp.hank.storage.ReaderResult;
+import com.liveramp.hank.storage.ScanReader;
 import com.liveramp.hank.storage.map.MapReader;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestCurlyReader extends AbstractCurlyTestBase {
   private static final String TMP_TEST_CURLY_READER = "/tmp/TestCurlyReader";
@@ -114,6 +128,227 @@ public class TestCurlyReader extends AbstractCurlyTestBase {
     result.clear();
   }
 
+  @Test
+  public void testExistsAndGetValueSize() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.write(new byte[]{(byte)0x80, (byte)0xa0, 1});
+    s.write(TWENTYK_BLOB);
+    s.flush();
+    s.close();
+
+    MapReader keyfileReader = new MapReader(0,
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0},
+        KEY5.array(), new byte[]{15, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, 1);
+
+    ReaderResult result = new ReaderResult();
+
+    reader.exists(KEY1, result);
+    assertTrue(result.isFound());
+    result.clear();
+
+    reader.exists(KEY4, result);
+    assertFalse(result.isFound());
+    result.clear();
+
+    assertEquals(VALUE2.remaining(), reader.getValueSize(KEY2, result));
+    result.clear();
+
+    // Only the length header of a large value is read
+    assertEquals(20 * 1024, reader.getValueSize(KEY5, result));
+    result.clear();
+
+    assertEquals(-1, reader.getValueSize(KEY4, result));
+    result.clear();
+
+    // Cached values are not read again
+    reader.get(KEY3, result);
+    result.clear();
+    assertEquals(VALUE3.remaining(), reader.getValueSize(KEY3, result));
+    assertEquals(true, result.getL2CacheHit());
+    result.clear();
+  }
+
+  @Test
+  public void testGetRange() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.write(new byte[]{(byte)0x80, (byte)0xa0, 1});
+    s.write(TWENTYK_BLOB);
+    s.flush();
+    s.close();
+
+    MapReader keyfileReader = new MapReader(0,
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0},
+        KEY5.array(), new byte[]{15, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, -1);
+
+    ReaderResult result = new ReaderResult();
+
+    assertTrue(reader.readsPartialValues());
+
+    reader.getRange(KEY2, 1, 2, result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{7, 6}), result.getBuffer());
+    result.clear();
+
+    // Ranges of a large value larger than the read buffer
+    reader.getRange(KEY5, 1000, 2000, result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(TWENTYK_BLOB, 1000, 2000), result.getBuffer());
+    result.clear();
+
+    // Ranges are truncated at the end of the value
+    reader.getRange(KEY5, 20 * 1024 - 5, 100, result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(TWENTYK_BLOB, 20 * 1024 - 5, 5), result.getBuffer());
+    result.clear();
+
+    reader.getRange(KEY1, 10, 100, result);
+    assertTrue(result.isFound());
+    assertEquals(0, result.getBuffer().remaining());
+    result.clear();
+
+    reader.getRange(KEY4, 0, 100, result);
+    assertFalse(result.isFound());
+    result.clear();
+  }
+
+  @Test
+  public void testGetHashed() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.write(new byte[]{(byte)0x80, (byte)0xa0, 1});
+    s.write(TWENTYK_BLOB);
+    s.flush();
+    s.close();
+
+    // Keys are their own hashes
+    HashedMapReader keyfileReader = new HashedMapReader(
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0},
+        KEY5.array(), new byte[]{15, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, 1);
+
+    ReaderResult result = new ReaderResult();
+
+    reader.getHashed(KEY2, result);
+    assertTrue(result.isFound());
+    assertEquals(VALUE2, result.getBuffer());
+    result.clear();
+
+    // Values larger than the read buffer
+    reader.getHashed(KEY5, result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(TWENTYK_BLOB), result.getBuffer());
+    result.clear();
+
+    reader.getHashed(KEY4, result);
+    assertFalse(result.isFound());
+    result.clear();
+
+    // Key file readers that cannot look up hashed keys are rejected
+    MapReader mapKeyfileReader = new MapReader(0, KEY1.array(), new byte[]{0, 0, 0});
+    reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, mapKeyfileReader, -1, 1);
+    try {
+      reader.getHashed(KEY1, result);
+      fail("Should have thrown an IOException");
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testScan() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.write(new byte[]{(byte)0x80, (byte)0xa0, 1});
+    s.write(TWENTYK_BLOB);
+    s.flush();
+    s.close();
+
+    // Keys are scanned in order, the large value comes last
+    ScanMapReader keyfileReader = new ScanMapReader(
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0},
+        new byte[]{10, 0, 0, 0}, new byte[]{15, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, -1);
+
+    List<ByteBuffer> values = new ArrayList<ByteBuffer>();
+    assertFalse(reader.scan(null, 10, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE1, VALUE2, VALUE3, ByteBuffer.wrap(TWENTYK_BLOB)), values);
+
+    // Resume after a key hash
+    values.clear();
+    assertTrue(reader.scan(KEY2, 1, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE3), values);
+
+    // Permits are acquired for each read of the read buffer size
+    values.clear();
+    assertTrue(reader.scan(null, 10, new BytePermits(3 * 1024), new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE1, VALUE2, VALUE3), values);
+
+    // Records larger than the read buffer acquire permits for the rest of the record before reading it
+    values.clear();
+    assertTrue(reader.scan(null, 10, new BytePermits(4 * 1024), new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE1, VALUE2, VALUE3), values);
+
+    values.clear();
+    assertFalse(reader.scan(null, 10, new BytePermits(4 * 1024 + TWENTYK_BLOB.length), new ValueCollector(values)));
+    assertEquals(4, values.size());
+  }
+
+  @Test
+  public void testScanBlockCompressed() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE_BLOCK_COMPRESSED_DEFLATE);
+    s.flush();
+    s.close();
+
+    ScanMapReader keyfileReader = new ScanMapReader(
+        KEY1.array(), new byte[]{0, 0, 0, 0, 0},
+        KEY2.array(), new byte[]{0, 0, 0, 5, 0},
+        KEY3.array(), new byte[]{0, 0, 0, 10, 0}
+    );
+
+    // The last decompressed block is not cached, so that each record reads its block
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, -1,
+        CompressionCodec.DEFLATE, 3, 2, false, 0);
+
+    List<ByteBuffer> values = new ArrayList<ByteBuffer>();
+    assertFalse(reader.scan(null, 10, null, new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE1, VALUE2, VALUE3), values);
+
+    // Permits are acquired before the block is read and decompressed
+    values.clear();
+    assertTrue(reader.scan(null, 10, new BytePermits(2 * 1024), new ValueCollector(values)));
+    assertEquals(Arrays.asList(VALUE1, VALUE2), values);
+
+    values.clear();
+    assertTrue(reader.scan(null, 10, new BytePermits(0), new ValueCollector(values)));
+    assertEquals(0, values.size());
+  }
+
   private void doTestBlockCompression(CompressionCodec blockCompressionCodec, byte[] compressedBlock) throws IOException {
     new File(TMP_TEST_CURLY_READER).mkdirs();
     OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
@@ -150,6 +385,137 @@ public class TestCurlyReader extends AbstractCurlyTestBase {
     assertTrue(result.isFound());
     assertEquals(VALUE2, result.getBuffer());
     result.clear();
+
+    assertEquals(VALUE3.remaining(), reader.getValueSize(KEY3, result));
+    result.clear();
+
+    // Ranges of block compressed values are read by decompressing whole blocks
+    assertFalse(reader.readsPartialValues());
+    reader.getRange(KEY3, 2, 100, result);
+    assertTrue(result.isFound());
+    assertEquals(ByteBuffer.wrap(new byte[]{10, 9}), result.getBuffer());
+    result.clear();
+
+    ReaderResult[] results = {new ReaderResult(), new ReaderResult(), new ReaderResult(), new ReaderResult()};
+    reader.getBatch(new ByteBuffer[]{KEY3, KEY4, KEY1, KEY2}, results);
+    assertEquals(VALUE3, results[0].getBuffer());
+    assertFalse(results[1].isFound());
+    assertEquals(VALUE1, results[2].getBuffer());
+    assertEquals(VALUE2, results[3].getBuffer());
+  }
+
+  @Test
+  public void testGetBatch() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.flush();
+    s.close();
+
+    MapReader keyfileReader = new MapReader(0,
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, 1 << 20, 1);
+
+    ReaderResult[] results = {new ReaderResult(), new ReaderResult(), new ReaderResult(), new ReaderResult()};
+    reader.getBatch(new ByteBuffer[]{KEY3, KEY1, KEY4, KEY2}, results);
+    assertTrue(results[0].isFound());
+    assertEquals(VALUE3, results[0].getBuffer());
+    assertTrue(results[1].isFound());
+    assertEquals(VALUE1, results[1].getBuffer());
+    assertFalse(results[2].isFound());
+    assertTrue(results[3].isFound());
+    assertEquals(VALUE2, results[3].getBuffer());
+
+    // Batched values are cached
+    ReaderResult result = new ReaderResult();
+    reader.get(KEY3, result);
+    assertEquals(VALUE3, result.getBuffer());
+    assertEquals(true, result.getL2CacheHit());
+  }
+
+  @Test
+  public void testCacheSnapshot() throws Exception {
+    new File(TMP_TEST_CURLY_READER).mkdirs();
+    OutputStream s = new FileOutputStream(TMP_TEST_CURLY_READER + "/00000.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.flush();
+    s.close();
+
+    MapReader keyfileReader = new MapReader(0,
+        KEY1.array(), new byte[]{0, 0, 0},
+        KEY2.array(), new byte[]{5, 0, 0},
+        KEY3.array(), new byte[]{10, 0, 0}
+    );
+
+    CurlyReader reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, 10);
+    ReaderResult result = new ReaderResult();
+    reader.get(KEY1, result);
+    result.clear();
+    reader.get(KEY2, result);
+    result.clear();
+    ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+    reader.saveCache(new DataOutputStream(snapshot));
+    reader.close();
+
+    // Same version, cached values are reloaded
+    reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, 10);
+    assertEquals(2, loadCache(reader, snapshot));
+    reader.get(KEY1, result);
+    assertTrue(result.isFound());
+    assertEquals(VALUE1, result.getBuffer());
+    assertEquals(true, result.getL2CacheHit());
+    result.clear();
+    reader.get(KEY3, result);
+    assertEquals(VALUE3, result.getBuffer());
+    assertEquals(false, result.getL2CacheHit());
+    result.clear();
+    reader.close();
+
+    // Newer version, record file locations are not valid anymore
+    String newRoot = TMP_TEST_CURLY_READER + "/1";
+    new File(newRoot).mkdirs();
+    s = new FileOutputStream(newRoot + "/00001.base.curly");
+    s.write(EXPECTED_RECORD_FILE);
+    s.flush();
+    s.close();
+    MapReader newKeyfileReader = new MapReader(1, KEY1.array(), new byte[]{0, 0, 0});
+    reader = new CurlyReader(CurlyReader.getLatestBase(newRoot), 1024, newKeyfileReader, -1, 10);
+    assertEquals(0, loadCache(reader, snapshot));
+    reader.get(KEY1, result);
+    assertEquals(false, result.getL2CacheHit());
+    result.clear();
+    reader.close();
+
+    // The key file Reader cache is saved and reloaded along with the values
+    reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024,
+        new CacheSnapshotMapReader(3, KEY1.array(), new byte[]{0, 0, 0}), -1, 10);
+    reader.get(KEY1, result);
+    result.clear();
+    snapshot = new ByteArrayOutputStream();
+    reader.saveCache(new DataOutputStream(snapshot));
+    reader.close();
+    reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024,
+        new CacheSnapshotMapReader(0, KEY1.array(), new byte[]{0, 0, 0}), -1, 10);
+    assertEquals(3 + 1, loadCache(reader, snapshot));
+    reader.close();
+
+    // Key file Readers that cannot reload it are rejected
+    reader = new CurlyReader(CurlyReader.getLatestBase(TMP_TEST_CURLY_READER), 1024, keyfileReader, -1, 10);
+    try {
+      loadCache(reader, snapshot);
+      fail("Should have thrown an IOException");
+    } catch (IOException e) {
+      // Expected
+    }
+    reader.close();
+  }
+
+  private static int loadCache(CurlyReader reader, ByteArrayOutputStream snapshot) throws IOException {
+    return reader.loadCache(new DataInputStream(new ByteArrayInputStream(snapshot.toByteArray())));
   }
 
   @Test
@@ -171,4 +537,98 @@ public class TestCurlyReader extends AbstractCurlyTestBase {
   public void testBlockCompressionSnappy() throws Exception {
     doTestBlockCompression(CompressionCodec.SNAPPY, EXPECTED_RECORD_FILE_BLOCK_COMPRESSED_SNAPPY);
   }
+
+  // Key file Reader that scans its keys, in the given order, as key hashes
+  private static class ScanMapReader extends MapReader implements ScanReader {
+
+    private final byte[][] keysAndLocations;
+
+    private ScanMapReader(byte[]... keysAndLocations) {
+      super(0, keysAndLocations);
+      this.keysAndLocations = keysAndLocations;
+    }
+
+    @Override
+    public boolean scan(ByteBuffer afterKeyHash, int maxNumRecords, ReadPermits readPermits, RecordVisitor visitor) throws IOException {
+      int numVisitedRecords = 0;
+      for (int i = 0; i < keysAndLocations.length; i += 2) {
+        if (afterKeyHash != null && ByteBuffer.wrap(keysAndLocations[i]).compareTo(afterKeyHash) <= 0) {
+          continue;
+        }
+        if (numVisitedRecords == maxNumRecords
+            || !visitor.visit(ByteBuffer.wrap(keysAndLocations[i]), ByteBuffer.wrap(keysAndLocations[i + 1]))) {
+          return true;
+        }
+        ++numVisitedRecords;
+      }
+      return false;
+    }
+  }
+
+  private static class HashedMapReader extends MapReader implements HashedKeyReader {
+
+    private HashedMapReader(byte[]... keysAndLocations) {
+      super(0, keysAndLocations);
+    }
+
+    @Override
+    public void getHashed(ByteBuffer hashedKey, ReaderResult result) throws IOException {
+      get(hashedKey, result);
+    }
+  }
+
+  // Key file Reader whose cache is a number of entries
+  private static class CacheSnapshotMapReader extends MapReader implements CacheSnapshotReader {
+
+    private final int numCachedEntries;
+
+    private CacheSnapshotMapReader(int numCachedEntries, byte[]... keysAndLocations) {
+      super(0, keysAndLocations);
+      this.numCachedEntries = numCachedEntries;
+    }
+
+    @Override
+    public void saveCache(DataOutput output) throws IOException {
+      output.writeInt(numCachedEntries);
+    }
+
+    @Override
+    public int loadCache(DataInput input) throws IOException {
+      return input.readInt();
+    }
+  }
+
+  // Grants permits until the given number of bytes is exhausted
+  private static class BytePermits implements ScanReader.ReadPermits {
+
+    private int numBytes;
+
+    private BytePermits(int numBytes) {
+      this.numBytes = numBytes;
+    }
+
+    @Override
+    public boolean tryAcquire(int numBytes) {
+      if (numBytes > this.numBytes) {
+        return false;
+      }
+      this.numBytes -= numBytes;
+      return true;
+    }
+  }
+
+  private static class ValueCollector implements ScanReader.RecordVisitor {
+
+    private final List<ByteBuffer> values;
+
+    private ValueCollector(List<ByteBuffer> values) {
+      this.values = values;
+    }
+
+    @Override
+    public boolean visit(ByteBuffer keyHash, ByteBuffer value) {
+      values.add(BytesUtils.byteBufferDeepCopy(value));
+      return true;
+    }
+  }
 }
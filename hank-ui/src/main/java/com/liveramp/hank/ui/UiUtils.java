@@ -24,6 +24,7 @@ import com.liveramp.hank.coordinator.UpdateProgress;
 import com.liveramp.hank.coordinator.UpdateProgressAggregator;
 import com.liveramp.hank.partition_server.DoublePopulationStatisticsAggregator;
 import com.liveramp.hank.partition_server.FilesystemStatisticsAggregator;
+import com.liveramp.hank.partition_server.HeavyHittersAggregator;
 import com.liveramp.hank.partition_server.RuntimeStatisticsAggregator;
 import com.liveramp.hank.util.FormatUtils;
 
@@ -172,6 +173,24 @@ public class UiUtils {
     }
   }
 
+  // Hottest one shown, all of them in the tooltip
+  public static String formatHeavyHitters(String title, List<HeavyHittersAggregator.HeavyHitter> heavyHitters) {
+    if (heavyHitters == null || heavyHitters.isEmpty()) {
+      return "-";
+    } else {
+      double maximum = heavyHitters.get(0).getThroughput();
+      StringBuilder tooltipContent = new StringBuilder();
+      tooltipContent.append("<table>");
+      for (HeavyHittersAggregator.HeavyHitter heavyHitter : heavyHitters) {
+        addBar(tooltipContent, heavyHitter.getId(), heavyHitter.getThroughput(), maximum, " qps");
+      }
+      tooltipContent.append("</table>");
+      HeavyHittersAggregator.HeavyHitter hottest = heavyHitters.get(0);
+      return htmlTooltip(hottest.getId() + " (" + FormatUtils.formatDouble(hottest.getThroughput()) + " qps)",
+          title, tooltipContent.toString());
+    }
+  }
+
   public static String formatFilesystemStatistics(FilesystemStatisticsAggregator filesystemStatistics) {
     return
         FormatUtils.formatDouble(filesystemStatistics.getUsedPercentage()) + "% used, "
@@ -205,6 +205,8 @@
     <th>Cache Hits</th>
     <th>Cache Size</th>
     <th>Cache Max Size</th>
+    <th>Hot Keys</th>
+    <th>Hot Partitions</th>
     </tr>
       <%
      for (DomainAndVersion dgdv : domainGroup.getDomainVersionsSorted()) {
@@ -233,6 +235,12 @@
       /
       <%= FormatUtils.formatNumBytes(runtimeStatisticsForDomain.getCacheStatistics().getMaxNumManagedBytes()) %>
     </td>
+    <td
+    class='centered'><%= UiUtils.formatHeavyHitters("Hot key hashes for " + domain.getName() + " on " + host.getAddress(), runtimeStatisticsForDomain.getHeavyHitters().getHotKeys()) %>
+    </td>
+    <td
+    class='centered'><%= UiUtils.formatHeavyHitters("Hot partitions for " + domain.getName() + " on " + host.getAddress(), runtimeStatisticsForDomain.getHeavyHitters().getHotPartitions()) %>
+    </td>
 
 
     </tr>
@@ -151,6 +151,8 @@ Ring ring = ringGroup.getRing(Integer.parseInt(request.getParameter("n")));
     <th>Hit Rate</th>
     <th>Cache Hits</th>
     <th>Cache Size</th>
+    <th>Hot Keys</th>
+    <th>Hot Partitions</th>
     </tr>
       <%
      SortedMap<Domain, RuntimeStatisticsAggregator> runtimeStatisticsForDomains = Rings.computeRuntimeStatisticsForDomains(runtimeStatistics);
@@ -173,6 +175,12 @@ Ring ring = ringGroup.getRing(Integer.parseInt(request.getParameter("n")));
       /
       <%= FormatUtils.formatNumBytes(runtimeStatisticsForDomain.getCacheStatistics().getNumManagedBytes()) %>
     </td>
+    <td
+    class='centered'><%= UiUtils.formatHeavyHitters("Hot key hashes for " + domain.getName() + " on " + ringGroup.getName() + " Ring " + ring.getRingNumber(), runtimeStatisticsForDomain.getHeavyHitters().getHotKeys()) %>
+    </td>
+    <td
+    class='centered'><%= UiUtils.formatHeavyHitters("Hot partitions for " + domain.getName() + " on " + ringGroup.getName() + " Ring " + ring.getRingNumber(), runtimeStatisticsForDomain.getHeavyHitters().getHotPartitions()) %>
+    </td>
     </tr>
       <%
     }
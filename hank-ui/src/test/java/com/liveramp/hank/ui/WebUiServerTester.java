@@ -29,6 +29,7 @@ import com.liveramp.hank.coordinator.Ring;
 import com.liveramp.hank.coordinator.RingGroup;
 import com.liveramp.hank.generated.ClientMetadata;
 import com.liveramp.hank.generated.HankBulkResponse;
+import com.liveramp.hank.generated.HankDomainNameKey;
 import com.liveramp.hank.generated.HankResponse;
 import com.liveramp.hank.generated.SmartClient;
 import com.liveramp.hank.partition_assigner.PartitionAssigner;
@@ -92,6 +93,11 @@ public class WebUiServerTester extends ZkMockCoordinatorTestCase {
       public HankBulkResponse getBulk(String domainName, List<ByteBuffer> keys) throws TException {
         return null;
       }
+
+      @Override
+      public HankBulkResponse getMulti(List<HankDomainNameKey> domainKeys) throws TException {
+        return null;
+      }
     };
     IClientCache clientCache = new IClientCache() {
       @Override